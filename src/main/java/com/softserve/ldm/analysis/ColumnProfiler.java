@@ -0,0 +1,187 @@
+package com.softserve.ldm.analysis;
+
+import com.softserve.ldm.config.LdmProperties;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass statistics of the values of one table column in bounded memory: null count, smallest and
+ * largest value, a {@link ValueSketch} for the distinct and the most frequent values, a {@link TDigest} of
+ * the quantiles of numeric columns and a histogram of the lengths of text values.
+ * <p>
+ * Numbers are compared by value; text and temporal values by their string form, which is the order of ISO
+ * dates but may differ from the collation of the database for text. Lengths are counted in power-of-two
+ * buckets: 0, 1, 2-3, 4-7 and so on.
+ * </p>
+ */
+public final class ColumnProfiler {
+    private static final int LENGTH_BUCKETS = 32;
+
+    private final String column;
+    private final int jdbcType;
+    private final Kind kind;
+    private final ValueSketch values;
+    private final TDigest numbers;
+    private final long[] lengths;
+    private long nulls;
+    private String min;
+    private String max;
+    private BigDecimal minNumber;
+    private BigDecimal maxNumber;
+
+    public ColumnProfiler(String column, int jdbcType, LdmProperties.Sketches settings, double compression) {
+        this.column = column;
+        this.jdbcType = jdbcType;
+        this.kind = Kind.of(jdbcType);
+        this.values = new ValueSketch(settings);
+        this.numbers = kind == Kind.NUMBER ? new TDigest(compression) : null;
+        this.lengths = kind == Kind.TEXT ? new long[LENGTH_BUCKETS] : null;
+    }
+
+    /**
+     * Records one value of the column.
+     *
+     * @param value Value as read by {@link java.sql.ResultSet#getString(int)}; null for SQL NULL.
+     */
+    public void add(String value) {
+        if (value == null) {
+            nulls++;
+            return;
+        }
+        values.add(value);
+        switch (kind) {
+            case NUMBER -> addNumber(value);
+            case TEXT -> {
+                lengths[bucket(value.length())]++;
+                addComparable(value);
+            }
+            case TEMPORAL -> addComparable(value);
+            case OTHER -> {
+                // Only nulls, distinct and frequent values are meaningful for these types.
+            }
+        }
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public int getJdbcType() {
+        return jdbcType;
+    }
+
+    public long getNulls() {
+        return nulls;
+    }
+
+    public ValueSketch getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the smallest value, or null if the column has no comparable value.
+     *
+     * @return smallest value.
+     */
+    public String getMin() {
+        return minNumber != null ? minNumber.toPlainString() : min;
+    }
+
+    /**
+     * Returns the largest value, or null if the column has no comparable value.
+     *
+     * @return largest value.
+     */
+    public String getMax() {
+        return maxNumber != null ? maxNumber.toPlainString() : max;
+    }
+
+    /**
+     * Estimates a quantile of a numeric column.
+     *
+     * @param q Fraction between 0 and 1.
+     * @return estimated quantile, or NaN if the column is not numeric or has no value.
+     */
+    public double quantile(double q) {
+        return numbers != null ? numbers.quantile(q) : Double.NaN;
+    }
+
+    /**
+     * Returns the non-empty buckets of the length histogram of a text column.
+     *
+     * @return list of {@link LengthBucket} by increasing length; empty for other columns.
+     */
+    public List<LengthBucket> lengthHistogram() {
+        List<LengthBucket> buckets = new ArrayList<>();
+        if (lengths == null) {
+            return buckets;
+        }
+        for (int i = 0; i < LENGTH_BUCKETS; i++) {
+            if (lengths[i] > 0) {
+                int minLength = i == 0 ? 0 : 1 << (i - 1);
+                int maxLength = i == 0 ? 0 : i == LENGTH_BUCKETS - 1 ? Integer.MAX_VALUE : (1 << i) - 1;
+                buckets.add(new LengthBucket(minLength, maxLength, lengths[i]));
+            }
+        }
+        return buckets;
+    }
+
+    private void addNumber(String value) {
+        BigDecimal number;
+        try {
+            number = new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            // NaN and infinite floating point values have no decimal form.
+            return;
+        }
+        numbers.add(number.doubleValue());
+        if (minNumber == null || number.compareTo(minNumber) < 0) {
+            minNumber = number;
+        }
+        if (maxNumber == null || number.compareTo(maxNumber) > 0) {
+            maxNumber = number;
+        }
+    }
+
+    private void addComparable(String value) {
+        if (min == null || value.compareTo(min) < 0) {
+            min = value;
+        }
+        if (max == null || value.compareTo(max) > 0) {
+            max = value;
+        }
+    }
+
+    private static int bucket(int length) {
+        return length == 0 ? 0 : Math.min(LENGTH_BUCKETS - 1, 32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Bucket of the length histogram.
+     *
+     * @param minLength Shortest length of the bucket.
+     * @param maxLength Longest length of the bucket.
+     * @param count     Number of values with a length in the bucket.
+     */
+    public record LengthBucket(int minLength, int maxLength, long count) {
+    }
+
+    private enum Kind {
+        NUMBER, TEXT, TEMPORAL, OTHER;
+
+        static Kind of(int jdbcType) {
+            return switch (jdbcType) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.REAL, Types.FLOAT,
+                     Types.DOUBLE, Types.NUMERIC, Types.DECIMAL -> NUMBER;
+                case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR,
+                     Types.CLOB, Types.NCLOB -> TEXT;
+                case Types.DATE, Types.TIME, Types.TIMESTAMP, Types.TIME_WITH_TIMEZONE,
+                     Types.TIMESTAMP_WITH_TIMEZONE -> TEMPORAL;
+                default -> OTHER;
+            };
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.softserve.ldm.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min sketch estimating how often each value occurred.
+ * <p>
+ * Every value increments one counter in each of {@code depth} rows of {@code width} counters; its frequency
+ * is estimated by the smallest of those counters. The estimate never undercounts and overcounts by at most
+ * {@code e / width} of all recorded occurrences with probability {@code 1 - e^-depth}. Sketches with the same
+ * dimensions are merged by adding the counters.
+ * </p>
+ */
+public final class CountMinSketch {
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Count-Min sketch width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    private CountMinSketch(int width, int depth, long[] counters, long total) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = counters;
+        this.total = total;
+    }
+
+    /**
+     * Records one occurrence of a value by its 64-bit hash.
+     *
+     * @param hash Well-mixed hash of the value.
+     */
+    public void add(long hash) {
+        for (int row = 0; row < depth; row++) {
+            counters[index(hash, row)]++;
+        }
+        total++;
+    }
+
+    /**
+     * Estimates the number of occurrences of a value.
+     *
+     * @param hash Hash of the value, as passed to {@link #add(long)}.
+     * @return upper bound of the number of occurrences.
+     */
+    public long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the maximum overcount of {@link #estimate(long)} that holds with high probability.
+     *
+     * @return error bound in occurrences.
+     */
+    public long errorBound() {
+        return (long) Math.ceil(Math.E / width * total);
+    }
+
+    /**
+     * Adds the occurrences recorded by another sketch to this one.
+     *
+     * @param other Sketch with the same width and depth.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge Count-Min sketches of different dimensions");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+    }
+
+    public CountMinSketch copy() {
+        return new CountMinSketch(width, depth, Arrays.copyOf(counters, counters.length), total);
+    }
+
+    private int index(long hash, int row) {
+        // Kirsch-Mitzenmacher: row hashes derived from the two halves of one 64-bit hash.
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return row * width + Math.floorMod(combined, width);
+    }
+}
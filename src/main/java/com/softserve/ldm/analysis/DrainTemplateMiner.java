@@ -0,0 +1,260 @@
+package com.softserve.ldm.analysis;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.search.LineVisitor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming log template miner based on the Drain fixed-depth parse tree.
+ * <p>
+ * Messages are routed through the tree by their token count and their first tokens, and compared only
+ * with the templates in the reached leaf. A message joins the most similar template if the share of equal
+ * tokens reaches the similarity threshold; differing positions become {@value #WILDCARD}. Memory is bounded
+ * by evicting the least recently matched template once the template limit is reached, and by capping the
+ * number of children per tree node and of parameter samples per position.
+ * </p>
+ */
+public final class DrainTemplateMiner implements LineVisitor {
+    public static final String WILDCARD = "<*>";
+
+    private final LdmProperties.Templates settings;
+    private final Node root = new Node();
+    private final LinkedHashMap<Long, Cluster> clusters = new LinkedHashMap<>(16, 0.75f, true);
+    private long nextClusterId;
+    private long totalMessages;
+    private long evictedClusters;
+
+    public DrainTemplateMiner(LdmProperties.Templates settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean visitLine(byte[] buffer, int from, int to, long offset) {
+        if (from >= to || buffer[from] == ' ' || buffer[from] == '\t') {
+            // Blank lines and continuation lines such as stack frames are not messages.
+            return true;
+        }
+        String message = LogLineParser.extractMessage(new String(buffer, from, to - from, StandardCharsets.UTF_8));
+        String trimmed = message.trim();
+        if (!trimmed.isEmpty()) {
+            String[] values = trimmed.split("\\s+");
+            add(mask(values), values);
+        }
+        return true;
+    }
+
+    /**
+     * Returns copies of the mined templates.
+     *
+     * @return list of {@link LogTemplate}.
+     */
+    public List<LogTemplate> snapshot() {
+        List<LogTemplate> result = new ArrayList<>(clusters.size());
+        for (Cluster cluster : clusters.values()) {
+            List<List<String>> samples = new ArrayList<>();
+            for (int i = 0; i < cluster.tokens.length; i++) {
+                if (WILDCARD.equals(cluster.tokens[i])) {
+                    Set<String> values = cluster.parameterSamples.get(i);
+                    samples.add(values == null ? List.of() : List.copyOf(values));
+                }
+            }
+            result.add(new LogTemplate(String.join(" ", cluster.tokens), cluster.count, samples));
+        }
+        return result;
+    }
+
+    public long getTotalMessages() {
+        return totalMessages;
+    }
+
+    public long getEvictedClusters() {
+        return evictedClusters;
+    }
+
+    private void add(String[] tokens, String[] values) {
+        totalMessages++;
+        Node leaf = descend(tokens);
+        Cluster best = null;
+        double bestSimilarity = -1;
+        int bestConstants = -1;
+
+        // Candidates are read from the leaf, so only the matched template is touched in the access order.
+        for (Cluster candidate : leaf.clusters) {
+            int equal = 0;
+            int constants = 0;
+            for (int i = 0; i < tokens.length; i++) {
+                String templateToken = candidate.tokens[i];
+                if (WILDCARD.equals(templateToken)) {
+                    continue;
+                }
+                constants++;
+                if (templateToken.equals(tokens[i])) {
+                    equal++;
+                }
+            }
+            double similarity = (double) equal / tokens.length;
+            if (similarity > bestSimilarity || (similarity == bestSimilarity && constants > bestConstants)) {
+                best = candidate;
+                bestSimilarity = similarity;
+                bestConstants = constants;
+            }
+        }
+
+        if (best != null && bestSimilarity >= settings.getSimilarityThreshold()) {
+            merge(best, tokens, values);
+            return;
+        }
+
+        if (clusters.size() >= settings.getMaxTemplates()) {
+            evictLeastRecentlyUsed();
+        }
+        Cluster cluster = new Cluster(nextClusterId++, tokens.clone(), leaf);
+        cluster.count = 1;
+        for (int i = 0; i < tokens.length; i++) {
+            if (WILDCARD.equals(tokens[i])) {
+                cluster.rememberParameter(i, values[i], settings.getParameterSamples());
+            }
+        }
+        clusters.put(cluster.id, cluster);
+        leaf.clusters.add(cluster);
+    }
+
+    private void merge(Cluster cluster, String[] tokens, String[] values) {
+        cluster.count++;
+        for (int i = 0; i < tokens.length; i++) {
+            if (!WILDCARD.equals(cluster.tokens[i]) && !cluster.tokens[i].equals(tokens[i])) {
+                // The previous constant becomes the first sampled value of the new parameter.
+                cluster.rememberParameter(i, cluster.tokens[i], settings.getParameterSamples());
+                cluster.tokens[i] = WILDCARD;
+            }
+            if (WILDCARD.equals(cluster.tokens[i])) {
+                cluster.rememberParameter(i, values[i], settings.getParameterSamples());
+            }
+        }
+        // Touch the entry so that the access-ordered map keeps it away from eviction.
+        clusters.get(cluster.id);
+    }
+
+    private Node descend(String[] tokens) {
+        Node node = root.children.computeIfAbsent(String.valueOf(tokens.length), key -> new Node());
+        int prefixTokens = Math.min(tokens.length, Math.max(settings.getDepth() - 2, 1));
+        for (int i = 0; i < prefixTokens; i++) {
+            String token = hasDigit(tokens[i]) ? WILDCARD : tokens[i];
+            Node child = node.children.get(token);
+            if (child == null) {
+                if (node.children.size() >= settings.getMaxChildren()) {
+                    token = WILDCARD;
+                }
+                child = node.children.computeIfAbsent(token, key -> new Node());
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Iterator<Cluster> iterator = clusters.values().iterator();
+        Cluster eldest = iterator.next();
+        iterator.remove();
+        eldest.leaf.clusters.remove(eldest);
+        evictedClusters++;
+    }
+
+    private static String[] mask(String[] values) {
+        String[] tokens = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            tokens[i] = isVariable(values[i]) ? WILDCARD : values[i];
+        }
+        return tokens;
+    }
+
+    /**
+     * Masks tokens that are numbers, hexadecimal identifiers or UUIDs before they reach the tree, which is the
+     * usual Drain preprocessing and keeps ids from creating one template per value.
+     */
+    private static boolean isVariable(String token) {
+        int digits = 0;
+        int alphanumerics = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (Character.isDigit(c)) {
+                digits++;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                alphanumerics++;
+            }
+        }
+        return digits > 0 && (digits * 2 >= alphanumerics || isHexadecimal(token));
+    }
+
+    private static boolean isHexadecimal(String token) {
+        int hexDigits = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (Character.digit(c, 16) >= 0) {
+                hexDigits++;
+            } else if (c != '-' && c != 'x') {
+                return false;
+            }
+        }
+        return hexDigits >= 8;
+    }
+
+    private static boolean hasDigit(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.isDigit(token.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Cluster> clusters = new ArrayList<>();
+    }
+
+    private static final class Cluster {
+        private final long id;
+        private final String[] tokens;
+        private final Node leaf;
+        private final List<Set<String>> parameterSamples;
+        private long count;
+
+        private Cluster(long id, String[] tokens, Node leaf) {
+            this.id = id;
+            this.tokens = tokens;
+            this.leaf = leaf;
+            this.parameterSamples = new ArrayList<>(tokens.length);
+            for (int i = 0; i < tokens.length; i++) {
+                parameterSamples.add(null);
+            }
+        }
+
+        private void rememberParameter(int position, String value, int limit) {
+            if (WILDCARD.equals(value)) {
+                return;
+            }
+            Set<String> values = parameterSamples.get(position);
+            if (values == null) {
+                values = new LinkedHashSet<>();
+                parameterSamples.set(position, values);
+            }
+            if (values.size() < limit) {
+                values.add(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.softserve.ldm.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Occurrences of stack traces sharing one fingerprint.
+ */
+@Getter
+@AllArgsConstructor
+public class ExceptionGroup {
+    private final String fingerprint;
+    private final String exceptionClass;
+    private String rootCauseClass;
+    private String message;
+    private final List<String> frames;
+    private long count;
+    private LocalDateTime firstSeen;
+    private LocalDateTime lastSeen;
+    private String sample;
+
+    /**
+     * Adds the occurrences of another group with the same fingerprint to this one.
+     *
+     * @param other Group to merge.
+     * @return this group.
+     */
+    public ExceptionGroup merge(ExceptionGroup other) {
+        count += other.count;
+        if (other.firstSeen != null && (firstSeen == null || other.firstSeen.isBefore(firstSeen))) {
+            firstSeen = other.firstSeen;
+            sample = other.sample;
+            message = other.message;
+            rootCauseClass = other.rootCauseClass;
+        }
+        if (other.lastSeen != null && (lastSeen == null || other.lastSeen.isAfter(lastSeen))) {
+            lastSeen = other.lastSeen;
+        }
+        return this;
+    }
+
+    /**
+     * Creates an independent copy of the group.
+     *
+     * @return copy of this group.
+     */
+    public ExceptionGroup copy() {
+        return new ExceptionGroup(fingerprint, exceptionClass, rootCauseClass, message, frames, count, firstSeen,
+            lastSeen, sample);
+    }
+}
@@ -0,0 +1,140 @@
+package com.softserve.ldm.analysis;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts structured parts from plain-text log lines written by common layouts
+ * (Spring Boot default, logback and log4j patterns starting with an ISO-like timestamp).
+ */
+@UtilityClass
+public class LogLineParser {
+    private static final Pattern TIMESTAMP = Pattern.compile(
+        "^\\[?(\\d{4})-(\\d{2})-(\\d{2})[ T](\\d{2}):(\\d{2}):(\\d{2})(?:[.,](\\d{1,9}))?");
+    private static final String[] MESSAGE_SEPARATORS = {" : ", " - "};
+    private static final int MAX_HEADER_LENGTH = 200;
+    private static final Set<String> LEVELS = Set.of(
+        "TRACE", "DEBUG", "INFO", "WARN", "WARNING", "ERROR", "FATAL", "SEVERE");
+
+    /**
+     * Tells whether the line can start with a timestamp, without decoding it.
+     *
+     * @param buffer Line bytes.
+     * @param from   Start index, inclusive.
+     * @param to     End index, exclusive.
+     * @return true if the first character is a digit or an opening bracket followed by a digit.
+     */
+    public static boolean mayStartWithTimestamp(byte[] buffer, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        int first = buffer[from] == '[' && from + 1 < to ? buffer[from + 1] : buffer[from];
+        return first >= '0' && first <= '9';
+    }
+
+    /**
+     * Parses the timestamp at the beginning of the line.
+     *
+     * @param line Log line.
+     * @return parsed {@link LocalDateTime}, or null if the line does not start with a timestamp.
+     */
+    public static LocalDateTime parseTimestamp(CharSequence line) {
+        Matcher matcher = TIMESTAMP.matcher(line);
+        if (!matcher.lookingAt()) {
+            return null;
+        }
+        try {
+            String fraction = matcher.group(7);
+            int nanos = fraction == null ? 0 : Integer.parseInt((fraction + "00000000").substring(0, 9));
+            return LocalDateTime.of(
+                Integer.parseInt(matcher.group(1)),
+                Integer.parseInt(matcher.group(2)),
+                Integer.parseInt(matcher.group(3)),
+                Integer.parseInt(matcher.group(4)),
+                Integer.parseInt(matcher.group(5)),
+                Integer.parseInt(matcher.group(6)),
+                nanos);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Strips the layout header (timestamp, level, thread, logger) from a log line.
+     * <p>
+     * The message is taken to start after the first {@code " : "} (Spring Boot default layout) or
+     * {@code " - "} (common logback and log4j layouts) separator near the beginning of the line.
+     * Lines without a timestamp are returned unchanged.
+     * </p>
+     *
+     * @param line Log line.
+     * @return message part of the line.
+     */
+    public static String extractMessage(String line) {
+        Matcher matcher = TIMESTAMP.matcher(line);
+        if (!matcher.lookingAt()) {
+            return line;
+        }
+        int headerEnd = Math.min(line.length(), matcher.end() + MAX_HEADER_LENGTH);
+        for (String separator : MESSAGE_SEPARATORS) {
+            int index = line.indexOf(separator, matcher.end());
+            if (index >= 0 && index < headerEnd) {
+                return line.substring(index + separator.length());
+            }
+        }
+        return line.substring(matcher.end());
+    }
+
+    /**
+     * Splits a log line into timestamp, level, logger and message.
+     * <p>
+     * The header before the message separator (see {@link #extractMessage(String)}) is searched for a level
+     * keyword, and its last token is taken as the logger name. Lines without a timestamp, such as stack
+     * trace lines, only have a message.
+     * </p>
+     *
+     * @param line Log line.
+     * @return {@link ParsedLine}; parts that could not be recognized are null.
+     */
+    public static ParsedLine parse(String line) {
+        Matcher matcher = TIMESTAMP.matcher(line);
+        if (!matcher.lookingAt()) {
+            return new ParsedLine(null, null, null, line);
+        }
+        String timestamp = line.substring(line.startsWith("[") ? 1 : 0, matcher.end());
+        int headerEnd = Math.min(line.length(), matcher.end() + MAX_HEADER_LENGTH);
+        for (String separator : MESSAGE_SEPARATORS) {
+            int index = line.indexOf(separator, matcher.end());
+            if (index >= 0 && index < headerEnd) {
+                String[] tokens = line.substring(matcher.end(), index).trim().split("\\s+");
+                String level = null;
+                for (String token : tokens) {
+                    String candidate = token.replaceAll("[\\[\\]]", "");
+                    if (LEVELS.contains(candidate)) {
+                        level = candidate;
+                        break;
+                    }
+                }
+                String logger = tokens[tokens.length - 1];
+                return new ParsedLine(timestamp, level, logger.isEmpty() || logger.equals(level) ? null : logger,
+                    line.substring(index + separator.length()));
+            }
+        }
+        return new ParsedLine(timestamp, null, null, line.substring(matcher.end()).trim());
+    }
+
+    /**
+     * Structured parts of a log line.
+     *
+     * @param timestamp Timestamp as written in the line.
+     * @param level     Log level.
+     * @param logger    Logger name.
+     * @param message   Message text.
+     */
+    public record ParsedLine(String timestamp, String level, String logger, String message) {
+    }
+}
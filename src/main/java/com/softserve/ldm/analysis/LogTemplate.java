@@ -0,0 +1,46 @@
+package com.softserve.ldm.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Message template mined from log lines, with the number of matching lines and sampled parameter values.
+ */
+@Getter
+@AllArgsConstructor
+public class LogTemplate {
+    private final String template;
+    private long count;
+    private List<List<String>> parameterSamples;
+
+    /**
+     * Adds the lines and parameter samples of another occurrence of the same template to this one.
+     *
+     * @param other       Template to merge.
+     * @param sampleLimit Maximum number of samples kept per position.
+     * @return this template.
+     */
+    public LogTemplate merge(LogTemplate other, int sampleLimit) {
+        count += other.count;
+        List<List<String>> merged = new ArrayList<>(parameterSamples.size());
+        for (int i = 0; i < parameterSamples.size(); i++) {
+            Set<String> values = new LinkedHashSet<>(parameterSamples.get(i));
+            if (i < other.parameterSamples.size()) {
+                for (String value : other.parameterSamples.get(i)) {
+                    if (values.size() >= sampleLimit) {
+                        break;
+                    }
+                    values.add(value);
+                }
+            }
+            merged.add(List.copyOf(values));
+        }
+        parameterSamples = merged;
+        return this;
+    }
+}
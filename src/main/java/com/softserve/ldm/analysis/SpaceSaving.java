@@ -0,0 +1,171 @@
+package com.softserve.ldm.analysis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving summary of the most frequent values.
+ * <p>
+ * At most {@code capacity} values are counted. When a new value arrives and the summary is full, it takes
+ * over the counter of the least frequent value and inherits its count as error. Every value occurring more
+ * often than {@code total / capacity} is guaranteed to be in the summary. The counters form a min-heap, so
+ * both updates and replacements take logarithmic time. Summaries are merged as described by Agarwal et al.,
+ * "Mergeable Summaries".
+ * </p>
+ */
+public final class SpaceSaving {
+    private final int capacity;
+    private final Map<String, Integer> positions;
+    private final String[] values;
+    private final long[] counts;
+    private final long[] errors;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Space-Saving capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.positions = new HashMap<>();
+        this.values = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+    }
+
+    /**
+     * Records one occurrence of a value.
+     *
+     * @param value Value to count.
+     */
+    public void offer(String value) {
+        Integer position = positions.get(value);
+        if (position != null) {
+            counts[position]++;
+            siftDown(position);
+        } else if (size < capacity) {
+            set(size, value, 1, 0);
+            siftUp(size++);
+        } else {
+            positions.remove(values[0]);
+            set(0, value, counts[0] + 1, counts[0]);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Returns the counted values, most frequent first.
+     *
+     * @return list of {@link Counter}.
+     */
+    public List<Counter> counters() {
+        List<Counter> counters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            counters.add(new Counter(values[i], counts[i], errors[i]));
+        }
+        counters.sort(Comparator.comparingLong(Counter::count).reversed().thenComparing(Counter::value));
+        return counters;
+    }
+
+    /**
+     * Combines this summary with another one into a new summary of the same capacity.
+     *
+     * @param other Summary to merge.
+     * @return merged {@link SpaceSaving}.
+     */
+    public SpaceSaving merge(SpaceSaving other) {
+        long missingCount = size == capacity ? counts[0] : 0;
+        long otherMissingCount = other.size == other.capacity ? other.counts[0] : 0;
+
+        Map<String, long[]> combined = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Integer otherPosition = other.positions.get(values[i]);
+            combined.put(values[i], otherPosition == null
+                ? new long[] {counts[i] + otherMissingCount, errors[i] + otherMissingCount}
+                : new long[] {counts[i] + other.counts[otherPosition], errors[i] + other.errors[otherPosition]});
+        }
+        for (int i = 0; i < other.size; i++) {
+            if (!positions.containsKey(other.values[i])) {
+                combined.put(other.values[i],
+                    new long[] {other.counts[i] + missingCount, other.errors[i] + missingCount});
+            }
+        }
+
+        SpaceSaving merged = new SpaceSaving(capacity);
+        combined.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[0]).reversed())
+            .limit(capacity)
+            .forEach(entry -> {
+                merged.set(merged.size, entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+                merged.siftUp(merged.size++);
+            });
+        return merged;
+    }
+
+    public SpaceSaving copy() {
+        SpaceSaving copy = new SpaceSaving(capacity);
+        System.arraycopy(values, 0, copy.values, 0, size);
+        System.arraycopy(counts, 0, copy.counts, 0, size);
+        System.arraycopy(errors, 0, copy.errors, 0, size);
+        copy.positions.putAll(positions);
+        copy.size = size;
+        return copy;
+    }
+
+    private void set(int position, String value, long count, long error) {
+        values[position] = value;
+        counts[position] = count;
+        errors[position] = error;
+        positions.put(value, position);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (counts[parent] <= counts[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String value = values[a];
+        long count = counts[a];
+        long error = errors[a];
+        set(a, values[b], counts[b], errors[b]);
+        set(b, value, count, error);
+    }
+
+    /**
+     * Counted value.
+     *
+     * @param value Value.
+     * @param count Number of occurrences, overestimated by at most {@code error}.
+     * @param error Maximum overestimation of the count.
+     */
+    public record Counter(String value, long count, long error) {
+    }
+}
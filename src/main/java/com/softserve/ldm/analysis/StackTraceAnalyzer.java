@@ -0,0 +1,255 @@
+package com.softserve.ldm.analysis;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.search.AhoCorasickAutomaton;
+import com.softserve.ldm.search.LineVisitor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming detector of multi-line Java stack traces.
+ * <p>
+ * Each trace is fingerprinted by its exception class and the top application frames (line numbers are
+ * ignored, so the fingerprint survives unrelated code changes) and counted in an {@link ExceptionGroup}.
+ * The analyzer is an incremental state: lines can be fed in several calls, and a trace that is still
+ * being written when a scan ends is completed by the next scan.
+ * </p>
+ */
+public final class StackTraceAnalyzer implements LineVisitor {
+    private static final Pattern HEADER = Pattern.compile(
+        "^([a-zA-Z_$][\\w$]*(?:\\.[a-zA-Z_$][\\w$]*)+)(?::\\s?(.*))?$");
+    private static final AhoCorasickAutomaton HEADER_HINTS =
+        AhoCorasickAutomaton.compile(List.of("Exception", "Error", "Throwable"), false);
+    private static final String CAUSED_BY = "Caused by: ";
+    private static final String SUPPRESSED = "Suppressed: ";
+    private static final int MAX_TIMESTAMP_LENGTH = 40;
+    private static final int MAX_MESSAGE_LINES = 20;
+
+    private final LdmProperties.Analysis settings;
+    private final Map<String, ExceptionGroup> groups = new LinkedHashMap<>();
+    private PendingTrace pending;
+    private LocalDateTime lastTimestamp;
+    private long droppedTraces;
+
+    public StackTraceAnalyzer(LdmProperties.Analysis settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean visitLine(byte[] buffer, int from, int to, long offset) {
+        if (pending != null && continueTrace(buffer, from, to)) {
+            return true;
+        }
+        if (pending != null) {
+            complete(pending);
+            pending = null;
+        }
+
+        if (LogLineParser.mayStartWithTimestamp(buffer, from, to)) {
+            LocalDateTime timestamp = LogLineParser.parseTimestamp(
+                new String(buffer, from, Math.min(to - from, MAX_TIMESTAMP_LENGTH), StandardCharsets.ISO_8859_1));
+            if (timestamp != null) {
+                lastTimestamp = timestamp;
+            }
+        } else if (isLetter(buffer, from, to) && HEADER_HINTS.containsAny(buffer, from, to)) {
+            startTrace(new String(buffer, from, to - from, StandardCharsets.UTF_8));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the exception groups found so far, including a trace that is still open.
+     * The returned groups are copies and are not affected by further scanning.
+     *
+     * @return list of {@link ExceptionGroup}.
+     */
+    public List<ExceptionGroup> snapshot() {
+        Map<String, ExceptionGroup> copy = new LinkedHashMap<>();
+        groups.forEach((fingerprint, group) -> copy.put(fingerprint, group.copy()));
+        if (pending != null && pending.hasFrames()) {
+            ExceptionGroup open = pending.toGroup(settings.getFingerprintFrames());
+            copy.merge(open.getFingerprint(), open, ExceptionGroup::merge);
+        }
+        return new ArrayList<>(copy.values());
+    }
+
+    /**
+     * Returns the number of traces that were not grouped because the group limit was reached.
+     *
+     * @return number of dropped traces.
+     */
+    public long getDroppedTraces() {
+        return droppedTraces;
+    }
+
+    private void startTrace(String line) {
+        Matcher matcher = HEADER.matcher(line);
+        if (!matcher.matches() || !isThrowableName(matcher.group(1))) {
+            return;
+        }
+        pending = new PendingTrace(matcher.group(1), matcher.group(2), lastTimestamp, settings);
+        pending.appendSample(line);
+    }
+
+    private boolean continueTrace(byte[] buffer, int from, int to) {
+        int start = from;
+        while (start < to && (buffer[start] == ' ' || buffer[start] == '\t')) {
+            start++;
+        }
+        boolean indented = start > from;
+        String text = new String(buffer, start, to - start, StandardCharsets.UTF_8);
+
+        if (indented && text.startsWith("at ")) {
+            pending.addFrame(text.substring(3));
+        } else if (indented && text.startsWith("...")) {
+            pending.appendSample(text);
+        } else if (text.startsWith(CAUSED_BY)) {
+            pending.addCause(text.substring(CAUSED_BY.length()));
+        } else if (indented && text.startsWith(SUPPRESSED)) {
+            pending.addSuppressed(text);
+        } else if (!pending.hasFrames() && pending.messageLines < MAX_MESSAGE_LINES
+            && !LogLineParser.mayStartWithTimestamp(buffer, from, to)) {
+            pending.messageLines++;
+            pending.appendSample(text);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void complete(PendingTrace trace) {
+        if (!trace.hasFrames()) {
+            return;
+        }
+        ExceptionGroup group = trace.toGroup(settings.getFingerprintFrames());
+        ExceptionGroup existing = groups.get(group.getFingerprint());
+        if (existing != null) {
+            existing.merge(group);
+        } else if (groups.size() < settings.getMaxGroupsPerFile()) {
+            groups.put(group.getFingerprint(), group);
+        } else {
+            droppedTraces++;
+        }
+    }
+
+    private static boolean isLetter(byte[] buffer, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        byte first = buffer[from];
+        return (first >= 'a' && first <= 'z') || (first >= 'A' && first <= 'Z');
+    }
+
+    private static boolean isThrowableName(String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        int nested = simpleName.lastIndexOf('$');
+        String name = nested >= 0 ? simpleName.substring(nested + 1) : simpleName;
+        return name.endsWith("Exception") || name.endsWith("Error") || name.endsWith("Throwable");
+    }
+
+    /**
+     * Trace that is currently being read.
+     */
+    private static final class PendingTrace {
+        private final String exceptionClass;
+        private final String message;
+        private final LocalDateTime timestamp;
+        private final LdmProperties.Analysis settings;
+        private final List<String> applicationFrames = new ArrayList<>();
+        private final List<String> topFrames = new ArrayList<>();
+        private final StringBuilder sample = new StringBuilder();
+        private String rootCauseClass;
+        private boolean inCause;
+        private int frameCount;
+        private int sampleLines;
+        private int messageLines;
+
+        private PendingTrace(String exceptionClass, String message, LocalDateTime timestamp,
+                             LdmProperties.Analysis settings) {
+            this.exceptionClass = exceptionClass;
+            this.message = message;
+            this.timestamp = timestamp;
+            this.settings = settings;
+        }
+
+        private boolean hasFrames() {
+            return frameCount > 0;
+        }
+
+        private void addFrame(String frame) {
+            frameCount++;
+            appendSample("\tat " + frame);
+            if (inCause) {
+                return;
+            }
+            String method = frameMethod(frame);
+            int limit = settings.getFingerprintFrames();
+            if (topFrames.size() < limit) {
+                topFrames.add(method);
+            }
+            if (applicationFrames.size() < limit && isApplicationFrame(method)) {
+                applicationFrames.add(method);
+            }
+        }
+
+        private void addCause(String cause) {
+            inCause = true;
+            int colon = cause.indexOf(':');
+            rootCauseClass = (colon < 0 ? cause : cause.substring(0, colon)).trim();
+            appendSample(CAUSED_BY + cause);
+        }
+
+        private void addSuppressed(String suppressed) {
+            inCause = true;
+            appendSample("\t" + suppressed);
+        }
+
+        private void appendSample(String line) {
+            if (sampleLines < settings.getMaxSampleLines()) {
+                sample.append(line).append('\n');
+                sampleLines++;
+            }
+        }
+
+        private boolean isApplicationFrame(String method) {
+            if (!settings.getApplicationPackages().isEmpty()) {
+                return settings.getApplicationPackages().stream().anyMatch(method::startsWith);
+            }
+            return settings.getFrameworkPackages().stream().noneMatch(method::startsWith);
+        }
+
+        private ExceptionGroup toGroup(int fingerprintFrames) {
+            List<String> frames = applicationFrames.isEmpty() ? topFrames : applicationFrames;
+            List<String> key = frames.subList(0, Math.min(frames.size(), fingerprintFrames));
+            return new ExceptionGroup(fingerprint(exceptionClass, key), exceptionClass, rootCauseClass,
+                message, List.copyOf(key), 1, timestamp, timestamp, sample.toString());
+        }
+
+        private static String frameMethod(String frame) {
+            int parenthesis = frame.indexOf('(');
+            String method = parenthesis < 0 ? frame : frame.substring(0, parenthesis);
+            int module = method.lastIndexOf('/');
+            return (module < 0 ? method : method.substring(module + 1)).trim();
+        }
+
+        private static String fingerprint(String exceptionClass, List<String> frames) {
+            long hash = 0xcbf29ce484222325L;
+            String key = exceptionClass + '\n' + String.join("\n", frames);
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return String.format("%016x", hash);
+        }
+    }
+}
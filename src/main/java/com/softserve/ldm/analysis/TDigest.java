@@ -0,0 +1,186 @@
+package com.softserve.ldm.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest estimator of the quantiles of a stream of numbers, as described by Dunning and Ertl,
+ * "Computing Extremely Accurate Quantiles Using t-Digests".
+ * <p>
+ * Values are buffered and periodically merged into at most a few times {@code compression} weighted
+ * centroids. A centroid may only grow while its weight stays below {@code 4 * n * q * (1 - q) / compression},
+ * where {@code q} is its quantile, so centroids near the tails stay small and extreme quantiles stay accurate.
+ * Memory does not depend on the number of values, and digests are merged by adding each other's centroids.
+ * </p>
+ */
+public final class TDigest {
+    private final double compression;
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int buffered;
+    private double total;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("t-digest compression must be at least 10");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferMeans = new double[capacity * 4];
+        this.bufferWeights = new double[capacity * 4];
+    }
+
+    /**
+     * Records one value.
+     *
+     * @param value Value to record; NaN is ignored.
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Adds the values recorded by another digest to this one.
+     *
+     * @param other Digest to merge.
+     */
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return count of values.
+     */
+    public long size() {
+        return Math.round(total + sumBuffered());
+    }
+
+    /**
+     * Estimates the value below which the given fraction of the recorded values falls. The smallest and the
+     * largest values are exact; quantiles between centroids are interpolated linearly.
+     *
+     * @param q Fraction between 0 and 1.
+     * @return estimated quantile, or NaN if no value was recorded.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+
+        double index = q * total;
+        if (index < weights[0] / 2) {
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        }
+        double cumulative = weights[0] / 2;
+        for (int i = 0; i < centroids - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (index < cumulative + step) {
+                return means[i] + (means[i + 1] - means[i]) * (index - cumulative) / step;
+            }
+            cumulative += step;
+        }
+        double last = weights[centroids - 1] / 2;
+        return means[centroids - 1] + (max - means[centroids - 1]) * Math.min(1, (index - cumulative) / last);
+    }
+
+    private void add(double mean, double weight) {
+        if (Double.isNaN(mean)) {
+            return;
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = mean;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        min = Math.min(min, mean);
+        max = Math.max(max, mean);
+    }
+
+    /**
+     * Merges the buffered values with the centroids in one pass over all of them in mean order.
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        int count = centroids + buffered;
+        double[] allMeans = Arrays.copyOf(means, count);
+        double[] allWeights = Arrays.copyOf(weights, count);
+        System.arraycopy(bufferMeans, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        total += sumBuffered();
+        buffered = 0;
+        centroids = 0;
+        double mean = allMeans[order[0]];
+        double weight = allWeights[order[0]];
+        double before = 0;
+        for (int i = 1; i < count; i++) {
+            double nextMean = allMeans[order[i]];
+            double nextWeight = allWeights[order[i]];
+            double q0 = before / total;
+            double q2 = (before + weight + nextWeight) / total;
+            double limit = 4 * total * Math.min(q0 * (1 - q0), q2 * (1 - q2)) / compression;
+            if (weight + nextWeight <= limit) {
+                mean += (nextMean - mean) * nextWeight / (weight + nextWeight);
+                weight += nextWeight;
+            } else {
+                append(mean, weight);
+                before += weight;
+                mean = nextMean;
+                weight = nextWeight;
+            }
+        }
+        append(mean, weight);
+    }
+
+    private void append(double mean, double weight) {
+        if (centroids == means.length) {
+            means = Arrays.copyOf(means, centroids * 2);
+            weights = Arrays.copyOf(weights, centroids * 2);
+        }
+        means[centroids] = mean;
+        weights[centroids] = weight;
+        centroids++;
+    }
+
+    private double sumBuffered() {
+        double sum = 0;
+        for (int i = 0; i < buffered; i++) {
+            sum += bufferWeights[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,55 @@
+package com.softserve.ldm.analysis;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.export.TabularWriter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Profiles every column of a table at once while its rows are read, by receiving them like an export file.
+ * The rows are not kept, so a table of any size is profiled in the memory of its column sketches.
+ */
+public final class TableProfiler implements TabularWriter {
+    private final List<ColumnProfiler> columns;
+    private long rows;
+
+    /**
+     * Creates a profiler of the given columns.
+     *
+     * @param columns     Names of the profiled columns, in row order.
+     * @param columnTypes {@link java.sql.Types} code of every column of the table.
+     * @param settings    Sizes of the value sketches.
+     * @param compression Compression of the t-digests of numeric columns.
+     */
+    public TableProfiler(List<String> columns, Map<String, Integer> columnTypes, LdmProperties.Sketches settings,
+                         double compression) {
+        this.columns = columns.stream()
+            .map(column -> new ColumnProfiler(column, columnTypes.get(column), settings, compression))
+            .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeRow(List<String> values) {
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).add(values.get(i));
+        }
+        rows++;
+    }
+
+    @Override
+    public void close() {
+        // Nothing is written, so there is nothing to complete.
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public List<ColumnProfiler> getColumns() {
+        return columns;
+    }
+}
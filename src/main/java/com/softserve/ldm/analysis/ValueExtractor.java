@@ -0,0 +1,106 @@
+package com.softserve.ldm.analysis;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.softserve.ldm.search.CompiledRegex;
+
+import java.io.IOException;
+
+/**
+ * Extracts a value from a log line, either with a regular expression or from a field of a JSON line.
+ * <p>
+ * A regular expression yields its first capturing group, or the whole match if it has none. A JSON field
+ * is addressed by a dot-separated path and read with a streaming parser that skips all other fields; only
+ * scalar values are extracted. Instances keep per-scan matcher state and must not be shared between threads.
+ * </p>
+ */
+public final class ValueExtractor {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String key;
+    private final CompiledRegex.LineMatcher matcher;
+    private final String[] fieldPath;
+
+    private ValueExtractor(String key, CompiledRegex.LineMatcher matcher, String[] fieldPath) {
+        this.key = key;
+        this.matcher = matcher;
+        this.fieldPath = fieldPath;
+    }
+
+    /**
+     * Creates an extractor using a regular expression.
+     *
+     * @param regex Regular expression in {@link java.util.regex.Pattern} syntax.
+     * @return {@link ValueExtractor}.
+     * @throws com.softserve.ldm.exception.exceptions.BadRequestException if the expression is invalid.
+     */
+    public static ValueExtractor regex(String regex) {
+        return new ValueExtractor("regex:" + regex, CompiledRegex.of(regex).newLineMatcher(), null);
+    }
+
+    /**
+     * Creates an extractor reading a field of JSON lines.
+     *
+     * @param field Dot-separated path of the field, e.g. {@code mdc.userId}.
+     * @return {@link ValueExtractor}.
+     */
+    public static ValueExtractor jsonField(String field) {
+        return new ValueExtractor("json:" + field, null, field.split("\\."));
+    }
+
+    /**
+     * Returns a key identifying the extraction, used to cache the per-file results.
+     *
+     * @return extractor key.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Extracts the value of a line.
+     *
+     * @param buffer Line bytes.
+     * @param from   Start index, inclusive.
+     * @param to     End index, exclusive.
+     * @return extracted value, or null if the line does not contain one.
+     */
+    public String extract(byte[] buffer, int from, int to) {
+        return matcher != null ? matcher.extract(buffer, from, to) : extractField(buffer, from, to);
+    }
+
+    private String extractField(byte[] buffer, int from, int to) {
+        int start = from;
+        while (start < to && (buffer[start] == ' ' || buffer[start] == '\t')) {
+            start++;
+        }
+        if (start == to || buffer[start] != '{') {
+            return null;
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(buffer, start, to - start)) {
+            parser.nextToken();
+            return readField(parser, 0);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private String readField(JsonParser parser, int depth) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean matches = fieldPath[depth].equals(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (!matches) {
+                parser.skipChildren();
+            } else if (depth == fieldPath.length - 1) {
+                return value.isScalarValue() && value != JsonToken.VALUE_NULL ? parser.getText() : null;
+            } else if (value == JsonToken.START_OBJECT) {
+                return readField(parser, depth + 1);
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.softserve.ldm.analysis;
+
+import com.softserve.ldm.config.LdmProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Bounded-memory summary of a stream of values: a {@link HyperLogLog} for the number of distinct values,
+ * a {@link SpaceSaving} summary for the most frequent ones and a {@link CountMinSketch} bounding their
+ * counts. All three are mergeable, so sketches of single files are combined into a sketch of all files.
+ */
+public final class ValueSketch {
+    private final HyperLogLog distinct;
+    private final CountMinSketch frequencies;
+    private SpaceSaving topValues;
+    private long total;
+
+    public ValueSketch(LdmProperties.Sketches settings) {
+        this(new HyperLogLog(settings.getHllPrecision()),
+            new CountMinSketch(settings.getCountMinWidth(), settings.getCountMinDepth()),
+            new SpaceSaving(settings.getTopKCapacity()),
+            0);
+    }
+
+    private ValueSketch(HyperLogLog distinct, CountMinSketch frequencies, SpaceSaving topValues, long total) {
+        this.distinct = distinct;
+        this.frequencies = frequencies;
+        this.topValues = topValues;
+        this.total = total;
+    }
+
+    /**
+     * Records one occurrence of a value.
+     *
+     * @param value Value to record.
+     */
+    public void add(String value) {
+        long hash = hash(value);
+        distinct.add(hash);
+        frequencies.add(hash);
+        topValues.offer(value);
+        total++;
+    }
+
+    /**
+     * Adds the values recorded by another sketch with the same settings to this one.
+     *
+     * @param other Sketch to merge.
+     * @return this sketch.
+     */
+    public ValueSketch merge(ValueSketch other) {
+        distinct.merge(other.distinct);
+        frequencies.merge(other.frequencies);
+        topValues = topValues.merge(other.topValues);
+        total += other.total;
+        return this;
+    }
+
+    public ValueSketch copy() {
+        return new ValueSketch(distinct.copy(), frequencies.copy(), topValues.copy(), total);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long estimateDistinct() {
+        return distinct.estimate();
+    }
+
+    public double distinctRelativeError() {
+        return distinct.relativeError();
+    }
+
+    /**
+     * Returns the most frequent values. The count of each value is the smaller of its Space-Saving and
+     * Count-Min estimates, both of which only overcount.
+     *
+     * @param limit Maximum number of values.
+     * @return list of {@link Frequency}, most frequent first.
+     */
+    public List<Frequency> topValues(int limit) {
+        return topValues.counters().stream()
+            .limit(limit)
+            .map(counter -> new Frequency(
+                counter.value(),
+                Math.min(counter.count(), frequencies.estimate(hash(counter.value()))),
+                counter.count() - counter.error()))
+            .toList();
+    }
+
+    /**
+     * Returns the maximum overcount of the Count-Min estimates.
+     *
+     * @return error bound in occurrences.
+     */
+    public long countErrorBound() {
+        return frequencies.errorBound();
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 bytes, finished with the MurmurHash3 mixer so all bits are usable.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Estimated frequency of a value.
+     *
+     * @param value           Value.
+     * @param estimatedCount  Upper bound of the number of occurrences.
+     * @param guaranteedCount Lower bound of the number of occurrences.
+     */
+    public record Frequency(String value, long estimatedCount, long guaranteedCount) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.softserve.ldm.analysis;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.search.LineVisitor;
+
+/**
+ * Feeds the values extracted from the lines of a log file into a {@link ValueSketch}.
+ */
+public final class ValueSketcher implements LineVisitor {
+    private final ValueExtractor extractor;
+    private final ValueSketch sketch;
+
+    public ValueSketcher(ValueExtractor extractor, LdmProperties.Sketches settings) {
+        this.extractor = extractor;
+        this.sketch = new ValueSketch(settings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean visitLine(byte[] buffer, int from, int to, long offset) {
+        String value = extractor.extract(buffer, from, to);
+        if (value != null) {
+            sketch.add(value);
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the sketch that stays unchanged when the file is scanned further.
+     *
+     * @return {@link ValueSketch} of the scanned lines.
+     */
+    public ValueSketch snapshot() {
+        return sketch.copy();
+    }
+}
@@ -1,9 +1,11 @@
 package com.softserve.ldm.config;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 
 @AutoConfiguration
 @ComponentScan(basePackages = "com.softserve.ldm")
+@EnableConfigurationProperties(LdmProperties.class)
 public class LdmAutoConfiguration {
 }
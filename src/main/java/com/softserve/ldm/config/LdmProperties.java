@@ -0,0 +1,418 @@
+package com.softserve.ldm.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the starter, bound from the {@code ldm.*} properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "ldm")
+public class LdmProperties {
+    private Logs logs = new Logs();
+
+    private Export export = new Export();
+
+    private Datasource datasource = new Datasource();
+
+    @Data
+    public static class Datasource {
+        /**
+         * JDBC URL of the database LDM queries, e.g. a read replica. When empty, LDM borrows connections
+         * from the application {@code DataSource}, at most {@code max-concurrent-queries} at a time.
+         */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * JDBC driver class; detected from the URL when empty.
+         */
+        private String driverClassName;
+
+        /**
+         * Max number of connections of the dedicated pool.
+         */
+        private int maximumPoolSize = 4;
+
+        /**
+         * Max number of connections LDM borrows from the application {@code DataSource} at the same time
+         * when no dedicated pool is configured.
+         */
+        private int maxConcurrentQueries = 2;
+
+        /**
+         * How long to wait for a free connection before the request is rejected.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Max execution time of a single statement; zero means no limit.
+         */
+        private Duration statementTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Number of rows the driver fetches per round trip, so large exports are not buffered at once.
+         */
+        private int fetchSize = 1000;
+
+        /**
+         * Whether LDM uses connections read-only, both those of the dedicated pool and those borrowed from
+         * the application pool.
+         */
+        private boolean readOnly = true;
+    }
+
+    @Data
+    public static class Export {
+        /**
+         * How long the table and column metadata used to validate table queries is reused before it is
+         * read from the database again. Schema catalogs older than this are refreshed in the background on
+         * their next request.
+         */
+        private Duration metadataCacheTtl = Duration.ofMinutes(1);
+
+        /**
+         * Max number of matching rows a table may be sorted by columns that no index covers. Larger sorts
+         * are rejected, because the database would have to read and sort every matching row for each page.
+         */
+        private long maxUnindexedSortRows = 100_000;
+
+        /**
+         * Max number of connections one table export reads from in parallel. Tables with a single integer
+         * primary key are split into that many key ranges; the effective parallelism is also bounded by the
+         * LDM connection limit and the number of processors.
+         */
+        private int maxExportParallelism = 4;
+
+        /**
+         * Number of rows each export worker may read ahead of the writer.
+         */
+        private int exportBufferRows = 1000;
+
+        /**
+         * Max execution time of the statements reading an export; replaces the shorter
+         * {@code ldm.datasource.statement-timeout} for these statements.
+         */
+        private Duration exportTimeout = Duration.ofMinutes(30);
+
+        /**
+         * Max number of tables of a batch export read at the same time, each on its own connection; also
+         * bounded by the LDM connection limit.
+         */
+        private int maxBatchConcurrency = 4;
+
+        /**
+         * Bytes of rows that the tables of a batch export may buffer in memory while they wait to be written.
+         * Tables exceeding the budget are buffered in temporary files.
+         */
+        private long batchMemoryBytes = 64L * 1024 * 1024;
+
+        /**
+         * JSON file keeping the watermarks of incremental exports per export profile. Profiles are disabled
+         * when it is not set.
+         */
+        private String watermarkFile;
+
+        /**
+         * How long a table profile is reused before the table is profiled again.
+         */
+        private Duration profileCacheTtl = Duration.ofMinutes(10);
+
+        /**
+         * Max number of table profiles kept in memory.
+         */
+        private long profileCacheSize = 100;
+
+        /**
+         * Compression of the t-digests estimating the quantiles of numeric columns; higher values are more
+         * accurate and keep more centroids.
+         */
+        private double profileDigestCompression = 100;
+
+        /**
+         * Sizes of the sketches kept for each profiled column.
+         */
+        private Sketches profileSketches = new Sketches();
+
+        private QueryGovernor governor = new QueryGovernor();
+    }
+
+    @Data
+    public static class QueryGovernor {
+        /**
+         * Max number of table queries and exports running at the same time for one secret key.
+         */
+        private int maxConcurrentQueriesPerKey = 2;
+
+        /**
+         * How long a request waits for one of the queries of its key to finish; zero rejects it at once.
+         * Rejected requests get 429.
+         */
+        private Duration queueTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Max duration of a request, including the time spent in the queue. Running statements are
+         * cancelled when it is exceeded or the client disconnects.
+         */
+        private Duration timeout = Duration.ofMinutes(2);
+    }
+
+    @Data
+    public static class Logs {
+        /**
+         * Directories containing log files. Defaults to the {@code logs} folder of the working directory.
+         */
+        private List<Root> roots = new ArrayList<>(List.of(new Root()));
+
+        /**
+         * How long the result of a directory walk is reused before the roots are walked again.
+         */
+        private Duration discoveryCacheTtl = Duration.ofSeconds(5);
+
+        /**
+         * Maximum number of per-file analysis states (indexes, analyzer results) kept in memory.
+         */
+        private int stateCacheSize = 4096;
+
+        /**
+         * Number of lines between two entries of the sparse line index used to jump to a line number.
+         */
+        private int lineIndexInterval = 1000;
+
+        private Analysis analysis = new Analysis();
+
+        private Templates templates = new Templates();
+
+        private Sketches sketches = new Sketches();
+
+        private Governor governor = new Governor();
+
+        private Maintenance maintenance = new Maintenance();
+
+        private Federation federation = new Federation();
+    }
+
+    @Data
+    public static class Root {
+        /**
+         * Prefix of the file names of this root when several roots are configured; defaults to the
+         * directory name.
+         */
+        private String name;
+
+        /**
+         * Directory containing the log files.
+         */
+        private String path = System.getProperty("user.dir") + File.separator + "logs";
+
+        /**
+         * Glob patterns of the files to show. Patterns without a slash are matched against the file name,
+         * others against the path relative to the root.
+         */
+        private List<String> include = new ArrayList<>(List.of("*.log"));
+
+        /**
+         * Glob patterns of the files and directories to hide, matched like {@link #include}.
+         */
+        private List<String> exclude = new ArrayList<>();
+
+        /**
+         * Whether subdirectories are searched.
+         */
+        private boolean recursive;
+    }
+
+    @Data
+    public static class Sketches {
+        /**
+         * HyperLogLog precision; {@code 2^precision} registers give a distinct-count error of
+         * {@code 1.04 / sqrt(2^precision)}.
+         */
+        private int hllPrecision = 12;
+
+        /**
+         * Number of counters per row of the Count-Min sketch; counts overshoot by at most {@code e / width}
+         * of all values.
+         */
+        private int countMinWidth = 1024;
+
+        /**
+         * Number of rows of the Count-Min sketch.
+         */
+        private int countMinDepth = 4;
+
+        /**
+         * Number of values tracked by the Space-Saving top-K summary of each file.
+         */
+        private int topKCapacity = 256;
+    }
+
+    @Data
+    public static class Governor {
+        /**
+         * Read bandwidth shared by all log scans, in bytes per second; zero or negative disables the limit.
+         */
+        private long maxBytesPerSecond = 64L * 1024 * 1024;
+
+        /**
+         * Maximum number of log scans running at the same time; further requests are rejected with 429.
+         */
+        private int maxConcurrentScans = 2;
+
+        /**
+         * Time after which a running scan is cancelled.
+         */
+        private Duration timeout = Duration.ofMinutes(2);
+    }
+
+    @Data
+    public static class Analysis {
+        /**
+         * Number of application frames that, together with the exception class, identify a stack trace.
+         */
+        private int fingerprintFrames = 3;
+
+        /**
+         * Package prefixes of application code. When empty, every frame outside
+         * {@link #frameworkPackages} is treated as an application frame.
+         */
+        private List<String> applicationPackages = new ArrayList<>();
+
+        /**
+         * Package prefixes of library and JDK code that are skipped when fingerprinting stack traces.
+         */
+        private List<String> frameworkPackages = new ArrayList<>(List.of(
+            "java.", "javax.", "jdk.", "sun.", "com.sun.", "jakarta.", "org.springframework.", "org.apache.",
+            "org.hibernate.", "org.postgresql.", "com.zaxxer.", "io.netty.", "reactor.", "kotlin.", "org.junit."));
+
+        /**
+         * Maximum number of distinct exception groups kept per file.
+         */
+        private int maxGroupsPerFile = 1000;
+
+        /**
+         * Maximum number of lines stored as a sample of each exception group.
+         */
+        private int maxSampleLines = 40;
+    }
+
+    @Data
+    public static class Templates {
+        /**
+         * Depth of the parse tree; messages are routed by their length and their first {@code depth - 2} tokens.
+         */
+        private int depth = 3;
+
+        /**
+         * Minimum share of equal tokens for a message to join an existing template.
+         */
+        private double similarityThreshold = 0.4;
+
+        /**
+         * Maximum number of children of a parse tree node; further tokens are routed to a wildcard child.
+         */
+        private int maxChildren = 100;
+
+        /**
+         * Maximum number of templates kept per file; the least recently matched template is evicted first.
+         */
+        private int maxTemplates = 1000;
+
+        /**
+         * Maximum number of distinct values sampled for each parameter position of a template.
+         */
+        private int parameterSamples = 5;
+    }
+
+    @Data
+    public static class Maintenance {
+        /**
+         * Whether log files are compressed and deleted in the background.
+         */
+        private boolean enabled;
+
+        /**
+         * Time between two maintenance runs.
+         */
+        private Duration interval = Duration.ofHours(1);
+
+        /**
+         * Files modified more recently are never compressed or deleted, so active logs are left alone.
+         */
+        private Duration minAge = Duration.ofHours(1);
+
+        /**
+         * Age after which log files are compressed to {@code .gz}; null disables compression.
+         */
+        private Duration compressAfter = Duration.ofDays(7);
+
+        /**
+         * Age after which log files are deleted; null disables age-based deletion.
+         */
+        private Duration maxAge;
+
+        /**
+         * Total size of all log files above which the oldest ones are deleted; zero or negative disables
+         * size-based deletion.
+         */
+        private long maxTotalBytes;
+    }
+
+    @Data
+    public static class Federation {
+        /**
+         * Whether the cluster endpoints fan requests out to the peer instances.
+         */
+        private boolean enabled;
+
+        /**
+         * Name of this instance in cluster results; defaults to the host name.
+         */
+        private String instanceName;
+
+        /**
+         * Base URLs of the other instances, including the context path, e.g. {@code http://pod-2:8080}.
+         */
+        private List<String> peers = new ArrayList<>();
+
+        /**
+         * Host name resolved on every request to discover peers, e.g. a Kubernetes headless service; every
+         * address except the local ones becomes a peer.
+         */
+        private String discoveryHost;
+
+        /**
+         * Port of the peers found through {@link #discoveryHost}.
+         */
+        private int discoveryPort = 8080;
+
+        /**
+         * Context path of the peers found through {@link #discoveryHost}.
+         */
+        private String discoveryContextPath = "";
+
+        /**
+         * Time allowed for opening a connection to a peer.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Time after which a peer that has not answered is reported as timed out and left out of the result.
+         */
+        private Duration peerTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Maximum number of files fetched from each instance for one page, i.e. the largest
+         * {@code (page + 1) * size}.
+         */
+        private int maxWindow = 1000;
+    }
+}
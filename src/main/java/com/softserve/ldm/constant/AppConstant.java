@@ -4,11 +4,45 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class AppConstant {
-    public static final String VALID_TABLE_NAME_REGEX = "^(?!_)[a-z]+(?:_[a-z]+){0,10}(?<!_)$";
+    public static final String VALID_TABLE_NAME_REGEX =
+        "^(?:[A-Za-z_][A-Za-z0-9_$]{0,62}\\.)?[A-Za-z_][A-Za-z0-9_$]{0,62}$";
+    public static final String VALID_PROFILE_NAME_REGEX = "^[A-Za-z0-9_-]{1,64}$";
     public static final String TABLE_NAME = "TABLE_NAME";
     public static final String COLUMN_NAME = "COLUMN_NAME";
     public static final String TABLE = "TABLE";
     public static final String SELECT_FROM_WITH_LIMIT_AND_OFFSET = "SELECT * FROM %s LIMIT %d OFFSET %d;";
     public static final String SELECT_COUNT_FROM = "SELECT COUNT(*) FROM %s;";
     public static final int SQL_ROW_LIMIT = 10_000;
+    public static final int MAX_QUERY_COLUMNS = 200;
+    public static final int MAX_QUERY_FILTERS = 20;
+    public static final int MAX_BATCH_TABLES = 100;
+    public static final int MAX_SAMPLE_ROWS = 10_000;
+    public static final String DATA_TYPE = "DATA_TYPE";
+    public static final String KEY_SEQ = "KEY_SEQ";
+    public static final String INDEX_NAME = "INDEX_NAME";
+    public static final String ORDINAL_POSITION = "ORDINAL_POSITION";
+    public static final String ASC_OR_DESC = "ASC_OR_DESC";
+    public static final String INDEX_TYPE = "TYPE";
+    public static final String TYPE_NAME = "TYPE_NAME";
+    public static final String COLUMN_SIZE = "COLUMN_SIZE";
+    public static final String NULLABLE = "NULLABLE";
+    public static final String NON_UNIQUE = "NON_UNIQUE";
+    public static final String FK_NAME = "FK_NAME";
+    public static final String PKTABLE_NAME = "PKTABLE_NAME";
+    public static final String PKCOLUMN_NAME = "PKCOLUMN_NAME";
+    public static final String FKCOLUMN_NAME = "FKCOLUMN_NAME";
+    public static final String TABLE_CAT = "TABLE_CAT";
+    public static final String TABLE_SCHEM = "TABLE_SCHEM";
+    public static final String TABLE_CATALOG = "TABLE_CATALOG";
+    public static final String VALID_SCHEMA_NAME_REGEX = "^[A-Za-z_][A-Za-z0-9_$]{0,62}$";
+    public static final int MAX_ANALYSIS_RESULTS = 1_000;
+    public static final int MAX_VIEW_LINES = 10_000;
+    public static final String SCAN_BYTES_HEADER = "X-Scan-Bytes";
+    public static final String SCAN_DURATION_HEADER = "X-Scan-Duration-Ms";
+    public static final String SCAN_THROTTLED_HEADER = "X-Scan-Throttled-Ms";
+    public static final String SCAN_QUEUED_HEADER = "X-Scan-Queued-Ms";
+    public static final String WATERMARK_HEADER = "X-Watermark";
+    public static final String PREVIOUS_WATERMARK_HEADER = "X-Previous-Watermark";
+    public static final String WATERMARK_INDEXED_HEADER = "X-Watermark-Indexed";
+    public static final String SAMPLE_METHOD_HEADER = "X-Sample-Method";
 }
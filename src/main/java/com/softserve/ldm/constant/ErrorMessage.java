@@ -10,8 +10,9 @@ public class ErrorMessage {
     public static final String BAD_SECRET_KEY = "The given secret key is incorrect";
     public static final String CANNOT_DELETE_DOTENV = "Failed to delete .env file";
     public static final String FUNCTIONALITY_NOT_AVAILABLE = "Functionality is not available";
-    public static final String INVALID_TABLE_NAME = "Table name must contain only lowercase letters "
-            + "and single underscores between words. Cannot start or end with an underscore.";
+    public static final String INVALID_TABLE_NAME = "Table name must start with a letter or an underscore "
+            + "and contain only letters, digits, underscores and dollar signs, up to 63 characters. "
+            + "It may be qualified by a schema name of the same form, e.g. billing.invoices_2024.";
     public static final String SQL_METADATA_EXCEPTION_MESSAGE = "Error occurred while retrieving database data for: ";
     public static final String MAX_PAGE_SIZE_EXCEPTION = "Page size must be less than or equal to 100";
     public static final String NEGATIVE_VALUE_EXCEPTION = "%s must be a positive number";
@@ -20,5 +21,68 @@ public class ErrorMessage {
     public static final String EXCEED_LIMIT = "Out of max rows limit. Max limit is " + AppConstant.SQL_ROW_LIMIT;
     public static final String NEGATIVE_OFFSET = "Offset cannot be negative";
     public static final String GENERATION_EXCEL_FILE_ERROR = "Error generating Excel file";
+    public static final String INVALID_CONTENT_EXPRESSION = "Invalid content expression: %s";
+    public static final String INVALID_CONTENT_REGEX = "Invalid content regular expression: %s";
+    public static final String NON_POSITIVE_RESULT_LIMIT = "Limit must be greater than 0";
+    public static final String EXCEED_RESULT_LIMIT = "Out of max results limit. Max limit is "
+            + AppConstant.MAX_ANALYSIS_RESULTS;
+    public static final String NON_POSITIVE_LINE_NUMBER = "Line number must be greater than 0";
+    public static final String EXCEED_LINE_LIMIT = "Out of max lines limit. Max limit is "
+            + AppConstant.MAX_VIEW_LINES;
+    public static final String TOO_MANY_SCANS = "Too many log scans are running, please retry later";
+    public static final String TOO_MANY_QUERIES = "Too many database queries are running, please retry later";
+    public static final String QUERY_TIMEOUT = "Database query was cancelled because it exceeded the time limit";
+    public static final String QUERY_CANCELLED = "Database query was cancelled";
+    public static final String NON_POSITIVE_PARALLELISM = "Parallelism must be positive";
+    public static final String SCAN_CANCELLED = "Log scan was cancelled";
+    public static final String SCAN_TIMEOUT = "Log scan was cancelled because it exceeded the time limit";
+    public static final String INVALID_LOG_SORT_PROPERTY = "Log files cannot be sorted by '%s'. "
+            + "Supported properties: filename, byteSize, lastModified";
+    public static final String LOG_FILE_OUTSIDE_ROOTS = "File '%s' is outside of the configured log directories";
+    public static final String DUPLICATE_LOG_ROOT = "Log directories must have unique names: %s";
+    public static final String INVALID_VALUE_EXTRACTOR = "Exactly one of pattern or jsonField must be given";
+    public static final String CANNOT_COMPRESS_LOG_FILE = "Failed to compress log file: %s";
+    public static final String CANNOT_DELETE_LOG_FILE = "Failed to delete log file: %s";
+    public static final String LOG_MAINTENANCE_FAILED = "Log maintenance run failed";
+    public static final String FEDERATION_DISABLED = "Cluster requests are disabled, "
+            + "set ldm.logs.federation.enabled to enable them";
+    public static final String EXCEED_FEDERATION_WINDOW = "Page is too deep for a cluster request. "
+            + "(page + 1) * size must not exceed %d";
+    public static final String PEER_TIMEOUT = "Peer did not answer within %d ms";
+    public static final String CANNOT_RESOLVE_PEERS = "Failed to resolve peers of host: %s";
+    public static final String TABLE_NOT_FOUND = "No table found with name: %s";
+    public static final String UNKNOWN_COLUMN = "Table '%s' has no column '%s'";
+    public static final String INVALID_COLUMN_VALUE = "Value '%s' is not valid for column '%s'";
+    public static final String LIKE_REQUIRES_TEXT_COLUMN = "LIKE can only be applied to text columns, not to '%s'";
+    public static final String EXCEED_QUERY_COLUMNS = "Out of max columns limit. Max limit is "
+            + AppConstant.MAX_QUERY_COLUMNS;
+    public static final String EXCEED_QUERY_FILTERS = "Out of max filters limit. Max limit is "
+            + AppConstant.MAX_QUERY_FILTERS;
+    public static final String EMPTY_BATCH_EXPORT = "At least one table must be given";
+    public static final String EXCEED_BATCH_TABLES = "Out of max tables limit. Max limit is "
+            + AppConstant.MAX_BATCH_TABLES;
+    public static final String DUPLICATE_BATCH_TABLE = "Table '%s' is given more than once";
+    public static final String INVALID_WATERMARK_COLUMN = "Column '%s' cannot hold a watermark; "
+            + "use an integer, decimal, date or timestamp column";
+    public static final String WATERMARK_COLUMN_MISMATCH = "Profile '%s' tracks table '%s' by column '%s'";
+    public static final String INVALID_PROFILE_NAME = "Profile name must contain 1 to 64 letters, digits, "
+            + "underscores or hyphens";
+    public static final String WATERMARK_STORE_DISABLED = "Export profiles are disabled, "
+            + "set ldm.export.watermark-file to enable them";
+    public static final String CANNOT_READ_WATERMARKS = "Failed to read export watermarks: %s";
+    public static final String INVALID_SCHEMA_NAME = "Schema name must start with a letter or underscore and "
+            + "contain only letters, digits, underscores or dollar signs";
+    public static final String INVALID_SAMPLE_SIZE = "Sample size must be between 1 and "
+            + AppConstant.MAX_SAMPLE_ROWS;
+    public static final String TABLESAMPLE_NOT_SUPPORTED = "Sample method %s requires TABLESAMPLE, "
+            + "which this database does not support";
+    public static final String RANDOM_KEYS_REQUIRE_INTEGER_KEY = "Table '%s' cannot be sampled by random keys; "
+            + "it needs a single integer primary key";
+    public static final String INVALID_CURSOR = "Cursor is malformed or was created for another sort";
+    public static final String CURSOR_REQUIRES_PRIMARY_KEY = "Cursor paging requires a table with a primary key";
+    public static final String CURSOR_REQUIRES_NOT_NULL_SORT = "Cursor paging cannot sort by column '%s', "
+            + "which may be null; page by offset instead";
+    public static final String UNINDEXED_SORT = "Sort of table '%s' by %s is not supported by an index and "
+            + "would sort %d rows. Max limit is %d; sort by indexed columns or add filters";
     public static final String EMPTY_TABLE = "Table '%s' doesn't contain any row";
 }
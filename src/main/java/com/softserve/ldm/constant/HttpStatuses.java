@@ -5,9 +5,11 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class HttpStatuses {
     public static final String OK = "OK";
+    public static final String NOT_MODIFIED = "Not Modified";
     public static final String UNAUTHORIZED = "Unauthorized";
     public static final String FORBIDDEN = "Forbidden";
     public static final String NOT_FOUND = "Not Found";
     public static final String BAD_REQUEST = "Bad Request";
     public static final String SERVICE_UNAVAILABLE = "Service Unavailable";
+    public static final String TOO_MANY_REQUESTS = "Too Many Requests";
 }
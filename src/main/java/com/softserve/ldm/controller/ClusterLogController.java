@@ -0,0 +1,81 @@
+package com.softserve.ldm.controller;
+
+import com.softserve.ldm.annotations.ApiPageable;
+import com.softserve.ldm.constant.HttpStatuses;
+import com.softserve.ldm.dto.ClusterPageDto;
+import com.softserve.ldm.dto.LogFileRequestDto;
+import com.softserve.ldm.governor.ScanGovernor;
+import com.softserve.ldm.service.ClusterLogService;
+import com.softserve.ldm.service.DotenvService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * REST controller serving log requests across all instances of a cluster.
+ * <p>
+ * Requests are fanned out to the peers configured under <code>ldm.logs.federation</code> and the answers are
+ * merged; instances that fail or time out are reported in the response instead of failing it. The local
+ * part runs under the {@link ScanGovernor} limits. All endpoints require the client to provide a valid
+ * secret key via the <code>Secret-Key</code> header, which is forwarded to the peers.
+ */
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/logs/cluster")
+public class ClusterLogController {
+    private final ClusterLogService clusterLogService;
+    private final DotenvService dotenvService;
+    private final ScanGovernor scanGovernor;
+
+    /**
+     * Retrieves a page of the log files of all instances based on optional filters.
+     *
+     * @param requestDto DTO containing optional filter parameters
+     * @param secretKey  Secret key required for authorization
+     * @param page       Pagination information
+     * @return Page of log files across instances with the outcome per instance
+     */
+    @Operation(summary = "Returns a list of log files metadata from all instances of the cluster")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(example = ClusterPageDto.defaultJson))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+        @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+            content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
+    })
+    @ApiPageable
+    @PostMapping
+    public DeferredResult<ResponseEntity<ClusterPageDto>> listLogFiles(
+        @Schema(
+            description = "Filters for logs",
+            name = "LogFileFilterDto",
+            type = "object",
+            example = LogFileRequestDto.defaultJson) @RequestBody @NotNull @Valid LogFileRequestDto requestDto,
+        @RequestHeader(name = "Secret-Key") String secretKey,
+        @Parameter(hidden = true) Pageable page) {
+        dotenvService.validateSecretKey(secretKey);
+        return scanGovernor.submit(() -> clusterLogService.listLogFiles(page, requestDto.filterDto(), secretKey));
+    }
+}
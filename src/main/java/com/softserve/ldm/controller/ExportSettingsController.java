@@ -1,13 +1,27 @@
 package com.softserve.ldm.controller;
 
+import com.softserve.ldm.annotations.ApiPageable;
 import com.softserve.ldm.constant.AppConstant;
 import com.softserve.ldm.constant.ErrorMessage;
 import com.softserve.ldm.constant.HttpStatuses;
+import com.softserve.ldm.dto.DatabaseSchemaDto;
+import com.softserve.ldm.dto.IncrementalExportDto;
 import com.softserve.ldm.dto.PageableAdvancedDto;
+import com.softserve.ldm.dto.SampleExportDto;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.dto.DataSourceStatsDto;
 import com.softserve.ldm.dto.EnvironmentDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.SchemaCatalogDto;
+import com.softserve.ldm.dto.SchemaTableDto;
+import com.softserve.ldm.dto.TableBatchExportDto;
 import com.softserve.ldm.dto.TableParamsRequestDto;
+import com.softserve.ldm.dto.TableProfileDto;
+import com.softserve.ldm.dto.TableQueryDto;
+import com.softserve.ldm.dto.TableSampleDto;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
+import com.softserve.ldm.governor.QueryGovernor;
 import com.softserve.ldm.service.ExportSettingsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +31,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
@@ -26,17 +42,26 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * REST controller that provides endpoints for accessing database table metadata,
  * retrieving data, exporting to Excel, and fetching environment variables.
  * <p>
- * All endpoints require a valid secret key passed via the {@code Secret-Key} header.
+ * All endpoints require a valid secret key passed via the {@code Secret-Key} header. Queries and exports run
+ * under the {@link QueryGovernor} limits of that key.
  */
 @RequiredArgsConstructor
 @RestController
@@ -44,6 +69,7 @@ import java.util.Map;
 @RequestMapping("/export/settings")
 public class ExportSettingsController {
     private final ExportSettingsService exportSettingsService;
+    private final QueryGovernor queryGovernor;
 
     /**
      * Retrieves the names of all database tables and their columns.
@@ -67,11 +93,95 @@ public class ExportSettingsController {
         return ResponseEntity.ok(exportSettingsService.getTablesMetadata(secretKey));
     }
 
+    /**
+     * Retrieves the schema catalog: tables with column types and nullability, primary keys, indexes, foreign
+     * keys and approximate sizes. The catalog version is sent as ETag; a request whose {@code If-None-Match}
+     * header holds the current version gets 304 without a body.
+     *
+     * @param schema     Name of the schema; defaults to the schema of the connection
+     * @param secretKey  Secret key for authentication
+     * @param webRequest Request used to evaluate the {@code If-None-Match} header
+     * @return {@link SchemaCatalogDto}, or 304 if the client has the current version
+     */
+    @Operation(summary = "Get the schema catalog with column types, keys, indexes and table sizes.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(examples = @ExampleObject(SchemaCatalogDto.defaultJson))),
+        @ApiResponse(responseCode = "304", description = HttpStatuses.NOT_MODIFIED),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN)))
+    })
+    @GetMapping(value = "/schema-catalog", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SchemaCatalogDto> getSchemaCatalog(
+        @RequestParam(required = false) @Pattern(regexp = AppConstant.VALID_SCHEMA_NAME_REGEX,
+            message = ErrorMessage.INVALID_SCHEMA_NAME) String schema,
+        @RequestHeader(name = "Secret-Key") String secretKey,
+        @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        SchemaCatalogDto catalog = exportSettingsService.getSchemaCatalog(schema, secretKey);
+        if (webRequest.checkNotModified(catalog.version())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(catalog.version()).body(catalog);
+    }
+
+    /**
+     * Retrieves the schemas of the database, without its system schemas.
+     *
+     * @param secretKey Secret key for authentication
+     * @return list of {@link DatabaseSchemaDto} ordered by name
+     */
+    @Operation(summary = "Get the schemas of the database.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(examples = @ExampleObject(DatabaseSchemaDto.defaultJson))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN)))
+    })
+    @GetMapping(value = "/schemas", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<DatabaseSchemaDto>> getSchemas(
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return ResponseEntity.ok(exportSettingsService.getSchemas(secretKey));
+    }
+
+    /**
+     * Retrieves one page of the tables of a schema. Only table names are read; the qualified names are
+     * accepted as table names by the select and export endpoints.
+     *
+     * @param schema    Name of the schema
+     * @param pageable  Pagination parameters (page and size)
+     * @param secretKey Secret key for authentication
+     * @return {@link PageableAdvancedDto} with the tables of the page ordered by name
+     */
+    @Operation(summary = "Get the tables of a schema page by page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(implementation = SchemaTableDto.class))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN)))
+    })
+    @ApiPageable
+    @GetMapping(value = "/schemas/{schema}/tables", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PageableAdvancedDto<SchemaTableDto>> getSchemaTables(
+        @PathVariable @Pattern(regexp = AppConstant.VALID_SCHEMA_NAME_REGEX,
+            message = ErrorMessage.INVALID_SCHEMA_NAME) String schema,
+        @Parameter(hidden = true) Pageable pageable,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return ResponseEntity.ok(exportSettingsService.getSchemaTables(schema, pageable, secretKey));
+    }
+
     /**
      * Retrieves rows from the specified database table using pagination.
      *
      * @param tableName Name of the table (must match validation pattern)
-     * @param pageable  Pagination parameters (limit, offset, etc.)
+     * @param cursor    Cursor of the previous page, read instead of the offset
+     * @param pageable  Pagination parameters (limit, offset, sort, etc.)
      * @param secretKey Secret key for authentication
      * @return {@link PageableAdvancedDto} containing a list of rows as key-value pairs
      */
@@ -84,16 +194,57 @@ public class ExportSettingsController {
         @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED,
             content = @Content(examples = @ExampleObject(HttpStatuses.UNAUTHORIZED))),
         @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
-            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN)))
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
     })
     @GetMapping("/select")
-    public ResponseEntity<PageableAdvancedDto<Map<String, String>>> selectFromTable(
+    public DeferredResult<ResponseEntity<PageableAdvancedDto<Map<String, String>>>> selectFromTable(
+        @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+            message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @RequestParam(required = false) String cursor,
+        @Parameter(hidden = true) Pageable pageable,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submit(secretKey, () -> ResponseEntity.ok(cursor == null
+            ? exportSettingsService.selectFromTable(tableName, pageable, secretKey)
+            : exportSettingsService.selectFromTable(tableName, null, cursor, pageable, secretKey)));
+    }
+
+    /**
+     * Retrieves the requested columns of the rows of a database table that satisfy all conditions.
+     *
+     * @param tableName Name of the table (must match validation pattern)
+     * @param queryDto  Columns to return and conditions to apply
+     * @param cursor    Cursor of the previous page, read instead of the offset
+     * @param pageable  Pagination parameters (limit, offset, sort, etc.)
+     * @param secretKey Secret key for authentication
+     * @return {@link PageableAdvancedDto} containing a list of rows as key-value pairs
+     */
+    @Operation(summary = "Get selected columns of the table rows matching the filters.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(implementation = TableRowsDto.class))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/select")
+    public DeferredResult<ResponseEntity<PageableAdvancedDto<Map<String, String>>>> selectFromTable(
         @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
             message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @Schema(example = TableQueryDto.defaultJson) @RequestBody @Valid TableQueryDto queryDto,
+        @RequestParam(required = false) String cursor,
         @Parameter(hidden = true) Pageable pageable,
         @RequestHeader(name = "Secret-Key") String secretKey
     ) {
-        return ResponseEntity.ok(exportSettingsService.selectFromTable(tableName, pageable, secretKey));
+        return queryGovernor.submit(secretKey, () -> ResponseEntity.ok(
+            exportSettingsService.selectFromTable(tableName, queryDto, cursor, pageable, secretKey)));
     }
 
     /**
@@ -112,10 +263,50 @@ public class ExportSettingsController {
             content = @Content(examples = @ExampleObject(HttpStatuses.UNAUTHORIZED))),
         @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
             content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
     })
     @GetMapping("/download-table-data")
-    public ResponseEntity<InputStreamResource> exportTableRowsAsExcel(
+    public DeferredResult<ResponseEntity<InputStreamResource>> exportTableRowsAsExcel(
+            @Valid TableParamsRequestDto tableParams,
+            @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION,
+            String.format("attachment; filename= %s(%d - %d).xlsx", tableParams.tableName(), tableParams.offset(),
+                tableParams.limit()));
+        headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        return queryGovernor.submit(secretKey, () -> ResponseEntity.ok()
+            .headers(headers)
+            .body(new InputStreamResource(
+                exportSettingsService.getExcelFileAsResource(tableParams, secretKey))));
+    }
+
+    /**
+     * Exports the requested columns of the table rows that satisfy all conditions to an Excel (.xlsx) file.
+     *
+     * @param tableParams Table parameters including name, offset, and limit
+     * @param queryDto    Columns to export and conditions to apply
+     * @param secretKey   Secret key for authentication
+     * @return {@link InputStreamResource} representing the downloadable Excel file
+     */
+    @Operation(summary = "Get excel file with selected columns of the table rows matching the filters.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/download-table-data")
+    public DeferredResult<ResponseEntity<InputStreamResource>> exportTableRowsAsExcel(
             @Valid TableParamsRequestDto tableParams,
+            @Schema(example = TableQueryDto.defaultJson) @RequestBody @Valid TableQueryDto queryDto,
             @RequestHeader(name = "Secret-Key") String secretKey
     ) {
         HttpHeaders headers = new HttpHeaders();
@@ -124,10 +315,275 @@ public class ExportSettingsController {
                 tableParams.limit()));
         headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE);
 
-        return ResponseEntity.ok()
+        return queryGovernor.submit(secretKey, () -> ResponseEntity.ok()
             .headers(headers)
             .body(new InputStreamResource(
-                exportSettingsService.getExcelFileAsResource(tableParams, secretKey)));
+                exportSettingsService.getExcelFileAsResource(tableParams, queryDto, secretKey))));
+    }
+
+    /**
+     * Streams all rows of a table that satisfy the conditions as a CSV or Excel file, reading primary key
+     * ranges over several connections at the same time.
+     *
+     * @param tableName   Name of the table (must match validation pattern)
+     * @param queryDto    Columns to export and conditions to apply; optional
+     * @param format      Format of the exported file
+     * @param parallelism Number of connections to read from; defaults to the number of processors
+     * @param secretKey   Secret key for authentication
+     * @return Streamed file with one row per table row, in primary key order
+     */
+    @Operation(summary = "Export all table rows matching the filters, reading key ranges in parallel.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/export-table")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> exportTable(
+        @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+            message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @Schema(example = TableQueryDto.defaultJson) @RequestBody(required = false) @Valid TableQueryDto queryDto,
+        @RequestParam(defaultValue = "CSV") ExportFormat format,
+        @RequestParam(required = false) @Min(value = 1, message = ErrorMessage.NON_POSITIVE_PARALLELISM)
+        Integer parallelism,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submitStream(secretKey, () -> ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + tableName + "." + format.getExtension() + "\"")
+            .body(exportSettingsService.exportTable(tableName, queryDto, format, parallelism, secretKey)));
+    }
+
+    /**
+     * Streams the rows of a table whose tracked column is past a watermark. The new watermark is returned in
+     * the {@code X-Watermark} header and is passed as the watermark of the next export.
+     *
+     * @param tableName Name of the table (must match validation pattern)
+     * @param queryDto  Columns to export and further conditions to apply; optional
+     * @param column    Monotonically increasing column, such as an update timestamp or a sequence id
+     * @param watermark Value of the column reached by the previous export; optional
+     * @param profile   Export profile storing the watermark between exports; optional
+     * @param format    Format of the exported file
+     * @param secretKey Secret key for authentication
+     * @return Streamed file with the new rows, in the order of the tracked column
+     */
+    @Operation(summary = "Export the table rows past a watermark of a monotonically increasing column.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/export-table/incremental")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> exportTableIncrementally(
+        @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+            message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @Schema(example = TableQueryDto.defaultJson) @RequestBody(required = false) @Valid TableQueryDto queryDto,
+        @RequestParam String column,
+        @RequestParam(required = false) String watermark,
+        @RequestParam(required = false) @Pattern(regexp = AppConstant.VALID_PROFILE_NAME_REGEX,
+            message = ErrorMessage.INVALID_PROFILE_NAME) String profile,
+        @RequestParam(defaultValue = "CSV") ExportFormat format,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submitStream(secretKey, () -> {
+            IncrementalExportDto export = exportSettingsService.exportTableIncrementally(tableName, queryDto, column,
+                watermark, profile, format, secretKey);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + tableName + "." + format.getExtension() + "\"");
+            headers.add(AppConstant.WATERMARK_INDEXED_HEADER, String.valueOf(export.indexed()));
+            if (export.watermark() != null) {
+                headers.add(AppConstant.WATERMARK_HEADER, export.watermark());
+            }
+            if (export.previousWatermark() != null) {
+                headers.add(AppConstant.PREVIOUS_WATERMARK_HEADER, export.previousWatermark());
+            }
+            return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .headers(headers)
+                .body(export.body());
+        });
+    }
+
+    /**
+     * Streams several tables into one file: an Excel workbook with a sheet per table, or a ZIP archive with
+     * a CSV file per table. Tables are read concurrently and written in the order they complete.
+     *
+     * @param request   Tables to export, each with optional columns and conditions
+     * @param format    Format of the exported tables
+     * @param secretKey Secret key for authentication
+     * @return Streamed workbook or archive
+     */
+    @Operation(summary = "Export several tables into one workbook or ZIP archive, reading them concurrently.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/export-tables")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> exportTables(
+        @Schema(example = TableBatchExportDto.defaultJson) @RequestBody @Valid TableBatchExportDto request,
+        @RequestParam(defaultValue = "CSV") ExportFormat format,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submitStream(secretKey, () -> ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getBatchMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tables." + format.getBatchExtension() + "\"")
+            .body(exportSettingsService.exportTables(request, format, secretKey)));
+    }
+
+    /**
+     * Retrieves a random sample of the table rows that satisfy all conditions. The sample is read with
+     * {@code TABLESAMPLE} or index seeks to random keys, so its cost does not depend on the table size.
+     *
+     * @param tableName Name of the table (must match validation pattern)
+     * @param queryDto  Columns to return and conditions to apply; optional
+     * @param size      Max number of sampled rows
+     * @param method    Sample method; by default the best one the database and the table support
+     * @param seed      Seed making the sample repeatable; optional
+     * @param secretKey Secret key for authentication
+     * @return {@link TableSampleDto} with the sampled rows and the method used
+     */
+    @Operation(summary = "Get a random sample of the table rows matching the filters.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(examples = @ExampleObject(TableSampleDto.defaultJson))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/sample")
+    public DeferredResult<ResponseEntity<TableSampleDto>> sampleTable(
+        @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+            message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @Schema(example = TableQueryDto.defaultJson) @RequestBody(required = false) @Valid TableQueryDto queryDto,
+        @RequestParam(defaultValue = "100") int size,
+        @RequestParam(required = false) SampleMethod method,
+        @RequestParam(required = false) Long seed,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submit(secretKey, () -> ResponseEntity.ok(
+            exportSettingsService.sampleTable(tableName, queryDto, size, method, seed, secretKey)));
+    }
+
+    /**
+     * Streams a random sample of the table rows that satisfy all conditions as a CSV or Excel file. The
+     * method used is returned in the {@code X-Sample-Method} header.
+     *
+     * @param tableName Name of the table (must match validation pattern)
+     * @param queryDto  Columns to export and conditions to apply; optional
+     * @param size      Max number of sampled rows
+     * @param method    Sample method; by default the best one the database and the table support
+     * @param seed      Seed making the sample repeatable; optional
+     * @param format    Format of the exported file
+     * @param secretKey Secret key for authentication
+     * @return Streamed file with the sampled rows
+     */
+    @Operation(summary = "Export a random sample of the table rows matching the filters.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/export-table/sample")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> exportTableSample(
+        @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+            message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @Schema(example = TableQueryDto.defaultJson) @RequestBody(required = false) @Valid TableQueryDto queryDto,
+        @RequestParam(defaultValue = "100") int size,
+        @RequestParam(required = false) SampleMethod method,
+        @RequestParam(required = false) Long seed,
+        @RequestParam(defaultValue = "CSV") ExportFormat format,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submitStream(secretKey, () -> {
+            SampleExportDto export = exportSettingsService.exportTableSample(tableName, queryDto, size, method, seed,
+                format, secretKey);
+            return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"" + tableName + "-sample." + format.getExtension() + "\"")
+                .header(AppConstant.SAMPLE_METHOD_HEADER, export.method().name())
+                .body(export.body());
+        });
+    }
+
+    /**
+     * Profiles the columns of the table rows that satisfy all conditions in a single read: null count,
+     * min/max, approximate distinct count, most frequent values, quantiles and text lengths. Profiles are
+     * cached for {@code ldm.export.profile-cache-ttl}.
+     *
+     * @param tableName   Name of the table (must match validation pattern)
+     * @param queryDto    Columns to profile and conditions to apply; optional
+     * @param sampleSize  Number of sampled rows to profile; by default all matching rows
+     * @param method      Sample method; by default the best one the database and the table support
+     * @param seed        Seed making the sample repeatable; optional
+     * @param parallelism Number of connections reading primary key ranges of a full profile; optional
+     * @param topValues   Number of most frequent values per column
+     * @param secretKey   Secret key for authentication
+     * @return {@link TableProfileDto} with a profile per column
+     */
+    @Operation(summary = "Profile the columns of the table rows matching the filters.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(examples = @ExampleObject(TableProfileDto.defaultJson))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS)))
+    })
+    @PostMapping("/profile")
+    public DeferredResult<ResponseEntity<TableProfileDto>> profileTable(
+        @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+            message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+        @Schema(example = TableQueryDto.defaultJson) @RequestBody(required = false) @Valid TableQueryDto queryDto,
+        @RequestParam(required = false) Integer sampleSize,
+        @RequestParam(required = false) SampleMethod method,
+        @RequestParam(required = false) Long seed,
+        @RequestParam(required = false) @Min(value = 1, message = ErrorMessage.NON_POSITIVE_PARALLELISM)
+        Integer parallelism,
+        @RequestParam(defaultValue = "10") @Min(value = 1, message = ErrorMessage.NON_POSITIVE_RESULT_LIMIT)
+        @Max(value = AppConstant.MAX_ANALYSIS_RESULTS, message = ErrorMessage.EXCEED_RESULT_LIMIT) int topValues,
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return queryGovernor.submit(secretKey, () -> ResponseEntity.ok(exportSettingsService.profileTable(tableName,
+            queryDto, sampleSize, method, seed, parallelism, topValues, secretKey)));
     }
 
     /**
@@ -149,4 +605,24 @@ public class ExportSettingsController {
     public ResponseEntity<EnvironmentDto> getEnvVariables(@RequestHeader(name = "Secret-Key") String secretKey) {
         return ResponseEntity.ok(exportSettingsService.getEnvironmentVariables(secretKey));
     }
+
+    /**
+     * Returns the connection usage of LDM database queries.
+     *
+     * @param secretKey Secret key for authentication
+     * @return {@link DataSourceStatsDto} with the active, idle and awaited connections
+     */
+    @Operation(summary = "Get connection pool usage of LDM queries")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(example = DataSourceStatsDto.defaultJson))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+    })
+    @GetMapping("/datasource/stats")
+    public ResponseEntity<DataSourceStatsDto> getDataSourceStats(
+        @RequestHeader(name = "Secret-Key") String secretKey
+    ) {
+        return ResponseEntity.ok(exportSettingsService.getDataSourceStats(secretKey));
+    }
 }
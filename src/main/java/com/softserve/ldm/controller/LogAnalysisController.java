@@ -0,0 +1,168 @@
+package com.softserve.ldm.controller;
+
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.constant.HttpStatuses;
+import com.softserve.ldm.dto.ExceptionReportDto;
+import com.softserve.ldm.dto.LogFileRequestDto;
+import com.softserve.ldm.dto.TemplateReportDto;
+import com.softserve.ldm.dto.ValueSketchReportDto;
+import com.softserve.ldm.dto.ValueSketchRequestDto;
+import com.softserve.ldm.governor.ScanGovernor;
+import com.softserve.ldm.service.DotenvService;
+import com.softserve.ldm.service.LogAnalysisService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * REST controller providing aggregated views over the content of log files.
+ * <p>
+ * The files to analyze are selected with the same filters as the log file listing. Analyses run under the
+ * {@link ScanGovernor} limits and report the scan cost in <code>X-Scan-*</code> headers; the secret key is
+ * validated before a scan permit is taken.
+ * All endpoints require the client to provide a valid secret key via the <code>Secret-Key</code> header.
+ */
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/logs/analysis")
+public class LogAnalysisController {
+    private final LogAnalysisService logAnalysisService;
+    private final DotenvService dotenvService;
+    private final ScanGovernor scanGovernor;
+
+    /**
+     * Returns the most frequent exception groups found in the selected log files.
+     *
+     * @param requestDto DTO containing optional filter parameters
+     * @param secretKey  Secret key required for authorization
+     * @param limit      Maximum number of groups to return
+     * @return Report with the top exception groups
+     */
+    @Operation(summary = "Returns the most frequent exceptions grouped by stack trace fingerprint")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(example = ExceptionReportDto.defaultJson))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+        @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+            content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
+    })
+    @PostMapping("/exceptions")
+    public DeferredResult<ResponseEntity<ExceptionReportDto>> analyzeExceptions(
+        @Schema(
+            description = "Filters selecting the log files",
+            name = "LogFileFilterDto",
+            type = "object",
+            example = LogFileRequestDto.defaultJson) @RequestBody @NotNull @Valid LogFileRequestDto requestDto,
+        @RequestHeader(name = "Secret-Key") String secretKey,
+        @RequestParam(defaultValue = "20")
+        @Min(value = 1, message = ErrorMessage.NON_POSITIVE_RESULT_LIMIT)
+        @Max(value = AppConstant.MAX_ANALYSIS_RESULTS, message = ErrorMessage.EXCEED_RESULT_LIMIT) int limit) {
+        dotenvService.validateSecretKey(secretKey);
+        return scanGovernor.submit(
+            () -> logAnalysisService.analyzeExceptions(requestDto.filterDto(), limit, secretKey));
+    }
+
+    /**
+     * Returns the most frequent message templates of the selected log files.
+     *
+     * @param requestDto DTO containing optional filter parameters
+     * @param secretKey  Secret key required for authorization
+     * @param limit      Maximum number of templates to return
+     * @return Report with the top message templates
+     */
+    @Operation(summary = "Returns the most frequent message templates with sampled parameter values")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(example = TemplateReportDto.defaultJson))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+        @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+            content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
+    })
+    @PostMapping("/templates")
+    public DeferredResult<ResponseEntity<TemplateReportDto>> mineTemplates(
+        @Schema(
+            description = "Filters selecting the log files",
+            name = "LogFileFilterDto",
+            type = "object",
+            example = LogFileRequestDto.defaultJson) @RequestBody @NotNull @Valid LogFileRequestDto requestDto,
+        @RequestHeader(name = "Secret-Key") String secretKey,
+        @RequestParam(defaultValue = "20")
+        @Min(value = 1, message = ErrorMessage.NON_POSITIVE_RESULT_LIMIT)
+        @Max(value = AppConstant.MAX_ANALYSIS_RESULTS, message = ErrorMessage.EXCEED_RESULT_LIMIT) int limit) {
+        dotenvService.validateSecretKey(secretKey);
+        return scanGovernor.submit(
+            () -> logAnalysisService.mineTemplates(requestDto.filterDto(), limit, secretKey));
+    }
+
+    /**
+     * Returns the estimated number of distinct values and the most frequent values extracted from the lines
+     * of the selected log files.
+     *
+     * @param requestDto DTO containing optional filter parameters and the value extraction
+     * @param secretKey  Secret key required for authorization
+     * @param limit      Maximum number of frequent values to return
+     * @return Report with the distinct count and top values
+     */
+    @Operation(summary = "Returns distinct count and top values extracted by a regex or JSON field")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+            content = @Content(schema = @Schema(example = ValueSketchReportDto.defaultJson))),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+            content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+        @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+            content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+        @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+            content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+        @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+            content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+        @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+            content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
+    })
+    @PostMapping("/sketches")
+    public DeferredResult<ResponseEntity<ValueSketchReportDto>> sketchValues(
+        @Schema(
+            description = "Filters selecting the log files and the value to extract",
+            name = "ValueSketchRequestDto",
+            type = "object",
+            example = ValueSketchRequestDto.defaultJson) @RequestBody @NotNull @Valid ValueSketchRequestDto requestDto,
+        @RequestHeader(name = "Secret-Key") String secretKey,
+        @RequestParam(defaultValue = "20")
+        @Min(value = 1, message = ErrorMessage.NON_POSITIVE_RESULT_LIMIT)
+        @Max(value = AppConstant.MAX_ANALYSIS_RESULTS, message = ErrorMessage.EXCEED_RESULT_LIMIT) int limit) {
+        dotenvService.validateSecretKey(secretKey);
+        return scanGovernor.submit(() -> logAnalysisService.sketchValues(requestDto, limit, secretKey));
+    }
+}
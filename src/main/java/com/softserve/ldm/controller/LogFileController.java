@@ -1,10 +1,16 @@
 package com.softserve.ldm.controller;
 
 import com.softserve.ldm.annotations.ApiPageable;
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
 import com.softserve.ldm.constant.HttpStatuses;
+import com.softserve.ldm.dto.CacheStatsDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.LogFileLinesDto;
 import com.softserve.ldm.dto.PageableDto;
 import com.softserve.ldm.dto.LogFileMetadataDto;
 import com.softserve.ldm.dto.LogFileRequestDto;
+import com.softserve.ldm.governor.ScanGovernor;
 import com.softserve.ldm.service.DotenvService;
 import com.softserve.ldm.service.LogFileService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +21,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
@@ -25,6 +33,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller responsible for managing application log files.
@@ -33,11 +43,16 @@ import org.springframework.web.bind.annotation.*;
  * <ul>
  *     <li>Retrieve a paginated list of log file metadata</li>
  *     <li>View the content of a specific log file</li>
+ *     <li>View a range of lines of a specific log file</li>
  *     <li>Download a specific log file</li>
+ *     <li>Export the matching lines of the filtered log files as CSV or Excel</li>
+ *     <li>Report the hit ratio of the log filter result cache</li>
  *     <li>Delete the <code>.env</code> file used for configuration</li>
  * </ul>
  * <p>
  * All endpoints require the client to provide a valid secret key via the <code>Secret-Key</code> header.
+ * Endpoints that read file content run under the {@link ScanGovernor} limits and, except for the streamed
+ * export, report the scan cost in <code>X-Scan-*</code> headers.
  */
 
 @RestController
@@ -47,6 +62,7 @@ import org.springframework.web.bind.annotation.*;
 public class LogFileController {
     private final LogFileService logFileService;
     private final DotenvService dotenvService;
+    private final ScanGovernor scanGovernor;
 
     /**
      * Retrieves a paginated list of log file metadata based on optional filters.
@@ -65,11 +81,15 @@ public class LogFileController {
             @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
                     content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
             @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
-                    content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND)))
+                    content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+            @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+            @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
     })
     @ApiPageable
     @PostMapping
-    public ResponseEntity<PageableDto<LogFileMetadataDto>> listLogFiles(
+    public DeferredResult<ResponseEntity<PageableDto<LogFileMetadataDto>>> listLogFiles(
             @Schema(
                     description = "Filters for logs",
                     name = "LogFileFilterDto",
@@ -77,8 +97,10 @@ public class LogFileController {
                     example = LogFileRequestDto.defaultJson) @RequestBody @NotNull @Valid LogFileRequestDto requestDto,
             @RequestHeader(name = "Secret-Key") String secretKey,
             @Parameter(hidden = true) Pageable page) {
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(logFileService.listLogFiles(page, requestDto.filterDto(), secretKey));
+        // Validated before a scan permit is taken, so requests without a valid key cannot exhaust the permits.
+        dotenvService.validateSecretKey(secretKey);
+        return scanGovernor.submit(
+                () -> logFileService.listLogFiles(page, requestDto.filterDto(), secretKey));
     }
 
     /**
@@ -101,7 +123,7 @@ public class LogFileController {
             @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
                     content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
     })
-    @GetMapping("/view/{filename}")
+    @GetMapping("/view/{*filename}")
     public ResponseEntity<String> viewLogFileContent(
             @RequestHeader(name = "Secret-Key") String secretKey,
             @PathVariable String filename) {
@@ -109,6 +131,45 @@ public class LogFileController {
                 .body(logFileService.viewLogFileContent(logFileService.sanitizeFilename(filename), secretKey));
     }
 
+    /**
+     * Returns a range of lines of a log file.
+     *
+     * @param secretKey Secret key required for authorization
+     * @param filename  Name of the log file to view
+     * @param from      One-based number of the first line
+     * @param count     Maximum number of lines to return
+     * @return Requested lines with the total number of lines
+     */
+    @Operation(summary = "Returns a range of lines of a file with given filename")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+                    content = @Content(schema = @Schema(example = LogFileLinesDto.defaultJson))),
+            @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+            @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+            @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+            @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+            @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
+    })
+    @GetMapping("/lines/{*filename}")
+    public DeferredResult<ResponseEntity<LogFileLinesDto>> viewLogFileLines(
+            @RequestHeader(name = "Secret-Key") String secretKey,
+            @PathVariable String filename,
+            @RequestParam(defaultValue = "1")
+            @Min(value = 1, message = ErrorMessage.NON_POSITIVE_LINE_NUMBER) long from,
+            @RequestParam(defaultValue = "200")
+            @Min(value = 1, message = ErrorMessage.NON_POSITIVE_RESULT_LIMIT)
+            @Max(value = AppConstant.MAX_VIEW_LINES, message = ErrorMessage.EXCEED_LINE_LIMIT) int count) {
+        dotenvService.validateSecretKey(secretKey);
+        String sanitizedFilename = logFileService.sanitizeFilename(filename);
+        return scanGovernor.submit(
+                () -> logFileService.viewLogFileLines(sanitizedFilename, from, count, secretKey));
+    }
+
     /**
      * Provides a downloadable resource representing the specified log file.
      *
@@ -127,15 +188,76 @@ public class LogFileController {
             @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
                     content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND)))
     })
-    @GetMapping("/download/{filename}")
+    @GetMapping("/download/{*filename}")
     public ResponseEntity<Resource> downloadLogFile(
             @RequestHeader(name = "Secret-Key") String secretKey,
             @PathVariable String filename) {
+        String sanitizedFilename = logFileService.sanitizeFilename(filename);
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .header(
                         HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + logFileService.sanitizeFilename(filename) + "\"")
-                .body(logFileService.generateDownloadLogFileUrl(logFileService.sanitizeFilename(filename), secretKey));
+                        "attachment; filename=\"" + sanitizedFilename.substring(sanitizedFilename.lastIndexOf('/') + 1)
+                                + "\"")
+                .body(logFileService.generateDownloadLogFileUrl(sanitizedFilename, secretKey));
+    }
+
+    /**
+     * Streams the lines of the filtered log files that satisfy the content criteria as a CSV or Excel file.
+     * The export holds a scan permit until the stream completes.
+     *
+     * @param requestDto DTO containing optional filter parameters
+     * @param secretKey  Secret key required for authorization
+     * @param format     Format of the exported file
+     * @return Streamed file with one row per matching line
+     */
+    @Operation(summary = "Exports matching log lines split into timestamp, level, logger and message columns")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+            @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.BAD_REQUEST))),
+            @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN))),
+            @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.NOT_FOUND))),
+            @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.TOO_MANY_REQUESTS))),
+            @ApiResponse(responseCode = "503", description = HttpStatuses.SERVICE_UNAVAILABLE,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.SERVICE_UNAVAILABLE)))
+    })
+    @PostMapping("/export")
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> exportLogLines(
+            @Schema(
+                    description = "Filters selecting the log files and lines",
+                    name = "LogFileFilterDto",
+                    type = "object",
+                    example = LogFileRequestDto.defaultJson) @RequestBody @NotNull @Valid LogFileRequestDto requestDto,
+            @RequestHeader(name = "Secret-Key") String secretKey,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        dotenvService.validateSecretKey(secretKey);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getMediaType()));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"logs-export." + format.getExtension() + "\"");
+        return scanGovernor.submitStream(headers,
+                () -> logFileService.exportLogLines(requestDto.filterDto(), format, secretKey));
+    }
+
+    /**
+     * Returns usage statistics of the log filter result cache.
+     *
+     * @param secretKey Secret key required for authorization
+     * @return Cache statistics with the hit ratio
+     */
+    @Operation(summary = "Returns hit ratio and eviction statistics of the log filter result cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = HttpStatuses.OK,
+                    content = @Content(schema = @Schema(example = CacheStatsDto.defaultJson))),
+            @ApiResponse(responseCode = "403", description = HttpStatuses.FORBIDDEN,
+                    content = @Content(examples = @ExampleObject(HttpStatuses.FORBIDDEN)))
+    })
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDto> getCacheStats(@RequestHeader(name = "Secret-Key") String secretKey) {
+        return ResponseEntity.ok(logFileService.getCacheStats(secretKey));
     }
-}
\ No newline at end of file
+}
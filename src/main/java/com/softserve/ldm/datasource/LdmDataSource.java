@@ -0,0 +1,225 @@
+package com.softserve.ldm.datasource;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.TooManyRequestsException;
+import com.softserve.ldm.governor.QueryContext;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Source of the database connections used by LDM queries, isolated from the connections of the host
+ * application.
+ * <p>
+ * When {@code ldm.datasource.url} is set, LDM gets its own small Hikari pool, e.g. pointing at a read
+ * replica, so long exports can never exhaust the application pool. Otherwise connections are borrowed from
+ * the application {@code DataSource}, but at most {@code ldm.datasource.max-concurrent-queries} at a time;
+ * further requests wait for {@code connection-timeout} and are then rejected with 429.
+ * </p>
+ * <p>
+ * Every statement created on a returned connection gets the configured query timeout and fetch size, and is
+ * registered with the {@link QueryContext} of the current request so it can be cancelled. Borrowed
+ * connections are read-only while LDM uses them if {@code ldm.datasource.read-only} is set, as the
+ * connections of the dedicated pool are.
+ * </p>
+ */
+@Component
+@Slf4j
+public class LdmDataSource {
+    private static final String POOL_NAME = "ldm-pool";
+
+    private final LdmProperties.Datasource settings;
+    private final HikariDataSource pool;
+    private final DataSource shared;
+    private final Semaphore permits;
+
+    public LdmDataSource(LdmProperties properties, ObjectProvider<DataSource> applicationDataSource) {
+        this.settings = properties.getDatasource();
+        if (settings.getUrl() != null && !settings.getUrl().isBlank()) {
+            this.pool = new HikariDataSource(toHikariConfig(settings));
+            this.shared = null;
+            this.permits = null;
+        } else {
+            this.pool = null;
+            this.shared = applicationDataSource.getObject();
+            this.permits = new Semaphore(Math.max(1, settings.getMaxConcurrentQueries()), true);
+        }
+    }
+
+    /**
+     * Borrows a connection; closing it returns it to the pool.
+     *
+     * @return connection applying the LDM statement defaults.
+     * @throws SQLException             if no connection can be opened.
+     * @throws TooManyRequestsException if no connection frees up within the connection timeout.
+     */
+    public Connection getConnection() throws SQLException {
+        if (pool != null) {
+            return withStatementDefaults(pool.getConnection(), () -> { }, false);
+        }
+
+        try {
+            if (!permits.tryAcquire(settings.getConnectionTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TooManyRequestsException(ErrorMessage.TOO_MANY_QUERIES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException(ErrorMessage.TOO_MANY_QUERIES, e);
+        }
+        try {
+            return borrowShared();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the connection usage.
+     *
+     * @return {@link PoolStats} of the dedicated pool, or of the borrowed connections.
+     */
+    public PoolStats stats() {
+        if (pool != null) {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            if (bean == null) {
+                return new PoolStats(true, 0, 0, 0, 0, settings.getMaximumPoolSize());
+            }
+            return new PoolStats(true, bean.getActiveConnections(), bean.getIdleConnections(),
+                bean.getTotalConnections(), bean.getThreadsAwaitingConnection(), settings.getMaximumPoolSize());
+        }
+        int maxConnections = Math.max(1, settings.getMaxConcurrentQueries());
+        int active = maxConnections - permits.availablePermits();
+        return new PoolStats(false, active, 0, active, permits.getQueueLength(), maxConnections);
+    }
+
+    @PreDestroy
+    void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static HikariConfig toHikariConfig(LdmProperties.Datasource settings) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(POOL_NAME);
+        config.setJdbcUrl(settings.getUrl());
+        config.setUsername(settings.getUsername());
+        config.setPassword(settings.getPassword());
+        if (settings.getDriverClassName() != null && !settings.getDriverClassName().isBlank()) {
+            config.setDriverClassName(settings.getDriverClassName());
+        }
+        config.setMaximumPoolSize(Math.max(1, settings.getMaximumPoolSize()));
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        config.setReadOnly(settings.isReadOnly());
+        // Pool usage is published as JMX MBeans under com.zaxxer.hikari:type=Pool (ldm-pool).
+        config.setRegisterMbeans(true);
+        // Start the application even if the replica is unreachable; requests fail until it is back.
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+    /**
+     * Borrows an application connection, made read-only like the dedicated pool when configured so; it is
+     * made writable again before it goes back to the application pool.
+     */
+    private Connection borrowShared() throws SQLException {
+        Connection connection = shared.getConnection();
+        try {
+            boolean madeReadOnly = settings.isReadOnly() && !connection.isReadOnly();
+            if (madeReadOnly) {
+                connection.setReadOnly(true);
+            }
+            return withStatementDefaults(connection, permits::release, madeReadOnly);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private Connection withStatementDefaults(Connection connection, Runnable onClose, boolean restoreWritable) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, new ConnectionHandler(connection, onClose, restoreWritable));
+    }
+
+    /**
+     * Applies the statement defaults to created statements, restores the read-only flag of a borrowed
+     * connection and runs the close callback once.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final Runnable onClose;
+        private final boolean restoreWritable;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ConnectionHandler(Connection target, Runnable onClose, boolean restoreWritable) {
+            this.target = target;
+            this.onClose = onClose;
+            this.restoreWritable = restoreWritable;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                if (restoreWritable && "close".equals(method.getName()) && !closed.get()) {
+                    restoreWritable();
+                }
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+            if (result instanceof Statement statement) {
+                statement.setQueryTimeout((int) settings.getStatementTimeout().toSeconds());
+                statement.setFetchSize(settings.getFetchSize());
+                QueryContext.register(statement);
+            }
+            return result;
+        }
+
+        private void restoreWritable() {
+            try {
+                target.setReadOnly(false);
+            } catch (SQLException e) {
+                // Pools such as Hikari reset the flag themselves when the connection is returned.
+                log.warn("Failed to make a borrowed connection writable again: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Connection usage of LDM queries.
+     *
+     * @param dedicated         Whether LDM uses its own pool.
+     * @param active            Connections in use.
+     * @param idle              Open connections waiting to be used; always 0 for borrowed connections.
+     * @param total             Open connections.
+     * @param threadsAwaiting   Requests waiting for a connection.
+     * @param maxConnections    Max number of connections LDM may use at the same time.
+     */
+    public record PoolStats(boolean dedicated, int active, int idle, int total, int threadsAwaiting,
+                            int maxConnections) {
+    }
+}
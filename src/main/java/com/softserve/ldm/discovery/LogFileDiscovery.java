@@ -0,0 +1,241 @@
+package com.softserve.ldm.discovery;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.exception.exceptions.NotFoundException;
+import com.softserve.ldm.search.LogFiles;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds log files in the configured log directories.
+ * <p>
+ * Every root is walked with {@link Files#walkFileTree} and filtered with its include and exclude globs.
+ * Roots are walked in parallel and the file list of each root is cached for
+ * {@code ldm.logs.discovery-cache-ttl}, so frequent listings do not hit the file system every time.
+ * File names handed in by clients are resolved with {@link #resolve(String)}, which only accepts files inside
+ * a root that match its globs. Compressed {@code .gz} files are matched like the files they were compressed
+ * from.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LogFileDiscovery {
+    private final List<Root> roots;
+    private final LoadingCache<Root, List<LogFileEntry>> cache;
+
+    public LogFileDiscovery(LdmProperties properties) {
+        List<LdmProperties.Root> configured = properties.getLogs().getRoots();
+        boolean prefixed = configured.size() > 1;
+        List<Root> compiled = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (LdmProperties.Root root : configured) {
+            Root compiledRoot = Root.compile(root, prefixed);
+            if (!names.add(compiledRoot.name())) {
+                throw new IllegalStateException(String.format(ErrorMessage.DUPLICATE_LOG_ROOT, compiledRoot.name()));
+            }
+            compiled.add(compiledRoot);
+        }
+        this.roots = List.copyOf(compiled);
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getLogs().getDiscoveryCacheTtl())
+            .build(LogFileDiscovery::walk);
+    }
+
+    /**
+     * Lists the log files of all roots.
+     *
+     * @return discovered {@link LogFileEntry} list, grouped by root in configuration order.
+     */
+    public List<LogFileEntry> discover() {
+        return roots.parallelStream()
+            .flatMap(root -> cache.get(root).stream())
+            .toList();
+    }
+
+    /**
+     * Resolves a file name produced by {@link #discover()} to its path.
+     *
+     * @param filename File name relative to the roots.
+     * @return absolute, normalized path of the file; the file may not exist.
+     * @throws BadRequestException if the name points outside of the log directories.
+     * @throws NotFoundException   if the name does not belong to a root or is hidden by the globs.
+     */
+    public Path resolve(String filename) {
+        Root root = roots.getFirst();
+        String relative = filename;
+        if (roots.size() > 1) {
+            int slash = filename.indexOf('/');
+            String rootName = slash < 0 ? filename : filename.substring(0, slash);
+            root = roots.stream()
+                .filter(candidate -> candidate.name().equals(rootName))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException(String.format(ErrorMessage.LOG_FILE_NOT_FOUND, filename)));
+            relative = slash < 0 ? "" : filename.substring(slash + 1);
+        }
+
+        Path resolved = root.path().resolve(relative).normalize();
+        if (!resolved.startsWith(root.path()) || resolved.equals(root.path()) || !isInside(root, resolved)) {
+            throw new BadRequestException(String.format(ErrorMessage.LOG_FILE_OUTSIDE_ROOTS, filename));
+        }
+        if (!root.lists(root.path().relativize(resolved))) {
+            throw new NotFoundException(String.format(ErrorMessage.LOG_FILE_NOT_FOUND, filename));
+        }
+        return resolved;
+    }
+
+    /**
+     * Forgets the cached directory listings, e.g. after files were compressed or deleted.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Tells whether an existing file is inside its root after following symbolic links, which the walk does
+     * not follow either. A file that does not exist cannot be read through a link.
+     */
+    private static boolean isInside(Root root, Path resolved) {
+        try {
+            return resolved.toRealPath().startsWith(root.path().toRealPath());
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the path a compressed log file had before compression, so {@code app.log.gz} is matched by
+     * the same globs as {@code app.log}.
+     *
+     * @param relative Path of the file.
+     * @return path without the {@code .gz} extension, or null if the file is not compressed.
+     */
+    private static Path uncompressed(Path relative) {
+        if (!LogFiles.isCompressed(relative)) {
+            return null;
+        }
+        String name = relative.getFileName().toString();
+        return relative.resolveSibling(name.substring(0, name.length() - LogFiles.GZIP_EXTENSION.length()));
+    }
+
+    private static List<LogFileEntry> walk(Root root) {
+        if (!Files.isDirectory(root.path())) {
+            return List.of();
+        }
+        List<LogFileEntry> entries = new ArrayList<>();
+        try {
+            Files.walkFileTree(root.path(), EnumSet.noneOf(FileVisitOption.class), root.maxDepth(),
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        return dir.equals(root.path()) || !root.excludes(root.path().relativize(dir))
+                            ? FileVisitResult.CONTINUE
+                            : FileVisitResult.SKIP_SUBTREE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        Path relative = root.path().relativize(file);
+                        if (attrs.isRegularFile() && root.accepts(relative)) {
+                            entries.add(new LogFileEntry(root.filename(relative), file, attrs.size(),
+                                attrs.lastModifiedTime().toMillis()));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        log.warn(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, file), e);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return entries;
+    }
+
+    /**
+     * Compiled configuration of a log directory.
+     */
+    private record Root(String name, Path path, boolean prefixed, int maxDepth,
+                        List<Glob> include, List<Glob> exclude) {
+
+        private static Root compile(LdmProperties.Root root, boolean prefixed) {
+            Path path = Path.of(root.getPath()).toAbsolutePath().normalize();
+            String name = root.getName() != null ? root.getName()
+                : path.getFileName() == null ? path.toString() : path.getFileName().toString();
+            return new Root(name, path, prefixed, root.isRecursive() ? Integer.MAX_VALUE : 1,
+                root.getInclude().stream().map(Glob::compile).toList(),
+                root.getExclude().stream().map(Glob::compile).toList());
+        }
+
+        /**
+         * Applies the same checks as the walk: the depth, the excluded directories on the way and the globs.
+         */
+        private boolean lists(Path relative) {
+            if (relative.getNameCount() > maxDepth) {
+                return false;
+            }
+            for (int i = 1; i < relative.getNameCount(); i++) {
+                if (excludes(relative.subpath(0, i))) {
+                    return false;
+                }
+            }
+            return accepts(relative);
+        }
+
+        private boolean accepts(Path relative) {
+            return (includes(relative) || includes(LogFileDiscovery.uncompressed(relative))) && !excludes(relative);
+        }
+
+        private boolean includes(Path relative) {
+            return relative != null && include.stream().anyMatch(glob -> glob.matches(relative));
+        }
+
+        private boolean excludes(Path relative) {
+            return exclude.stream().anyMatch(glob -> glob.matches(relative));
+        }
+
+        private String filename(Path relative) {
+            String name = relative.toString().replace(File.separatorChar, '/');
+            return prefixed ? this.name + '/' + name : name;
+        }
+    }
+
+    /**
+     * Glob pattern matched against the file name, or against the relative path if it contains a slash.
+     */
+    private record Glob(PathMatcher matcher, boolean matchesPath) {
+        private static Glob compile(String pattern) {
+            return new Glob(FileSystems.getDefault().getPathMatcher("glob:" + pattern), pattern.contains("/"));
+        }
+
+        private boolean matches(Path relative) {
+            return matchesPath ? matcher.matches(relative) : matcher.matches(relative.getFileName());
+        }
+    }
+}
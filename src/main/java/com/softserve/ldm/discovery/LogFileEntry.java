@@ -0,0 +1,15 @@
+package com.softserve.ldm.discovery;
+
+import java.nio.file.Path;
+
+/**
+ * Log file found in one of the configured log directories.
+ *
+ * @param filename           Name used in the API: the path relative to the root, prefixed with the root name
+ *                           when several roots are configured.
+ * @param path               Absolute path of the file.
+ * @param byteSize           Size of the file when it was discovered.
+ * @param lastModifiedMillis Last modification time of the file when it was discovered, in epoch milliseconds.
+ */
+public record LogFileEntry(String filename, Path path, long byteSize, long lastModifiedMillis) {
+}
@@ -0,0 +1,30 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Usage statistics of the per-file state cache shared by content filters, analyzers and line indexes.
+ *
+ * @param reused        File evaluations answered without reading the file because it did not change.
+ * @param resumed       File evaluations that only read the bytes appended since the previous evaluation.
+ * @param rebuilt       File evaluations that read the file from the beginning.
+ * @param hitRatio      Share of evaluations that did not read the file.
+ * @param evictions     Entries evicted because of the size bound.
+ * @param estimatedSize Approximate number of cached entries.
+ */
+public record CacheStatsDto(
+    long reused,
+    long resumed,
+    long rebuilt,
+    double hitRatio,
+    long evictions,
+    long estimatedSize) {
+    public static final String defaultJson = """
+        {
+          "reused": 940,
+          "resumed": 50,
+          "rebuilt": 10,
+          "hitRatio": 0.94,
+          "evictions": 0,
+          "estimatedSize": 120
+        }
+        """;
+}
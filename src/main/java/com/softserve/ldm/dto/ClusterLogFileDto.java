@@ -0,0 +1,14 @@
+package com.softserve.ldm.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * Log file of one instance of the cluster.
+ *
+ * @param instance Name of the instance holding the file.
+ * @param file     Metadata of the file, serialized inline.
+ */
+public record ClusterLogFileDto(
+    String instance,
+    @JsonUnwrapped LogFileMetadataDto file) {
+}
@@ -0,0 +1,44 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+
+/**
+ * Page of the log files of all instances of the cluster.
+ *
+ * @param page          Files of the page, ordered across all instances.
+ * @param totalElements Number of matching files of the instances that answered.
+ * @param currentPage   Zero-based page number.
+ * @param totalPages    Number of pages of the instances that answered.
+ * @param partial       Whether some instances did not answer, so files may be missing.
+ * @param peers         Outcome per instance, the local instance first.
+ */
+public record ClusterPageDto(
+    List<ClusterLogFileDto> page,
+    long totalElements,
+    int currentPage,
+    int totalPages,
+    boolean partial,
+    List<PeerResultDto> peers) {
+    public static final String defaultJson = """
+        {
+          "page": [
+            {
+              "instance": "pod-1",
+              "filename": "app.log",
+              "byteSize": 1024,
+              "lastModified": "2025-01-01T00:00:00",
+              "matchedTerms": ["Connection refused"]
+            }
+          ],
+          "totalElements": 1,
+          "currentPage": 0,
+          "totalPages": 1,
+          "partial": true,
+          "peers": [
+            {"instance": "pod-1", "status": "OK", "totalElements": 1, "elapsedMillis": 12},
+            {"instance": "http://pod-2:8080", "status": "TIMEOUT", "totalElements": 0, "elapsedMillis": 5000,
+             "error": "Peer did not answer within 5000 ms"}
+          ]
+        }
+        """;
+}
@@ -0,0 +1,34 @@
+package com.softserve.ldm.dto;
+
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Condition on a column of a database table.
+ *
+ * @param column   Name of the column.
+ * @param operator {@link ColumnOperator} to apply.
+ * @param value    Value to compare with; used by the comparison operators and {@code LIKE}.
+ * @param values   Values to compare with; used by {@code IN}.
+ */
+public record ColumnFilterDto(
+    @NotBlank(message = "Column name cannot be blank") String column,
+    @NotNull(message = "Column operator must be specified") ColumnOperator operator,
+    String value,
+    List<String> values) {
+    public ColumnFilterDto {
+        if (operator != null && operator.requiresValue() && value == null) {
+            throw new BadRequestException("Column operator " + operator + " requires a value");
+        }
+        if (operator != null && operator.requiresValues() && (values == null || values.isEmpty())) {
+            throw new BadRequestException("Column operator " + operator + " requires a non-empty list of values");
+        }
+    }
+
+    public ColumnFilterDto(String column, ColumnOperator operator, String value) {
+        this(column, operator, value, null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Comparison applied by a {@link ColumnFilterDto}. Values are converted to the type of the column and bound
+ * as statement parameters, so the comparison is done by the database and can use its indexes.
+ */
+public enum ColumnOperator {
+    EQ("="), NE("<>"), LT("<"), LTE("<="), GT(">"), GTE(">="), LIKE("LIKE"), IN("IN"),
+    IS_NULL("IS NULL"), IS_NOT_NULL("IS NOT NULL");
+
+    private final String sql;
+
+    ColumnOperator(String sql) {
+        this.sql = sql;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Tells whether the operator compares the column with a single value.
+     *
+     * @return false for {@code IN} and the null checks.
+     */
+    public boolean requiresValue() {
+        return this != IN && this != IS_NULL && this != IS_NOT_NULL;
+    }
+
+    /**
+     * Tells whether the operator compares the column with a list of values.
+     *
+     * @return true for {@code IN}.
+     */
+    public boolean requiresValues() {
+        return this == IN;
+    }
+}
@@ -0,0 +1,17 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Defines how {@link LogFileFilterDto#fileContentQuery()} is interpreted.
+ */
+public enum ContentQueryMode {
+    /**
+     * Case-insensitive substring search.
+     */
+    TEXT,
+
+    /**
+     * Regular expression in {@link java.util.regex.Pattern} syntax, searched line by line.
+     * Matching is case-sensitive unless the expression enables {@code (?i)}.
+     */
+    REGEX
+}
@@ -0,0 +1,31 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Connection usage of LDM database queries.
+ *
+ * @param dedicated       Whether LDM uses its own pool configured under {@code ldm.datasource}; false if it
+ *                        borrows connections from the application {@code DataSource}.
+ * @param active          Connections in use.
+ * @param idle            Open connections waiting to be used; always 0 for borrowed connections.
+ * @param total           Open connections.
+ * @param threadsAwaiting Requests waiting for a connection.
+ * @param maxConnections  Max number of connections LDM may use at the same time.
+ */
+public record DataSourceStatsDto(
+    boolean dedicated,
+    int active,
+    int idle,
+    int total,
+    int threadsAwaiting,
+    int maxConnections) {
+    public static final String defaultJson = """
+        {
+          "dedicated": true,
+          "active": 1,
+          "idle": 2,
+          "total": 3,
+          "threadsAwaiting": 0,
+          "maxConnections": 4
+        }
+        """;
+}
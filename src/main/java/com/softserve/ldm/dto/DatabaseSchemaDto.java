@@ -0,0 +1,16 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Schema of the database whose tables can be listed and queried.
+ *
+ * @param name    Name of the schema; on MySQL and MariaDB, the name of the database.
+ * @param catalog Catalog the schema belongs to; null if the database does not report one.
+ */
+public record DatabaseSchemaDto(String name, String catalog) {
+    public static final String defaultJson = """
+        [
+          {"name": "public", "catalog": "shop"},
+          {"name": "billing", "catalog": "shop"}
+        ]
+        """;
+}
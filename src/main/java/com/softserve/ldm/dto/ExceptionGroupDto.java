@@ -0,0 +1,31 @@
+package com.softserve.ldm.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Group of stack traces with the same fingerprint.
+ *
+ * @param fingerprint    Hash of the exception class and the top application frames.
+ * @param exceptionClass Class of the top-level exception.
+ * @param rootCauseClass Class of the innermost cause, if any.
+ * @param message        Message of the earliest occurrence.
+ * @param frames         Frames used for the fingerprint.
+ * @param count          Number of occurrences.
+ * @param firstSeen      Timestamp of the log line preceding the earliest occurrence.
+ * @param lastSeen       Timestamp of the log line preceding the latest occurrence.
+ * @param files          Log files containing the exception.
+ * @param sample         Stack trace of the earliest occurrence.
+ */
+public record ExceptionGroupDto(
+    String fingerprint,
+    String exceptionClass,
+    String rootCauseClass,
+    String message,
+    List<String> frames,
+    long count,
+    LocalDateTime firstSeen,
+    LocalDateTime lastSeen,
+    List<String> files,
+    String sample) {
+}
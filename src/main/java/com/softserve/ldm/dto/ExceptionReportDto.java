@@ -0,0 +1,42 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+
+/**
+ * Top exception groups found in the selected log files.
+ *
+ * @param groups           Groups ordered by the number of occurrences, most frequent first.
+ * @param totalOccurrences Number of stack traces in all groups, including the ones not returned.
+ * @param totalGroups      Number of distinct groups.
+ * @param scannedFiles     Number of analyzed files.
+ * @param scannedBytes     Number of bytes read by this request; unchanged files are served from cache.
+ */
+public record ExceptionReportDto(
+    List<ExceptionGroupDto> groups,
+    long totalOccurrences,
+    int totalGroups,
+    int scannedFiles,
+    long scannedBytes) {
+    public static final String defaultJson = """
+        {
+          "groups": [
+            {
+              "fingerprint": "9f0c1c2e5d7a4b31",
+              "exceptionClass": "java.lang.IllegalStateException",
+              "rootCauseClass": "java.io.IOException",
+              "message": "Order cannot be processed",
+              "frames": ["com.example.order.OrderService.process"],
+              "count": 42,
+              "firstSeen": "2025-01-01T00:00:00",
+              "lastSeen": "2025-01-01T12:00:00",
+              "files": ["app.log"],
+              "sample": "java.lang.IllegalStateException: Order cannot be processed\\n\\tat ..."
+            }
+          ],
+          "totalOccurrences": 42,
+          "totalGroups": 1,
+          "scannedFiles": 1,
+          "scannedBytes": 1024
+        }
+        """;
+}
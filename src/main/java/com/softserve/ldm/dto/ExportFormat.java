@@ -0,0 +1,47 @@
+package com.softserve.ldm.dto;
+
+/**
+ * File format of streamed exports.
+ */
+public enum ExportFormat {
+    /**
+     * UTF-8 comma-separated values with a header line, quoted as described by RFC 4180. Several tables are
+     * exported as a ZIP archive with one CSV file per table.
+     */
+    CSV("text/csv", "csv", "application/zip", "zip"),
+
+    /**
+     * Excel workbook written with a sliding row window, so only a few rows are kept in memory. Several tables
+     * are exported as one workbook with a sheet per table.
+     */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx",
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String mediaType;
+    private final String extension;
+    private final String batchMediaType;
+    private final String batchExtension;
+
+    ExportFormat(String mediaType, String extension, String batchMediaType, String batchExtension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+        this.batchMediaType = batchMediaType;
+        this.batchExtension = batchExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getBatchMediaType() {
+        return batchMediaType;
+    }
+
+    public String getBatchExtension() {
+        return batchExtension;
+    }
+}
@@ -0,0 +1,20 @@
+package com.softserve.ldm.dto;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Rows of a table added or changed since a watermark.
+ *
+ * @param previousWatermark Watermark the export continues from; null for the first export of the table.
+ * @param watermark         Largest value of the tracked column among the exported rows, to be passed as the
+ *                          watermark of the next export; the previous watermark if no row changed.
+ * @param indexed           Whether an index serves the tracked column, so the database reads only the new
+ *                          rows with an index range scan.
+ * @param body              File with the rows, in the order of the tracked column.
+ */
+public record IncrementalExportDto(
+    String previousWatermark,
+    String watermark,
+    boolean indexed,
+    StreamingResponseBody body) {
+}
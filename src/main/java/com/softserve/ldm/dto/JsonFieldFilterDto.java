@@ -0,0 +1,23 @@
+package com.softserve.ldm.dto;
+
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Condition on a field of JSON-structured log lines.
+ *
+ * @param field    Dot-separated path of the field, e.g. {@code mdc.userId}.
+ * @param operator {@link JsonFieldOperator} to apply.
+ * @param value    Value to compare with; not used by the existence operators.
+ */
+public record JsonFieldFilterDto(
+    @NotBlank(message = "JSON field name cannot be blank") String field,
+    @NotNull(message = "JSON field operator must be specified") JsonFieldOperator operator,
+    String value) {
+    public JsonFieldFilterDto {
+        if (operator != null && operator.requiresValue() && value == null) {
+            throw new BadRequestException("JSON field operator " + operator + " requires a value");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Comparison applied by a {@link JsonFieldFilterDto}.
+ * <p>
+ * Range operators compare numerically when both the field and the filter value are numbers, and
+ * lexicographically otherwise, which also orders ISO-8601 timestamps correctly.
+ * </p>
+ */
+public enum JsonFieldOperator {
+    EQ, NE, GT, GTE, LT, LTE, EXISTS, NOT_EXISTS;
+
+    /**
+     * Tells whether the operator compares the field with a value.
+     *
+     * @return false for the existence operators.
+     */
+    public boolean requiresValue() {
+        return this != EXISTS && this != NOT_EXISTS;
+    }
+}
@@ -3,10 +3,31 @@ package com.softserve.ldm.dto;
 import jakarta.validation.Valid;
 import org.springframework.boot.logging.LogLevel;
 
+import java.util.List;
+
+/**
+ * Filter criteria for log files.
+ *
+ * @param fileNameQuery         Case-insensitive substring of the file name.
+ * @param fileContentQuery      Case-insensitive substring, or a regular expression in {@link ContentQueryMode#REGEX}
+ *                              mode, that must occur in the file.
+ * @param fileContentMode       How the content query is interpreted; {@link ContentQueryMode#TEXT} by default.
+ * @param fileContentTerms      Case-insensitive terms; a file matches if it contains any of them.
+ * @param fileContentExpression Boolean expression over terms, e.g. {@code timeout AND NOT "read timed out"}.
+ * @param jsonFieldFilters      Conditions on fields of JSON log lines; a file matches if one of its lines
+ *                              satisfies all of them.
+ * @param byteSizeRangeDto      Allowed file size range.
+ * @param dateRangeDto          Allowed last modification date range.
+ * @param logLevel              Log level that must occur in the file.
+ */
 public record LogFileFilterDto(
         String fileNameQuery,
         String fileContentQuery,
+        ContentQueryMode fileContentMode,
+        List<String> fileContentTerms,
+        String fileContentExpression,
+        List<@Valid JsonFieldFilterDto> jsonFieldFilters,
         @Valid ByteSizeRangeDto byteSizeRangeDto,
         @Valid DateRangeDto dateRangeDto,
         LogLevel logLevel) {
-}
\ No newline at end of file
+}
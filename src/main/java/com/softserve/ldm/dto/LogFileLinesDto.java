@@ -0,0 +1,29 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+
+/**
+ * Range of lines of a log file.
+ *
+ * @param filename   Name of the log file.
+ * @param fromLine   One-based number of the first returned line.
+ * @param lines      Returned lines, without line terminators.
+ * @param totalLines Number of lines in the file when it was read.
+ * @param hasMore    Whether the file contains lines after the returned range.
+ */
+public record LogFileLinesDto(
+    String filename,
+    long fromLine,
+    List<String> lines,
+    long totalLines,
+    boolean hasMore) {
+    public static final String defaultJson = """
+        {
+          "filename": "app.log",
+          "fromLine": 4000000,
+          "lines": ["2025-01-01 10:00:00.000  INFO 1 --- [main] c.e.OrderService : Order 17 processed"],
+          "totalLines": 4000200,
+          "hasMore": true
+        }
+        """;
+}
@@ -1,11 +1,15 @@
 package com.softserve.ldm.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record LogFileMetadataDto(
     String filename,
     long byteSize,
-    LocalDateTime lastModified) {
+    LocalDateTime lastModified,
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<String> matchedTerms) {
     public static final String defaultJson =
         """
                 {
@@ -13,7 +17,8 @@ public record LogFileMetadataDto(
                         {
                           "filename": "string",
                           "size": 0,
-                          "lastModified": "2025-01-01T00:00:00.000+00:00"
+                          "lastModified": "2025-01-01T00:00:00.000+00:00",
+                          "matchedTerms": ["string"]
                         }
                     ],
                     "totalElements": 0,
@@ -21,4 +26,18 @@ public record LogFileMetadataDto(
                     "totalPages": 0
                 }
             """;
+
+    public LogFileMetadataDto(String filename, long byteSize, LocalDateTime lastModified) {
+        this(filename, byteSize, lastModified, null);
+    }
+
+    /**
+     * Creates a copy of this metadata with the given matched terms.
+     *
+     * @param terms Terms found in the file.
+     * @return new {@link LogFileMetadataDto}.
+     */
+    public LogFileMetadataDto withMatchedTerms(List<String> terms) {
+        return new LogFileMetadataDto(filename, byteSize, lastModified, terms);
+    }
 }
@@ -9,6 +9,13 @@ public record LogFileRequestDto(
             "filterDto": {
               "fileNameQuery": "string",
               "fileContentQuery": "string",
+              "fileContentMode": "TEXT",
+              "fileContentTerms": ["NullPointerException", "Connection refused"],
+              "fileContentExpression": "timeout AND NOT \\"read timed out\\"",
+              "jsonFieldFilters": [
+                {"field": "level", "operator": "EQ", "value": "ERROR"},
+                {"field": "mdc.durationMs", "operator": "GTE", "value": "500"}
+              ],
               "byteSizeRangeDto": {
                 "from": 0,
                 "to": 0
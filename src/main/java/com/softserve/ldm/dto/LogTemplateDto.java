@@ -0,0 +1,18 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+
+/**
+ * Message template shared by log lines that differ only in their parameters.
+ *
+ * @param template   Message with the variable tokens replaced by {@code <*>}.
+ * @param count      Number of matching lines.
+ * @param parameters Sampled values of each {@code <*>} position, in order.
+ * @param files      Log files containing the template.
+ */
+public record LogTemplateDto(
+    String template,
+    long count,
+    List<List<String>> parameters,
+    List<String> files) {
+}
@@ -1,6 +1,7 @@
 package com.softserve.ldm.dto;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
@@ -9,13 +10,13 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
-@Builder
 @NoArgsConstructor
 public class PageableAdvancedDto<T> {
     /**
      * Constructor.
      */
     @JsonCreator
+    @Builder
     public PageableAdvancedDto(@JsonProperty("page") List<T> page,
                                @JsonProperty("totalElements") long totalElements,
                                @JsonProperty("currentPage") int currentPage,
@@ -53,4 +54,16 @@ public class PageableAdvancedDto<T> {
     private boolean first;
 
     private boolean last;
+
+    /**
+     * Cursor of the next page, for pages that can be continued by key instead of by offset.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    /**
+     * Whether the requested sort is served by an index; null if no sort was requested.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean sortIndexed;
 }
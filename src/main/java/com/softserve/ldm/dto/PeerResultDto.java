@@ -0,0 +1,20 @@
+package com.softserve.ldm.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Contribution of one instance to a cluster request.
+ *
+ * @param instance      Name of the instance.
+ * @param status        {@link PeerStatus} of the instance.
+ * @param totalElements Number of matching files of the instance; zero unless the status is {@code OK}.
+ * @param elapsedMillis Time the instance took to answer or to fail.
+ * @param error         Reason of the failure, if any.
+ */
+public record PeerResultDto(
+    String instance,
+    PeerStatus status,
+    long totalElements,
+    long elapsedMillis,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String error) {
+}
@@ -0,0 +1,10 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Outcome of the part of a cluster request sent to one instance.
+ */
+public enum PeerStatus {
+    OK,
+    TIMEOUT,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package com.softserve.ldm.dto;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Random sample of the rows of a table, written as a file.
+ *
+ * @param method {@link SampleMethod} the rows are chosen by.
+ * @param body   File with the sampled rows.
+ */
+public record SampleExportDto(SampleMethod method, StreamingResponseBody body) {
+}
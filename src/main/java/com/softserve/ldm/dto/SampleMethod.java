@@ -0,0 +1,30 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Way the rows of a table sample are chosen.
+ */
+public enum SampleMethod {
+    /**
+     * {@code TABLESAMPLE SYSTEM} on PostgreSQL: whole pages are picked at random, so only the sampled pages are
+     * read and the cost does not grow with the table. Rows stored together are sampled together.
+     */
+    SYSTEM,
+
+    /**
+     * {@code TABLESAMPLE BERNOULLI} on PostgreSQL: every row is picked independently, which gives the most
+     * uniform sample but reads every page of the table.
+     */
+    BERNOULLI,
+
+    /**
+     * Portable sampling by a single integer primary key: random keys between the smallest and the largest key
+     * are looked up with index seeks, and the first row at or after each is picked, so the cost does not grow
+     * with the table. Rows that follow large gaps between keys are picked more often.
+     */
+    RANDOM_KEYS,
+
+    /**
+     * The first rows in primary key order; used only when the table can be sampled in no other way.
+     */
+    FIRST_ROWS
+}
@@ -0,0 +1,103 @@
+package com.softserve.ldm.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Tables of a database schema with their columns, keys, indexes and approximate sizes.
+ *
+ * @param schema  Name of the schema.
+ * @param version Hash of the catalog content; it changes whenever the schema or the size statistics change and
+ *                is used as the ETag of the catalog.
+ * @param readAt  When the catalog was read from the database.
+ * @param tables  Tables of the schema, ordered by name.
+ */
+public record SchemaCatalogDto(
+    String schema,
+    String version,
+    Instant readAt,
+    List<Table> tables) {
+    public static final String defaultJson = """
+        {
+          "schema": "public",
+          "version": "4f0c2a9d81be3e67",
+          "readAt": "2025-01-01T10:00:00Z",
+          "tables": [
+            {
+              "name": "orders",
+              "approximateRows": 120000,
+              "approximateBytes": 18874368,
+              "columns": [
+                {"name": "id", "typeName": "int8", "jdbcType": -5, "size": 19, "nullable": false},
+                {"name": "user_id", "typeName": "int8", "jdbcType": -5, "size": 19, "nullable": false},
+                {"name": "updated_at", "typeName": "timestamp", "jdbcType": 93, "size": 29, "nullable": true}
+              ],
+              "primaryKey": ["id"],
+              "indexes": [
+                {"name": "orders_pkey", "unique": true, "columns": ["id"]},
+                {"name": "orders_updated_at_idx", "unique": false, "columns": ["updated_at"]}
+              ],
+              "foreignKeys": [
+                {"name": "orders_user_id_fkey", "columns": ["user_id"], "referencedTable": "users",
+                 "referencedColumns": ["id"]}
+              ]
+            }
+          ]
+        }
+        """;
+
+    /**
+     * Table of the schema.
+     *
+     * @param name             Name of the table as reported by the database.
+     * @param approximateRows  Row count estimated by the database statistics; null if not available.
+     * @param approximateBytes Size of the table including its indexes; null if not available.
+     * @param columns          Columns in table order.
+     * @param primaryKey       Primary key columns in key order; empty if the table has no primary key.
+     * @param indexes          Indexes ordered by name.
+     * @param foreignKeys      Foreign keys ordered by name.
+     */
+    public record Table(
+        String name,
+        Long approximateRows,
+        Long approximateBytes,
+        List<Column> columns,
+        List<String> primaryKey,
+        List<Index> indexes,
+        List<ForeignKey> foreignKeys) {
+    }
+
+    /**
+     * Column of a table.
+     *
+     * @param name     Name of the column.
+     * @param typeName Database specific type name.
+     * @param jdbcType {@link java.sql.Types} code of the column.
+     * @param size     Max length of text columns or precision of numeric columns; null if not applicable.
+     * @param nullable Whether the column accepts null.
+     */
+    public record Column(String name, String typeName, int jdbcType, Integer size, boolean nullable) {
+    }
+
+    /**
+     * Index of a table.
+     *
+     * @param name    Name of the index.
+     * @param unique  Whether the index enforces unique values.
+     * @param columns Indexed columns in index order; expressions are left out.
+     */
+    public record Index(String name, boolean unique, List<String> columns) {
+    }
+
+    /**
+     * Foreign key of a table.
+     *
+     * @param name              Name of the constraint.
+     * @param columns           Referencing columns in key order.
+     * @param referencedTable   Name of the referenced table.
+     * @param referencedColumns Referenced columns, matched to the referencing columns by position.
+     */
+    public record ForeignKey(String name, List<String> columns, String referencedTable,
+                             List<String> referencedColumns) {
+    }
+}
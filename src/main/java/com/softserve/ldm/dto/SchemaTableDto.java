@@ -0,0 +1,12 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Table of a schema.
+ *
+ * @param schema        Name of the schema.
+ * @param name          Name of the table as reported by the database.
+ * @param qualifiedName {@code schema.name}, accepted as table name by the select and export endpoints;
+ *                      null if the schema or table name is not a plain identifier the endpoints accept.
+ */
+public record SchemaTableDto(String schema, String name, String qualifiedName) {
+}
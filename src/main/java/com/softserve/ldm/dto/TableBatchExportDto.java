@@ -0,0 +1,43 @@
+package com.softserve.ldm.dto;
+
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import jakarta.validation.Valid;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Request for exporting several tables into one file.
+ *
+ * @param tables Tables to export; each table can be given once.
+ */
+public record TableBatchExportDto(List<@Valid TableExportItemDto> tables) {
+    public static final String defaultJson = """
+        {
+          "tables": [
+            {"tableName": "users"},
+            {"tableName": "orders", "query": {"filters": [{"column": "status", "operator": "EQ", "value": "PAID"}]}},
+            {"tableName": "order_items", "query": {"columns": ["id", "order_id", "price"]}}
+          ]
+        }
+        """;
+
+    public TableBatchExportDto {
+        if (tables == null || tables.isEmpty()) {
+            throw new BadRequestException(ErrorMessage.EMPTY_BATCH_EXPORT);
+        }
+        if (tables.size() > AppConstant.MAX_BATCH_TABLES) {
+            throw new BadRequestException(ErrorMessage.EXCEED_BATCH_TABLES);
+        }
+        Set<String> names = new HashSet<>();
+        for (TableExportItemDto table : tables) {
+            if (!names.add(table.tableName())) {
+                throw new BadRequestException(String.format(ErrorMessage.DUPLICATE_BATCH_TABLE, table.tableName()));
+            }
+        }
+        tables = List.copyOf(tables);
+    }
+}
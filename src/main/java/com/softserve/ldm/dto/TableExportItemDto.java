@@ -0,0 +1,18 @@
+package com.softserve.ldm.dto;
+
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Table of a batch export.
+ *
+ * @param tableName Name of the table.
+ * @param query     Columns to export and conditions to apply. Can be null to export the whole table.
+ */
+public record TableExportItemDto(
+    @Pattern(regexp = AppConstant.VALID_TABLE_NAME_REGEX,
+        message = ErrorMessage.INVALID_TABLE_NAME) String tableName,
+    @Valid TableQueryDto query) {
+}
@@ -0,0 +1,106 @@
+package com.softserve.ldm.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Statistics of the columns of a table, computed in one pass over its rows or over a sample of them.
+ *
+ * @param tableName    Name of the profiled table.
+ * @param rows         Number of profiled rows.
+ * @param sampleMethod {@link SampleMethod} the rows were chosen by; null if all matching rows were profiled.
+ * @param profiledAt   When the profile was computed; profiles are cached for {@code ldm.export.profile-cache-ttl}.
+ * @param columns      Profiles of the columns, in row order.
+ */
+public record TableProfileDto(
+    String tableName,
+    long rows,
+    SampleMethod sampleMethod,
+    Instant profiledAt,
+    List<Column> columns) {
+    public static final String defaultJson = """
+        {
+          "tableName": "orders",
+          "rows": 120000,
+          "sampleMethod": null,
+          "profiledAt": "2025-01-01T10:00:00Z",
+          "columns": [
+            {
+              "name": "total",
+              "jdbcType": 3,
+              "nulls": 12,
+              "distinctValues": 48211,
+              "distinctRelativeError": 0.01625,
+              "min": "0.99",
+              "max": "18450.00",
+              "topValues": [{"value": "19.99", "estimatedCount": 2210, "guaranteedCount": 2187}],
+              "countErrorBound": 318,
+              "quantiles": [{"quantile": 0.5, "value": 64.5}, {"quantile": 0.99, "value": 1290.0}],
+              "lengthHistogram": []
+            },
+            {
+              "name": "status",
+              "jdbcType": 12,
+              "nulls": 0,
+              "distinctValues": 4,
+              "distinctRelativeError": 0.01625,
+              "min": "CANCELLED",
+              "max": "SHIPPED",
+              "topValues": [{"value": "SHIPPED", "estimatedCount": 101520, "guaranteedCount": 101520}],
+              "countErrorBound": 318,
+              "quantiles": [],
+              "lengthHistogram": [{"minLength": 4, "maxLength": 7, "count": 101520}]
+            }
+          ]
+        }
+        """;
+
+    /**
+     * Profile of a column.
+     *
+     * @param name                  Name of the column.
+     * @param jdbcType              {@link java.sql.Types} code of the column.
+     * @param nulls                 Number of null values.
+     * @param distinctValues        Estimated number of distinct non-null values.
+     * @param distinctRelativeError Standard error of {@code distinctValues} relative to the true number.
+     * @param min                   Smallest value of numeric, text and temporal columns; null otherwise.
+     * @param max                   Largest value of numeric, text and temporal columns; null otherwise.
+     * @param topValues             Most frequent values, most frequent first.
+     * @param countErrorBound       Maximum overestimation of the counts of {@code topValues} with high
+     *                              probability.
+     * @param quantiles             Estimated quantiles of numeric columns; empty for other columns.
+     * @param lengthHistogram       Lengths of the values of text columns; empty for other columns.
+     */
+    public record Column(
+        String name,
+        int jdbcType,
+        long nulls,
+        long distinctValues,
+        double distinctRelativeError,
+        String min,
+        String max,
+        List<ValueFrequencyDto> topValues,
+        long countErrorBound,
+        List<Quantile> quantiles,
+        List<LengthBucket> lengthHistogram) {
+    }
+
+    /**
+     * Estimated quantile of a numeric column.
+     *
+     * @param quantile Fraction of the values below {@code value}.
+     * @param value    Estimated value.
+     */
+    public record Quantile(double quantile, double value) {
+    }
+
+    /**
+     * Bucket of the length histogram of a text column.
+     *
+     * @param minLength Shortest length of the bucket.
+     * @param maxLength Longest length of the bucket.
+     * @param count     Number of values with a length in the bucket.
+     */
+    public record LengthBucket(int minLength, int maxLength, long count) {
+    }
+}
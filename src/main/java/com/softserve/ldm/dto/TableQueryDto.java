@@ -0,0 +1,45 @@
+package com.softserve.ldm.dto;
+
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Columns and conditions of a table query.
+ *
+ * @param columns Columns to return, in this order; all columns when empty.
+ * @param filters Conditions that must all hold for a row.
+ */
+public record TableQueryDto(
+    @Size(max = AppConstant.MAX_QUERY_COLUMNS, message = ErrorMessage.EXCEED_QUERY_COLUMNS) List<String> columns,
+    @Size(max = AppConstant.MAX_QUERY_FILTERS, message = ErrorMessage.EXCEED_QUERY_FILTERS)
+    List<@Valid ColumnFilterDto> filters) {
+    public static final String defaultJson = """
+        {
+          "columns": ["id", "email", "created_at"],
+          "filters": [
+            {"column": "status", "operator": "IN", "values": ["ACTIVE", "BLOCKED"]},
+            {"column": "created_at", "operator": "GTE", "value": "2025-01-01T00:00:00"},
+            {"column": "email", "operator": "LIKE", "value": "%@example.com"},
+            {"column": "deleted_at", "operator": "IS_NULL"}
+          ]
+        }
+        """;
+
+    public TableQueryDto {
+        columns = columns == null ? List.of() : columns;
+        filters = filters == null ? List.of() : filters;
+    }
+
+    /**
+     * Tells whether the query selects every column of every row.
+     *
+     * @return true if there is no projection and no filter.
+     */
+    public boolean isEmpty() {
+        return columns.isEmpty() && filters.isEmpty();
+    }
+}
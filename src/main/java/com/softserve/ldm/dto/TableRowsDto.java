@@ -1,7 +1,23 @@
 package com.softserve.ldm.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.Map;
 
-public record TableRowsDto(String tableName, List<Map<String, String>> tableData) {
+/**
+ * Rows of a database table.
+ *
+ * @param tableName  Name of the table.
+ * @param tableData  Rows as column name to value maps.
+ * @param nextCursor Cursor reading the rows after the last one; null if there is no next page or the order
+ *                   of the rows is not unique.
+ */
+public record TableRowsDto(
+    String tableName,
+    List<Map<String, String>> tableData,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+    public TableRowsDto(String tableName, List<Map<String, String>> tableData) {
+        this(tableName, tableData, null);
+    }
 }
@@ -0,0 +1,25 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Random sample of the rows of a table.
+ *
+ * @param tableName Name of the sampled table.
+ * @param method    {@link SampleMethod} the rows were chosen by.
+ * @param rows      Sampled rows as column name to value maps; fewer than requested if the table or the rows
+ *                  matching the filters are too few.
+ */
+public record TableSampleDto(String tableName, SampleMethod method, List<Map<String, String>> rows) {
+    public static final String defaultJson = """
+        {
+          "tableName": "users",
+          "method": "SYSTEM",
+          "rows": [
+            {"id": "18231", "email": "anna@example.com", "role": "USER"},
+            {"id": "90412", "email": "oleh@example.com", "role": "ADMIN"}
+          ]
+        }
+        """;
+}
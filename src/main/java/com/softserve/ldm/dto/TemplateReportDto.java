@@ -0,0 +1,36 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+
+/**
+ * Most frequent message templates of the selected log files.
+ *
+ * @param templates      Templates ordered by the number of lines, most frequent first.
+ * @param totalLines     Number of message lines assigned to templates.
+ * @param totalTemplates Number of distinct templates.
+ * @param scannedFiles   Number of analyzed files.
+ * @param scannedBytes   Number of bytes read by this request; unchanged files are served from cache.
+ */
+public record TemplateReportDto(
+    List<LogTemplateDto> templates,
+    long totalLines,
+    int totalTemplates,
+    int scannedFiles,
+    long scannedBytes) {
+    public static final String defaultJson = """
+        {
+          "templates": [
+            {
+              "template": "Order <*> processed in <*> ms",
+              "count": 1200,
+              "parameters": [["1", "2", "3"], ["15", "7", "22"]],
+              "files": ["app.log"]
+            }
+          ],
+          "totalLines": 1500,
+          "totalTemplates": 12,
+          "scannedFiles": 1,
+          "scannedBytes": 1024
+        }
+        """;
+}
@@ -0,0 +1,14 @@
+package com.softserve.ldm.dto;
+
+/**
+ * Estimated number of occurrences of a value.
+ *
+ * @param value           Extracted value.
+ * @param estimatedCount  Estimated number of occurrences; never lower than the true count.
+ * @param guaranteedCount Number of occurrences the value is guaranteed to have.
+ */
+public record ValueFrequencyDto(
+    String value,
+    long estimatedCount,
+    long guaranteedCount) {
+}
@@ -0,0 +1,37 @@
+package com.softserve.ldm.dto;
+
+import java.util.List;
+
+/**
+ * Approximate statistics of the values extracted from the selected log files.
+ *
+ * @param totalValues           Number of lines a value was extracted from.
+ * @param distinctValues        Estimated number of distinct values.
+ * @param distinctRelativeError Standard error of {@code distinctValues} relative to the true number.
+ * @param topValues             Most frequent values, most frequent first.
+ * @param countErrorBound       Maximum overestimation of the counts of {@code topValues} with high probability.
+ * @param scannedFiles          Number of analyzed files.
+ * @param scannedBytes          Number of bytes read by this request; unchanged files are served from cache.
+ */
+public record ValueSketchReportDto(
+    long totalValues,
+    long distinctValues,
+    double distinctRelativeError,
+    List<ValueFrequencyDto> topValues,
+    long countErrorBound,
+    int scannedFiles,
+    long scannedBytes) {
+    public static final String defaultJson = """
+        {
+          "totalValues": 120000,
+          "distinctValues": 3420,
+          "distinctRelativeError": 0.01625,
+          "topValues": [
+            {"value": "10.0.0.17", "estimatedCount": 8100, "guaranteedCount": 8012}
+          ],
+          "countErrorBound": 318,
+          "scannedFiles": 3,
+          "scannedBytes": 1048576
+        }
+        """;
+}
@@ -0,0 +1,34 @@
+package com.softserve.ldm.dto;
+
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import jakarta.validation.Valid;
+
+/**
+ * Request for value statistics of the selected log files.
+ *
+ * @param filterDto Filters selecting the log files. Can be null.
+ * @param pattern   Regular expression extracting the value; its first capturing group is used if present.
+ * @param jsonField Dot-separated path of the JSON field holding the value, e.g. {@code mdc.userId}.
+ */
+public record ValueSketchRequestDto(
+    @Valid LogFileFilterDto filterDto,
+    String pattern,
+    String jsonField) {
+    public static final String defaultJson = """
+        {
+            "filterDto": {
+              "fileNameQuery": "access",
+              "logLevel": "ERROR"
+            },
+            "pattern": "client=(\\\\d+\\\\.\\\\d+\\\\.\\\\d+\\\\.\\\\d+)",
+            "jsonField": null
+        }
+        """;
+
+    public ValueSketchRequestDto {
+        if ((pattern == null || pattern.isEmpty()) == (jsonField == null || jsonField.isBlank())) {
+            throw new BadRequestException(ErrorMessage.INVALID_VALUE_EXTRACTOR);
+        }
+    }
+}
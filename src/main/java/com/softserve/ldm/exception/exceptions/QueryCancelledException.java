@@ -0,0 +1,10 @@
+package com.softserve.ldm.exception.exceptions;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Exception that is thrown when a database query is cancelled because of a timeout or a client disconnect
+ */
+@StandardException
+public class QueryCancelledException extends RuntimeException {
+}
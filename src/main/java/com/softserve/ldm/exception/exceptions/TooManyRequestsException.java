@@ -0,0 +1,10 @@
+package com.softserve.ldm.exception.exceptions;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Exception that is thrown when the limit of concurrent resource-intensive operations is reached
+ */
+@StandardException
+public class TooManyRequestsException extends RuntimeException {
+}
@@ -0,0 +1,51 @@
+package com.softserve.ldm.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * {@link MultiTableWriter} producing a ZIP archive with one CSV file per table, written by
+ * {@link CsvTabularWriter}. Entries are compressed while the rows are written.
+ */
+public final class CsvArchiveWriter implements MultiTableWriter {
+    private static final String EXTENSION = ".csv";
+
+    private final ZipOutputStream zip;
+
+    public CsvArchiveWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TabularWriter startTable(String name, List<String> columns) throws IOException {
+        zip.putNextEntry(new ZipEntry(name + EXTENSION));
+        CsvTabularWriter csv = new CsvTabularWriter(zip, columns);
+        return new TabularWriter() {
+            @Override
+            public void writeRow(List<String> values) throws IOException {
+                csv.writeRow(values);
+            }
+
+            @Override
+            public void close() throws IOException {
+                csv.close();
+                zip.closeEntry();
+            }
+        };
+    }
+
+    /**
+     * Writes the central directory of the archive without closing the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        zip.finish();
+        zip.flush();
+    }
+}
@@ -0,0 +1,181 @@
+package com.softserve.ldm.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * {@link TabularWriter} producing an Excel workbook with {@link SXSSFWorkbook}.
+ * <p>
+ * Only the last {@value #ROW_WINDOW} rows are kept in memory; older rows are flushed to a compressed
+ * temporary file that is deleted when the writer is closed. When a sheet reaches the Excel row limit, the
+ * export continues on a new sheet with the same header. Values longer than an Excel cell can hold are
+ * truncated.
+ * </p>
+ */
+public final class ExcelTabularWriter implements TabularWriter {
+    private static final int ROW_WINDOW = 100;
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int MAX_CELL_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+    private static final int MAX_SHEET_NAME = 31;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final String sheetName;
+    private final List<String> columns;
+    private final CellStyle headerStyle;
+    private final CellStyle cellStyle;
+    private Sheet sheet;
+    private int sheetCount;
+    private int rowIndex;
+
+    public ExcelTabularWriter(OutputStream out, String sheetName, List<String> columns) {
+        this(out, createWorkbook(), sheetName, columns);
+    }
+
+    /**
+     * Creates a writer adding sheets to a workbook owned by the caller; closing it leaves the workbook open.
+     */
+    ExcelTabularWriter(SXSSFWorkbook workbook, CellStyle headerStyle, CellStyle cellStyle, String sheetName,
+                       List<String> columns) {
+        this.out = null;
+        this.workbook = workbook;
+        this.sheetName = sheetName;
+        this.columns = List.copyOf(columns);
+        this.headerStyle = headerStyle;
+        this.cellStyle = cellStyle;
+        startSheet();
+    }
+
+    private ExcelTabularWriter(OutputStream out, SXSSFWorkbook workbook, String sheetName, List<String> columns) {
+        this.out = out;
+        this.workbook = workbook;
+        this.sheetName = sheetName;
+        this.columns = List.copyOf(columns);
+        this.headerStyle = createHeaderStyle(workbook);
+        this.cellStyle = createCellStyle(workbook);
+        startSheet();
+    }
+
+    /**
+     * Creates a streaming workbook keeping {@value #ROW_WINDOW} rows of each sheet in memory.
+     *
+     * @return new {@link SXSSFWorkbook} with compressed temporary files.
+     */
+    static SXSSFWorkbook createWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    /**
+     * Creates the style of data cells: wrapped text.
+     *
+     * @param workbook Workbook the style belongs to.
+     * @return cell {@link CellStyle}.
+     */
+    static CellStyle createCellStyle(Workbook workbook) {
+        CellStyle cellStyle = workbook.createCellStyle();
+        cellStyle.setWrapText(true);
+        return cellStyle;
+    }
+
+    /**
+     * Creates the style of header cells shared by all Excel exports: bold Arial on a light blue background.
+     *
+     * @param workbook Workbook the style belongs to.
+     * @return header {@link CellStyle}.
+     */
+    public static CellStyle createHeaderStyle(Workbook workbook) {
+        Font font = workbook.createFont();
+        font.setFontName("Arial");
+        font.setFontHeightInPoints((short) 16);
+        font.setBold(true);
+
+        CellStyle headerStyle = workbook.createCellStyle();
+        headerStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
+        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        headerStyle.setFont(font);
+        return headerStyle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeRow(List<String> values) {
+        if (rowIndex == MAX_ROWS) {
+            startSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                Cell cell = row.createCell(i);
+                cell.setCellValue(value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value);
+                cell.setCellStyle(cellStyle);
+            }
+        }
+    }
+
+    /**
+     * Writes the workbook to the stream and deletes the temporary files. A writer adding a sheet to a shared
+     * workbook only completes its sheet.
+     */
+    @Override
+    public void close() throws IOException {
+        if (out == null) {
+            return;
+        }
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private void startSheet() {
+        sheetCount++;
+        String suffix = sheetCount == 1 ? "" : " (" + sheetCount + ")";
+        sheet = workbook.createSheet(uniqueSheetName(suffix));
+        rowIndex = 0;
+
+        Row header = sheet.createRow(rowIndex++);
+        for (int i = 0; i < columns.size(); i++) {
+            Cell cell = header.createCell(i);
+            cell.setCellValue(columns.get(i));
+            cell.setCellStyle(headerStyle);
+        }
+    }
+
+    /**
+     * Builds a valid sheet name that is not used yet. Names are cut to the Excel limit of
+     * {@value #MAX_SHEET_NAME} characters, so long table names sharing a prefix get a numbered suffix.
+     */
+    private String uniqueSheetName(String suffix) {
+        String base = WorkbookUtil.createSafeSheetName(sheetName);
+        String name = truncate(base, suffix) + suffix;
+        for (int i = 2; workbook.getSheet(name) != null; i++) {
+            String numbered = suffix + " ~" + i;
+            name = truncate(base, numbered) + numbered;
+        }
+        return name;
+    }
+
+    private static String truncate(String name, String suffix) {
+        return name.substring(0, Math.min(name.length(), MAX_SHEET_NAME - suffix.length()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.softserve.ldm.export;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * {@link MultiTableWriter} producing one Excel workbook with a sheet per table. The workbook is streamed with
+ * {@link SXSSFWorkbook}, so only a small window of rows of each sheet is kept in memory.
+ */
+public final class ExcelWorkbookWriter implements MultiTableWriter {
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle headerStyle;
+    private final CellStyle cellStyle;
+
+    public ExcelWorkbookWriter(OutputStream out) {
+        this.out = out;
+        this.workbook = ExcelTabularWriter.createWorkbook();
+        this.headerStyle = ExcelTabularWriter.createHeaderStyle(workbook);
+        this.cellStyle = ExcelTabularWriter.createCellStyle(workbook);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TabularWriter startTable(String name, List<String> columns) {
+        return new ExcelTabularWriter(workbook, headerStyle, cellStyle, name, columns);
+    }
+
+    /**
+     * Writes the workbook to the stream and deletes the temporary files.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.softserve.ldm.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes several tables into one file, one table after another. Closing the writer completes the file but
+ * leaves the underlying stream open.
+ */
+public interface MultiTableWriter extends Closeable {
+    /**
+     * Starts the next table. The returned writer must be closed before the next table is started.
+     *
+     * @param name    Name of the table, used as the sheet or entry name.
+     * @param columns Column names written as the header row.
+     * @return {@link TabularWriter} receiving the rows of the table.
+     * @throws IOException if the table cannot be started.
+     */
+    TabularWriter startTable(String name, List<String> columns) throws IOException;
+}
@@ -0,0 +1,179 @@
+package com.softserve.ldm.export;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TabularWriter} buffering the rows of a table until they can be written to the final file.
+ * <p>
+ * Rows are kept in memory as long as their estimated size fits into a budget shared by all spools of an
+ * export. When the budget is exhausted, the buffered rows are moved to a temporary file, their memory is
+ * returned to the budget and all further rows go to the file. Closing the spool deletes the file and returns
+ * the remaining memory. Writing fails with {@link InterruptedIOException} once the thread is interrupted,
+ * so cancelled exports stop reading.
+ * </p>
+ */
+public final class RowSpool implements TabularWriter {
+    private static final int ROW_OVERHEAD = 32;
+    private static final int VALUE_OVERHEAD = 48;
+    private static final int NULL_VALUE = -1;
+
+    private final AtomicLong memoryBudget;
+    private final List<List<String>> rows = new ArrayList<>();
+    private long reservedBytes;
+    private long rowCount;
+    private Path file;
+    private DataOutputStream fileOut;
+
+    /**
+     * Creates an empty spool.
+     *
+     * @param memoryBudget Bytes that all spools of an export may still keep in memory; shared between threads.
+     */
+    public RowSpool(AtomicLong memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException();
+        }
+        rowCount++;
+        if (fileOut == null) {
+            long size = estimateSize(values);
+            if (reserve(size)) {
+                reservedBytes += size;
+                rows.add(values);
+                return;
+            }
+            spill();
+        }
+        writeToFile(values);
+    }
+
+    /**
+     * Writes the buffered rows, in the order they were received.
+     *
+     * @param target {@link TabularWriter} receiving the rows.
+     * @throws IOException if the temporary file cannot be read or the target fails.
+     */
+    public void replay(TabularWriter target) throws IOException {
+        if (fileOut == null) {
+            for (List<String> row : rows) {
+                target.writeRow(row);
+            }
+            return;
+        }
+
+        fileOut.close();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (long i = 0; i < rowCount; i++) {
+                target.writeRow(readRow(in));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows received so far.
+     *
+     * @return number of rows.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Tells whether the rows were moved to a temporary file.
+     *
+     * @return true if the memory budget was exhausted.
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Returns the memory to the budget and deletes the temporary file. Can be called more than once.
+     */
+    @Override
+    public void close() throws IOException {
+        rows.clear();
+        memoryBudget.addAndGet(reservedBytes);
+        reservedBytes = 0;
+        if (file != null) {
+            try {
+                fileOut.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private boolean reserve(long size) {
+        long available = memoryBudget.get();
+        while (available >= size) {
+            if (memoryBudget.compareAndSet(available, available - size)) {
+                return true;
+            }
+            available = memoryBudget.get();
+        }
+        return false;
+    }
+
+    private void spill() throws IOException {
+        file = Files.createTempFile("ldm-export-", ".spool");
+        fileOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        for (List<String> row : rows) {
+            writeToFile(row);
+        }
+        rows.clear();
+        memoryBudget.addAndGet(reservedBytes);
+        reservedBytes = 0;
+    }
+
+    private void writeToFile(List<String> values) throws IOException {
+        fileOut.writeInt(values.size());
+        for (String value : values) {
+            if (value == null) {
+                fileOut.writeInt(NULL_VALUE);
+                continue;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            fileOut.writeInt(bytes.length);
+            fileOut.write(bytes);
+        }
+    }
+
+    private static List<String> readRow(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int length = in.readInt();
+            values.add(length == NULL_VALUE ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static long estimateSize(List<String> values) {
+        long size = ROW_OVERHEAD + 8L * values.size();
+        for (String value : values) {
+            if (value != null) {
+                size += VALUE_OVERHEAD + value.length();
+            }
+        }
+        return size;
+    }
+}
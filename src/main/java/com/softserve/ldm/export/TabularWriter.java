@@ -0,0 +1,19 @@
+package com.softserve.ldm.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes rows of a table to an output stream one at a time, so exports of any size use constant memory.
+ * Closing the writer completes the file but leaves the underlying stream open.
+ */
+public interface TabularWriter extends Closeable {
+    /**
+     * Appends a row. Values are matched to the columns by position; null values are written as empty cells.
+     *
+     * @param values Cell values of the row.
+     * @throws IOException if writing fails.
+     */
+    void writeRow(List<String> values) throws IOException;
+}
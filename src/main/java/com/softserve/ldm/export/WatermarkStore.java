@@ -0,0 +1,101 @@
+package com.softserve.ldm.export;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.exception.exceptions.FileReadException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Keeps the watermark of every table exported incrementally under an export profile, so that scheduled
+ * exports can continue where the previous run stopped without tracking the watermark themselves.
+ * <p>
+ * Watermarks are kept in the JSON file {@code ldm.export.watermark-file}; without it, profiles are disabled.
+ * The file is replaced atomically on every update, so a crash never leaves it half written.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class WatermarkStore {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Map<String, Watermark>>> FILE_TYPE = new TypeReference<>() {
+    };
+
+    private final LdmProperties properties;
+
+    /**
+     * Returns the watermark stored for a table of a profile.
+     *
+     * @param profile Name of the export profile.
+     * @param table   Name of the table.
+     * @return stored {@link Watermark}, or empty if the table was not exported under the profile yet.
+     * @throws BadRequestException if no watermark file is configured.
+     * @throws FileReadException   if the file cannot be read.
+     */
+    public synchronized Optional<Watermark> find(String profile, String table) {
+        return Optional.ofNullable(read(file()).getOrDefault(profile, Map.of()).get(table));
+    }
+
+    /**
+     * Stores the watermark reached by an export.
+     *
+     * @param profile   Name of the export profile.
+     * @param table     Name of the table.
+     * @param watermark Reached {@link Watermark}.
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void save(String profile, String table, Watermark watermark) throws IOException {
+        Path file = file();
+        Map<String, Map<String, Watermark>> watermarks = read(file);
+        watermarks.computeIfAbsent(profile, key -> new TreeMap<>()).put(table, watermark);
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), watermarks);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private Path file() {
+        String file = properties.getExport().getWatermarkFile();
+        if (file == null || file.isBlank()) {
+            throw new BadRequestException(ErrorMessage.WATERMARK_STORE_DISABLED);
+        }
+        return Path.of(file);
+    }
+
+    private static Map<String, Map<String, Watermark>> read(Path file) {
+        if (!Files.exists(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return new TreeMap<>(MAPPER.readValue(file.toFile(), FILE_TYPE));
+        } catch (IOException e) {
+            throw new FileReadException(String.format(ErrorMessage.CANNOT_READ_WATERMARKS, file), e);
+        }
+    }
+
+    /**
+     * Position reached by an incremental export.
+     *
+     * @param column Column the rows are tracked by.
+     * @param value  Largest value of the column that was exported.
+     */
+    public record Watermark(String column, String value) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.softserve.ldm.federation;
+
+/**
+ * Other instance of the application taking part in cluster requests.
+ *
+ * @param name    Name of the instance in cluster results.
+ * @param baseUrl Base URL of the instance, including the context path, without a trailing slash.
+ */
+public record Peer(String name, String baseUrl) {
+}
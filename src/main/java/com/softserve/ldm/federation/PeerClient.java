@@ -0,0 +1,80 @@
+package com.softserve.ldm.federation;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.dto.LogFileRequestDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+
+/**
+ * Calls the log endpoints of a {@link Peer}.
+ * <p>
+ * Peers are asked for their local results only, through the regular {@code /logs} endpoint, so a cluster
+ * request never fans out a second time. The caller's secret key is forwarded, which requires all instances to
+ * share it.
+ * </p>
+ */
+@Component
+public class PeerClient {
+    private static final String SECRET_KEY_HEADER = "Secret-Key";
+
+    private final RestClient restClient;
+
+    public PeerClient(LdmProperties properties, ObjectProvider<RestClient.Builder> restClientBuilder) {
+        LdmProperties.Federation settings = properties.getLogs().getFederation();
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(settings.getConnectTimeout())
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.getPeerTimeout());
+        this.restClient = restClientBuilder.getIfAvailable(RestClient::builder)
+            .requestFactory(requestFactory)
+            .build();
+    }
+
+    /**
+     * Fetches the leading files of a peer's log listing.
+     *
+     * @param peer      Peer to call.
+     * @param size      Number of files to fetch.
+     * @param sort      Order of the files.
+     * @param filterDto {@link LogFileFilterDto} optional filters.
+     * @param secretKey Secret key for authentication.
+     * @return {@link PeerPage} of the peer; empty if the peer has no matching log files.
+     * @throws RestClientException if the peer cannot be reached or rejects the request.
+     */
+    public PeerPage listLogFiles(Peer peer, int size, Sort sort, LogFileFilterDto filterDto, String secretKey) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(peer.baseUrl() + "/logs")
+            .queryParam("page", 0)
+            .queryParam("size", size);
+        for (Sort.Order order : sort) {
+            uri.queryParam("sort", order.getProperty() + "," + order.getDirection().name().toLowerCase());
+        }
+        URI target = uri.build().toUri();
+
+        return restClient.post()
+            .uri(target)
+            .header(SECRET_KEY_HEADER, secretKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new LogFileRequestDto(filterDto))
+            .exchange((request, response) -> {
+                if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                    return PeerPage.EMPTY;
+                }
+                if (response.getStatusCode().isError()) {
+                    throw new RestClientException(peer.name() + " answered " + response.getStatusCode().value());
+                }
+                return response.bodyTo(PeerPage.class);
+            });
+    }
+}
@@ -0,0 +1,105 @@
+package com.softserve.ldm.federation;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Knows the instances taking part in cluster requests.
+ * <p>
+ * Peers are the configured static URLs plus, when {@code discovery-host} is set, every address the host name
+ * currently resolves to, so replicas of a Kubernetes headless service are picked up as they come and go.
+ * The local instance is never a peer: it is queried in-process.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PeerDirectory {
+    private final LdmProperties.Federation settings;
+    private final String localName;
+
+    public PeerDirectory(LdmProperties properties) {
+        this.settings = properties.getLogs().getFederation();
+        this.localName = settings.getInstanceName() != null ? settings.getInstanceName() : hostName();
+    }
+
+    /**
+     * Returns the name of the local instance in cluster results.
+     *
+     * @return instance name.
+     */
+    public String localName() {
+        return localName;
+    }
+
+    /**
+     * Lists the current peers. A discovery host that cannot be resolved contributes no peers.
+     *
+     * @return {@link Peer} list without duplicates.
+     */
+    public List<Peer> peers() {
+        Map<String, Peer> peers = new LinkedHashMap<>();
+        for (String url : settings.getPeers()) {
+            String baseUrl = stripTrailingSlash(url);
+            peers.putIfAbsent(baseUrl, new Peer(baseUrl, baseUrl));
+        }
+        if (settings.getDiscoveryHost() != null && !settings.getDiscoveryHost().isBlank()) {
+            for (InetAddress address : resolve(settings.getDiscoveryHost())) {
+                String host = address.getHostAddress().contains(":")
+                    ? "[" + address.getHostAddress() + "]"
+                    : address.getHostAddress();
+                String baseUrl = stripTrailingSlash("http://" + host + ":" + settings.getDiscoveryPort()
+                    + settings.getDiscoveryContextPath());
+                peers.putIfAbsent(baseUrl, new Peer(baseUrl, baseUrl));
+            }
+        }
+        return new ArrayList<>(peers.values());
+    }
+
+    private static List<InetAddress> resolve(String host) {
+        try {
+            List<InetAddress> addresses = new ArrayList<>();
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                if (!isLocal(address)) {
+                    addresses.add(address);
+                }
+            }
+            return addresses;
+        } catch (UnknownHostException e) {
+            log.warn(String.format(ErrorMessage.CANNOT_RESOLVE_PEERS, host), e);
+            return List.of();
+        }
+    }
+
+    private static boolean isLocal(InetAddress address) {
+        try {
+            return address.isAnyLocalAddress() || address.isLoopbackAddress()
+                || NetworkInterface.getByInetAddress(address) != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.softserve.ldm.federation;
+
+import com.softserve.ldm.dto.LogFileMetadataDto;
+
+import java.util.List;
+
+/**
+ * Part of a log listing returned by one instance.
+ *
+ * @param page          Leading files of the instance in the requested order.
+ * @param totalElements Number of matching files of the instance.
+ */
+public record PeerPage(List<LogFileMetadataDto> page, long totalElements) {
+    public static final PeerPage EMPTY = new PeerPage(List.of(), 0);
+}
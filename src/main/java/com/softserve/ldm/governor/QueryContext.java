@@ -0,0 +1,134 @@
+package com.softserve.ldm.governor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State of the governed database request running on the current thread.
+ * <p>
+ * Statements created for the request are registered through {@link #register(Statement)}, which shortens
+ * their query timeout to the time left for the request; {@link #setQueryTimeout} keeps that cap when a
+ * timeout is replaced later. {@link #cancel()} calls {@link Statement#cancel()}
+ * on every registered statement that is still open, so the database stops working for a client that is
+ * gone. Outside a governed request registration does nothing.
+ * </p>
+ */
+@Slf4j
+public final class QueryContext {
+    private static final ThreadLocal<QueryContext> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final List<Statement> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+
+    QueryContext(long timeoutMillis) {
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * Registers a statement created by the current thread with its governed request, if any.
+     *
+     * @param statement Newly created statement.
+     * @throws SQLException if the request has been cancelled or the timeout cannot be set.
+     */
+    public static void register(Statement statement) throws SQLException {
+        QueryContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        if (context.cancelled) {
+            statement.close();
+            throw new SQLException("Request was cancelled");
+        }
+        long remainingSeconds = context.remainingSeconds();
+        int timeout = statement.getQueryTimeout();
+        if (timeout == 0 || timeout > remainingSeconds) {
+            statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, remainingSeconds));
+        }
+        context.statements.add(statement);
+    }
+
+    /**
+     * Replaces the query timeout of a statement, e.g. to give an export more time than a page read, without
+     * exceeding the time left for the governed request of the current thread.
+     *
+     * @param statement Statement created by the current thread.
+     * @param seconds   Wanted timeout in seconds; 0 for none.
+     * @throws SQLException if the timeout cannot be set.
+     */
+    public static void setQueryTimeout(Statement statement, int seconds) throws SQLException {
+        QueryContext context = CURRENT.get();
+        long timeout = seconds;
+        if (context != null) {
+            timeout = seconds == 0 ? context.remainingSeconds() : Math.min(seconds, context.remainingSeconds());
+        }
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, timeout));
+    }
+
+    /**
+     * Makes a task run under the governed request of the current thread, so the statements created by a
+     * worker thread, e.g. one reading a key range of an export, are cancelled with the request.
+     *
+     * @param task Task to run on another thread.
+     * @param <T>  Type of the task result.
+     * @return task registering its statements with the current request; the task itself outside a request.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        QueryContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(context);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Cancels the statements of the request that are still running.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            try {
+                if (!statement.isClosed()) {
+                    statement.cancel();
+                }
+            } catch (SQLException e) {
+                log.warn("Cannot cancel statement: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tells whether the request has been cancelled.
+     *
+     * @return true after {@link #cancel()}.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private long remainingSeconds() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(deadlineNanos - System.nanoTime()));
+    }
+
+    void attach() {
+        CURRENT.set(this);
+    }
+
+    void detach() {
+        CURRENT.remove();
+        statements.clear();
+    }
+}
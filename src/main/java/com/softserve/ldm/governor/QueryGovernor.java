@@ -0,0 +1,220 @@
+package com.softserve.ldm.governor;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.QueryCancelledException;
+import com.softserve.ldm.exception.exceptions.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps table queries and exports from running away with the database.
+ * <p>
+ * Each secret key may run a limited number of queries at the same time; further requests of the key wait
+ * for up to {@code ldm.export.governor.queue-timeout} and are then rejected with 429. Requests run on
+ * virtual threads under a {@link QueryContext}, and when the request times out or the client disconnects,
+ * the statements still running on the database are cancelled. Streamed exports keep their permit until the
+ * stream completes, and their statements are cancelled when writing the stream fails.
+ * </p>
+ */
+@Component
+public class QueryGovernor {
+    private final Map<String, KeyPermits> permitsByKey = new ConcurrentHashMap<>();
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ldm-query-", 0).factory());
+    private final int maxQueriesPerKey;
+    private final long queueTimeoutMillis;
+    private final long timeoutMillis;
+    private final long exportTimeoutMillis;
+
+    public QueryGovernor(LdmProperties properties) {
+        LdmProperties.QueryGovernor settings = properties.getExport().getGovernor();
+        this.maxQueriesPerKey = Math.max(1, settings.getMaxConcurrentQueriesPerKey());
+        this.queueTimeoutMillis = settings.getQueueTimeout().toMillis();
+        this.timeoutMillis = settings.getTimeout().toMillis();
+        this.exportTimeoutMillis = properties.getExport().getExportTimeout().toMillis();
+    }
+
+    /**
+     * Runs a database request asynchronously under the governor limits.
+     *
+     * @param secretKey Secret key of the request; limits are applied per key.
+     * @param query     Request to run; its statements must be created through
+     *                  {@link com.softserve.ldm.datasource.LdmDataSource}.
+     * @param <T>       Type of the response body.
+     * @return {@link DeferredResult} completed with the response, or with {@link TooManyRequestsException}
+     *         if the key has too many queries running.
+     */
+    public <T> DeferredResult<ResponseEntity<T>> submit(String secretKey, Supplier<ResponseEntity<T>> query) {
+        QueryContext context = new QueryContext(timeoutMillis);
+        DeferredResult<ResponseEntity<T>> result = deferredResult(context);
+
+        String key = secretKey == null ? "" : secretKey;
+        try {
+            executor.execute(() -> run(key, query, context, result));
+        } catch (RejectedExecutionException e) {
+            throw new QueryCancelledException(ErrorMessage.QUERY_CANCELLED, e);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a streamed export under the governor limits. The response is prepared like any other request, and
+     * the permit of the key is then held until the body has been written. The statements of the body are
+     * registered with their own {@link QueryContext} bounded by {@code ldm.export.export-timeout}, and are
+     * cancelled when writing the body fails, e.g. because the client disconnected.
+     *
+     * @param secretKey Secret key of the request; limits are applied per key.
+     * @param export    Request preparing the streamed response.
+     * @return {@link DeferredResult} completed with the streamed response, or with
+     *         {@link TooManyRequestsException} if the key has too many queries running.
+     */
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> submitStream(
+        String secretKey, Supplier<ResponseEntity<StreamingResponseBody>> export) {
+        QueryContext context = new QueryContext(timeoutMillis);
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = deferredResult(context);
+
+        String key = secretKey == null ? "" : secretKey;
+        try {
+            executor.execute(() -> prepareStream(key, export, context, result));
+        } catch (RejectedExecutionException e) {
+            throw new QueryCancelledException(ErrorMessage.QUERY_CANCELLED, e);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> DeferredResult<ResponseEntity<T>> deferredResult(QueryContext context) {
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>(timeoutMillis);
+        result.onTimeout(() -> {
+            context.cancel();
+            result.setErrorResult(new QueryCancelledException(ErrorMessage.QUERY_TIMEOUT));
+        });
+        result.onError(error -> context.cancel());
+        return result;
+    }
+
+    private <T> void run(String key, Supplier<ResponseEntity<T>> query, QueryContext context,
+                         DeferredResult<ResponseEntity<T>> result) {
+        KeyPermits permits = join(key);
+        boolean acquired = false;
+        ResponseEntity<T> response = null;
+        RuntimeException error = null;
+        try {
+            acquired = permits.semaphore.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                error = new TooManyRequestsException(ErrorMessage.TOO_MANY_QUERIES);
+            } else if (!context.isCancelled()) {
+                context.attach();
+                response = query.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = new QueryCancelledException(ErrorMessage.QUERY_CANCELLED, e);
+        } catch (RuntimeException e) {
+            error = context.isCancelled() ? new QueryCancelledException(ErrorMessage.QUERY_CANCELLED, e) : e;
+        } finally {
+            context.detach();
+            leave(key, permits, acquired);
+        }
+
+        // The permit is released first, so a client may send its next request as soon as it gets the response.
+        if (error != null) {
+            result.setErrorResult(error);
+        } else if (response != null) {
+            result.setResult(response);
+        }
+    }
+
+    private void prepareStream(String key, Supplier<ResponseEntity<StreamingResponseBody>> export,
+                               QueryContext context, DeferredResult<ResponseEntity<StreamingResponseBody>> result) {
+        KeyPermits permits = join(key);
+        boolean acquired = false;
+        boolean streaming = false;
+        try {
+            acquired = permits.semaphore.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                result.setErrorResult(new TooManyRequestsException(ErrorMessage.TOO_MANY_QUERIES));
+            } else if (!context.isCancelled()) {
+                context.attach();
+                ResponseEntity<StreamingResponseBody> response = export.get();
+                StreamingResponseBody body = response.getBody();
+                QueryContext streamContext = new QueryContext(exportTimeoutMillis);
+                // The permit passes to the stream, unless the request has already expired and the body never runs.
+                streaming = result.setResult(ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .body(out -> stream(body, out, streamContext, key, permits)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.setErrorResult(new QueryCancelledException(ErrorMessage.QUERY_CANCELLED, e));
+        } catch (RuntimeException e) {
+            result.setErrorResult(context.isCancelled()
+                ? new QueryCancelledException(ErrorMessage.QUERY_CANCELLED, e) : e);
+        } finally {
+            context.detach();
+            if (!streaming) {
+                leave(key, permits, acquired);
+            }
+        }
+    }
+
+    private void stream(StreamingResponseBody body, OutputStream out, QueryContext context, String key,
+                        KeyPermits permits) throws IOException {
+        context.attach();
+        try {
+            body.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            context.cancel();
+            throw e;
+        } finally {
+            context.detach();
+            leave(key, permits, true);
+        }
+    }
+
+    private KeyPermits join(String key) {
+        return permitsByKey.compute(key, (k, current) -> {
+            KeyPermits keyPermits = current != null ? current : new KeyPermits(maxQueriesPerKey);
+            keyPermits.users++;
+            return keyPermits;
+        });
+    }
+
+    private void leave(String key, KeyPermits permits, boolean acquired) {
+        if (acquired) {
+            permits.semaphore.release();
+        }
+        permitsByKey.computeIfPresent(key, (k, current) -> --current.users == 0 ? null : current);
+    }
+
+    /**
+     * Query permits of one secret key; dropped once no request of the key is running or waiting.
+     */
+    private static final class KeyPermits {
+        private final Semaphore semaphore;
+        private int users;
+
+        private KeyPermits(int permits) {
+            this.semaphore = new Semaphore(permits, true);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.softserve.ldm.governor;
+
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.ScanCancelledException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State of the governed scan running on the current thread.
+ * <p>
+ * Read loops report every chunk through {@link #onRead(int)}, which charges the read bandwidth limiter,
+ * accounts the scan cost and stops the scan cooperatively once it has been cancelled. Outside a governed
+ * scan the call does nothing.
+ * </p>
+ */
+public final class ScanContext {
+    private static final ThreadLocal<ScanContext> CURRENT = new ThreadLocal<>();
+
+    private final TokenBucket bandwidth;
+    private final long createdNanos = System.nanoTime();
+    private volatile boolean cancelled;
+    private long startedNanos;
+    private long bytesRead;
+    private long throttledNanos;
+
+    ScanContext(TokenBucket bandwidth) {
+        this.bandwidth = bandwidth;
+    }
+
+    /**
+     * Accounts bytes read by the current thread and applies the read bandwidth limit.
+     *
+     * @param bytes Number of bytes just read.
+     * @throws ScanCancelledException if the scan has been cancelled.
+     */
+    public static void onRead(int bytes) {
+        ScanContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.checkCancelled();
+        context.bytesRead += bytes;
+        context.throttledNanos += context.bandwidth.acquire(bytes, () -> context.cancelled);
+        context.checkCancelled();
+    }
+
+    /**
+     * Requests the scan to stop at the next read.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Tells whether the scan has been cancelled.
+     *
+     * @return true after {@link #cancel()}.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void attach() {
+        startedNanos = System.nanoTime();
+        CURRENT.set(this);
+    }
+
+    void detach() {
+        CURRENT.remove();
+    }
+
+    ScanCost cost() {
+        long now = System.nanoTime();
+        return new ScanCost(
+            bytesRead,
+            TimeUnit.NANOSECONDS.toMillis(now - startedNanos),
+            TimeUnit.NANOSECONDS.toMillis(throttledNanos),
+            TimeUnit.NANOSECONDS.toMillis(startedNanos - createdNanos));
+    }
+
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new ScanCancelledException(ErrorMessage.SCAN_CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.softserve.ldm.governor;
+
+/**
+ * Resources consumed by a governed scan.
+ *
+ * @param bytesRead       Number of bytes read from log files.
+ * @param durationMillis  Time between the start of the scan and its completion.
+ * @param throttledMillis Time spent waiting for the read bandwidth limiter.
+ * @param queuedMillis    Time the scan waited for a free scan thread.
+ */
+public record ScanCost(long bytesRead, long durationMillis, long throttledMillis, long queuedMillis) {
+}
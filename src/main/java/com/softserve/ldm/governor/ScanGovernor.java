@@ -0,0 +1,225 @@
+package com.softserve.ldm.governor;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.ScanCancelledException;
+import com.softserve.ldm.exception.exceptions.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps log scans from competing with the host application for disk and CPU.
+ * <p>
+ * Scans run on a small pool of minimum-priority daemon threads, the number of scans in flight is capped
+ * (further requests are rejected with 429 instead of queueing up), and all scans share one token bucket that
+ * limits the read bandwidth. A scan is cancelled cooperatively when the request times out or the client
+ * disconnects, and its cost is reported in {@code X-Scan-*} response headers.
+ * </p>
+ */
+@Component
+public class ScanGovernor {
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final TokenBucket bandwidth;
+    private final long timeoutMillis;
+
+    public ScanGovernor(LdmProperties properties) {
+        LdmProperties.Governor settings = properties.getLogs().getGovernor();
+        int maxScans = Math.max(1, settings.getMaxConcurrentScans());
+        this.permits = new Semaphore(maxScans);
+        this.executor = new ThreadPoolExecutor(maxScans, maxScans, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new LowPriorityThreadFactory());
+        this.bandwidth = new TokenBucket(settings.getMaxBytesPerSecond());
+        this.timeoutMillis = settings.getTimeout().toMillis();
+    }
+
+    /**
+     * Runs a scan asynchronously under the governor limits. The caller validates the secret key before, as a
+     * permit is taken immediately.
+     *
+     * @param scan Scan to run; it should read files through {@link com.softserve.ldm.search.LineScanner}.
+     * @param <T>  Type of the scan result.
+     * @return {@link DeferredResult} completed with the result and the cost headers.
+     * @throws TooManyRequestsException if the maximum number of concurrent scans is reached.
+     */
+    public <T> DeferredResult<ResponseEntity<T>> submit(Supplier<T> scan) {
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException(ErrorMessage.TOO_MANY_SCANS);
+        }
+
+        ScanContext context = new ScanContext(bandwidth);
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>(timeoutMillis);
+        result.onTimeout(() -> {
+            context.cancel();
+            result.setErrorResult(new ScanCancelledException(ErrorMessage.SCAN_TIMEOUT));
+        });
+        result.onError(error -> context.cancel());
+
+        try {
+            executor.execute(() -> run(scan, context, result));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new TooManyRequestsException(ErrorMessage.TOO_MANY_SCANS, e);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a scan that produces a streamed response under the governor limits. The body is produced on a scan
+     * thread, e.g. after selecting the files to stream, and is then written from a scan thread as well, so
+     * its reads are throttled and it holds the scan permit until the stream completes. A failed write
+     * cancels the scan. Streamed responses carry no cost headers, as the cost is only known at the end.
+     *
+     * @param headers Headers of the response, such as its content type.
+     * @param scan    Scan producing the response body; it should read files through
+     *                {@link com.softserve.ldm.search.LineScanner}.
+     * @return {@link DeferredResult} completed with the streamed response.
+     * @throws TooManyRequestsException if the maximum number of concurrent scans is reached.
+     */
+    public DeferredResult<ResponseEntity<StreamingResponseBody>> submitStream(HttpHeaders headers,
+                                                                              Supplier<StreamingResponseBody> scan) {
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException(ErrorMessage.TOO_MANY_SCANS);
+        }
+
+        ScanContext context = new ScanContext(bandwidth);
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = new DeferredResult<>(timeoutMillis);
+        result.onTimeout(() -> {
+            context.cancel();
+            result.setErrorResult(new ScanCancelledException(ErrorMessage.SCAN_TIMEOUT));
+        });
+        result.onError(error -> context.cancel());
+
+        try {
+            executor.execute(() -> prepareStream(headers, scan, context, result));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new TooManyRequestsException(ErrorMessage.TOO_MANY_SCANS, e);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void run(Supplier<T> scan, ScanContext context, DeferredResult<ResponseEntity<T>> result) {
+        context.attach();
+        try {
+            if (context.isCancelled()) {
+                return;
+            }
+            T body = scan.get();
+            result.setResult(ResponseEntity.ok().headers(costHeaders(context.cost())).body(body));
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        } finally {
+            context.detach();
+            permits.release();
+        }
+    }
+
+    private void prepareStream(HttpHeaders headers, Supplier<StreamingResponseBody> scan, ScanContext context,
+                               DeferredResult<ResponseEntity<StreamingResponseBody>> result) {
+        context.attach();
+        boolean streaming = false;
+        try {
+            if (context.isCancelled()) {
+                return;
+            }
+            StreamingResponseBody body = scan.get();
+            // The permit passes to the stream, unless the request has already expired and the body never runs.
+            streaming = result.setResult(ResponseEntity.ok().headers(headers).body(out -> stream(body, out, context)));
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        } finally {
+            context.detach();
+            if (!streaming) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Writes a streamed body on a scan thread while the calling container thread waits for it. If the wait is
+     * interrupted, e.g. by the async request timeout, the scan is cancelled at its next read.
+     */
+    private void stream(StreamingResponseBody body, OutputStream out, ScanContext context) throws IOException {
+        Future<Void> task;
+        try {
+            task = executor.submit(() -> {
+                context.attach();
+                try {
+                    body.writeTo(out);
+                    return null;
+                } catch (IOException | RuntimeException e) {
+                    context.cancel();
+                    throw e;
+                } finally {
+                    context.detach();
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new ScanCancelledException(ErrorMessage.SCAN_CANCELLED, e);
+        }
+
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            context.cancel();
+            Thread.currentThread().interrupt();
+            throw new ScanCancelledException(ErrorMessage.SCAN_CANCELLED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static HttpHeaders costHeaders(ScanCost cost) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(AppConstant.SCAN_BYTES_HEADER, String.valueOf(cost.bytesRead()));
+        headers.set(AppConstant.SCAN_DURATION_HEADER, String.valueOf(cost.durationMillis()));
+        headers.set(AppConstant.SCAN_THROTTLED_HEADER, String.valueOf(cost.throttledMillis()));
+        headers.set(AppConstant.SCAN_QUEUED_HEADER, String.valueOf(cost.queuedMillis()));
+        return headers;
+    }
+
+    private static final class LowPriorityThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "ldm-scan-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.softserve.ldm.governor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Token bucket limiting a rate of units per second, shared by all threads.
+ * <p>
+ * Callers take tokens up front and, if the bucket went into debt, sleep until the debt is repaid. The bucket
+ * holds at most one second worth of tokens, so an idle period cannot be turned into an unbounded burst.
+ * </p>
+ */
+public final class TokenBucket {
+    private static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final long ratePerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a bucket.
+     *
+     * @param ratePerSecond Units per second; zero or negative disables limiting.
+     */
+    public TokenBucket(long ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+        this.tokens = ratePerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes the given number of tokens, waiting while the bucket is in debt.
+     *
+     * @param permits   Number of tokens to take.
+     * @param cancelled Checked between sleeps; waiting stops as soon as it returns true.
+     * @return time spent waiting, in nanoseconds.
+     */
+    public long acquire(long permits, BooleanSupplier cancelled) {
+        if (ratePerSecond <= 0 || permits <= 0) {
+            return 0;
+        }
+        long waitNanos = reserve(permits);
+        long deadline = System.nanoTime() + waitNanos;
+        long remaining = waitNanos;
+        while (remaining > 0 && !cancelled.getAsBoolean()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, MAX_SLEEP_NANOS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        return waitNanos - Math.max(remaining, 0);
+    }
+
+    private synchronized long reserve(long permits) {
+        long now = System.nanoTime();
+        tokens = Math.min(ratePerSecond, tokens + (now - lastRefillNanos) * ratePerSecond / 1e9);
+        lastRefillNanos = now;
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) (-tokens * 1e9 / ratePerSecond);
+    }
+}
@@ -0,0 +1,235 @@
+package com.softserve.ldm.maintenance;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.discovery.LogFileDiscovery;
+import com.softserve.ldm.discovery.LogFileEntry;
+import com.softserve.ldm.search.FileFingerprint;
+import com.softserve.ldm.search.FileStateCache;
+import com.softserve.ldm.search.LogFiles;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the log directories from growing without bound.
+ * <p>
+ * When enabled with {@code ldm.logs.maintenance.enabled}, a minimum-priority daemon thread periodically
+ * compresses log files older than {@code compress-after} to {@code .gz} and then deletes files older than
+ * {@code max-age} and the oldest files exceeding {@code max-total-bytes}. Files modified within
+ * {@code min-age} are never touched.
+ * </p>
+ * <p>
+ * Compressed files stay searchable: discovery matches them with the globs of the original files, they are
+ * decompressed on the fly when read, and the cached scan states and line indexes of the original file are
+ * moved to the compressed one, so it is not scanned again.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LogMaintenanceService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long NOT_COMPRESSED = Long.MIN_VALUE;
+
+    private final LdmProperties.Maintenance settings;
+    private final LogFileDiscovery logFileDiscovery;
+    private final FileStateCache fileStateCache;
+    private ScheduledExecutorService scheduler;
+
+    public LogMaintenanceService(LdmProperties properties, LogFileDiscovery logFileDiscovery,
+                                 FileStateCache fileStateCache) {
+        this.settings = properties.getLogs().getMaintenance();
+        this.logFileDiscovery = logFileDiscovery;
+        this.fileStateCache = fileStateCache;
+    }
+
+    /**
+     * Schedules the maintenance runs if maintenance is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "ldm-maintenance");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        long intervalMillis = settings.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the scheduled runs; a compression in progress is interrupted and its temporary file removed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Compresses old files and applies the retention rules once.
+     *
+     * @return {@link MaintenanceReport} of the run.
+     */
+    public MaintenanceReport run() {
+        long now = System.currentTimeMillis();
+        int compressed = 0;
+        long savedBytes = 0;
+        for (LogFileEntry entry : logFileDiscovery.discover()) {
+            if (isOlderThan(entry, settings.getCompressAfter(), now) && !LogFiles.isCompressed(entry.path())) {
+                long saved = compress(entry);
+                if (saved != NOT_COMPRESSED) {
+                    compressed++;
+                    savedBytes += saved;
+                }
+            }
+        }
+        if (compressed > 0) {
+            logFileDiscovery.invalidate();
+        }
+
+        int deleted = 0;
+        long freedBytes = 0;
+        for (LogFileEntry entry : selectExpired(logFileDiscovery.discover(), now)) {
+            if (delete(entry)) {
+                deleted++;
+                freedBytes += entry.byteSize();
+            }
+        }
+        if (deleted > 0) {
+            logFileDiscovery.invalidate();
+        }
+
+        MaintenanceReport report = new MaintenanceReport(compressed, savedBytes, deleted, freedBytes);
+        if (report.hasChanges()) {
+            log.info("Log maintenance compressed {} files saving {} bytes and deleted {} files freeing {} bytes",
+                compressed, savedBytes, deleted, freedBytes);
+        }
+        return report;
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn(ErrorMessage.LOG_MAINTENANCE_FAILED, e);
+        }
+    }
+
+    /**
+     * Selects the files removed by the retention rules: files older than the maximum age, then the oldest
+     * files until the total size fits the budget.
+     *
+     * @param entries Discovered log files.
+     * @param now     Current time in epoch milliseconds.
+     * @return files to delete.
+     */
+    private List<LogFileEntry> selectExpired(List<LogFileEntry> entries, long now) {
+        List<LogFileEntry> newestFirst = entries.stream()
+            .sorted(Comparator.comparingLong(LogFileEntry::lastModifiedMillis).reversed())
+            .toList();
+        List<LogFileEntry> expired = new ArrayList<>();
+        long totalBytes = 0;
+        for (LogFileEntry entry : newestFirst) {
+            totalBytes += entry.byteSize();
+            boolean tooOld = isOlderThan(entry, settings.getMaxAge(), now);
+            boolean overBudget = settings.getMaxTotalBytes() > 0 && totalBytes > settings.getMaxTotalBytes();
+            if ((tooOld || overBudget) && isOlderThan(entry, Duration.ZERO, now)) {
+                expired.add(entry);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Tells whether a file is older than the given age and the minimum age.
+     *
+     * @param entry File to check.
+     * @param age   Age to compare with; null means never.
+     * @param now   Current time in epoch milliseconds.
+     * @return true if the file may be processed.
+     */
+    private boolean isOlderThan(LogFileEntry entry, Duration age, long now) {
+        return age != null
+            && now - entry.lastModifiedMillis() > age.toMillis()
+            && now - entry.lastModifiedMillis() > settings.getMinAge().toMillis();
+    }
+
+    /**
+     * Compresses a log file next to the original and replaces the original with it. The compressed file keeps
+     * the modification time of the original and takes over its cached scan states.
+     *
+     * @param entry File to compress.
+     * @return number of bytes saved, negative for tiny files, or {@link #NOT_COMPRESSED} if the file was left
+     * as it is.
+     */
+    private long compress(LogFileEntry entry) {
+        Path source = entry.path();
+        Path target = source.resolveSibling(source.getFileName() + LogFiles.GZIP_EXTENSION);
+        Path temp = source.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        if (Files.exists(target)) {
+            return NOT_COMPRESSED;
+        }
+
+        try {
+            FileFingerprint fingerprint = FileFingerprint.of(source);
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)) {
+                in.transferTo(out);
+            }
+            if (!fingerprint.isUnchanged(FileFingerprint.of(source))) {
+                // Written to while compressing; try again in the next run.
+                Files.deleteIfExists(temp);
+                return NOT_COMPRESSED;
+            }
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(fingerprint.lastModified()));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            fileStateCache.transfer(fingerprint, target);
+            Files.delete(source);
+            return fingerprint.size() - Files.size(target);
+        } catch (IOException e) {
+            log.warn(String.format(ErrorMessage.CANNOT_COMPRESS_LOG_FILE, source), e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            return NOT_COMPRESSED;
+        }
+    }
+
+    private boolean delete(LogFileEntry entry) {
+        try {
+            FileFingerprint fingerprint = FileFingerprint.of(entry.path());
+            Files.delete(entry.path());
+            fileStateCache.invalidate(fingerprint);
+            return true;
+        } catch (IOException e) {
+            log.warn(String.format(ErrorMessage.CANNOT_DELETE_LOG_FILE, entry.path()), e);
+            return false;
+        }
+    }
+}
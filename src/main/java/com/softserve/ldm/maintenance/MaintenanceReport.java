@@ -0,0 +1,20 @@
+package com.softserve.ldm.maintenance;
+
+/**
+ * Outcome of a maintenance run.
+ *
+ * @param compressedFiles Number of files compressed to {@code .gz}.
+ * @param savedBytes      Disk space saved by compression.
+ * @param deletedFiles    Number of files deleted by the retention rules.
+ * @param freedBytes      Disk space freed by deletion.
+ */
+public record MaintenanceReport(int compressedFiles, long savedBytes, int deletedFiles, long freedBytes) {
+    /**
+     * Tells whether the run changed any file.
+     *
+     * @return true if files were compressed or deleted.
+     */
+    public boolean hasChanges() {
+        return compressedFiles > 0 || deletedFiles > 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.softserve.ldm.query;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Range of an integral primary key, read by one worker of a partitioned export.
+ *
+ * @param lower          Lowest key of the range, inclusive.
+ * @param upper          Upper bound of the range.
+ * @param upperInclusive Whether {@code upper} belongs to the range; true only for the last range, so that
+ *                       the maximum key does not have to be incremented past {@link Long#MAX_VALUE}.
+ */
+public record KeyRange(long lower, long upper, boolean upperInclusive) {
+
+    /**
+     * Splits the keys between the minimum and the maximum into ranges of equal width.
+     *
+     * @param min   Smallest key.
+     * @param max   Largest key.
+     * @param parts Number of ranges wanted.
+     * @return non-empty, adjacent ranges in key order covering {@code [min, max]}; fewer than {@code parts} if
+     *         there are fewer keys.
+     */
+    public static List<KeyRange> split(long min, long max, int parts) {
+        BigInteger start = BigInteger.valueOf(min);
+        BigInteger width = BigInteger.valueOf(max).subtract(start).add(BigInteger.ONE);
+        int count = (int) Math.max(1, Math.min(parts, width.min(BigInteger.valueOf(Integer.MAX_VALUE)).longValue()));
+
+        List<KeyRange> ranges = new ArrayList<>(count);
+        long lower = min;
+        for (int i = 1; i < count; i++) {
+            long upper = start.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count)))
+                .longValueExact();
+            ranges.add(new KeyRange(lower, upper, false));
+            lower = upper;
+        }
+        ranges.add(new KeyRange(lower, max, true));
+        return ranges;
+    }
+}
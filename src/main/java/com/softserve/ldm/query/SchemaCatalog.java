@@ -0,0 +1,64 @@
+package com.softserve.ldm.query;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.dto.SchemaCatalogDto;
+import com.softserve.ldm.repository.SchemaCatalogRepo;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Cached schema catalogs, one per schema.
+ * <p>
+ * A catalog is read when its schema is first requested and refreshed lazily: the first request after
+ * {@code ldm.export.metadata-cache-ttl} still gets the cached catalog while a fresh one is read in the
+ * background. Every catalog carries a version hashed from its content, so clients can revalidate their copy
+ * without downloading it again, and the version stays the same after a refresh that found no change.
+ * </p>
+ */
+@Component
+public class SchemaCatalog {
+    private static final String DEFAULT_SCHEMA = "";
+    private static final int VERSION_BYTES = 8;
+
+    private final LoadingCache<String, SchemaCatalogDto> cache;
+
+    public SchemaCatalog(SchemaCatalogRepo schemaCatalogRepo, LdmProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .refreshAfterWrite(properties.getExport().getMetadataCacheTtl())
+            .build(schema -> withVersion(schemaCatalogRepo.readCatalog(schema.isEmpty() ? null : schema)));
+    }
+
+    /**
+     * Returns the catalog of a schema.
+     *
+     * @param schema Name of the schema; null for the default schema of the connection.
+     * @return {@link SchemaCatalogDto} with its version.
+     */
+    public SchemaCatalogDto get(String schema) {
+        return cache.get(schema != null ? schema : DEFAULT_SCHEMA);
+    }
+
+    /**
+     * Forgets the cached catalogs, e.g. after the schema was migrated.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    private static SchemaCatalogDto withVersion(SchemaCatalogDto catalog) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((catalog.schema() + catalog.tables()).getBytes(StandardCharsets.UTF_8));
+            String version = HexFormat.of().formatHex(digest, 0, VERSION_BYTES);
+            return new SchemaCatalogDto(catalog.schema(), version, catalog.readAt(), catalog.tables());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
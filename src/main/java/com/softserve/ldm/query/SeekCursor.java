@@ -0,0 +1,71 @@
+package com.softserve.ldm.query;
+
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Opaque continuation token holding the sort key of the last row of a page.
+ * <p>
+ * The token starts with a checksum of the sort it was created for, so a token cannot be replayed against a
+ * different sort, followed by the Base64url-encoded key values.
+ * </p>
+ */
+final class SeekCursor {
+    private static final String SEPARATOR = ".";
+
+    private SeekCursor() {
+    }
+
+    /**
+     * Encodes the key of a row.
+     *
+     * @param signature Description of the sort, e.g. {@code "created_at DESC,id ASC"}.
+     * @param values    Canonical string forms of the key values.
+     * @return cursor token.
+     */
+    static String encode(String signature, List<String> values) {
+        StringBuilder cursor = new StringBuilder(checksum(signature));
+        for (String value : values) {
+            cursor.append(SEPARATOR).append(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * Decodes the key values of a cursor.
+     *
+     * @param signature Description of the current sort.
+     * @param cursor    Token from a previous page.
+     * @param size      Expected number of values.
+     * @return key values.
+     * @throws BadRequestException if the token is malformed or was created for another sort.
+     */
+    static List<String> decode(String signature, String cursor, int size) {
+        String[] parts = cursor.split("\\" + SEPARATOR, -1);
+        if (parts.length != size + 1 || !parts[0].equals(checksum(signature))) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR);
+        }
+        List<String> values = new ArrayList<>(size);
+        try {
+            for (int i = 1; i < parts.length; i++) {
+                values.add(new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR, e);
+        }
+        return values;
+    }
+
+    private static String checksum(String signature) {
+        CRC32 crc = new CRC32();
+        crc.update(signature.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+}
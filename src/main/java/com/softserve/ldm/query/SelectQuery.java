@@ -0,0 +1,651 @@
+package com.softserve.ldm.query;
+
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.dto.ColumnFilterDto;
+import com.softserve.ldm.dto.ColumnOperator;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.dto.TableQueryDto;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validated {@code SELECT} of a table with an optional column projection, conditions and order.
+ * <p>
+ * Table and column names are taken from the {@link TableSchema}, never from the request, so they can be quoted
+ * safely. Values are converted to the JDBC type of their column and bound as statement parameters, which lets
+ * the database use its indexes and reuse the statement plan.
+ * </p>
+ * <p>
+ * Rows are ordered by the requested sort followed by the primary key, so pages are stable. When the order is
+ * unique and no sort column may be null, the key of the last row of a page is returned as a cursor, and the
+ * next page is read with a seek condition on that key instead of an offset, so deep pages cost the same as
+ * the first one. Nulls do not compare in a seek condition, so sorts by nullable columns are paged by offset.
+ * </p>
+ */
+public final class SelectQuery {
+    private static final String SAMPLE_ALIAS = "ldm_sample";
+
+    private final TableSchema table;
+    private final List<String> columns;
+    private final List<Condition> conditions;
+    private final List<Parameter> parameters;
+    private final List<OrderColumn> order;
+    private final boolean uniqueOrder;
+    private final boolean sortIndexed;
+    private final List<Parameter> seekParameters;
+    private final KeyRange range;
+
+    private SelectQuery(TableSchema table, List<String> columns, List<Condition> conditions,
+                        List<Parameter> parameters, List<OrderColumn> order, boolean uniqueOrder,
+                        boolean sortIndexed, List<Parameter> seekParameters, KeyRange range) {
+        this.table = table;
+        this.columns = columns;
+        this.conditions = conditions;
+        this.parameters = parameters;
+        this.order = order;
+        this.uniqueOrder = uniqueOrder;
+        this.sortIndexed = sortIndexed;
+        this.seekParameters = seekParameters;
+        this.range = range;
+    }
+
+    /**
+     * Validates a query against the schema of its table.
+     *
+     * @param table    {@link TableSchema} of the queried table.
+     * @param queryDto {@link TableQueryDto} with the requested columns and conditions; can be null.
+     * @return compiled {@link SelectQuery} without order.
+     * @throws BadRequestException if a column does not exist or a value does not fit its column.
+     */
+    public static SelectQuery of(TableSchema table, TableQueryDto queryDto) {
+        TableQueryDto query = queryDto != null ? queryDto : new TableQueryDto(null, null);
+        List<String> columns = query.columns().stream()
+            .map(column -> resolveColumn(table, column))
+            .distinct()
+            .toList();
+
+        List<Condition> conditions = new ArrayList<>();
+        List<Parameter> parameters = new ArrayList<>();
+        for (ColumnFilterDto filter : query.filters()) {
+            String column = resolveColumn(table, filter.column());
+            int type = table.columnTypes().get(column);
+            ColumnOperator operator = filter.operator();
+            if (operator == ColumnOperator.LIKE && !isText(type)) {
+                throw new BadRequestException(String.format(ErrorMessage.LIKE_REQUIRES_TEXT_COLUMN, column));
+            }
+            List<String> values = operator.requiresValues() ? filter.values()
+                : operator.requiresValue() ? List.of(filter.value())
+                : List.of();
+            for (String value : values) {
+                parameters.add(new Parameter(convert(column, type, value), type));
+            }
+            conditions.add(new Condition(column, operator, values.size()));
+        }
+        return new SelectQuery(table, columns, List.copyOf(conditions), List.copyOf(parameters), List.of(),
+            false, true, List.of(), null);
+    }
+
+    /**
+     * Orders the rows by the requested sort, followed by the primary key columns that are not part of it, in
+     * the direction of the last sort column.
+     * <p>
+     * The sort counts as indexed if an index lists the sort columns in the same or in the exactly reversed
+     * directions, possibly after leading columns fixed by equality conditions, so the database can read the
+     * rows in order instead of sorting all matching rows.
+     * </p>
+     *
+     * @param sort    Requested sort; unsorted orders by the primary key only.
+     * @param indexes {@link TableIndexes} of the table.
+     * @return ordered copy of this query.
+     * @throws BadRequestException if a sort column does not exist.
+     */
+    public SelectQuery orderBy(Sort sort, TableIndexes indexes) {
+        List<OrderColumn> requested = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Sort.Order sortOrder : sort) {
+            String column = resolveColumn(table, sortOrder.getProperty());
+            if (seen.add(column)) {
+                requested.add(new OrderColumn(column, sortOrder.isDescending()));
+            }
+        }
+
+        // The key follows the direction of the last sort column, so a uniform sort keeps the row value seek.
+        boolean keyDescending = !requested.isEmpty() && requested.getLast().descending();
+        List<OrderColumn> ordered = new ArrayList<>(requested);
+        for (String column : indexes.primaryKey()) {
+            if (seen.add(column)) {
+                ordered.add(new OrderColumn(column, keyDescending));
+            }
+        }
+        boolean indexed = requested.isEmpty() || isServedByIndex(requested, indexes);
+        return new SelectQuery(table, columns, conditions, parameters, List.copyOf(ordered),
+            !indexes.primaryKey().isEmpty(), indexed, List.of(), null);
+    }
+
+    /**
+     * Continues after the row a cursor was created for.
+     *
+     * @param cursor Cursor returned with the previous page; null or blank starts from the first row.
+     * @return copy of this query reading the rows after the cursor.
+     * @throws BadRequestException if the cursor is invalid, the order is not unique or a sort column may be
+     *                             null.
+     */
+    public SelectQuery after(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return this;
+        }
+        if (!uniqueOrder) {
+            throw new BadRequestException(ErrorMessage.CURSOR_REQUIRES_PRIMARY_KEY);
+        }
+        findNullableOrderColumn().ifPresent(column -> {
+            throw new BadRequestException(String.format(ErrorMessage.CURSOR_REQUIRES_NOT_NULL_SORT, column));
+        });
+        List<String> values = SeekCursor.decode(signature(), cursor, order.size());
+        List<Parameter> seek = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            String column = order.get(i).column();
+            int type = table.columnTypes().get(column);
+            seek.add(new Parameter(convert(column, type, values.get(i)), type));
+        }
+        return new SelectQuery(table, columns, conditions, parameters, order, uniqueOrder, sortIndexed,
+            List.copyOf(seek), range);
+    }
+
+    /**
+     * Restricts the rows to a range of the {@link #getPartitionColumn() partition column}.
+     *
+     * @param keyRange Range of keys to read.
+     * @return copy of this query reading only the keys of the range.
+     * @throws IllegalStateException if the query has no partition column.
+     */
+    public SelectQuery inRange(KeyRange keyRange) {
+        if (getPartitionColumn().isEmpty()) {
+            throw new IllegalStateException("Query of table " + table.name() + " cannot be partitioned");
+        }
+        return new SelectQuery(table, columns, conditions, parameters, order, uniqueOrder, sortIndexed,
+            seekParameters, keyRange);
+    }
+
+    /**
+     * Returns the name of the queried table as reported by the database, qualified by its schema if the table
+     * was looked up in one.
+     *
+     * @return table name.
+     */
+    public String getTableName() {
+        return table.qualifiedName();
+    }
+
+    /**
+     * Returns the selected columns in result order.
+     *
+     * @return column names; all columns of the table when no projection was requested.
+     */
+    public List<String> getColumns() {
+        return columns.isEmpty() ? table.columnNames() : columns;
+    }
+
+    /**
+     * Returns the columns the rows are ordered by.
+     *
+     * @return order columns, requested sort first and primary key last.
+     */
+    public List<String> getOrderColumns() {
+        return order.stream().map(OrderColumn::column).toList();
+    }
+
+    /**
+     * Tells whether pages of this query can be continued with a cursor, which requires a primary key to make
+     * the order unique and sort columns that cannot be null.
+     *
+     * @return true if {@link #createCursor} can create cursors.
+     */
+    public boolean isSeekable() {
+        return uniqueOrder && findNullableOrderColumn().isEmpty();
+    }
+
+    /**
+     * Returns the column by which the rows can be split into key ranges: the primary key, if it is a single
+     * integer column and no other sort was requested.
+     *
+     * @return partition column, or empty if the query cannot be partitioned.
+     */
+    public Optional<String> getPartitionColumn() {
+        if (!uniqueOrder || order.size() != 1 || order.getFirst().descending()) {
+            return Optional.empty();
+        }
+        String column = order.getFirst().column();
+        return switch (table.columnTypes().get(column)) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> Optional.of(column);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Tells whether the requested sort can be read from an index. Queries without a requested sort are
+     * ordered by the primary key and count as indexed.
+     *
+     * @return true if the database does not need to sort all matching rows.
+     */
+    public boolean isSortIndexed() {
+        return sortIndexed;
+    }
+
+    /**
+     * Builds the statement selecting a page of rows; the limit and offset are the last two parameters.
+     * Order columns missing from the projection are selected after the projected columns, so the cursor
+     * of the page can be read.
+     *
+     * @param quote Identifier quote string of the database.
+     * @return SQL with {@code ?} placeholders.
+     */
+    public String toSelectSql(String quote) {
+        String projection = "*";
+        if (!columns.isEmpty()) {
+            List<String> selected = new ArrayList<>(columns);
+            if (uniqueOrder) {
+                order.stream().map(OrderColumn::column).filter(column -> !columns.contains(column))
+                    .forEach(selected::add);
+            }
+            projection = selected.stream().map(column -> quote(column, quote)).collect(Collectors.joining(", "));
+        }
+        return "SELECT " + projection + " FROM " + toTableSql(quote) + toWhereSql(quote, true)
+            + toOrderSql(quote) + " LIMIT ? OFFSET ?";
+    }
+
+    /**
+     * Builds the statement reading all matching rows in order, for exports; it has no parameters besides
+     * those bound by {@link #bindSelect}.
+     *
+     * @param quote Identifier quote string of the database.
+     * @return SQL with {@code ?} placeholders.
+     */
+    public String toExportSql(String quote) {
+        String select = toSelectSql(quote);
+        return select.substring(0, select.length() - " LIMIT ? OFFSET ?".length());
+    }
+
+    /**
+     * Builds the statement reading the smallest and the largest key of the matching rows.
+     *
+     * @param quote Identifier quote string of the database.
+     * @return SQL with the condition placeholders bound by {@link #bind}.
+     * @throws IllegalStateException if the query has no partition column.
+     */
+    public String toKeyBoundsSql(String quote) {
+        String column = quote(getPartitionColumn().orElseThrow(() -> new IllegalStateException(
+            "Query of table " + table.name() + " cannot be partitioned")), quote);
+        return "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + toTableSql(quote)
+            + toWhereSql(quote, false);
+    }
+
+    /**
+     * Builds the statement reading the largest value of a column among the matching rows.
+     *
+     * @param column Name of the column.
+     * @param quote  Identifier quote string of the database.
+     * @return SQL with the condition placeholders bound by {@link #bind}.
+     * @throws BadRequestException if the column does not exist.
+     */
+    public String toMaxSql(String column, String quote) {
+        return "SELECT MAX(" + quote(resolveColumn(table, column), quote) + ") FROM " + toTableSql(quote)
+            + toWhereSql(quote, false);
+    }
+
+    /**
+     * Builds the statement reading a {@code TABLESAMPLE} of the matching rows; the row limit is the last
+     * parameter. Conditions are applied to the sampled rows, so selective conditions return fewer rows.
+     * The sampled rows are shuffled before the limit, so that a sample larger than the limit does not
+     * favour the first pages of the table; with a seed they are ordered by a hash of the row and the seed,
+     * which keeps the sample repeatable.
+     *
+     * @param quote   Identifier quote string of the database.
+     * @param method  {@link SampleMethod#SYSTEM} or {@link SampleMethod#BERNOULLI}.
+     * @param percent Percentage of the table to sample, between 0 and 100.
+     * @param seed    Seed making the sample repeatable; null for a different sample on every call.
+     * @return SQL with {@code ?} placeholders.
+     * @throws IllegalArgumentException if the method is not a {@code TABLESAMPLE} method.
+     */
+    public String toSampleSql(String quote, SampleMethod method, double percent, Long seed) {
+        if (method != SampleMethod.SYSTEM && method != SampleMethod.BERNOULLI) {
+            throw new IllegalArgumentException("Not a TABLESAMPLE method: " + method);
+        }
+        String projection = columns.isEmpty() ? "*"
+            : columns.stream().map(column -> quote(column, quote)).collect(Collectors.joining(", "));
+        String sample = String.format(Locale.ROOT, " TABLESAMPLE %s (%.6f)", method, percent)
+            + (seed != null ? " REPEATABLE (" + seed + ")" : "");
+        String order = seed != null ? "md5(ROW(" + SAMPLE_ALIAS + ".*)::text || '" + seed + "')" : "random()";
+        return "SELECT * FROM (SELECT " + projection + " FROM " + toTableSql(quote) + sample
+            + toWhereSql(quote, false) + ") " + SAMPLE_ALIAS + " ORDER BY " + order + " LIMIT ?";
+    }
+
+    /**
+     * Returns the quoted name of the queried table, qualified by its schema if the table was looked up in one.
+     *
+     * @param quote Identifier quote string of the database.
+     * @return table name as used in SQL.
+     */
+    public String toTableSql(String quote) {
+        String name = quote(table.name(), quote);
+        return table.schema() != null ? quote(table.schema(), quote) + "." + name : name;
+    }
+
+    /**
+     * Builds the statement counting the matching rows; the cursor does not restrict the count.
+     *
+     * @param quote Identifier quote string of the database.
+     * @return SQL with {@code ?} placeholders.
+     */
+    public String toCountSql(String quote) {
+        return "SELECT COUNT(*) FROM " + toTableSql(quote) + toWhereSql(quote, false);
+    }
+
+    /**
+     * Binds the condition values to a statement built by {@link #toCountSql}.
+     *
+     * @param statement Statement to bind.
+     * @return index of the next parameter.
+     * @throws SQLException if a value cannot be bound.
+     */
+    public int bind(PreparedStatement statement) throws SQLException {
+        return bind(statement, parameters, 1);
+    }
+
+    /**
+     * Binds the condition, cursor and key range values to a statement built by {@link #toSelectSql} or
+     * {@link #toExportSql}.
+     *
+     * @param statement Statement to bind.
+     * @return index of the limit parameter.
+     * @throws SQLException if a value cannot be bound.
+     */
+    public int bindSelect(PreparedStatement statement) throws SQLException {
+        int index = bind(statement, parameters, 1);
+        if (isUniformDirection()) {
+            index = bind(statement, seekParameters, index);
+        } else {
+            for (int i = 0; i < seekParameters.size(); i++) {
+                index = bind(statement, seekParameters.subList(0, i + 1), index);
+            }
+        }
+        if (range != null) {
+            String column = getPartitionColumn().orElseThrow();
+            int type = table.columnTypes().get(column);
+            index = bind(statement, List.of(
+                new Parameter(convert(column, type, Long.toString(range.lower())), type),
+                new Parameter(convert(column, type, Long.toString(range.upper())), type)), index);
+        }
+        return index;
+    }
+
+    /**
+     * Creates the cursor continuing after a row.
+     *
+     * @param keyValues Values of the {@link #getOrderColumns() order columns} of the row, as read by
+     *                  {@link java.sql.ResultSet#getObject(String)}.
+     * @return cursor, or null if the query is not {@link #isSeekable() seekable}.
+     */
+    public String createCursor(List<Object> keyValues) {
+        if (!isSeekable()) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(keyValues.size());
+        for (int i = 0; i < keyValues.size(); i++) {
+            values.add(format(keyValues.get(i), table.columnTypes().get(order.get(i).column())));
+        }
+        return SeekCursor.encode(signature(), values);
+    }
+
+    /**
+     * Formats a value of a column read from the database, so that it can be used in a condition of a later
+     * query unchanged.
+     *
+     * @param column Name of the column.
+     * @param value  Value returned by {@link java.sql.ResultSet#getObject(int)}; can be null.
+     * @return canonical string form of the value, or null.
+     * @throws BadRequestException if the column does not exist.
+     */
+    public String formatValue(String column, Object value) {
+        return value == null ? null : format(value, table.columnTypes().get(resolveColumn(table, column)));
+    }
+
+    private String toWhereSql(String quote, boolean withPosition) {
+        List<String> clauses = conditions.stream()
+            .map(condition -> {
+                String column = quote(condition.column(), quote) + " " + condition.operator().getSql();
+                if (condition.operator().requiresValues()) {
+                    return column + " (" + String.join(", ", Collections.nCopies(condition.arity(), "?")) + ")";
+                }
+                return condition.operator().requiresValue() ? column + " ?" : column;
+            })
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (withPosition && !seekParameters.isEmpty()) {
+            clauses.add(toSeekSql(quote));
+        }
+        if (withPosition && range != null) {
+            String column = quote(getPartitionColumn().orElseThrow(), quote);
+            clauses.add(column + " >= ? AND " + column + (range.upperInclusive() ? " <= ?" : " < ?"));
+        }
+        return clauses.isEmpty() ? "" : clauses.stream().collect(Collectors.joining(" AND ", " WHERE ", ""));
+    }
+
+    /**
+     * Builds the condition selecting the rows after the cursor key: a row value comparison when all columns
+     * are sorted in the same direction, which databases can answer with an index range scan, and the
+     * equivalent expanded form otherwise.
+     */
+    private String toSeekSql(String quote) {
+        if (isUniformDirection()) {
+            String keys = order.stream().map(column -> quote(column.column(), quote))
+                .collect(Collectors.joining(", "));
+            String placeholders = String.join(", ", Collections.nCopies(order.size(), "?"));
+            return "(" + keys + ") " + (order.getFirst().descending() ? "<" : ">") + " (" + placeholders + ")";
+        }
+        List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            StringBuilder alternative = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                alternative.append(quote(order.get(j).column(), quote)).append(" = ? AND ");
+            }
+            OrderColumn column = order.get(i);
+            alternative.append(quote(column.column(), quote)).append(column.descending() ? " < ?" : " > ?")
+                .append(")");
+            alternatives.add(alternative.toString());
+        }
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    private String toOrderSql(String quote) {
+        if (order.isEmpty()) {
+            return "";
+        }
+        return order.stream()
+            .map(column -> quote(column.column(), quote) + (column.descending() ? " DESC" : " ASC"))
+            .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private Optional<String> findNullableOrderColumn() {
+        return order.stream().map(OrderColumn::column).filter(table.nullableColumns()::contains).findFirst();
+    }
+
+    private boolean isUniformDirection() {
+        return order.stream().map(OrderColumn::descending).distinct().count() == 1;
+    }
+
+    private boolean isServedByIndex(List<OrderColumn> requested, TableIndexes indexes) {
+        Set<String> fixed = conditions.stream()
+            .filter(condition -> condition.operator() == ColumnOperator.EQ)
+            .map(Condition::column)
+            .collect(Collectors.toSet());
+        List<TableIndexes.Index> candidates = new ArrayList<>(indexes.indexes());
+        if (!indexes.primaryKey().isEmpty()) {
+            candidates.add(new TableIndexes.Index("primary key", indexes.primaryKey().stream()
+                .map(column -> new TableIndexes.IndexColumn(column, false)).toList()));
+        }
+        return candidates.stream().anyMatch(index -> serves(index, requested, fixed));
+    }
+
+    private static boolean serves(TableIndexes.Index index, List<OrderColumn> requested, Set<String> fixed) {
+        List<TableIndexes.IndexColumn> indexColumns = index.columns();
+        Set<String> sortColumns = requested.stream().map(OrderColumn::column).collect(Collectors.toSet());
+        int start = 0;
+        while (start < indexColumns.size() && fixed.contains(indexColumns.get(start).name())
+            && !sortColumns.contains(indexColumns.get(start).name())) {
+            start++;
+        }
+        if (indexColumns.size() - start < requested.size()) {
+            return false;
+        }
+        Boolean reversed = null;
+        for (int i = 0; i < requested.size(); i++) {
+            TableIndexes.IndexColumn indexColumn = indexColumns.get(start + i);
+            OrderColumn orderColumn = requested.get(i);
+            if (!indexColumn.name().equals(orderColumn.column())) {
+                return false;
+            }
+            boolean columnReversed = indexColumn.descending() != orderColumn.descending();
+            if (reversed != null && reversed != columnReversed) {
+                return false;
+            }
+            reversed = columnReversed;
+        }
+        return true;
+    }
+
+    private String signature() {
+        return order.stream()
+            .map(column -> column.column() + (column.descending() ? " DESC" : " ASC"))
+            .collect(Collectors.joining(","));
+    }
+
+    private static int bind(PreparedStatement statement, List<Parameter> values, int firstIndex)
+        throws SQLException {
+        int index = firstIndex;
+        for (Parameter parameter : values) {
+            if (parameter.type() == Types.OTHER) {
+                // Vendor types such as uuid or enums are passed untyped and cast by the database.
+                statement.setObject(index++, parameter.value(), Types.OTHER);
+            } else {
+                statement.setObject(index++, parameter.value());
+            }
+        }
+        return index;
+    }
+
+    private static String quote(String identifier, String quote) {
+        return quote.isEmpty() ? identifier : quote + identifier.replace(quote, quote + quote) + quote;
+    }
+
+    private static String resolveColumn(TableSchema table, String column) {
+        return table.findColumn(column).orElseThrow(() -> new BadRequestException(
+            String.format(ErrorMessage.UNKNOWN_COLUMN, table.name(), column)));
+    }
+
+    private static boolean isText(int type) {
+        return switch (type) {
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR,
+                 Types.CLOB, Types.NCLOB -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Converts a request value to the Java type matching the JDBC type of its column.
+     *
+     * @param column Column the value is compared with.
+     * @param type   {@link Types} code of the column.
+     * @param value  Value from the request.
+     * @return converted value.
+     * @throws BadRequestException if the value cannot be converted.
+     */
+    private static Object convert(String column, int type, String value) {
+        try {
+            return switch (type) {
+                case Types.BIT, Types.BOOLEAN -> switch (value.toLowerCase(Locale.ROOT)) {
+                    case "true", "1" -> Boolean.TRUE;
+                    case "false", "0" -> Boolean.FALSE;
+                    default -> throw new IllegalArgumentException(value);
+                };
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> Integer.valueOf(value.trim());
+                case Types.BIGINT -> Long.valueOf(value.trim());
+                case Types.REAL, Types.FLOAT, Types.DOUBLE -> Double.valueOf(value.trim());
+                case Types.NUMERIC, Types.DECIMAL -> new BigDecimal(value.trim());
+                case Types.DATE -> LocalDate.parse(value.trim());
+                case Types.TIME -> LocalTime.parse(value.trim());
+                case Types.TIMESTAMP -> LocalDateTime.parse(value.trim().replace(' ', 'T'));
+                case Types.TIMESTAMP_WITH_TIMEZONE -> OffsetDateTime.parse(value.trim());
+                default -> value;
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(String.format(ErrorMessage.INVALID_COLUMN_VALUE, value, column), e);
+        }
+    }
+
+    /**
+     * Formats a value read from the database so that {@link #convert} reads it back unchanged.
+     *
+     * @param value Value returned by the driver.
+     * @param type  {@link Types} code of the column.
+     * @return canonical string form of the value.
+     */
+    private static String format(Object value, int type) {
+        return switch (value) {
+            case Timestamp timestamp when type == Types.TIMESTAMP_WITH_TIMEZONE ->
+                timestamp.toInstant().atOffset(ZoneOffset.UTC).toString();
+            case Timestamp timestamp -> timestamp.toLocalDateTime().toString();
+            case java.sql.Date date -> date.toLocalDate().toString();
+            case Time time -> time.toLocalTime().toString();
+            case BigDecimal decimal -> decimal.toPlainString();
+            default -> value.toString();
+        };
+    }
+
+    /**
+     * Condition of the {@code WHERE} clause.
+     *
+     * @param column   Column name as reported by the database.
+     * @param operator Comparison.
+     * @param arity    Number of bound values.
+     */
+    private record Condition(String column, ColumnOperator operator, int arity) {
+    }
+
+    /**
+     * Column of the {@code ORDER BY} clause.
+     *
+     * @param column     Column name as reported by the database.
+     * @param descending Whether the column is sorted in descending order.
+     */
+    private record OrderColumn(String column, boolean descending) {
+    }
+
+    /**
+     * Converted value bound to a placeholder.
+     *
+     * @param value Value to bind.
+     * @param type  {@link Types} code of the compared column.
+     */
+    private record Parameter(Object value, int type) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.softserve.ldm.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.NotFoundException;
+import com.softserve.ldm.repository.ExportSettingsRepo;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached table metadata used to validate table queries.
+ * <p>
+ * Metadata is read per schema, when a table of the schema is first requested, and kept for
+ * {@code ldm.export.metadata-cache-ttl} instead of being read on every request. Unqualified table names are
+ * looked up in the current schema of the connection, where the database resolves them as well.
+ * </p>
+ */
+@Component
+public class TableCatalog {
+    private static final String CURRENT_SCHEMA = "";
+
+    private final ExportSettingsRepo exportSettingsRepo;
+    private final LoadingCache<String, Map<String, TableSchema>> cache;
+    private final LoadingCache<String, List<String>> tableNameCache;
+    private final Cache<String, TableIndexes> indexCache;
+
+    public TableCatalog(ExportSettingsRepo exportSettingsRepo, LdmProperties properties) {
+        this.exportSettingsRepo = exportSettingsRepo;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getExport().getMetadataCacheTtl())
+            .build(schema -> schema.isEmpty()
+                ? exportSettingsRepo.getTableSchemas()
+                : exportSettingsRepo.getTableSchemas(schema));
+        this.tableNameCache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getExport().getMetadataCacheTtl())
+            .build(exportSettingsRepo::getTableNames);
+        this.indexCache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getExport().getMetadataCacheTtl())
+            .build();
+    }
+
+    /**
+     * Returns the schema of a table. Exact matches win; otherwise the name is compared ignoring case.
+     *
+     * @param tableName Name of the table, optionally qualified by its schema as {@code schema.table}.
+     * @return {@link TableSchema} of the table.
+     * @throws NotFoundException if the database has no such table.
+     */
+    public TableSchema getTable(String tableName) {
+        int dot = tableName.indexOf('.');
+        Map<String, TableSchema> tables = cache.get(dot < 0 ? CURRENT_SCHEMA : tableName.substring(0, dot));
+        String name = tableName.substring(dot + 1);
+        TableSchema table = tables.get(name);
+        if (table != null) {
+            return table;
+        }
+        return tables.values().stream()
+            .filter(candidate -> candidate.name().equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new NotFoundException(String.format(ErrorMessage.TABLE_NOT_FOUND, tableName)));
+    }
+
+    /**
+     * Returns the primary key and indexes of a table.
+     *
+     * @param table {@link TableSchema} returned by {@link #getTable(String)}.
+     * @return {@link TableIndexes} of the table.
+     */
+    public TableIndexes getIndexes(TableSchema table) {
+        return indexCache.get(table.qualifiedName(),
+            key -> exportSettingsRepo.getTableIndexes(table.schema(), table.name()));
+    }
+
+    /**
+     * Returns the names of the tables of a schema, without reading their columns.
+     *
+     * @param schema Name of the schema.
+     * @return table names ordered by name.
+     */
+    public List<String> getTableNames(String schema) {
+        return tableNameCache.get(schema);
+    }
+
+    /**
+     * Forgets the cached metadata, e.g. after the schema was migrated.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+        tableNameCache.invalidateAll();
+        indexCache.invalidateAll();
+    }
+}
@@ -0,0 +1,31 @@
+package com.softserve.ldm.query;
+
+import java.util.List;
+
+/**
+ * Primary key and indexes of a database table, as reported by {@link java.sql.DatabaseMetaData#getIndexInfo}.
+ *
+ * @param primaryKey Primary key columns in key order; empty if the table has no primary key.
+ * @param indexes    Indexes of the table, including unique ones; indexes on expressions are left out.
+ */
+public record TableIndexes(List<String> primaryKey, List<Index> indexes) {
+    public static final TableIndexes NONE = new TableIndexes(List.of(), List.of());
+
+    /**
+     * Index of a table.
+     *
+     * @param name    Name of the index.
+     * @param columns Indexed columns in index order.
+     */
+    public record Index(String name, List<IndexColumn> columns) {
+    }
+
+    /**
+     * Column of an index.
+     *
+     * @param name       Column name.
+     * @param descending Whether the index stores the column in descending order.
+     */
+    public record IndexColumn(String name, boolean descending) {
+    }
+}
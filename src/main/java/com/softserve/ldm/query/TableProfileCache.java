@@ -0,0 +1,72 @@
+package com.softserve.ldm.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.dto.TableProfileDto;
+import com.softserve.ldm.dto.TableQueryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Recently computed table profiles, kept for {@code ldm.export.profile-cache-ttl}, because profiling reads a
+ * whole table or sample while its statistics change slowly.
+ * <p>
+ * Profiles are computed outside of the cache, so a running profile can be cancelled like any other query;
+ * concurrent requests for the same profile may therefore compute it more than once.
+ * </p>
+ */
+@Component
+public class TableProfileCache {
+    private final Cache<Key, TableProfileDto> cache;
+
+    public TableProfileCache(LdmProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(properties.getExport().getProfileCacheTtl())
+            .maximumSize(properties.getExport().getProfileCacheSize())
+            .build();
+    }
+
+    /**
+     * Returns the cached profile of a request.
+     *
+     * @param key {@link Key} of the request.
+     * @return cached {@link TableProfileDto}, or empty if it expired or was never computed.
+     */
+    public Optional<TableProfileDto> find(Key key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * Stores a computed profile.
+     *
+     * @param key     {@link Key} of the request.
+     * @param profile Computed {@link TableProfileDto}.
+     */
+    public void put(Key key, TableProfileDto profile) {
+        cache.put(key, profile);
+    }
+
+    /**
+     * Forgets the cached profiles, e.g. after the data was reloaded.
+     */
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Parameters a profile depends on.
+     *
+     * @param tableName  Qualified name of the table.
+     * @param query      Profiled columns and conditions; can be null.
+     * @param sampleSize Number of sampled rows; null for all matching rows.
+     * @param method     Requested {@link SampleMethod}; can be null.
+     * @param seed       Seed of the sample; can be null.
+     * @param topValues  Number of most frequent values per column.
+     */
+    public record Key(String tableName, TableQueryDto query, Integer sampleSize, SampleMethod method, Long seed,
+                      int topValues) {
+    }
+}
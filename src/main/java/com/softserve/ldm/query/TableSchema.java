@@ -0,0 +1,57 @@
+package com.softserve.ldm.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Columns of a database table with their JDBC types.
+ *
+ * @param schema          Schema the table was looked up in; null if it was found without naming a schema.
+ * @param name            Name of the table as reported by the database.
+ * @param columnTypes     {@link java.sql.Types} code of every column, in table order.
+ * @param nullableColumns Columns that may hold nulls, including those whose nullability is unknown.
+ */
+public record TableSchema(String schema, String name, Map<String, Integer> columnTypes,
+                          Set<String> nullableColumns) {
+    public TableSchema(String schema, String name, Map<String, Integer> columnTypes) {
+        this(schema, name, columnTypes, Set.of());
+    }
+
+    public TableSchema(String name, Map<String, Integer> columnTypes) {
+        this(null, name, columnTypes);
+    }
+
+    /**
+     * Returns the name of the table qualified by its schema, if it was looked up in one.
+     *
+     * @return {@code schema.name}, or the name alone.
+     */
+    public String qualifiedName() {
+        return schema != null ? schema + "." + name : name;
+    }
+
+    /**
+     * Returns the column names in table order.
+     *
+     * @return column names.
+     */
+    public List<String> columnNames() {
+        return List.copyOf(columnTypes.keySet());
+    }
+
+    /**
+     * Finds a column by name. Exact matches win; otherwise the name is compared ignoring case, because
+     * databases differ in how they fold unquoted identifiers.
+     *
+     * @param column Requested column name.
+     * @return name of the column as reported by the database, if the table has it.
+     */
+    public Optional<String> findColumn(String column) {
+        if (columnTypes.containsKey(column)) {
+            return Optional.of(column);
+        }
+        return columnTypes.keySet().stream().filter(name -> name.equalsIgnoreCase(column)).findFirst();
+    }
+}
@@ -1,7 +1,14 @@
 package com.softserve.ldm.repository;
 
+import com.softserve.ldm.dto.DatabaseSchemaDto;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableIndexes;
+import com.softserve.ldm.query.TableSchema;
+
+import java.util.List;
+import java.util.Map;
 
 public interface ExportSettingsRepo {
     /**
@@ -11,6 +18,47 @@ public interface ExportSettingsRepo {
      */
     TablesMetadataDto getTablesMetadata();
 
+    /**
+     * Method for receiving the columns and column types of the tables in the current schema of the connection,
+     * where the database resolves unqualified table names.
+     *
+     * @return map of table name to {@link TableSchema}.
+     */
+    Map<String, TableSchema> getTableSchemas();
+
+    /**
+     * Method for receiving the columns and column types of the tables of one DB schema, read with a single
+     * metadata call.
+     *
+     * @param schema {@link String} DB schema name.
+     * @return map of table name to {@link TableSchema} qualified by the schema.
+     */
+    Map<String, TableSchema> getTableSchemas(String schema);
+
+    /**
+     * Method for receiving the DB schemas, without the system schemas of the database.
+     *
+     * @return list of {@link DatabaseSchemaDto} ordered by name.
+     */
+    List<DatabaseSchemaDto> getSchemas();
+
+    /**
+     * Method for receiving the names of the tables of one DB schema, without their columns.
+     *
+     * @param schema {@link String} DB schema name.
+     * @return table names ordered by name.
+     */
+    List<String> getTableNames(String schema);
+
+    /**
+     * Method for receiving the primary key and indexes of a DB table.
+     *
+     * @param schema    {@link String} DB schema name; null if the table was found without naming a schema.
+     * @param tableName {@link String} DB table name as reported by the database.
+     * @return {@link TableIndexes} of the table.
+     */
+    TableIndexes getTableIndexes(String schema, String tableName);
+
     /**
      * Method for receiving data from table by name, limit and offset.
      *
@@ -26,4 +74,23 @@ public interface ExportSettingsRepo {
      * @return int count of rows.
      */
     int countRowsInTable(String tableName);
+
+    /**
+     * Method for receiving the rows matching a validated query, by limit and offset. If the page is full and
+     * the query order is unique, the result holds the cursor of the next page.
+     *
+     * @param query  {@link SelectQuery} with the projection, conditions, order and cursor.
+     * @param limit  maximum number of rows.
+     * @param offset number of matching rows to skip.
+     * @return dto {@link TableRowsDto}
+     */
+    TableRowsDto selectFromTable(SelectQuery query, int limit, int offset);
+
+    /**
+     * Method for receiving the number of rows matching a validated query.
+     *
+     * @param query {@link SelectQuery} with the conditions.
+     * @return int count of rows.
+     */
+    int countRows(SelectQuery query);
 }
@@ -0,0 +1,13 @@
+package com.softserve.ldm.repository;
+
+import com.softserve.ldm.dto.SchemaCatalogDto;
+
+public interface SchemaCatalogRepo {
+    /**
+     * Method for reading the tables of a DB schema with their columns, keys, indexes and approximate sizes.
+     *
+     * @param schema name of the schema; null for the schema of the connection.
+     * @return {@link SchemaCatalogDto} without version.
+     */
+    SchemaCatalogDto readCatalog(String schema);
+}
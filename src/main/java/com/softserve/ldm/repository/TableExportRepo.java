@@ -0,0 +1,65 @@
+package com.softserve.ldm.repository;
+
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.TabularWriter;
+import com.softserve.ldm.query.SelectQuery;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface TableExportRepo {
+    /**
+     * Method for writing all rows matching a query, in the query order. Queries that can be partitioned are
+     * split into primary key ranges that are read on separate connections at the same time.
+     *
+     * @param query       {@link SelectQuery} ordered by the primary key.
+     * @param parallelism max number of connections to read from.
+     * @param writer      {@link TabularWriter} receiving the rows.
+     * @return long count of exported rows.
+     * @throws IOException if the writer fails.
+     */
+    long exportRows(SelectQuery query, int parallelism, TabularWriter writer) throws IOException;
+
+    /**
+     * Method for writing several tables into one file. Up to {@code concurrency} tables are read at the same
+     * time, each on its own connection, and every table is written as soon as it has been read completely.
+     *
+     * @param queries     {@link SelectQuery} list with one query per table.
+     * @param concurrency max number of tables read at the same time.
+     * @param writer      {@link MultiTableWriter} receiving the tables, in the order they complete.
+     * @return long count of exported rows of all tables.
+     * @throws IOException if the writer or a temporary file fails.
+     */
+    long exportTables(List<SelectQuery> queries, int concurrency, MultiTableWriter writer) throws IOException;
+
+    /**
+     * Method for reading the largest value of a column among the rows matching a query.
+     *
+     * @param query  {@link SelectQuery} selecting the rows.
+     * @param column name of the column.
+     * @return String value formatted by {@link SelectQuery#formatValue}, or null if no row matches.
+     */
+    String findMaxValue(SelectQuery query, String column);
+
+    /**
+     * Method for telling whether the database samples tables with {@code TABLESAMPLE}.
+     *
+     * @return true if {@link SampleMethod#SYSTEM} and {@link SampleMethod#BERNOULLI} can be used.
+     */
+    boolean supportsTableSample();
+
+    /**
+     * Method for writing a random sample of the rows matching a query.
+     *
+     * @param query  {@link SelectQuery} ordered by the primary key.
+     * @param method {@link SampleMethod} supported by the database and the table.
+     * @param size   max number of rows.
+     * @param seed   seed making the sample repeatable, or null.
+     * @param writer {@link TabularWriter} receiving the rows.
+     * @return long count of sampled rows.
+     * @throws IOException if the writer fails.
+     */
+    long sampleRows(SelectQuery query, SampleMethod method, int size, Long seed, TabularWriter writer)
+        throws IOException;
+}
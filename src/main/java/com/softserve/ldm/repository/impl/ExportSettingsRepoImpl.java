@@ -3,15 +3,19 @@ package com.softserve.ldm.repository.impl;
 
 import com.softserve.ldm.constant.AppConstant;
 import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.DatabaseSchemaDto;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
 import com.softserve.ldm.exception.exceptions.DatabaseMetadataException;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableIndexes;
+import com.softserve.ldm.query.TableSchema;
 import com.softserve.ldm.repository.ExportSettingsRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
-import javax.sql.DataSource;
 import java.sql.*;
 import java.util.*;
 
@@ -19,7 +23,12 @@ import java.util.*;
 @Repository
 @Slf4j
 public class ExportSettingsRepoImpl implements ExportSettingsRepo {
-    private final DataSource dataSource;
+    private static final String MYSQL = "MySQL";
+    private static final String MARIADB = "MariaDB";
+    private static final Set<String> SYSTEM_SCHEMAS = Set.of("information_schema", "pg_catalog", "pg_toast",
+        "mysql", "performance_schema", "sys");
+
+    private final LdmDataSource dataSource;
 
     /**
      * {@inheritDoc}
@@ -27,51 +36,149 @@ public class ExportSettingsRepoImpl implements ExportSettingsRepo {
     @Override
     public TablesMetadataDto getTablesMetadata() {
         Map<String, List<String>> tablesMetaDada = new HashMap<>();
+        getTableSchemas().forEach((tableName, table) -> tablesMetaDada.put(tableName, table.columnNames()));
+        return new TablesMetadataDto(tablesMetaDada);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, TableSchema> getTableSchemas() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean catalogs = usesCatalogs(metaData);
+            // Unqualified names are resolved by the database in the current schema, so only its tables are read.
+            String current = catalogs ? connection.getCatalog() : connection.getSchema();
+            String schemaPattern = catalogs || current == null ? null : escapePattern(metaData, current);
+            return readTableSchemas(metaData, catalogs ? current : null, schemaPattern, null);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, TableSchema> getTableSchemas(String schema) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean catalogs = usesCatalogs(metaData);
+            return readTableSchemas(metaData, catalogs ? schema : null,
+                catalogs ? null : escapePattern(metaData, schema), schema);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + schema, e);
+        }
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DatabaseSchemaDto> getSchemas() {
         try (Connection connection = dataSource.getConnection()) {
             DatabaseMetaData metaData = connection.getMetaData();
-            // null for database, schema, and catalog means the method will return all
-            // tables in the current database.
-            ResultSet tables = metaData.getTables(null, null, null, new String[] {AppConstant.TABLE});
-            while (tables.next()) {
-                List<String> columnsNames = new ArrayList<>();
-                String tableName = tables.getString(AppConstant.TABLE_NAME);
-                // null for database, schema, and catalog means it will return columns for the
-                // current table across all schemas.
-                // "%" means "all columns" for the given table.
-                ResultSet columns = metaData.getColumns(null, null, tableName, "%");
-                while (columns.next()) {
-                    String columnName = columns.getString(AppConstant.COLUMN_NAME);
-                    columnsNames.add(columnName);
+            List<DatabaseSchemaDto> schemas = new ArrayList<>();
+            // MySQL calls its databases catalogs and has no schemas in the JDBC sense.
+            if (usesCatalogs(metaData)) {
+                try (ResultSet rs = metaData.getCatalogs()) {
+                    while (rs.next()) {
+                        String name = rs.getString(AppConstant.TABLE_CAT);
+                        schemas.add(new DatabaseSchemaDto(name, name));
+                    }
+                }
+            } else {
+                try (ResultSet rs = metaData.getSchemas()) {
+                    while (rs.next()) {
+                        schemas.add(new DatabaseSchemaDto(rs.getString(AppConstant.TABLE_SCHEM),
+                            rs.getString(AppConstant.TABLE_CATALOG)));
+                    }
                 }
-                tablesMetaDada.put(tableName, columnsNames);
             }
-            return new TablesMetadataDto(tablesMetaDada);
+            return schemas.stream()
+                .filter(schema -> !isSystemSchema(schema.name()))
+                .sorted(Comparator.comparing(DatabaseSchemaDto::name))
+                .toList();
         } catch (SQLException e) {
             log.error(e.getMessage());
             throw new DatabaseMetadataException(e.getMessage(), e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getTableNames(String schema) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean catalogs = usesCatalogs(metaData);
+            return readTableNames(metaData, catalogs ? schema : null,
+                catalogs ? null : escapePattern(metaData, schema));
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + schema, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TableIndexes getTableIndexes(String schema, String tableName) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean catalogs = schema != null && usesCatalogs(metaData);
+            String catalog = catalogs ? schema : null;
+            String schemaName = catalogs ? null : schema;
+            SortedMap<Short, String> primaryKey = new TreeMap<>();
+            try (ResultSet keys = metaData.getPrimaryKeys(catalog, schemaName, tableName)) {
+                while (keys.next()) {
+                    primaryKey.put(keys.getShort(AppConstant.KEY_SEQ), keys.getString(AppConstant.COLUMN_NAME));
+                }
+            }
+
+            Map<String, SortedMap<Short, TableIndexes.IndexColumn>> indexColumns = new LinkedHashMap<>();
+            // approximate = true lets the driver skip refreshing the statistics of the table.
+            try (ResultSet index = metaData.getIndexInfo(catalog, schemaName, tableName, false, true)) {
+                while (index.next()) {
+                    String indexName = index.getString(AppConstant.INDEX_NAME);
+                    String columnName = index.getString(AppConstant.COLUMN_NAME);
+                    // Statistics rows describe the table, and indexes on expressions have no column name.
+                    if (index.getShort(AppConstant.INDEX_TYPE) == DatabaseMetaData.tableIndexStatistic
+                        || indexName == null || columnName == null) {
+                        continue;
+                    }
+                    indexColumns.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(index.getShort(AppConstant.ORDINAL_POSITION), new TableIndexes.IndexColumn(
+                            columnName, "D".equals(index.getString(AppConstant.ASC_OR_DESC))));
+                }
+            }
+
+            List<TableIndexes.Index> indexes = indexColumns.entrySet().stream()
+                .map(entry -> new TableIndexes.Index(entry.getKey(), List.copyOf(entry.getValue().values())))
+                .toList();
+            return new TableIndexes(List.copyOf(primaryKey.values()), indexes);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + tableName, e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public TableRowsDto selectPortionFromTable(String tableName, int limit, int offset) {
         String query = String.format(AppConstant.SELECT_FROM_WITH_LIMIT_AND_OFFSET, tableName, limit, offset);
-        List<Map<String, String>> tableData = new ArrayList<>();
+        List<Map<String, String>> tableData;
 
         try (Connection connection = dataSource.getConnection();
             PreparedStatement ps = connection.prepareStatement(query)) {
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    Map<String, String> row = new LinkedHashMap<>();
-                    for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
-                        row.put(rs.getMetaData().getColumnName(i), rs.getString(i));
-                    }
-                    tableData.add(row);
-                }
-            }
+            tableData = readRows(ps);
         } catch (SQLException e) {
             log.error(e.getMessage());
             throw new DatabaseMetadataException(ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + tableName, e);
@@ -79,6 +186,43 @@ public class ExportSettingsRepoImpl implements ExportSettingsRepo {
         return new TableRowsDto(tableName, tableData);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TableRowsDto selectFromTable(SelectQuery query, int limit, int offset) {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement ps = connection.prepareStatement(query.toSelectSql(identifierQuote(connection)))) {
+            int index = query.bindSelect(ps);
+            ps.setInt(index++, limit);
+            ps.setInt(index, offset);
+            return readPage(ps, query, limit);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(
+                ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + query.getTableName(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countRows(SelectQuery query) {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement ps = connection.prepareStatement(query.toCountSql(identifierQuote(connection)))) {
+            query.bind(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(
+                ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + query.getTableName(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -97,4 +241,159 @@ public class ExportSettingsRepoImpl implements ExportSettingsRepo {
             throw new DatabaseMetadataException(ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + tableName, e);
         }
     }
+
+    /**
+     * Reads all rows of a query as column name to value maps.
+     *
+     * @param ps Statement with all parameters bound.
+     * @return rows in result order.
+     * @throws SQLException if the query fails.
+     */
+    private List<Map<String, String>> readRows(PreparedStatement ps) throws SQLException {
+        List<Map<String, String>> tableData = new ArrayList<>();
+        try (ResultSet rs = ps.executeQuery()) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            while (rs.next()) {
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    row.put(metaData.getColumnName(i), rs.getString(i));
+                }
+                tableData.add(row);
+            }
+        }
+        return tableData;
+    }
+
+    /**
+     * Reads a page of a query. Order columns selected only to build the cursor are left out of the rows.
+     *
+     * @param ps    Statement with all parameters bound.
+     * @param query Executed query.
+     * @param limit Page size; a cursor is created only for full pages.
+     * @return rows of the page and the cursor of the next page, if any.
+     * @throws SQLException if the query fails.
+     */
+    private TableRowsDto readPage(PreparedStatement ps, SelectQuery query, int limit) throws SQLException {
+        List<Map<String, String>> tableData = new ArrayList<>();
+        List<Object> lastKey = List.of();
+        try (ResultSet rs = ps.executeQuery()) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columnCount = Math.min(metaData.getColumnCount(), query.getColumns().size());
+            while (rs.next()) {
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 1; i <= columnCount; i++) {
+                    row.put(metaData.getColumnName(i), rs.getString(i));
+                }
+                tableData.add(row);
+                if (query.isSeekable() && tableData.size() == limit) {
+                    lastKey = new ArrayList<>();
+                    for (String column : query.getOrderColumns()) {
+                        lastKey.add(rs.getObject(column));
+                    }
+                }
+            }
+        }
+        String nextCursor = lastKey.isEmpty() ? null : query.createCursor(lastKey);
+        return new TableRowsDto(query.getTableName(), tableData, nextCursor);
+    }
+
+    /**
+     * Reads the tables of one schema with the columns of all of them in a single metadata call.
+     *
+     * @param metaData      Metadata of an open connection.
+     * @param catalog       Catalog of the tables, or null.
+     * @param schemaPattern Escaped schema of the tables, or null.
+     * @param schema        Schema the tables are qualified with; null for unqualified tables.
+     * @return map of table name to {@link TableSchema}, ordered by name.
+     * @throws SQLException if the metadata cannot be read.
+     */
+    private static Map<String, TableSchema> readTableSchemas(DatabaseMetaData metaData, String catalog,
+                                                             String schemaPattern, String schema)
+        throws SQLException {
+        Map<String, Map<String, Integer>> columnTypes = new TreeMap<>();
+        Map<String, Set<String>> nullableColumns = new HashMap<>();
+        for (String tableName : readTableNames(metaData, catalog, schemaPattern)) {
+            columnTypes.put(tableName, new LinkedHashMap<>());
+            nullableColumns.put(tableName, new HashSet<>());
+        }
+        // Columns of all tables in one call; they come ordered by table and position.
+        try (ResultSet columns = metaData.getColumns(catalog, schemaPattern, "%", "%")) {
+            while (columns.next()) {
+                String tableName = columns.getString(AppConstant.TABLE_NAME);
+                Map<String, Integer> table = columnTypes.get(tableName);
+                if (table != null) {
+                    String column = columns.getString(AppConstant.COLUMN_NAME);
+                    table.put(column, columns.getInt(AppConstant.DATA_TYPE));
+                    if (columns.getInt(AppConstant.NULLABLE) != DatabaseMetaData.columnNoNulls) {
+                        nullableColumns.get(tableName).add(column);
+                    }
+                }
+            }
+        }
+
+        Map<String, TableSchema> tables = new LinkedHashMap<>();
+        columnTypes.forEach((tableName, types) -> tables.put(tableName,
+            new TableSchema(schema, tableName, types, Set.copyOf(nullableColumns.get(tableName)))));
+        return tables;
+    }
+
+    /**
+     * Reads the names of the tables of a schema.
+     *
+     * @param metaData      Metadata of an open connection.
+     * @param catalog       Catalog name, or null.
+     * @param schemaPattern Escaped schema name, or null.
+     * @return table names ordered by name.
+     * @throws SQLException if the metadata cannot be read.
+     */
+    private static List<String> readTableNames(DatabaseMetaData metaData, String catalog, String schemaPattern)
+        throws SQLException {
+        List<String> tableNames = new ArrayList<>();
+        try (ResultSet rs = metaData.getTables(catalog, schemaPattern, "%", new String[] {AppConstant.TABLE})) {
+            while (rs.next()) {
+                tableNames.add(rs.getString(AppConstant.TABLE_NAME));
+            }
+        }
+        tableNames.sort(Comparator.naturalOrder());
+        return tableNames;
+    }
+
+    /**
+     * Escapes the pattern characters of a name, because metadata calls read schema names as LIKE patterns
+     * and {@code _} would match any character.
+     *
+     * @param metaData Metadata of an open connection.
+     * @param name     Name to match exactly.
+     * @return pattern matching only the name.
+     * @throws SQLException if the metadata cannot be read.
+     */
+    private static String escapePattern(DatabaseMetaData metaData, String name) throws SQLException {
+        String escape = metaData.getSearchStringEscape();
+        if (escape == null || escape.isEmpty()) {
+            return name;
+        }
+        return name.replace(escape, escape + escape).replace("_", escape + "_").replace("%", escape + "%");
+    }
+
+    private static boolean usesCatalogs(DatabaseMetaData metaData) throws SQLException {
+        String product = metaData.getDatabaseProductName();
+        return MYSQL.equalsIgnoreCase(product) || MARIADB.equalsIgnoreCase(product);
+    }
+
+    private static boolean isSystemSchema(String schema) {
+        String name = schema.toLowerCase(Locale.ROOT);
+        return SYSTEM_SCHEMAS.contains(name) || name.startsWith("pg_temp") || name.startsWith("pg_toast");
+    }
+
+    /**
+     * Returns the string used to quote identifiers, or an empty string if the database does not support it.
+     *
+     * @param connection Open connection.
+     * @return identifier quote string.
+     * @throws SQLException if the metadata cannot be read.
+     */
+    private static String identifierQuote(Connection connection) throws SQLException {
+        String quote = connection.getMetaData().getIdentifierQuoteString();
+        return quote == null || quote.isBlank() ? "" : quote;
+    }
 }
@@ -0,0 +1,311 @@
+package com.softserve.ldm.repository.impl;
+
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.SchemaCatalogDto;
+import com.softserve.ldm.exception.exceptions.DatabaseMetadataException;
+import com.softserve.ldm.repository.SchemaCatalogRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Reads the schema catalog with a few bulk queries instead of one metadata call per table.
+ * <p>
+ * Tables and columns of the whole schema are read with one {@link DatabaseMetaData} call each. Keys are read
+ * from {@code information_schema} in one query; indexes and size estimates from the system catalogs of
+ * PostgreSQL and MySQL. Databases without these sources fall back to per-table metadata calls for keys and
+ * indexes and report no sizes.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Repository
+@Slf4j
+public class SchemaCatalogRepoImpl implements SchemaCatalogRepo {
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String MYSQL = "MySQL";
+    private static final String MARIADB = "MariaDB";
+    private static final String PRIMARY_KEY = "PRIMARY KEY";
+
+    private static final String STANDARD_KEYS_SQL = """
+        SELECT tc.table_name, tc.constraint_name, tc.constraint_type, kcu.column_name, kcu.ordinal_position,
+               ccu.table_name, ccu.column_name
+        FROM information_schema.table_constraints tc
+        JOIN information_schema.key_column_usage kcu
+          ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name
+         AND kcu.table_name = tc.table_name
+        LEFT JOIN information_schema.referential_constraints rc
+          ON rc.constraint_schema = tc.constraint_schema AND rc.constraint_name = tc.constraint_name
+        LEFT JOIN information_schema.key_column_usage ccu
+          ON ccu.constraint_schema = rc.unique_constraint_schema
+         AND ccu.constraint_name = rc.unique_constraint_name
+         AND ccu.ordinal_position = kcu.position_in_unique_constraint
+        WHERE tc.table_schema = ? AND tc.constraint_type IN ('PRIMARY KEY', 'FOREIGN KEY')
+        ORDER BY tc.table_name, tc.constraint_name, kcu.ordinal_position""";
+    // MySQL names every primary key PRIMARY, so the referenced columns are read from key_column_usage itself.
+    private static final String MYSQL_KEYS_SQL = """
+        SELECT tc.table_name, tc.constraint_name, tc.constraint_type, kcu.column_name, kcu.ordinal_position,
+               kcu.referenced_table_name, kcu.referenced_column_name
+        FROM information_schema.table_constraints tc
+        JOIN information_schema.key_column_usage kcu
+          ON kcu.constraint_schema = tc.constraint_schema AND kcu.constraint_name = tc.constraint_name
+         AND kcu.table_name = tc.table_name
+        WHERE tc.table_schema = ? AND tc.constraint_type IN ('PRIMARY KEY', 'FOREIGN KEY')
+        ORDER BY tc.table_name, tc.constraint_name, kcu.ordinal_position""";
+    private static final String POSTGRESQL_INDEXES_SQL = """
+        SELECT t.relname, i.relname, ix.indisunique, a.attname
+        FROM pg_index ix
+        JOIN pg_class t ON t.oid = ix.indrelid
+        JOIN pg_class i ON i.oid = ix.indexrelid
+        JOIN pg_namespace n ON n.oid = t.relnamespace
+        CROSS JOIN LATERAL unnest(ix.indkey) WITH ORDINALITY AS k(attnum, position)
+        JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = k.attnum
+        WHERE n.nspname = ?
+        ORDER BY t.relname, i.relname, k.position""";
+    private static final String MYSQL_INDEXES_SQL = """
+        SELECT table_name, index_name, non_unique = 0, column_name
+        FROM information_schema.statistics
+        WHERE table_schema = ? AND column_name IS NOT NULL
+        ORDER BY table_name, index_name, seq_in_index""";
+    // reltuples is -1 for tables that were never analyzed.
+    private static final String POSTGRESQL_SIZES_SQL = """
+        SELECT c.relname, CASE WHEN c.reltuples < 0 THEN NULL ELSE c.reltuples::bigint END,
+               pg_total_relation_size(c.oid)
+        FROM pg_class c
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE n.nspname = ? AND c.relkind IN ('r', 'p')""";
+    private static final String MYSQL_SIZES_SQL = """
+        SELECT table_name, table_rows, data_length + index_length
+        FROM information_schema.tables
+        WHERE table_schema = ?""";
+
+    private final LdmDataSource dataSource;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SchemaCatalogDto readCatalog(String schema) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String product = metaData.getDatabaseProductName();
+            // MySQL calls its databases catalogs and has no schemas in the JDBC sense.
+            boolean catalogs = MYSQL.equalsIgnoreCase(product) || MARIADB.equalsIgnoreCase(product);
+            String name = schema != null ? schema : catalogs ? connection.getCatalog() : connection.getSchema();
+            String catalog = catalogs ? name : null;
+            String schemaPattern = catalogs ? null : name;
+
+            Map<String, TableBuilder> tables = new TreeMap<>();
+            try (ResultSet rs = metaData.getTables(catalog, schemaPattern, "%", new String[] {AppConstant.TABLE})) {
+                while (rs.next()) {
+                    String tableName = rs.getString(AppConstant.TABLE_NAME);
+                    tables.put(tableName, new TableBuilder(tableName));
+                }
+            }
+            try (ResultSet rs = metaData.getColumns(catalog, schemaPattern, "%", "%")) {
+                while (rs.next()) {
+                    TableBuilder table = tables.get(rs.getString(AppConstant.TABLE_NAME));
+                    if (table != null) {
+                        int size = rs.getInt(AppConstant.COLUMN_SIZE);
+                        Integer columnSize = rs.wasNull() || size == 0 ? null : size;
+                        table.columns.put(rs.getInt(AppConstant.ORDINAL_POSITION), new SchemaCatalogDto.Column(
+                            rs.getString(AppConstant.COLUMN_NAME), rs.getString(AppConstant.TYPE_NAME),
+                            rs.getInt(AppConstant.DATA_TYPE), columnSize,
+                            rs.getInt(AppConstant.NULLABLE) != DatabaseMetaData.columnNoNulls));
+                    }
+                }
+            }
+
+            if (!readKeys(connection, catalogs ? MYSQL_KEYS_SQL : STANDARD_KEYS_SQL, name, tables)) {
+                readKeysPerTable(metaData, catalog, schemaPattern, tables);
+            }
+            if (POSTGRESQL.equalsIgnoreCase(product)) {
+                readIndexes(connection, POSTGRESQL_INDEXES_SQL, name, tables);
+                readSizes(connection, POSTGRESQL_SIZES_SQL, name, tables);
+            } else if (catalogs) {
+                readIndexes(connection, MYSQL_INDEXES_SQL, name, tables);
+                readSizes(connection, MYSQL_SIZES_SQL, name, tables);
+            } else {
+                readIndexesPerTable(metaData, catalog, schemaPattern, tables);
+            }
+
+            return new SchemaCatalogDto(name, null, Instant.now(),
+                tables.values().stream().map(TableBuilder::build).toList());
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + schema, e);
+        }
+    }
+
+    /**
+     * Reads the primary and foreign keys of all tables with one query.
+     *
+     * @return false if the database does not offer the queried views.
+     */
+    private static boolean readKeys(Connection connection, String sql, String schema,
+                                    Map<String, TableBuilder> tables) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schema);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableBuilder table = tables.get(rs.getString(1));
+                    if (table == null) {
+                        continue;
+                    }
+                    if (PRIMARY_KEY.equals(rs.getString(3))) {
+                        table.primaryKey.add(rs.getString(4));
+                    } else {
+                        table.foreignKey(rs.getString(2), rs.getString(6)).add(rs.getString(4), rs.getString(7));
+                    }
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            log.debug("Cannot read keys from information_schema: {}", e.getMessage());
+            tables.values().forEach(table -> {
+                table.primaryKey.clear();
+                table.foreignKeys.clear();
+            });
+            return false;
+        }
+    }
+
+    private static void readKeysPerTable(DatabaseMetaData metaData, String catalog, String schema,
+                                         Map<String, TableBuilder> tables) throws SQLException {
+        for (TableBuilder table : tables.values()) {
+            SortedMap<Short, String> primaryKey = new TreeMap<>();
+            try (ResultSet rs = metaData.getPrimaryKeys(catalog, schema, table.name)) {
+                while (rs.next()) {
+                    primaryKey.put(rs.getShort(AppConstant.KEY_SEQ), rs.getString(AppConstant.COLUMN_NAME));
+                }
+            }
+            table.primaryKey.addAll(primaryKey.values());
+            // Imported keys are ordered by referenced table and key sequence.
+            try (ResultSet rs = metaData.getImportedKeys(catalog, schema, table.name)) {
+                while (rs.next()) {
+                    table.foreignKey(rs.getString(AppConstant.FK_NAME), rs.getString(AppConstant.PKTABLE_NAME))
+                        .add(rs.getString(AppConstant.FKCOLUMN_NAME), rs.getString(AppConstant.PKCOLUMN_NAME));
+                }
+            }
+        }
+    }
+
+    private static void readIndexes(Connection connection, String sql, String schema,
+                                    Map<String, TableBuilder> tables) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schema);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableBuilder table = tables.get(rs.getString(1));
+                    if (table != null) {
+                        table.index(rs.getString(2), rs.getBoolean(3)).columns().add(rs.getString(4));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void readIndexesPerTable(DatabaseMetaData metaData, String catalog, String schema,
+                                            Map<String, TableBuilder> tables) throws SQLException {
+        for (TableBuilder table : tables.values()) {
+            // approximate = true lets the driver skip refreshing the statistics of the table.
+            try (ResultSet rs = metaData.getIndexInfo(catalog, schema, table.name, false, true)) {
+                while (rs.next()) {
+                    String indexName = rs.getString(AppConstant.INDEX_NAME);
+                    String columnName = rs.getString(AppConstant.COLUMN_NAME);
+                    if (rs.getShort(AppConstant.INDEX_TYPE) == DatabaseMetaData.tableIndexStatistic
+                        || indexName == null || columnName == null) {
+                        continue;
+                    }
+                    table.index(indexName, !rs.getBoolean(AppConstant.NON_UNIQUE)).columns().add(columnName);
+                }
+            }
+        }
+    }
+
+    private static void readSizes(Connection connection, String sql, String schema,
+                                  Map<String, TableBuilder> tables) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schema);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableBuilder table = tables.get(rs.getString(1));
+                    if (table != null) {
+                        long rows = rs.getLong(2);
+                        table.approximateRows = rs.wasNull() ? null : rows;
+                        long bytes = rs.getLong(3);
+                        table.approximateBytes = rs.wasNull() ? null : bytes;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the metadata of a table while the bulk results are read.
+     */
+    private static final class TableBuilder {
+        private final String name;
+        private final SortedMap<Integer, SchemaCatalogDto.Column> columns = new TreeMap<>();
+        private final List<String> primaryKey = new ArrayList<>();
+        private final Map<String, SchemaCatalogDto.Index> indexes = new TreeMap<>();
+        private final Map<String, ForeignKeyBuilder> foreignKeys = new TreeMap<>();
+        private Long approximateRows;
+        private Long approximateBytes;
+
+        private TableBuilder(String name) {
+            this.name = name;
+        }
+
+        private SchemaCatalogDto.Index index(String indexName, boolean unique) {
+            return indexes.computeIfAbsent(indexName, key -> new SchemaCatalogDto.Index(key, unique,
+                new ArrayList<>()));
+        }
+
+        private ForeignKeyBuilder foreignKey(String keyName, String referencedTable) {
+            return foreignKeys.computeIfAbsent(keyName, key -> new ForeignKeyBuilder(referencedTable));
+        }
+
+        private SchemaCatalogDto.Table build() {
+            return new SchemaCatalogDto.Table(name, approximateRows, approximateBytes,
+                List.copyOf(columns.values()), List.copyOf(primaryKey),
+                indexes.values().stream()
+                    .map(index -> new SchemaCatalogDto.Index(index.name(), index.unique(),
+                        List.copyOf(index.columns())))
+                    .toList(),
+                foreignKeys.entrySet().stream()
+                    .map(entry -> new SchemaCatalogDto.ForeignKey(entry.getKey(),
+                        List.copyOf(entry.getValue().columns), entry.getValue().referencedTable,
+                        List.copyOf(entry.getValue().referencedColumns)))
+                    .toList());
+        }
+    }
+
+    private static final class ForeignKeyBuilder {
+        private final String referencedTable;
+        private final List<String> columns = new ArrayList<>();
+        private final List<String> referencedColumns = new ArrayList<>();
+
+        private ForeignKeyBuilder(String referencedTable) {
+            this.referencedTable = referencedTable;
+        }
+
+        private void add(String column, String referencedColumn) {
+            columns.add(column);
+            referencedColumns.add(referencedColumn);
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package com.softserve.ldm.repository.impl;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.exception.exceptions.DatabaseMetadataException;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.RowSpool;
+import com.softserve.ldm.export.TabularWriter;
+import com.softserve.ldm.governor.QueryContext;
+import com.softserve.ldm.query.KeyRange;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.repository.TableExportRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Reads table exports, in parallel where the table allows it.
+ * <p>
+ * When the query is ordered by a single integer primary key, the key bounds of the matching rows are split
+ * into ranges of equal width, and each range is read on its own connection by a virtual thread. Workers
+ * read ahead into bounded buffers while the rows are written range after range, so the output keeps the key
+ * order and memory stays bounded. On PostgreSQL the first connection exports its snapshot with
+ * {@code pg_export_snapshot()} and the other connections import it, so all ranges see the same data;
+ * other databases read each range in its own transaction.
+ * </p>
+ * <p>
+ * Batch exports read several tables at the same time into {@link RowSpool}s that share one memory budget
+ * and overflow to temporary files, so a large table does not hold back the smaller ones. A table is written
+ * as soon as its spool is complete, while the remaining tables are still being read.
+ * </p>
+ * <p>
+ * Samples use {@code TABLESAMPLE} on PostgreSQL, with a percentage derived from the row estimate of the
+ * planner. Elsewhere, tables with a single integer primary key are sampled by seeking to random keys.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Repository
+@Slf4j
+public class TableExportRepoImpl implements TableExportRepo {
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String EXPORT_SNAPSHOT = "SELECT pg_export_snapshot()";
+    private static final String SET_SNAPSHOT = "SET TRANSACTION SNAPSHOT '%s'";
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Fa-f-]+");
+    private static final List<String> END = Collections.unmodifiableList(new ArrayList<>());
+    private static final String ESTIMATE_ROWS = "SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)";
+    // Sample twice the wanted rows, because pages hold different numbers of rows and filters drop some;
+    // the surplus is shuffled before the limit, so it is dropped evenly across the table.
+    private static final int SAMPLE_OVERSAMPLING = 2;
+    private static final double MIN_SAMPLE_PERCENT = 0.000001;
+    // Random keys landing on rows already picked are retried, up to this many seeks per requested row.
+    private static final int SAMPLE_SEEKS_PER_ROW = 4;
+
+    private final LdmDataSource dataSource;
+    private final LdmProperties properties;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long exportRows(SelectQuery query, int parallelism, TabularWriter writer) throws IOException {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            Connection coordinator = dataSource.getConnection();
+            connections.add(coordinator);
+            coordinator.setAutoCommit(false);
+            String quote = identifierQuote(coordinator);
+            boolean partitioned = parallelism > 1 && query.getPartitionColumn().isPresent();
+
+            String snapshot = null;
+            if (partitioned && POSTGRESQL.equalsIgnoreCase(coordinator.getMetaData().getDatabaseProductName())) {
+                coordinator.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                snapshot = exportSnapshot(coordinator);
+            }
+            List<SelectQuery> parts = partitioned ? split(coordinator, query, parallelism, quote) : List.of(query);
+
+            // All connections are opened and attached to the snapshot before anything is written.
+            for (int i = 1; i < parts.size(); i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.setAutoCommit(false);
+                if (snapshot != null) {
+                    connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(String.format(SET_SNAPSHOT, snapshot));
+                    }
+                }
+            }
+
+            if (parts.size() == 1) {
+                return readRange(coordinator, query, quote, writer::writeRow, new ArrayList<>());
+            }
+            return readInParallel(parts, connections, quote, writer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseMetadataException(
+                ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + query.getTableName(), e);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(
+                ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + query.getTableName(), e);
+        } finally {
+            connections.forEach(TableExportRepoImpl::release);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long exportTables(List<SelectQuery> queries, int concurrency, MultiTableWriter writer)
+        throws IOException {
+        List<RowSpool> spools = new CopyOnWriteArrayList<>();
+        try {
+            return readTables(queries, concurrency, writer, spools);
+        } finally {
+            for (RowSpool spool : spools) {
+                spool.close();
+            }
+        }
+    }
+
+    /**
+     * Splits the query into key ranges of the matching rows.
+     */
+    private List<SelectQuery> split(Connection connection, SelectQuery query, int parts, String quote)
+        throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(query.toKeyBoundsSql(quote))) {
+            query.bind(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getObject(1) == null) {
+                    return List.of(query);
+                }
+                return KeyRange.split(rs.getLong(1), rs.getLong(2), parts).stream()
+                    .map(query::inRange)
+                    .toList();
+            }
+        }
+    }
+
+    /**
+     * Reads the ranges concurrently and writes their rows in range order.
+     */
+    private long readInParallel(List<SelectQuery> parts, List<Connection> connections, String quote,
+                                TabularWriter writer) throws IOException, SQLException {
+        int bufferRows = Math.max(1, properties.getExport().getExportBufferRows());
+        List<Statement> statements = new CopyOnWriteArrayList<>();
+        List<BlockingQueue<List<String>>> buffers = new ArrayList<>();
+        List<Future<Long>> workers = new ArrayList<>();
+        long rows = 0;
+        boolean completed = false;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (int i = 0; i < parts.size(); i++) {
+                    BlockingQueue<List<String>> buffer = new ArrayBlockingQueue<>(bufferRows);
+                    Connection connection = connections.get(i);
+                    SelectQuery part = parts.get(i);
+                    buffers.add(buffer);
+                    workers.add(executor.submit(QueryContext.propagate(() -> {
+                        try {
+                            return readRange(connection, part, quote, buffer::put, statements);
+                        } finally {
+                            buffer.put(END);
+                        }
+                    })));
+                }
+
+                for (int i = 0; i < parts.size(); i++) {
+                    for (List<String> row = buffers.get(i).take(); row != END; row = buffers.get(i).take()) {
+                        writer.writeRow(row);
+                        rows++;
+                    }
+                    workers.get(i).get();
+                }
+                completed = true;
+                return rows;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Export was interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new SQLException(e.getCause());
+            } finally {
+                if (!completed) {
+                    // Stop the workers still reading or waiting for buffer space.
+                    executor.shutdownNow();
+                    statements.forEach(TableExportRepoImpl::cancel);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String findMaxValue(SelectQuery query, String column) {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement ps = connection.prepareStatement(
+                query.toMaxSql(column, identifierQuote(connection)))) {
+            query.bind(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? query.formatValue(column, rs.getObject(1)) : null;
+            }
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(
+                ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + query.getTableName(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsTableSample() {
+        try (Connection connection = dataSource.getConnection()) {
+            return POSTGRESQL.equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long sampleRows(SelectQuery query, SampleMethod method, int size, Long seed, TabularWriter writer)
+        throws IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            String quote = identifierQuote(connection);
+            return switch (method) {
+                case SYSTEM, BERNOULLI -> {
+                    double percent = samplePercent(connection, query, size);
+                    try (PreparedStatement ps = connection.prepareStatement(
+                        query.toSampleSql(quote, method, percent, seed))) {
+                        ps.setInt(query.bind(ps), size);
+                        yield writeRows(ps, query, writer);
+                    }
+                }
+                case RANDOM_KEYS -> sampleByKeys(connection, query, size,
+                    seed != null ? new Random(seed) : new Random(), quote, writer);
+                case FIRST_ROWS -> readFirst(connection, query, size, quote, writer);
+            };
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new DatabaseMetadataException(
+                ErrorMessage.SQL_METADATA_EXCEPTION_MESSAGE + query.getTableName(), e);
+        }
+    }
+
+    /**
+     * Derives the percentage of the table to sample from the row estimate of the planner. Tables never
+     * analyzed have no estimate and are sampled completely, which still stops at the row limit.
+     */
+    private static double samplePercent(Connection connection, SelectQuery query, int size) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(ESTIMATE_ROWS)) {
+            ps.setString(1, query.toTableSql("\""));
+            try (ResultSet rs = ps.executeQuery()) {
+                double estimate = rs.next() ? rs.getDouble(1) : 0;
+                if (estimate <= 0) {
+                    return 100;
+                }
+                return Math.clamp(100.0 * size * SAMPLE_OVERSAMPLING / estimate, MIN_SAMPLE_PERCENT, 100);
+            }
+        }
+    }
+
+    /**
+     * Picks random keys between the smallest and the largest key and reads the first row at or after each of
+     * them, one row per index seek, until the sample is full. Rows picked twice are skipped; the seeks are
+     * bounded, so tables with fewer matching rows than requested return all rows they can reach.
+     */
+    private long sampleByKeys(Connection connection, SelectQuery query, int size, Random random, String quote,
+                              TabularWriter writer) throws SQLException, IOException {
+        long min;
+        long max;
+        try (PreparedStatement ps = connection.prepareStatement(query.toKeyBoundsSql(quote))) {
+            query.bind(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getObject(1) == null) {
+                    return 0;
+                }
+                min = rs.getLong(1);
+                max = rs.getLong(2);
+            }
+        }
+
+        String keyColumn = query.getPartitionColumn().orElseThrow();
+        Set<Long> picked = new HashSet<>();
+        long maxSeeks = (long) size * SAMPLE_SEEKS_PER_ROW;
+        // Every seek has the same statement, only the lower key differs.
+        try (PreparedStatement ps = connection.prepareStatement(
+            query.inRange(new KeyRange(min, max, true)).toSelectSql(quote))) {
+            for (long seeks = 0; picked.size() < size && seeks < maxSeeks; seeks++) {
+                long start = min == max ? min : random.nextLong(min, max);
+                int index = query.inRange(new KeyRange(start, max, true)).bindSelect(ps);
+                ps.setInt(index++, 1);
+                ps.setInt(index, 0);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next() && picked.add(rs.getLong(keyColumn))) {
+                        int columnCount = Math.min(rs.getMetaData().getColumnCount(), query.getColumns().size());
+                        List<String> row = new ArrayList<>(columnCount);
+                        for (int i = 1; i <= columnCount; i++) {
+                            row.add(rs.getString(i));
+                        }
+                        writer.writeRow(row);
+                    }
+                }
+            }
+        }
+        return picked.size();
+    }
+
+    private long readFirst(Connection connection, SelectQuery query, int limit, String quote, TabularWriter writer)
+        throws SQLException, IOException {
+        try (PreparedStatement ps = connection.prepareStatement(query.toSelectSql(quote))) {
+            int index = query.bindSelect(ps);
+            ps.setInt(index++, limit);
+            ps.setInt(index, 0);
+            return writeRows(ps, query, writer);
+        }
+    }
+
+    private long writeRows(PreparedStatement ps, SelectQuery query, TabularWriter writer)
+        throws SQLException, IOException {
+        QueryContext.setQueryTimeout(ps, (int) properties.getExport().getExportTimeout().toSeconds());
+        long rows = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            int columnCount = Math.min(rs.getMetaData().getColumnCount(), query.getColumns().size());
+            while (rs.next()) {
+                List<String> row = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    row.add(rs.getString(i));
+                }
+                writer.writeRow(row);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the tables concurrently into spools and writes each table once its spool is complete.
+     */
+    private long readTables(List<SelectQuery> queries, int concurrency, MultiTableWriter writer,
+                            List<RowSpool> spools) throws IOException {
+        AtomicLong memoryBudget = new AtomicLong(properties.getExport().getBatchMemoryBytes());
+        Semaphore connectionPermits = new Semaphore(Math.max(1, concurrency));
+        List<Future<RowSpool>> tables = new ArrayList<>();
+        long rows = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<RowSpool> completed = new ExecutorCompletionService<>(executor);
+            try {
+                for (SelectQuery query : queries) {
+                    tables.add(completed.submit(QueryContext.propagate(() -> {
+                        connectionPermits.acquire();
+                        try {
+                            RowSpool spool = new RowSpool(memoryBudget);
+                            spools.add(spool);
+                            exportRows(query, 1, spool);
+                            return spool;
+                        } finally {
+                            connectionPermits.release();
+                        }
+                    })));
+                }
+
+                for (int i = 0; i < queries.size(); i++) {
+                    Future<RowSpool> table = completed.take();
+                    SelectQuery query = queries.get(tables.indexOf(table));
+                    try (RowSpool spool = table.get();
+                        TabularWriter tableWriter = writer.startTable(query.getTableName(), query.getColumns())) {
+                        spool.replay(tableWriter);
+                        rows += spool.getRowCount();
+                    }
+                }
+                return rows;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Export was interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IOException(e.getCause());
+            } finally {
+                // Interrupted readers fail on their next row, so closing the executor does not wait for them long.
+                tables.forEach(table -> table.cancel(true));
+            }
+        }
+    }
+
+    private long readRange(Connection connection, SelectQuery query, String quote, RowSink sink,
+                           List<Statement> statements) throws SQLException, IOException, InterruptedException {
+        long rows = 0;
+        try (PreparedStatement ps = connection.prepareStatement(query.toExportSql(quote))) {
+            statements.add(ps);
+            QueryContext.setQueryTimeout(ps, (int) properties.getExport().getExportTimeout().toSeconds());
+            query.bindSelect(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                int columnCount = Math.min(rs.getMetaData().getColumnCount(), query.getColumns().size());
+                while (rs.next()) {
+                    List<String> row = new ArrayList<>(columnCount);
+                    for (int i = 1; i <= columnCount; i++) {
+                        row.add(rs.getString(i));
+                    }
+                    sink.accept(row);
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static String exportSnapshot(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery(EXPORT_SNAPSHOT)) {
+            rs.next();
+            String snapshot = rs.getString(1);
+            if (snapshot == null || !SNAPSHOT_ID.matcher(snapshot).matches()) {
+                throw new SQLException("Unexpected snapshot id: " + snapshot);
+            }
+            return snapshot;
+        }
+    }
+
+    private static String identifierQuote(Connection connection) throws SQLException {
+        String quote = connection.getMetaData().getIdentifierQuoteString();
+        return quote == null || quote.isBlank() ? "" : quote;
+    }
+
+    private static void cancel(Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.warn("Cannot cancel export statement: {}", e.getMessage());
+        }
+    }
+
+    private static void release(Connection connection) {
+        try {
+            // Exports only read; ending the transaction releases the snapshot.
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("Cannot end export transaction: {}", e.getMessage());
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Cannot close export connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Receives the rows read from a key range.
+     */
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(List<String> row) throws IOException, InterruptedException;
+    }
+}
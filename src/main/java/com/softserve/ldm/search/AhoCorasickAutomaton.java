@@ -0,0 +1,177 @@
+package com.softserve.ldm.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Byte-level Aho-Corasick automaton that finds any number of terms in a single pass over the input.
+ * <p>
+ * Terms are encoded as UTF-8 and compiled into a full transition table, so matching costs one array
+ * lookup per input byte regardless of how many terms are searched. When the automaton is case-insensitive,
+ * ASCII letters are folded; non-ASCII characters are matched by their exact UTF-8 bytes.
+ * </p>
+ */
+public final class AhoCorasickAutomaton {
+    private static final int ALPHABET = 256;
+    private static final int ROOT = 0;
+
+    private final List<String> terms;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    private AhoCorasickAutomaton(List<String> terms, int[] transitions, int[][] outputs) {
+        this.terms = terms;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Compiles the given terms into an automaton. Term indexes reported by {@link #match} are the positions
+     * of the terms in the given list.
+     *
+     * @param terms           Terms to search for. Empty terms are ignored.
+     * @param caseInsensitive Whether ASCII letters should match regardless of case.
+     * @return compiled {@link AhoCorasickAutomaton}.
+     */
+    public static AhoCorasickAutomaton compile(List<String> terms, boolean caseInsensitive) {
+        List<int[]> trie = new ArrayList<>();
+        List<int[]> trieOutputs = new ArrayList<>();
+        trie.add(newNode());
+        trieOutputs.add(new int[0]);
+
+        for (int termIndex = 0; termIndex < terms.size(); termIndex++) {
+            byte[] bytes = terms.get(termIndex).getBytes(StandardCharsets.UTF_8);
+            if (bytes.length == 0) {
+                continue;
+            }
+            int state = ROOT;
+            for (byte raw : bytes) {
+                int symbol = caseInsensitive ? foldCase(raw & 0xFF) : raw & 0xFF;
+                int next = trie.get(state)[symbol];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[symbol] = next;
+                    trie.add(newNode());
+                    trieOutputs.add(new int[0]);
+                }
+                state = next;
+            }
+            trieOutputs.set(state, append(trieOutputs.get(state), termIndex));
+        }
+
+        int stateCount = trie.size();
+        int[] transitions = new int[stateCount * ALPHABET];
+        int[] failure = new int[stateCount];
+        int[][] outputs = trieOutputs.toArray(new int[0][]);
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            int child = trie.get(ROOT)[symbol];
+            if (child < 0) {
+                transitions[symbol] = ROOT;
+            } else {
+                transitions[symbol] = child;
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = merge(outputs[state], outputs[failure[state]]);
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = trie.get(state)[symbol];
+                int fallback = transitions[failure[state] * ALPHABET + symbol];
+                if (child < 0) {
+                    transitions[state * ALPHABET + symbol] = fallback;
+                } else {
+                    transitions[state * ALPHABET + symbol] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        if (caseInsensitive) {
+            for (int state = 0; state < stateCount; state++) {
+                for (int symbol = 'A'; symbol <= 'Z'; symbol++) {
+                    transitions[state * ALPHABET + symbol] = transitions[state * ALPHABET + foldCase(symbol)];
+                }
+            }
+        }
+
+        return new AhoCorasickAutomaton(List.copyOf(terms), transitions, outputs);
+    }
+
+    /**
+     * Runs the automaton over the given byte range and marks every term that occurs in it.
+     *
+     * @param buffer Input bytes.
+     * @param from   Start index, inclusive.
+     * @param to     End index, exclusive.
+     * @param found  {@link BitSet} where indexes of the found terms are set.
+     */
+    public void match(byte[] buffer, int from, int to, BitSet found) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            state = transitions[state * ALPHABET + (buffer[i] & 0xFF)];
+            int[] matched = outputs[state];
+            for (int termIndex : matched) {
+                found.set(termIndex);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any of the terms occurs in the given byte range.
+     *
+     * @param buffer Input bytes.
+     * @param from   Start index, inclusive.
+     * @param to     End index, exclusive.
+     * @return true if at least one term occurs in the range.
+     */
+    public boolean containsAny(byte[] buffer, int from, int to) {
+        int state = ROOT;
+        for (int i = from; i < to; i++) {
+            state = transitions[state * ALPHABET + (buffer[i] & 0xFF)];
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    private static int[] newNode() {
+        int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    private static int foldCase(int symbol) {
+        return symbol >= 'A' && symbol <= 'Z' ? symbol + ('a' - 'A') : symbol;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) {
+            return own;
+        }
+        int[] result = Arrays.copyOf(own, own.length + inherited.length);
+        System.arraycopy(inherited, 0, result, own.length, inherited.length);
+        return result;
+    }
+}
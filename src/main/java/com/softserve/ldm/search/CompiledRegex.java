@@ -0,0 +1,131 @@
+package com.softserve.ldm.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Precompiled regular expression together with a byte-level prefilter built from its required literals.
+ * <p>
+ * Instances are cached by expression, so repeated queries neither recompile the pattern nor re-extract
+ * the literals. Lines that do not contain any required literal are rejected without being decoded or
+ * handed to the regex engine.
+ * </p>
+ */
+public final class CompiledRegex {
+    private static final int CACHE_SIZE = 256;
+    private static final Cache<String, CompiledRegex> CACHE = Caffeine.newBuilder()
+        .maximumSize(CACHE_SIZE)
+        .build();
+
+    private final Pattern pattern;
+    private final AhoCorasickAutomaton prefilter;
+
+    private CompiledRegex(Pattern pattern, AhoCorasickAutomaton prefilter) {
+        this.pattern = pattern;
+        this.prefilter = prefilter;
+    }
+
+    /**
+     * Returns the cached compiled form of the expression, compiling it on first use.
+     *
+     * @param regex Regular expression in {@link Pattern} syntax.
+     * @return {@link CompiledRegex}.
+     * @throws BadRequestException if the expression is not a valid regular expression.
+     */
+    public static CompiledRegex of(String regex) {
+        return CACHE.get(regex, CompiledRegex::compile);
+    }
+
+    private static CompiledRegex compile(String regex) {
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new BadRequestException(String.format(ErrorMessage.INVALID_CONTENT_REGEX, regex), e);
+        }
+
+        Set<String> literals = RegexLiteralExtractor.requiredLiterals(regex);
+        boolean caseInsensitive = RegexLiteralExtractor.isCaseInsensitive(regex);
+        boolean usable = !literals.isEmpty()
+            && (!caseInsensitive || literals.stream().allMatch(CompiledRegex::isAscii));
+
+        return new CompiledRegex(pattern,
+            usable ? AhoCorasickAutomaton.compile(List.copyOf(literals), caseInsensitive) : null);
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Tells whether a prefilter could be derived from the expression.
+     *
+     * @return true if lines are prefiltered before reaching the regex engine.
+     */
+    public boolean hasPrefilter() {
+        return prefilter != null;
+    }
+
+    /**
+     * Creates a matcher for a single scan. Matchers are not thread-safe and must not be shared.
+     *
+     * @return new {@link LineMatcher}.
+     */
+    public LineMatcher newLineMatcher() {
+        return new LineMatcher();
+    }
+
+    private static boolean isAscii(String literal) {
+        return literal.chars().allMatch(c -> c < 0x80);
+    }
+
+    /**
+     * Per-scan matcher that reuses one {@link Matcher} for all lines.
+     */
+    public final class LineMatcher {
+        private final Matcher matcher = pattern.matcher("");
+
+        private LineMatcher() {
+        }
+
+        /**
+         * Checks whether the regex finds a match in the given line.
+         *
+         * @param buffer Line bytes.
+         * @param from   Start index, inclusive.
+         * @param to     End index, exclusive.
+         * @return true if the line matches.
+         */
+        public boolean find(byte[] buffer, int from, int to) {
+            if (prefilter != null && !prefilter.containsAny(buffer, from, to)) {
+                return false;
+            }
+            return matcher.reset(new String(buffer, from, to - from, StandardCharsets.UTF_8)).find();
+        }
+
+        /**
+         * Extracts the first capturing group of the first match in the given line, or the whole match if
+         * the regex has no groups.
+         *
+         * @param buffer Line bytes.
+         * @param from   Start index, inclusive.
+         * @param to     End index, exclusive.
+         * @return extracted text, or null if the line does not match or the group did not participate.
+         */
+        public String extract(byte[] buffer, int from, int to) {
+            if (!find(buffer, from, to)) {
+                return null;
+            }
+            return matcher.groupCount() > 0 ? matcher.group(1) : matcher.group();
+        }
+    }
+}
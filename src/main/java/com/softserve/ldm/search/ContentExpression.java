@@ -0,0 +1,45 @@
+package com.softserve.ldm.search;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Boolean expression over content terms, evaluated against the set of terms found in a file.
+ */
+public sealed interface ContentExpression {
+    /**
+     * Evaluates the expression.
+     *
+     * @param found Indexes of the terms that were found in the file.
+     * @return true if the file satisfies the expression.
+     */
+    boolean evaluate(BitSet found);
+
+    record Term(int index) implements ContentExpression {
+        @Override
+        public boolean evaluate(BitSet found) {
+            return found.get(index);
+        }
+    }
+
+    record Not(ContentExpression operand) implements ContentExpression {
+        @Override
+        public boolean evaluate(BitSet found) {
+            return !operand.evaluate(found);
+        }
+    }
+
+    record And(List<ContentExpression> operands) implements ContentExpression {
+        @Override
+        public boolean evaluate(BitSet found) {
+            return operands.stream().allMatch(operand -> operand.evaluate(found));
+        }
+    }
+
+    record Or(List<ContentExpression> operands) implements ContentExpression {
+        @Override
+        public boolean evaluate(BitSet found) {
+            return operands.stream().anyMatch(operand -> operand.evaluate(found));
+        }
+    }
+}
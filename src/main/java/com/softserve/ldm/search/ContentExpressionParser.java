@@ -0,0 +1,170 @@
+package com.softserve.ldm.search;
+
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Recursive-descent parser for content expressions such as
+ * {@code "connection refused" OR (timeout AND NOT retry)}.
+ * <p>
+ * Supported operators, from the lowest to the highest precedence: {@code OR}, {@code AND} and {@code NOT}.
+ * Operators are case-insensitive, adjacent terms are joined with an implicit {@code AND}, and terms
+ * containing spaces or operator words must be double-quoted.
+ * </p>
+ */
+public final class ContentExpressionParser {
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    private final List<Token> tokens;
+    private final ToIntFunction<String> termIndexer;
+    private final String source;
+    private int position;
+
+    private ContentExpressionParser(String source, ToIntFunction<String> termIndexer) {
+        this.source = source;
+        this.tokens = tokenize(source);
+        this.termIndexer = termIndexer;
+    }
+
+    /**
+     * Parses the expression.
+     *
+     * @param expression  Expression to parse.
+     * @param termIndexer Function that registers a term and returns its index.
+     * @return parsed {@link ContentExpression}.
+     * @throws BadRequestException if the expression is malformed.
+     */
+    public static ContentExpression parse(String expression, ToIntFunction<String> termIndexer) {
+        ContentExpressionParser parser = new ContentExpressionParser(expression, termIndexer);
+        if (parser.tokens.isEmpty()) {
+            throw parser.error();
+        }
+        ContentExpression result = parser.parseOr();
+        if (parser.position != parser.tokens.size()) {
+            throw parser.error();
+        }
+        return result;
+    }
+
+    private ContentExpression parseOr() {
+        List<ContentExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (peekKeyword(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.getFirst() : new ContentExpression.Or(List.copyOf(operands));
+    }
+
+    private ContentExpression parseAnd() {
+        List<ContentExpression> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (position < tokens.size() && !peekKeyword(OR) && tokens.get(position).type() != TokenType.CLOSE) {
+            if (peekKeyword(AND)) {
+                position++;
+            }
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.getFirst() : new ContentExpression.And(List.copyOf(operands));
+    }
+
+    private ContentExpression parseNot() {
+        if (peekKeyword(NOT)) {
+            position++;
+            return new ContentExpression.Not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private ContentExpression parsePrimary() {
+        if (position >= tokens.size()) {
+            throw error();
+        }
+        Token token = tokens.get(position++);
+        return switch (token.type()) {
+            case OPEN -> {
+                ContentExpression inner = parseOr();
+                if (position >= tokens.size() || tokens.get(position).type() != TokenType.CLOSE) {
+                    throw error();
+                }
+                position++;
+                yield inner;
+            }
+            case WORD -> {
+                if (isKeyword(token)) {
+                    throw error();
+                }
+                yield new ContentExpression.Term(termIndexer.applyAsInt(token.text()));
+            }
+            case QUOTED -> new ContentExpression.Term(termIndexer.applyAsInt(token.text()));
+            case CLOSE -> throw error();
+        };
+    }
+
+    private boolean peekKeyword(String keyword) {
+        return position < tokens.size()
+            && tokens.get(position).type() == TokenType.WORD
+            && tokens.get(position).text().equalsIgnoreCase(keyword);
+    }
+
+    private static boolean isKeyword(Token token) {
+        return token.text().equalsIgnoreCase(AND) || token.text().equalsIgnoreCase(OR)
+            || token.text().equalsIgnoreCase(NOT);
+    }
+
+    private BadRequestException error() {
+        return new BadRequestException(String.format(ErrorMessage.INVALID_CONTENT_EXPRESSION, source));
+    }
+
+    private List<Token> tokenize(String expression) {
+        List<Token> result = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                result.add(new Token(TokenType.OPEN, "("));
+                i++;
+            } else if (c == ')') {
+                result.add(new Token(TokenType.CLOSE, ")"));
+                i++;
+            } else if (c == '"') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (i < expression.length() && expression.charAt(i) != '"') {
+                    if (expression.charAt(i) == '\\' && i + 1 < expression.length()) {
+                        i++;
+                    }
+                    text.append(expression.charAt(i++));
+                }
+                if (i >= expression.length() || text.isEmpty()) {
+                    throw error();
+                }
+                i++;
+                result.add(new Token(TokenType.QUOTED, text.toString()));
+            } else {
+                int start = i;
+                while (i < expression.length() && !Character.isWhitespace(expression.charAt(i))
+                    && "()\"".indexOf(expression.charAt(i)) < 0) {
+                    i++;
+                }
+                result.add(new Token(TokenType.WORD, expression.substring(start, i)));
+            }
+        }
+        return result;
+    }
+
+    private enum TokenType {
+        OPEN, CLOSE, WORD, QUOTED
+    }
+
+    private record Token(TokenType type, String text) {
+    }
+}
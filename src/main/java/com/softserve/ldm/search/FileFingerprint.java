@@ -0,0 +1,67 @@
+package com.softserve.ldm.search;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32;
+
+/**
+ * Identity and version of a log file.
+ * <p>
+ * The identity is the file system key (inode) when the platform provides one, so a file keeps its identity
+ * when it is renamed by log rotation; otherwise the absolute path is used. Size and modification time
+ * tell whether the file changed since it was last seen.
+ * </p>
+ *
+ * @param identity     Stable identity of the file.
+ * @param size         File size in bytes.
+ * @param lastModified Last modification time in milliseconds.
+ */
+public record FileFingerprint(String identity, long size, long lastModified) {
+    /**
+     * Number of leading bytes used by {@link #headChecksum} to detect files that were rewritten in place.
+     */
+    public static final int HEAD_LENGTH = 1024;
+
+    /**
+     * Reads the fingerprint of a file.
+     *
+     * @param path Path of the file.
+     * @return {@link FileFingerprint} of the file.
+     * @throws IOException if the attributes cannot be read.
+     */
+    public static FileFingerprint of(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Object fileKey = attributes.fileKey();
+        String identity = fileKey != null ? fileKey.toString() : path.toAbsolutePath().normalize().toString();
+        return new FileFingerprint(identity, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    /**
+     * Tells whether the other fingerprint describes the same, unchanged file.
+     *
+     * @param other Fingerprint to compare with.
+     * @return true if identity, size and modification time are equal.
+     */
+    public boolean isUnchanged(FileFingerprint other) {
+        return equals(other);
+    }
+
+    /**
+     * Computes a checksum of the first {@code length} bytes of the file.
+     *
+     * @param path   Path of the file.
+     * @param length Number of bytes to hash.
+     * @return CRC32 of the leading bytes.
+     * @throws IOException if the file cannot be read.
+     */
+    public static long headChecksum(Path path, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(path)) {
+            crc.update(in.readNBytes(length));
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,237 @@
+package com.softserve.ldm.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.softserve.ldm.config.LdmProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of per-file analysis states keyed by {@link FileFingerprint} identity.
+ * <p>
+ * Each state remembers how far the file was scanned. When the file only grew, the next request resumes
+ * from that offset and reads just the appended bytes; when it was truncated or rewritten, the state is
+ * rebuilt from scratch. Requests for the same file and analyzer are serialized, different files are
+ * processed concurrently.
+ * </p>
+ * <p>
+ * The cache is bounded by size and evicted with Caffeine's W-TinyLFU policy. Every update is counted as
+ * reused (file unchanged, nothing read), resumed (file grew, only the tail read) or rebuilt (new, evicted
+ * or rewritten file), see {@link #stats()}.
+ * </p>
+ */
+@Component
+public class FileStateCache {
+    private final Cache<StateKey, Entry> cache;
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder resumed = new LongAdder();
+    private final LongAdder rebuilt = new LongAdder();
+
+    public FileStateCache(LdmProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getLogs().getStateCacheSize())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Brings the state of a file up to date and reads a result from it.
+     *
+     * @param path         Path of the file.
+     * @param analyzer     Key of the analyzer; different analyzers of the same file have independent states.
+     * @param stateFactory Creates an empty state.
+     * @param scanner      Feeds the unread part of the file into the state.
+     * @param reader       Extracts the result from the state; called while the state is locked.
+     * @param <S>          Type of the state.
+     * @param <R>          Type of the result.
+     * @return {@link ScanOutcome} with the result and the number of bytes read by this call.
+     * @throws IOException if the file cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, R> ScanOutcome<R> update(Path path, String analyzer, Supplier<S> stateFactory,
+                                        StateScanner<S> scanner, Function<S, R> reader) throws IOException {
+        FileFingerprint fingerprint = FileFingerprint.of(path);
+        Entry entry = cache.get(new StateKey(fingerprint.identity(), analyzer), key -> new Entry());
+
+        entry.lock.lock();
+        try {
+            if (entry.state == null || !entry.canResume(fingerprint, path)) {
+                entry.reset(stateFactory.get());
+                rebuilt.increment();
+            } else if (fingerprint.isUnchanged(entry.fingerprint)) {
+                reused.increment();
+            } else {
+                resumed.increment();
+            }
+
+            long scannedBytes = 0;
+            if (!fingerprint.isUnchanged(entry.fingerprint)) {
+                try (InputStream in = LogFiles.newInputStream(path)) {
+                    in.skipNBytes(entry.offset);
+                    long newOffset = scanner.scan((S) entry.state, in, entry.offset);
+                    // Compressed files are always decompressed from the start.
+                    scannedBytes = LogFiles.isCompressed(path) ? fingerprint.size() : fingerprint.size() - entry.offset;
+                    entry.offset = newOffset;
+                } catch (IOException | RuntimeException e) {
+                    // A partially updated state cannot be resumed safely.
+                    entry.state = null;
+                    throw e;
+                }
+                entry.fingerprint = fingerprint;
+                entry.headLength = (int) Math.min(FileFingerprint.HEAD_LENGTH, fingerprint.size());
+                entry.headChecksum = FileFingerprint.headChecksum(path, entry.headLength);
+            }
+
+            return new ScanOutcome<>(reader.apply((S) entry.state), scannedBytes);
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns usage statistics of the cache since startup.
+     *
+     * @return {@link StateCacheStats}.
+     */
+    public StateCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new StateCacheStats(reused.sum(), resumed.sum(), rebuilt.sum(), stats.evictionCount(),
+            cache.estimatedSize());
+    }
+
+    /**
+     * Drops all cached states.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Drops the states of a file, e.g. before it is deleted.
+     *
+     * @param fingerprint Fingerprint of the file.
+     */
+    public void invalidate(FileFingerprint fingerprint) {
+        cache.asMap().keySet().removeIf(key -> key.identity().equals(fingerprint.identity()));
+    }
+
+    /**
+     * Moves the states of a file to a copy with the same content, e.g. its compressed version, so the copy
+     * does not have to be scanned again. Only states that are up to date with the source are moved; the
+     * others are dropped.
+     *
+     * @param source Fingerprint of the source file taken when the copy was made.
+     * @param target Path of the copy.
+     * @throws IOException if the copy cannot be read.
+     */
+    public void transfer(FileFingerprint source, Path target) throws IOException {
+        FileFingerprint targetFingerprint = FileFingerprint.of(target);
+        for (StateKey key : List.copyOf(cache.asMap().keySet())) {
+            if (!key.identity().equals(source.identity())) {
+                continue;
+            }
+            Entry entry = cache.asMap().remove(key);
+            if (entry == null) {
+                continue;
+            }
+            entry.lock.lock();
+            try {
+                if (entry.state != null && source.isUnchanged(entry.fingerprint)) {
+                    entry.fingerprint = targetFingerprint;
+                    cache.put(new StateKey(targetFingerprint.identity(), key.analyzer()), entry);
+                }
+            } finally {
+                entry.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Feeds file content into a state.
+     *
+     * @param <S> Type of the state.
+     */
+    @FunctionalInterface
+    public interface StateScanner<S> {
+        /**
+         * Scans the stream into the state.
+         *
+         * @param state  State to update.
+         * @param in     Stream positioned at {@code offset}.
+         * @param offset Offset of the first stream byte within the file.
+         * @return offset from which the next scan should resume.
+         * @throws IOException if reading fails.
+         */
+        long scan(S state, InputStream in, long offset) throws IOException;
+    }
+
+    /**
+     * Result read from a state together with the cost of bringing it up to date.
+     *
+     * @param result       Result produced by the reader.
+     * @param scannedBytes Number of bytes read from the file by this call.
+     * @param <R>          Type of the result.
+     */
+    public record ScanOutcome<R>(R result, long scannedBytes) {
+    }
+
+    /**
+     * Usage statistics of the cache.
+     *
+     * @param reused        Updates answered from an unchanged state without reading the file.
+     * @param resumed       Updates that only read the bytes appended since the previous update.
+     * @param rebuilt       Updates that had to read the file from the beginning.
+     * @param evictions     States evicted because of the size bound.
+     * @param estimatedSize Approximate number of cached states.
+     */
+    public record StateCacheStats(long reused, long resumed, long rebuilt, long evictions, long estimatedSize) {
+        /**
+         * Share of updates that did not read the file at all.
+         *
+         * @return hit ratio between 0 and 1; 1 if there were no updates.
+         */
+        public double hitRatio() {
+            long total = reused + resumed + rebuilt;
+            return total == 0 ? 1.0 : (double) reused / total;
+        }
+    }
+
+    private record StateKey(String identity, String analyzer) {
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Object state;
+        private long offset;
+        private FileFingerprint fingerprint;
+        private int headLength;
+        private long headChecksum;
+
+        private void reset(Object newState) {
+            state = newState;
+            offset = 0;
+            fingerprint = null;
+            headLength = 0;
+            headChecksum = 0;
+        }
+
+        private boolean canResume(FileFingerprint current, Path path) throws IOException {
+            if (fingerprint == null || current.isUnchanged(fingerprint)) {
+                return true;
+            }
+            if (current.size() < offset || current.size() < headLength) {
+                return false;
+            }
+            return FileFingerprint.headChecksum(path, headLength) == headChecksum;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.softserve.ldm.search;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.softserve.ldm.dto.JsonFieldFilterDto;
+import com.softserve.ldm.dto.JsonFieldOperator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates {@link JsonFieldFilterDto} conditions on JSON log lines with a streaming {@link JsonParser}.
+ * <p>
+ * The referenced field paths are compiled into a trie. While a line is parsed, fields outside the trie are
+ * skipped with {@link JsonParser#skipChildren()} and only the values of referenced fields are read, so no
+ * object tree is ever built. Lines that are not JSON objects do not match.
+ * </p>
+ */
+public final class JsonFieldMatcher {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final List<JsonFieldFilterDto> filters;
+    private final BigDecimal[] numericValues;
+    private final PathNode root = new PathNode();
+
+    private JsonFieldMatcher(List<JsonFieldFilterDto> filters) {
+        this.filters = List.copyOf(filters);
+        this.numericValues = new BigDecimal[filters.size()];
+        for (int i = 0; i < filters.size(); i++) {
+            JsonFieldFilterDto filter = filters.get(i);
+            PathNode node = root;
+            for (String name : filter.field().split("\\.")) {
+                node = node.children.computeIfAbsent(name, key -> new PathNode());
+            }
+            node.addFilter(i);
+            numericValues[i] = parseNumber(filter.value());
+        }
+    }
+
+    /**
+     * Compiles the filters.
+     *
+     * @param filters Filters that must all hold for a line. Can be null.
+     * @return compiled {@link JsonFieldMatcher}, or null if there are no filters.
+     */
+    public static JsonFieldMatcher compile(List<JsonFieldFilterDto> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return null;
+        }
+        return new JsonFieldMatcher(filters);
+    }
+
+    /**
+     * Tells whether the line is a JSON object satisfying every filter.
+     *
+     * @param buffer Line bytes.
+     * @param from   Start index, inclusive.
+     * @param to     End index, exclusive.
+     * @return true if all filters hold.
+     */
+    public boolean matches(byte[] buffer, int from, int to) {
+        int start = from;
+        while (start < to && (buffer[start] == ' ' || buffer[start] == '\t')) {
+            start++;
+        }
+        if (start == to || buffer[start] != '{') {
+            return false;
+        }
+
+        boolean[] present = new boolean[filters.size()];
+        boolean[] satisfied = new boolean[filters.size()];
+        try (JsonParser parser = JSON_FACTORY.createParser(buffer, start, to - start)) {
+            parser.nextToken();
+            readObject(parser, root, present, satisfied);
+        } catch (IOException e) {
+            return false;
+        }
+
+        for (int i = 0; i < filters.size(); i++) {
+            JsonFieldOperator operator = filters.get(i).operator();
+            boolean holds = switch (operator) {
+                case EXISTS -> present[i];
+                case NOT_EXISTS -> !present[i];
+                case NE -> !present[i] || satisfied[i];
+                default -> present[i] && satisfied[i];
+            };
+            if (!holds) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readObject(JsonParser parser, PathNode node, boolean[] present, boolean[] satisfied)
+        throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            PathNode child = node.children.get(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+            for (int filterIndex : child.filterIndexes) {
+                present[filterIndex] = true;
+                satisfied[filterIndex] = evaluate(filterIndex, parser, value);
+            }
+            if (value == JsonToken.START_OBJECT && !child.children.isEmpty()) {
+                readObject(parser, child, present, satisfied);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private boolean evaluate(int filterIndex, JsonParser parser, JsonToken value) throws IOException {
+        JsonFieldFilterDto filter = filters.get(filterIndex);
+        if (!filter.operator().requiresValue() || value.isStructStart()) {
+            return !filter.operator().requiresValue();
+        }
+
+        int comparison;
+        if (value.isNumeric() && numericValues[filterIndex] != null) {
+            comparison = parser.getDecimalValue().compareTo(numericValues[filterIndex]);
+        } else {
+            comparison = parser.getText().compareTo(filter.value());
+        }
+
+        return switch (filter.operator()) {
+            case EQ -> comparison == 0;
+            case NE -> comparison != 0;
+            case GT -> comparison > 0;
+            case GTE -> comparison >= 0;
+            case LT -> comparison < 0;
+            case LTE -> comparison <= 0;
+            default -> false;
+        };
+    }
+
+    private static BigDecimal parseNumber(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class PathNode {
+        private final Map<String, PathNode> children = new HashMap<>();
+        private int[] filterIndexes = new int[0];
+
+        private void addFilter(int filterIndex) {
+            int[] extended = Arrays.copyOf(filterIndexes, filterIndexes.length + 1);
+            extended[filterIndexes.length] = filterIndex;
+            filterIndexes = extended;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.softserve.ldm.search;
+
+import com.softserve.ldm.governor.ScanContext;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Single-pass, allocation-free line splitter over raw bytes.
+ * <p>
+ * Lines are handed to a {@link LineVisitor} as slices of a reusable buffer, so callers can match on bytes
+ * and only decode the lines they actually need. Every chunk read is reported to {@link ScanContext}, so scans
+ * started through the scan governor are throttled and can be cancelled.
+ * </p>
+ */
+@UtilityClass
+public class LineScanner {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int MAX_LINE_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * Splits the stream into lines and feeds them to the visitor until the stream ends or the visitor
+     * asks to stop.
+     *
+     * @param in               Stream positioned at {@code startOffset}.
+     * @param startOffset      Offset of the first stream byte within the file, used to report line offsets.
+     * @param visitor          {@link LineVisitor} receiving every line.
+     * @param emitPartialLine  Whether a trailing line without a terminator should be passed to the visitor.
+     * @return offset right after the last complete line that was visited; scanning can later resume from it.
+     * @throws IOException if reading from the stream fails.
+     */
+    public static long scan(InputStream in, long startOffset, LineVisitor visitor, boolean emitPartialLine)
+        throws IOException {
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        int fill = 0;
+        long bufferOffset = startOffset;
+
+        while (true) {
+            if (fill == buffer.length) {
+                if (buffer.length >= MAX_LINE_LENGTH) {
+                    // Pathologically long line: hand it over in pieces rather than growing forever.
+                    if (!visitor.visitLine(buffer, 0, fill, bufferOffset)) {
+                        return bufferOffset + fill;
+                    }
+                    bufferOffset += fill;
+                    fill = 0;
+                } else {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+
+            int read = in.read(buffer, fill, buffer.length - fill);
+            if (read < 0) {
+                if (fill > 0 && emitPartialLine) {
+                    visitor.visitLine(buffer, 0, stripCarriageReturn(buffer, 0, fill), bufferOffset);
+                }
+                return bufferOffset;
+            }
+            ScanContext.onRead(read);
+
+            int scanFrom = fill;
+            fill += read;
+            int lineStart = 0;
+            for (int i = scanFrom; i < fill; i++) {
+                if (buffer[i] != '\n') {
+                    continue;
+                }
+                int lineEnd = stripCarriageReturn(buffer, lineStart, i);
+                if (!visitor.visitLine(buffer, lineStart, lineEnd, bufferOffset + lineStart)) {
+                    return bufferOffset + i + 1;
+                }
+                lineStart = i + 1;
+            }
+
+            if (lineStart > 0) {
+                System.arraycopy(buffer, lineStart, buffer, 0, fill - lineStart);
+                fill -= lineStart;
+                bufferOffset += lineStart;
+            }
+        }
+    }
+
+    private static int stripCarriageReturn(byte[] buffer, int from, int to) {
+        return to > from && buffer[to - 1] == '\r' ? to - 1 : to;
+    }
+}
@@ -0,0 +1,18 @@
+package com.softserve.ldm.search;
+
+/**
+ * Callback invoked by {@link LineScanner} for every line of a scanned file.
+ */
+@FunctionalInterface
+public interface LineVisitor {
+    /**
+     * Receives a single line without its line terminator.
+     *
+     * @param buffer Buffer holding the line bytes. Only valid for the duration of the call.
+     * @param from   Start index of the line, inclusive.
+     * @param to     End index of the line, exclusive.
+     * @param offset Byte offset of the first line byte within the scanned file.
+     * @return true to continue scanning, false to stop after this line.
+     */
+    boolean visitLine(byte[] buffer, int from, int to, long offset);
+}
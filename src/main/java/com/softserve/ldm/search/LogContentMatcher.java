@@ -0,0 +1,322 @@
+package com.softserve.ldm.search;
+
+import com.softserve.ldm.dto.ContentQueryMode;
+import com.softserve.ldm.dto.LogFileFilterDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiled form of the content part of a {@link LogFileFilterDto}.
+ * <p>
+ * The plain query, the term list and the terms of the boolean expression are merged into one
+ * {@link AhoCorasickAutomaton}, so a file is read exactly once no matter how many terms are searched.
+ * The log level is looked up case-sensitively in the same pass. In {@link ContentQueryMode#REGEX} mode the
+ * query is matched with a cached {@link CompiledRegex} whose literal prefilter keeps most lines away from the
+ * regex engine. JSON field filters are evaluated on the same lines with a streaming {@link JsonFieldMatcher}.
+ * </p>
+ */
+public final class LogContentMatcher {
+    private final List<String> terms;
+    private final int queryTermIndex;
+    private final BitSet anyOfTerms;
+    private final ContentExpression expression;
+    private final CompiledRegex regex;
+    private final JsonFieldMatcher jsonMatcher;
+    private final AhoCorasickAutomaton termAutomaton;
+    private final AhoCorasickAutomaton logLevelAutomaton;
+    private final String cacheKey;
+
+    private LogContentMatcher(List<String> terms, int queryTermIndex, BitSet anyOfTerms,
+                              ContentExpression expression, CompiledRegex regex, JsonFieldMatcher jsonMatcher,
+                              String logLevel, String cacheKey) {
+        this.terms = List.copyOf(terms);
+        this.queryTermIndex = queryTermIndex;
+        this.anyOfTerms = anyOfTerms;
+        this.expression = expression;
+        this.regex = regex;
+        this.jsonMatcher = jsonMatcher;
+        this.termAutomaton = terms.isEmpty() ? null : AhoCorasickAutomaton.compile(this.terms, true);
+        this.logLevelAutomaton = logLevel == null ? null : AhoCorasickAutomaton.compile(List.of(logLevel), false);
+        this.cacheKey = cacheKey;
+    }
+
+    /**
+     * Compiles the content criteria of the given filter.
+     *
+     * @param filterDto {@link LogFileFilterDto} to compile. Can be null.
+     * @return compiled {@link LogContentMatcher}; {@link #isEmpty()} is true when there is nothing to match.
+     */
+    public static LogContentMatcher compile(LogFileFilterDto filterDto) {
+        List<String> terms = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        if (filterDto == null) {
+            return new LogContentMatcher(terms, -1, new BitSet(), null, null, null, null, "");
+        }
+
+        boolean hasQuery = filterDto.fileContentQuery() != null && !filterDto.fileContentQuery().isEmpty();
+        boolean regexMode = filterDto.fileContentMode() == ContentQueryMode.REGEX;
+        CompiledRegex regex = hasQuery && regexMode ? CompiledRegex.of(filterDto.fileContentQuery()) : null;
+        int queryTermIndex = hasQuery && !regexMode ? register(filterDto.fileContentQuery(), terms, indexes) : -1;
+
+        BitSet anyOfTerms = new BitSet();
+        if (filterDto.fileContentTerms() != null) {
+            filterDto.fileContentTerms().stream()
+                .filter(term -> term != null && !term.isEmpty())
+                .forEach(term -> anyOfTerms.set(register(term, terms, indexes)));
+        }
+
+        ContentExpression expression = filterDto.fileContentExpression() == null
+            || filterDto.fileContentExpression().isBlank()
+            ? null
+            : ContentExpressionParser.parse(filterDto.fileContentExpression(),
+                term -> register(term, terms, indexes));
+
+        String logLevel = filterDto.logLevel() == null ? null : filterDto.logLevel().toString();
+
+        JsonFieldMatcher jsonMatcher = JsonFieldMatcher.compile(filterDto.jsonFieldFilters());
+
+        return new LogContentMatcher(terms, queryTermIndex, anyOfTerms, expression, regex, jsonMatcher, logLevel,
+            normalize(filterDto, hasQuery, regexMode));
+    }
+
+    /**
+     * Tells whether the filter has no content criteria, in which case files do not need to be read at all.
+     *
+     * @return true if there is nothing to match.
+     */
+    public boolean isEmpty() {
+        return termAutomaton == null && regex == null && jsonMatcher == null && logLevelAutomaton == null;
+    }
+
+    /**
+     * Reads the stream once and collects every term, the regex and JSON field matches and the log level
+     * occurrence.
+     *
+     * @param in Stream with the log file content.
+     * @return {@link ContentScanResult} for the stream.
+     * @throws IOException if reading fails.
+     */
+    public ContentScanResult scan(InputStream in) throws IOException {
+        ScanState state = newState();
+        scan(state, in, 0);
+        return state.toResult();
+    }
+
+    /**
+     * Creates an empty incremental scan state, see {@link #scan(ScanState, InputStream, long)}.
+     *
+     * @return new {@link ScanState}.
+     */
+    public ScanState newState() {
+        return new ScanState();
+    }
+
+    /**
+     * Continues a scan from the given offset. Everything found so far is kept, so a file that grew only
+     * needs its appended bytes to be read.
+     *
+     * @param state  State of the previous scans of the same file.
+     * @param in     Stream positioned at {@code offset}.
+     * @param offset Offset of the first stream byte within the file.
+     * @return offset from which the next scan should resume.
+     * @throws IOException if reading fails.
+     */
+    public long scan(ScanState state, InputStream in, long offset) throws IOException {
+        if (state.isComplete()) {
+            return offset;
+        }
+        return LineScanner.scan(in, offset, state, true);
+    }
+
+    /**
+     * Creates a filter that applies the content criteria to single lines, see {@link LineFilter}.
+     *
+     * @return new {@link LineFilter}.
+     */
+    public LineFilter newLineFilter() {
+        return new LineFilter();
+    }
+
+    /**
+     * Returns a key identifying the content criteria, used to share scan states between equal filters.
+     * Criteria that are matched case-insensitively are lower-cased and duplicate terms are dropped; the term
+     * order is kept because it determines the term indexes stored in a {@link ScanState}.
+     *
+     * @return normalized key of the criteria.
+     */
+    public String cacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * Evaluates all content criteria against a scan result.
+     *
+     * @param result {@link ContentScanResult} of a file.
+     * @return true if the file satisfies the content criteria.
+     */
+    public boolean matches(ContentScanResult result) {
+        BitSet found = result.foundTerms();
+        return (queryTermIndex < 0 || found.get(queryTermIndex))
+            && (anyOfTerms.isEmpty() || anyOfTerms.intersects(found))
+            && (expression == null || expression.evaluate(found))
+            && result.regexMatched()
+            && result.jsonMatched()
+            && result.logLevelFound();
+    }
+
+    /**
+     * Resolves the terms found in a file.
+     *
+     * @param result {@link ContentScanResult} of a file.
+     * @return found terms, in the order they were specified; null if no terms were searched.
+     */
+    public List<String> matchedTerms(ContentScanResult result) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+        return result.foundTerms().stream().mapToObj(terms::get).toList();
+    }
+
+    private static String normalize(LogFileFilterDto filterDto, boolean hasQuery, boolean regexMode) {
+        StringBuilder key = new StringBuilder();
+        String query = !hasQuery ? null
+            : regexMode ? filterDto.fileContentQuery() : filterDto.fileContentQuery().toLowerCase(Locale.ROOT);
+        appendPart(key, regexMode ? "regex" : "text", query);
+        appendPart(key, "terms", filterDto.fileContentTerms() == null ? null
+            : filterDto.fileContentTerms().stream()
+                .filter(term -> term != null && !term.isEmpty())
+                .map(term -> term.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList()
+                .toString());
+        appendPart(key, "expression", filterDto.fileContentExpression() == null
+            || filterDto.fileContentExpression().isBlank() ? null : filterDto.fileContentExpression().trim());
+        appendPart(key, "json", filterDto.jsonFieldFilters() == null || filterDto.jsonFieldFilters().isEmpty()
+            ? null : filterDto.jsonFieldFilters().toString());
+        appendPart(key, "level", filterDto.logLevel() == null ? null : filterDto.logLevel().toString());
+        return key.toString();
+    }
+
+    private static void appendPart(StringBuilder key, String name, String value) {
+        if (value != null) {
+            // Length-prefixed so that values containing separators cannot collide.
+            key.append(name).append(':').append(value.length()).append(':').append(value).append(';');
+        }
+    }
+
+    private static int register(String term, List<String> terms, Map<String, Integer> indexes) {
+        return indexes.computeIfAbsent(term.toLowerCase(Locale.ROOT), key -> {
+            terms.add(term);
+            return terms.size() - 1;
+        });
+    }
+
+    /**
+     * Mutable progress of a scan, which can be resumed when the file grows.
+     */
+    public final class ScanState implements LineVisitor {
+        private final BitSet found = new BitSet(terms.size());
+        private final CompiledRegex.LineMatcher lineMatcher = regex == null ? null : regex.newLineMatcher();
+        private boolean regexMatched = regex == null;
+        private boolean jsonMatched = jsonMatcher == null;
+        private boolean logLevelFound = logLevelAutomaton == null;
+
+        private ScanState() {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean visitLine(byte[] buffer, int from, int to, long offset) {
+            if (termAutomaton != null && found.cardinality() < terms.size()) {
+                termAutomaton.match(buffer, from, to, found);
+            }
+            if (!regexMatched) {
+                regexMatched = lineMatcher.find(buffer, from, to);
+            }
+            if (!jsonMatched) {
+                jsonMatched = jsonMatcher.matches(buffer, from, to);
+            }
+            if (!logLevelFound) {
+                logLevelFound = logLevelAutomaton.containsAny(buffer, from, to);
+            }
+            return !isComplete();
+        }
+
+        /**
+         * Tells whether every criterion has been found, so further content cannot change the result.
+         *
+         * @return true if scanning can stop.
+         */
+        public boolean isComplete() {
+            return found.cardinality() == terms.size() && regexMatched && jsonMatched && logLevelFound;
+        }
+
+        /**
+         * Creates an immutable result from the current progress.
+         *
+         * @return {@link ContentScanResult}.
+         */
+        public ContentScanResult toResult() {
+            return new ContentScanResult((BitSet) found.clone(), regexMatched, jsonMatched, logLevelFound);
+        }
+    }
+
+    /**
+     * Per-scan filter selecting the lines that satisfy all content criteria on their own: the query, one
+     * of the terms and the expression are evaluated on the terms of the line, and the regex, the JSON field
+     * filters and the log level must match the same line. Filters are not thread-safe.
+     */
+    public final class LineFilter {
+        private final BitSet found = new BitSet(terms.size());
+        private final CompiledRegex.LineMatcher lineMatcher = regex == null ? null : regex.newLineMatcher();
+
+        private LineFilter() {
+        }
+
+        /**
+         * Tells whether a line satisfies the content criteria. Every line matches an empty filter.
+         *
+         * @param buffer Line bytes.
+         * @param from   Start index, inclusive.
+         * @param to     End index, exclusive.
+         * @return true if the line matches.
+         */
+        public boolean matches(byte[] buffer, int from, int to) {
+            if (logLevelAutomaton != null && !logLevelAutomaton.containsAny(buffer, from, to)) {
+                return false;
+            }
+            if (termAutomaton != null) {
+                found.clear();
+                termAutomaton.match(buffer, from, to, found);
+                if ((queryTermIndex >= 0 && !found.get(queryTermIndex))
+                    || (!anyOfTerms.isEmpty() && !anyOfTerms.intersects(found))
+                    || (expression != null && !expression.evaluate(found))) {
+                    return false;
+                }
+            }
+            return (lineMatcher == null || lineMatcher.find(buffer, from, to))
+                && (jsonMatcher == null || jsonMatcher.matches(buffer, from, to));
+        }
+    }
+
+    /**
+     * Outcome of a single pass over a log file.
+     *
+     * @param foundTerms    Indexes of the terms found in the file.
+     * @param regexMatched  Whether a line matched the regex; true if no regex was requested.
+     * @param jsonMatched   Whether a JSON line satisfied all field filters; true if no filters were requested.
+     * @param logLevelFound Whether the requested log level occurs in the file; true if no level was requested.
+     */
+    public record ContentScanResult(BitSet foundTerms, boolean regexMatched, boolean jsonMatched,
+                                    boolean logLevelFound) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.softserve.ldm.search;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens log files for reading, decompressing gzip-compressed files on the fly.
+ * <p>
+ * Offsets of compressed files refer to the decompressed content, so line indexes and scan states built
+ * before a file was compressed stay valid afterwards.
+ * </p>
+ */
+@UtilityClass
+public class LogFiles {
+    public static final String GZIP_EXTENSION = ".gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Tells whether the file is gzip-compressed, judging by its extension.
+     *
+     * @param path Path of the file.
+     * @return true for {@code .gz} files.
+     */
+    public static boolean isCompressed(Path path) {
+        Path name = path.getFileName();
+        return name != null && name.toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Opens the decompressed content of a log file.
+     *
+     * @param path Path of the file.
+     * @return {@link InputStream} of the content.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static InputStream newInputStream(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        if (!isCompressed(path)) {
+            return in;
+        }
+        try {
+            return new GZIPInputStream(in, GZIP_BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the decompressed content of a log file as UTF-8 text.
+     *
+     * @param path Path of the file.
+     * @return content of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    public static String readString(Path path) throws IOException {
+        if (!isCompressed(path)) {
+            return Files.readString(path);
+        }
+        try (InputStream in = newInputStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.softserve.ldm.search;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Extracts literal substrings that every match of a regular expression must contain.
+ * <p>
+ * The result is a set of alternatives: a line can only match the regex if it contains at least one of them.
+ * The analysis is conservative, so constructs it does not understand (classes, backreferences, lookarounds,
+ * escapes other than quoted metacharacters) simply break literal runs instead of producing wrong literals.
+ * An empty result means that no prefilter can be applied.
+ * </p>
+ */
+@UtilityClass
+public class RegexLiteralExtractor {
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    /**
+     * Computes the best set of required literals of the regex.
+     *
+     * @param regex Regular expression in {@link java.util.regex.Pattern} syntax.
+     * @return literals of which at least one occurs in every match; empty if none could be derived.
+     */
+    public static Set<String> requiredLiterals(String regex) {
+        if (regex.contains("(?") && hasUnsupportedFlags(regex)) {
+            return Set.of();
+        }
+        Parser parser = new Parser(regex);
+        Set<String> result = parser.parseAlternation();
+        return parser.failed || parser.position < regex.length() ? Set.of() : result;
+    }
+
+    /**
+     * Tells whether the regex enables case-insensitive matching with an inline flag.
+     *
+     * @param regex Regular expression.
+     * @return true if {@code (?i)} is present.
+     */
+    public static boolean isCaseInsensitive(String regex) {
+        int index = regex.indexOf("(?");
+        while (index >= 0) {
+            int end = index + 2;
+            while (end < regex.length() && Character.isLetter(regex.charAt(end))) {
+                if (regex.charAt(end) == 'i') {
+                    return true;
+                }
+                end++;
+            }
+            index = regex.indexOf("(?", index + 2);
+        }
+        return false;
+    }
+
+    private static boolean hasUnsupportedFlags(String regex) {
+        // Comments mode changes the meaning of whitespace and '#', and Unicode case folding is not mirrored
+        // by the byte prefilter.
+        return regex.matches("(?s).*\\(\\?[a-zA-Z]*[xuU].*");
+    }
+
+    private static final class Parser {
+        private final String regex;
+        private int position;
+        private boolean failed;
+
+        private Parser(String regex) {
+            this.regex = regex;
+        }
+
+        /**
+         * Parses alternatives until the end of the input or a closing parenthesis.
+         */
+        private Set<String> parseAlternation() {
+            List<Set<String>> branches = new ArrayList<>();
+            branches.add(parseSequence());
+            while (position < regex.length() && regex.charAt(position) == '|') {
+                position++;
+                branches.add(parseSequence());
+            }
+            if (branches.size() == 1) {
+                return branches.getFirst();
+            }
+            Set<String> union = new LinkedHashSet<>();
+            for (Set<String> branch : branches) {
+                if (branch.isEmpty()) {
+                    return Set.of();
+                }
+                union.addAll(branch);
+            }
+            return union;
+        }
+
+        /**
+         * Parses a concatenation and returns its most selective required factor.
+         */
+        private Set<String> parseSequence() {
+            List<Set<String>> factors = new ArrayList<>();
+            StringBuilder run = new StringBuilder();
+
+            while (position < regex.length() && !failed) {
+                char c = regex.charAt(position);
+                if (c == '|' || c == ')') {
+                    break;
+                }
+
+                Set<String> groupFactor = null;
+                String atom = null;
+                if (c == '\\') {
+                    atom = parseEscape(run, factors);
+                    if (atom == null && failed) {
+                        break;
+                    }
+                } else if (c == '(') {
+                    groupFactor = parseGroup();
+                } else if (c == '[') {
+                    skipCharacterClass();
+                } else if (METACHARACTERS.indexOf(c) >= 0 && c != '{') {
+                    // '.', '^', '$' and stray quantifiers do not contribute literals.
+                    position++;
+                } else {
+                    atom = String.valueOf(c);
+                    position++;
+                }
+
+                Quantifier quantifier = parseQuantifier();
+                if (atom != null && quantifier == Quantifier.ONE) {
+                    run.append(atom);
+                    continue;
+                }
+
+                if (atom != null && quantifier == Quantifier.AT_LEAST_ONE) {
+                    run.append(atom);
+                }
+                flush(run, factors);
+                if (groupFactor != null && !groupFactor.isEmpty() && quantifier != Quantifier.OPTIONAL) {
+                    factors.add(groupFactor);
+                }
+            }
+            flush(run, factors);
+
+            return factors.stream()
+                .max(Comparator.comparingInt(Parser::selectivity))
+                .orElse(Set.of());
+        }
+
+        /**
+         * Parses an escape sequence. Quoted metacharacters become literals, {@code \Q...\E} blocks are
+         * appended to the current run, everything else breaks the run.
+         */
+        private String parseEscape(StringBuilder run, List<Set<String>> factors) {
+            if (position + 1 >= regex.length()) {
+                failed = true;
+                return null;
+            }
+            char next = regex.charAt(position + 1);
+            position += 2;
+            if (next == 'Q') {
+                int end = regex.indexOf("\\E", position);
+                String quoted = end < 0 ? regex.substring(position) : regex.substring(position, end);
+                position = end < 0 ? regex.length() : end + 2;
+                if (quoted.isEmpty()) {
+                    return null;
+                }
+                run.append(quoted, 0, quoted.length() - 1);
+                return quoted.substring(quoted.length() - 1);
+            }
+            if (!Character.isLetterOrDigit(next)) {
+                return String.valueOf(next);
+            }
+            if (next == 'x' || next == 'u' || next == 'p' || next == 'P' || next == 'N' || next == 'k'
+                || next == 'c' || next == '0') {
+                failed = true;
+                return null;
+            }
+            flush(run, factors);
+            return null;
+        }
+
+        private Set<String> parseGroup() {
+            position++;
+            boolean lookaround = false;
+            if (regex.startsWith("?", position)) {
+                if (regex.startsWith("?:", position)) {
+                    position += 2;
+                } else if (regex.startsWith("?=", position) || regex.startsWith("?!", position)) {
+                    lookaround = true;
+                    position += 2;
+                } else if (regex.startsWith("?<=", position) || regex.startsWith("?<!", position)) {
+                    lookaround = true;
+                    position += 3;
+                } else if (regex.startsWith("?<", position)) {
+                    int nameEnd = regex.indexOf('>', position);
+                    if (nameEnd < 0) {
+                        failed = true;
+                        return Set.of();
+                    }
+                    position = nameEnd + 1;
+                } else {
+                    // Inline flags such as (?i) or (?i:...).
+                    int flagsEnd = position + 1;
+                    while (flagsEnd < regex.length() && (Character.isLetter(regex.charAt(flagsEnd))
+                        || regex.charAt(flagsEnd) == '-')) {
+                        flagsEnd++;
+                    }
+                    if (flagsEnd < regex.length() && regex.charAt(flagsEnd) == ')') {
+                        position = flagsEnd + 1;
+                        return Set.of();
+                    }
+                    if (flagsEnd >= regex.length() || regex.charAt(flagsEnd) != ':') {
+                        failed = true;
+                        return Set.of();
+                    }
+                    position = flagsEnd + 1;
+                }
+            }
+
+            Set<String> inner = parseAlternation();
+            if (position >= regex.length() || regex.charAt(position) != ')') {
+                failed = true;
+                return Set.of();
+            }
+            position++;
+            return lookaround ? Set.of() : inner;
+        }
+
+        private void skipCharacterClass() {
+            int depth = 0;
+            position++;
+            if (position < regex.length() && regex.charAt(position) == '^') {
+                position++;
+            }
+            if (position < regex.length() && regex.charAt(position) == ']') {
+                position++;
+            }
+            while (position < regex.length()) {
+                char c = regex.charAt(position);
+                if (c == '\\') {
+                    position += 2;
+                    continue;
+                }
+                position++;
+                if (c == '[') {
+                    depth++;
+                } else if (c == ']') {
+                    if (depth == 0) {
+                        return;
+                    }
+                    depth--;
+                }
+            }
+            failed = true;
+        }
+
+        private Quantifier parseQuantifier() {
+            if (position >= regex.length()) {
+                return Quantifier.ONE;
+            }
+            char c = regex.charAt(position);
+            Quantifier quantifier;
+            if (c == '*' || c == '?') {
+                position++;
+                quantifier = Quantifier.OPTIONAL;
+            } else if (c == '+') {
+                position++;
+                quantifier = Quantifier.AT_LEAST_ONE;
+            } else if (c == '{') {
+                int end = regex.indexOf('}', position);
+                if (end < 0) {
+                    failed = true;
+                    return Quantifier.OPTIONAL;
+                }
+                String bounds = regex.substring(position + 1, end);
+                position = end + 1;
+                quantifier = bounds.startsWith("0") || bounds.startsWith(",")
+                    ? Quantifier.OPTIONAL : Quantifier.AT_LEAST_ONE;
+            } else {
+                return Quantifier.ONE;
+            }
+            // Lazy and possessive modifiers do not change which literals are required.
+            if (position < regex.length() && (regex.charAt(position) == '?' || regex.charAt(position) == '+')) {
+                position++;
+            }
+            return quantifier;
+        }
+
+        private static void flush(StringBuilder run, List<Set<String>> factors) {
+            if (!run.isEmpty()) {
+                factors.add(Set.of(run.toString()));
+                run.setLength(0);
+            }
+        }
+
+        private static int selectivity(Set<String> factor) {
+            return factor.stream().mapToInt(String::length).min().orElse(0) * 16 - factor.size();
+        }
+    }
+
+    private enum Quantifier {
+        ONE, OPTIONAL, AT_LEAST_ONE
+    }
+}
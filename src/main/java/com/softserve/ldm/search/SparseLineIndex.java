@@ -0,0 +1,74 @@
+package com.softserve.ldm.search;
+
+import java.util.Arrays;
+
+/**
+ * Sparse index of line start offsets.
+ * <p>
+ * Only the offset of every {@code interval}-th line is stored, so the index of a file with millions of lines
+ * takes a few kilobytes. To reach line N the reader seeks to the nearest checkpoint at or before N and skips
+ * at most {@code interval - 1} lines. The index is a {@link LineVisitor} and is extended incrementally as
+ * the file grows.
+ * </p>
+ */
+public final class SparseLineIndex implements LineVisitor {
+    private final int interval;
+    private long[] checkpoints = new long[64];
+    private int checkpointCount;
+    private long lineCount;
+
+    public SparseLineIndex(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Line index interval must be positive");
+        }
+        this.interval = interval;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean visitLine(byte[] buffer, int from, int to, long offset) {
+        if (lineCount % interval == 0) {
+            if (checkpointCount == checkpoints.length) {
+                checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+            }
+            checkpoints[checkpointCount++] = offset;
+        }
+        lineCount++;
+        return true;
+    }
+
+    /**
+     * Finds the checkpoint from which the given line can be reached.
+     *
+     * @param line Zero-based line number.
+     * @return {@link Checkpoint} at or before the line; the first line of the file for an empty index.
+     */
+    public Checkpoint locate(long line) {
+        if (checkpointCount == 0) {
+            return new Checkpoint(0, 0, lineCount);
+        }
+        int index = (int) Math.min(Math.max(line, 0) / interval, checkpointCount - 1);
+        return new Checkpoint((long) index * interval, checkpoints[index], lineCount);
+    }
+
+    /**
+     * Returns the number of complete lines indexed so far.
+     *
+     * @return number of lines.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Position of an indexed line.
+     *
+     * @param line       Zero-based number of the line.
+     * @param offset     Byte offset at which the line starts.
+     * @param totalLines Number of complete lines in the indexed part of the file.
+     */
+    public record Checkpoint(long line, long offset, long totalLines) {
+    }
+}
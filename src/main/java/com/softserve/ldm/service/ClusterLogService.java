@@ -0,0 +1,35 @@
+package com.softserve.ldm.service;
+
+import com.softserve.ldm.dto.ClusterPageDto;
+import com.softserve.ldm.dto.LogFileFilterDto;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for log requests spanning all instances of a cluster.
+ * <p>
+ * Each instance keeps its own log directories; cluster requests are sent to every peer in parallel and
+ * the answers are merged. Peers that fail or exceed the peer timeout are reported and left out, so a
+ * request returns partial results instead of failing.
+ * </p>
+ */
+public interface ClusterLogService {
+
+    /**
+     * Retrieves a page of the log files of all instances, ordered across instances.
+     * <p>
+     * Every instance is asked for its first {@code (page + 1) * size} files in the requested order, which
+     * is enough to cut the global page out of the merged lists. The filter is applied by every instance,
+     * so content filters search the logs of the whole cluster.
+     * </p>
+     *
+     * @param pageable  {@link Pageable} pagination and sorting information.
+     * @param filterDto {@link LogFileFilterDto} optional filters to apply.
+     * @param secretKey Secret key for authentication, forwarded to the peers.
+     * @return {@link ClusterPageDto} with the page and the outcome per instance.
+     * @throws com.softserve.ldm.exception.exceptions.FunctionalityNotAvailableException if federation is
+     *                                                                                   disabled.
+     * @throws com.softserve.ldm.exception.exceptions.BadRequestException                if the page is deeper
+     *                                                                                   than the window.
+     */
+    ClusterPageDto listLogFiles(Pageable pageable, LogFileFilterDto filterDto, String secretKey);
+}
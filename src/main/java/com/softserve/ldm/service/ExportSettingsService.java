@@ -1,12 +1,26 @@
 package com.softserve.ldm.service;
 
+import com.softserve.ldm.dto.DataSourceStatsDto;
+import com.softserve.ldm.dto.DatabaseSchemaDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.IncrementalExportDto;
 import com.softserve.ldm.dto.PageableAdvancedDto;
+import com.softserve.ldm.dto.SampleExportDto;
+import com.softserve.ldm.dto.SampleMethod;
 import com.softserve.ldm.dto.EnvironmentDto;
+import com.softserve.ldm.dto.SchemaCatalogDto;
+import com.softserve.ldm.dto.SchemaTableDto;
+import com.softserve.ldm.dto.TableBatchExportDto;
 import com.softserve.ldm.dto.TableParamsRequestDto;
+import com.softserve.ldm.dto.TableQueryDto;
+import com.softserve.ldm.dto.TableProfileDto;
+import com.softserve.ldm.dto.TableSampleDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 public interface ExportSettingsService {
@@ -20,7 +34,38 @@ public interface ExportSettingsService {
     TablesMetadataDto getTablesMetadata(String secretKey);
 
     /**
-     * Retrieves paginated rows from the specified database table.
+     * Returns the tables of a schema with their column types and nullability, primary keys, indexes, foreign
+     * keys and approximate sizes. The catalog is cached per schema and refreshed lazily.
+     *
+     * @param schema    Name of the schema; null for the default schema of the connection.
+     * @param secretKey Secret key for authentication.
+     * @return {@link SchemaCatalogDto} with the version identifying its content.
+     */
+    SchemaCatalogDto getSchemaCatalog(String schema, String secretKey);
+
+    /**
+     * Lists the schemas of the database, without its system schemas.
+     *
+     * @param secretKey Secret key for authentication.
+     * @return list of {@link DatabaseSchemaDto} ordered by name.
+     */
+    List<DatabaseSchemaDto> getSchemas(String secretKey);
+
+    /**
+     * Lists one page of the tables of a schema. Only table names are read, so that schemas with many tables
+     * can be browsed without loading their metadata; the qualified names can be passed to the select and
+     * export methods.
+     *
+     * @param schema    Name of the schema.
+     * @param pageable  {@link Pageable} with the page number and size.
+     * @param secretKey Secret key for authentication.
+     * @return {@link PageableAdvancedDto} with the tables of the page ordered by name.
+     */
+    PageableAdvancedDto<SchemaTableDto> getSchemaTables(String schema, Pageable pageable, String secretKey);
+
+    /**
+     * Retrieves paginated rows from the specified database table. Rows are ordered as described for
+     * {@link #selectFromTable(String, TableQueryDto, String, Pageable, String)}.
      *
      * @param tableName Name of the database table.
      * @param pageable  {@link Pageable} object containing pagination and sorting information.
@@ -29,8 +74,47 @@ public interface ExportSettingsService {
      */
     PageableAdvancedDto<Map<String, String>> selectFromTable(String tableName, Pageable pageable, String secretKey);
 
+    /**
+     * Retrieves paginated rows of the specified database table, restricted to the requested columns and to
+     * the rows satisfying all conditions.
+     * <p>
+     * Columns and conditions are validated against the cached table metadata; condition values are bound as
+     * statement parameters, so filtering is done by the database.
+     * </p>
+     *
+     * @param tableName Name of the database table.
+     * @param queryDto  {@link TableQueryDto} with the columns to return and the conditions to apply.
+     * @param pageable  {@link Pageable} object containing pagination information.
+     * @param secretKey Secret key for authentication.
+     * @return {@link PageableAdvancedDto} containing the matching rows as key-value pairs.
+     */
+    PageableAdvancedDto<Map<String, String>> selectFromTable(String tableName, TableQueryDto queryDto,
+                                                             Pageable pageable, String secretKey);
+
+    /**
+     * Retrieves a page of the requested columns of the rows satisfying all conditions, in the requested order.
+     * <p>
+     * Rows are ordered by the sort of the {@code pageable} followed by the primary key, so pages are stable.
+     * Sort columns are validated against the table metadata. A sort that no index serves is flagged in the
+     * result and rejected when more rows match than {@code ldm.export.max-unindexed-sort-rows}. For tables
+     * with a primary key every full page carries a cursor, unless a sort column may be null; passing it back
+     * reads the next page by key instead of by offset, so the cost of a page does not grow with its number.
+     * Pages read after a cursor are not counted: their totals are -1, and the last page has no next cursor.
+     * </p>
+     *
+     * @param tableName Name of the database table.
+     * @param queryDto  {@link TableQueryDto} with the columns to return and the conditions to apply; can be null.
+     * @param cursor    Cursor of the previous page; null to start at the offset of the {@code pageable}.
+     * @param pageable  {@link Pageable} object containing pagination and sorting information.
+     * @param secretKey Secret key for authentication.
+     * @return {@link PageableAdvancedDto} containing the matching rows as key-value pairs.
+     */
+    PageableAdvancedDto<Map<String, String>> selectFromTable(String tableName, TableQueryDto queryDto, String cursor,
+                                                             Pageable pageable, String secretKey);
+
     /**
      * Generates an Excel (.xlsx) file containing rows from the specified table using the provided parameters.
+     * Rows are ordered by the primary key, so the offset and limit select the same rows on every call.
      *
      * @param tableParams {@link TableParamsRequestDto} containing table name, offset, and limit.
      * @param secretKey   Secret key for authentication.
@@ -38,6 +122,130 @@ public interface ExportSettingsService {
      */
     InputStream getExcelFileAsResource(TableParamsRequestDto tableParams, String secretKey);
 
+    /**
+     * Generates an Excel (.xlsx) file containing the requested columns of the rows satisfying all conditions,
+     * ordered by the primary key.
+     *
+     * @param tableParams {@link TableParamsRequestDto} containing table name, offset, and limit.
+     * @param queryDto    {@link TableQueryDto} with the columns to export and the conditions to apply; can be null.
+     * @param secretKey   Secret key for authentication.
+     * @return {@link InputStream} representing the generated Excel file as a stream.
+     */
+    InputStream getExcelFileAsResource(TableParamsRequestDto tableParams, TableQueryDto queryDto, String secretKey);
+
+    /**
+     * Streams all rows of a table that satisfy the conditions as a CSV or Excel file, in primary key order.
+     * <p>
+     * Tables with a single integer primary key are split into key ranges that are read on several
+     * connections at the same time; the number of connections is bounded by
+     * {@code ldm.export.max-export-parallelism}, the LDM connection limit and the number of processors.
+     * </p>
+     *
+     * @param tableName   Name of the database table.
+     * @param queryDto    {@link TableQueryDto} with the columns to export and the conditions to apply; can be null.
+     * @param format      {@link ExportFormat} of the file.
+     * @param parallelism Requested number of connections; null for the number of processors.
+     * @param secretKey   Secret key for authentication.
+     * @return {@link StreamingResponseBody} writing the file.
+     */
+    StreamingResponseBody exportTable(String tableName, TableQueryDto queryDto, ExportFormat format,
+                                      Integer parallelism, String secretKey);
+
+    /**
+     * Streams the rows of a table whose tracked column is past a watermark, in the order of that column.
+     * <p>
+     * The largest value of the column is read first and becomes the new watermark; only rows up to it are
+     * exported, so rows written meanwhile are left for the next export and no row is exported twice. Rows
+     * with a null value in the column are never exported. With a profile, the watermark reached by the
+     * previous export of the table is used when none is given, and the new watermark is stored once the
+     * file has been written completely.
+     * </p>
+     *
+     * @param tableName Name of the database table.
+     * @param queryDto  {@link TableQueryDto} with the columns to export and further conditions; can be null.
+     * @param column    Monotonically increasing column, such as an update timestamp or a sequence id.
+     * @param watermark Value of the column reached by the previous export; null to export all rows, or to
+     *                  use the watermark stored for the profile.
+     * @param profile   Name of the export profile keeping the watermark; can be null.
+     * @param format    {@link ExportFormat} of the file.
+     * @param secretKey Secret key for authentication.
+     * @return {@link IncrementalExportDto} with the watermarks and the file.
+     */
+    IncrementalExportDto exportTableIncrementally(String tableName, TableQueryDto queryDto, String column,
+                                                  String watermark, String profile, ExportFormat format,
+                                                  String secretKey);
+
+    /**
+     * Streams several tables into one file: an Excel workbook with a sheet per table, or a ZIP archive with a
+     * CSV file per table.
+     * <p>
+     * Up to {@code ldm.export.max-batch-concurrency} tables are read at the same time, bounded by the LDM
+     * connection limit. Read rows are buffered within {@code ldm.export.batch-memory-bytes} and overflow to
+     * temporary files; each table is written as soon as it has been read, so the order of the tables in the
+     * file is the order in which they complete.
+     * </p>
+     *
+     * @param request   {@link TableBatchExportDto} with the tables and their optional queries.
+     * @param format    {@link ExportFormat} of the tables.
+     * @param secretKey Secret key for authentication.
+     * @return {@link StreamingResponseBody} writing the file.
+     */
+    StreamingResponseBody exportTables(TableBatchExportDto request, ExportFormat format, String secretKey);
+
+    /**
+     * Returns a random sample of the rows of a table that satisfy all conditions. Without a requested method,
+     * {@link SampleMethod#SYSTEM} is used where the database supports {@code TABLESAMPLE}, then
+     * {@link SampleMethod#RANDOM_KEYS} for tables with a single integer primary key, and
+     * {@link SampleMethod#FIRST_ROWS} otherwise.
+     *
+     * @param tableName Name of the database table.
+     * @param queryDto  {@link TableQueryDto} with the columns and conditions; can be null.
+     * @param size      Max number of sampled rows.
+     * @param method    {@link SampleMethod} to use; null to choose the best supported one.
+     * @param seed      Seed making the sample repeatable; can be null.
+     * @param secretKey Secret key for authentication.
+     * @return {@link TableSampleDto} with the sampled rows and the method used.
+     */
+    TableSampleDto sampleTable(String tableName, TableQueryDto queryDto, int size, SampleMethod method, Long seed,
+                               String secretKey);
+
+    /**
+     * Streams a random sample of the rows of a table as a CSV or Excel file. The method is chosen as described
+     * for {@link #sampleTable}.
+     *
+     * @param tableName Name of the database table.
+     * @param queryDto  {@link TableQueryDto} with the columns and conditions; can be null.
+     * @param size      Max number of sampled rows.
+     * @param method    {@link SampleMethod} to use; null to choose the best supported one.
+     * @param seed      Seed making the sample repeatable; can be null.
+     * @param format    {@link ExportFormat} of the file.
+     * @param secretKey Secret key for authentication.
+     * @return {@link SampleExportDto} with the method used and the file.
+     */
+    SampleExportDto exportTableSample(String tableName, TableQueryDto queryDto, int size, SampleMethod method,
+                                      Long seed, ExportFormat format, String secretKey);
+
+    /**
+     * Profiles the columns of a table in one pass: null count, smallest and largest value, approximate
+     * distinct count, most frequent values, quantiles of numeric columns and lengths of text values. All
+     * matching rows are read through a forward-only cursor, or only a sample of them if a sample size is
+     * given; either way the memory used depends on the number of columns only. Profiles are cached for
+     * {@code ldm.export.profile-cache-ttl}.
+     *
+     * @param tableName   Name of the database table.
+     * @param queryDto    {@link TableQueryDto} with the columns to profile and the conditions; can be null.
+     * @param sampleSize  Number of rows to sample as described for {@link #sampleTable}; null for all rows.
+     * @param method      {@link SampleMethod} of the sample; null to choose the best supported one.
+     * @param seed        Seed making the sample repeatable; can be null.
+     * @param parallelism Number of connections reading primary key ranges of a full profile; null reads
+     *                    the table on one connection.
+     * @param topValues   Number of most frequent values reported per column.
+     * @param secretKey   Secret key for authentication.
+     * @return {@link TableProfileDto} with a profile per column.
+     */
+    TableProfileDto profileTable(String tableName, TableQueryDto queryDto, Integer sampleSize, SampleMethod method,
+                                 Long seed, Integer parallelism, int topValues, String secretKey);
+
     /**
      * Retrieves all environment variables currently used by the application.
      *
@@ -45,4 +253,13 @@ public interface ExportSettingsService {
      * @return {@link EnvironmentDto} containing environment variable names and their values.
      */
     EnvironmentDto getEnvironmentVariables(String secretKey);
+
+    /**
+     * Returns the connection usage of LDM database queries.
+     *
+     * @param secretKey Secret key for authentication.
+     * @return {@link DataSourceStatsDto} of the dedicated pool, or of the connections borrowed from the
+     *         application {@code DataSource}.
+     */
+    DataSourceStatsDto getDataSourceStats(String secretKey);
 }
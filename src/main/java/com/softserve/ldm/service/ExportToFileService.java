@@ -1,8 +1,14 @@
 package com.softserve.ldm.service;
 
+import com.softserve.ldm.dto.ExportFormat;
 import com.softserve.ldm.dto.TableRowsDto;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.TabularWriter;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 
 public interface ExportToFileService {
     /**
@@ -12,4 +18,27 @@ public interface ExportToFileService {
      * @return {@link InputStream} representing the generated Excel file.
      */
     InputStream exportTableDataToExcel(TableRowsDto data);
+
+    /**
+     * Opens a writer streaming rows into a CSV or Excel file, so exports of any size use constant memory.
+     *
+     * @param format  {@link ExportFormat} of the file.
+     * @param name    Name of the exported data, used as the Excel sheet name.
+     * @param columns Column names written as the header row.
+     * @param out     Stream receiving the file; it is not closed by the writer.
+     * @return {@link TabularWriter} that must be closed to complete the file.
+     * @throws IOException if the header cannot be written.
+     */
+    TabularWriter openTabularWriter(ExportFormat format, String name, List<String> columns, OutputStream out)
+        throws IOException;
+
+    /**
+     * Opens a writer streaming several tables into one file: an Excel workbook with a sheet per table, or a
+     * ZIP archive with a CSV file per table.
+     *
+     * @param format {@link ExportFormat} of the tables.
+     * @param out    Stream receiving the file; it is not closed by the writer.
+     * @return {@link MultiTableWriter} that must be closed to complete the file.
+     */
+    MultiTableWriter openMultiTableWriter(ExportFormat format, OutputStream out);
 }
@@ -0,0 +1,49 @@
+package com.softserve.ldm.service;
+
+import com.softserve.ldm.dto.ExceptionReportDto;
+import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.dto.TemplateReportDto;
+import com.softserve.ldm.dto.ValueSketchReportDto;
+import com.softserve.ldm.dto.ValueSketchRequestDto;
+
+/**
+ * Service interface for aggregated analysis of log file content.
+ * <p>
+ * Analysis results are cached per file fingerprint, so repeated requests only read the bytes appended
+ * to the files since the previous request.
+ * </p>
+ */
+public interface LogAnalysisService {
+
+    /**
+     * Detects stack traces in the selected log files and groups them by fingerprint.
+     *
+     * @param filterDto  {@link LogFileFilterDto} optional filters selecting the files to analyze.
+     * @param limit      Maximum number of groups to return.
+     * @param secretKey  Secret key for authentication.
+     * @return {@link ExceptionReportDto} with the most frequent exception groups.
+     */
+    ExceptionReportDto analyzeExceptions(LogFileFilterDto filterDto, int limit, String secretKey);
+
+    /**
+     * Clusters the message lines of the selected log files into templates such as
+     * {@code "Order <*> processed in <*> ms"}.
+     *
+     * @param filterDto  {@link LogFileFilterDto} optional filters selecting the files to analyze.
+     * @param limit      Maximum number of templates to return.
+     * @param secretKey  Secret key for authentication.
+     * @return {@link TemplateReportDto} with the most frequent templates.
+     */
+    TemplateReportDto mineTemplates(LogFileFilterDto filterDto, int limit, String secretKey);
+
+    /**
+     * Extracts a value from every line of the selected log files and estimates the number of distinct
+     * values and the most frequent ones in bounded memory.
+     *
+     * @param requestDto {@link ValueSketchRequestDto} with the file filters and the value extraction.
+     * @param limit      Maximum number of frequent values to return.
+     * @param secretKey  Secret key for authentication.
+     * @return {@link ValueSketchReportDto} with the estimates.
+     */
+    ValueSketchReportDto sketchValues(ValueSketchRequestDto requestDto, int limit, String secretKey);
+}
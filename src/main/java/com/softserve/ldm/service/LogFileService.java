@@ -1,10 +1,17 @@
 package com.softserve.ldm.service;
 
+import com.softserve.ldm.dto.CacheStatsDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.LogFileLinesDto;
 import com.softserve.ldm.dto.PageableDto;
 import com.softserve.ldm.dto.LogFileMetadataDto;
 import com.softserve.ldm.dto.LogFileFilterDto;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.File;
+import java.util.List;
 
 /**
  * Service interface for working with application log files.
@@ -16,6 +23,15 @@ public interface LogFileService {
 
     /**
      * Retrieves a paginated list of log files with metadata such as filename, size, and last modified date.
+     * <p>
+     * All content criteria of the filter are evaluated in a single pass per file; the terms found in each
+     * file are reported in {@link LogFileMetadataDto#matchedTerms()}. Match results are cached per file and
+     * normalized filter, so unchanged files are not read again and grown files only have their tail read.
+     * </p>
+     * <p>
+     * The page can be sorted by {@code filename}, {@code byteSize} and {@code lastModified}; files are ordered
+     * by name when no sort is given.
+     * </p>
      *
      * @param page       {@link Pageable} pagination information.
      * @param filterDto  {@link LogFileFilterDto} optional filters to apply (e.g. by filename, size, level).
@@ -24,6 +40,40 @@ public interface LogFileService {
      */
     PageableDto<LogFileMetadataDto> listLogFiles(Pageable page, LogFileFilterDto filterDto, String secretKey);
 
+    /**
+     * Retrieves all log files that match the given filters, without pagination.
+     *
+     * @param filterDto  {@link LogFileFilterDto} optional filters to apply.
+     * @param secretKey  Secret key for authentication.
+     * @return list of {@link LogFileMetadataDto} for each matching log file.
+     */
+    List<LogFileMetadataDto> findLogFiles(LogFileFilterDto filterDto, String secretKey);
+
+    /**
+     * Exports the lines of the selected log files that satisfy the content criteria of the filter, split
+     * into file, line number, timestamp, level, logger and message columns.
+     * <p>
+     * The secret key and the file filters are checked right away; the lines are read and written while
+     * the returned body is streamed, so memory use does not depend on the number of exported lines.
+     * </p>
+     *
+     * @param filterDto {@link LogFileFilterDto} optional filters selecting the files and lines.
+     * @param format    {@link ExportFormat} of the export.
+     * @param secretKey Secret key for authentication.
+     * @return {@link StreamingResponseBody} writing the export.
+     */
+    StreamingResponseBody exportLogLines(LogFileFilterDto filterDto, ExportFormat format, String secretKey);
+
+    /**
+     * Resolves a log file by its name.
+     *
+     * @param filename Name of the log file, relative to the configured log directories.
+     * @return {@link File} of the log file; it may not exist.
+     * @throws com.softserve.ldm.exception.exceptions.BadRequestException if the name points outside of
+     *                                                                    the log directories.
+     */
+    File getLogFile(String filename);
+
     /**
      * Reads and returns the content of a specified log file as a plain text string.
      *
@@ -33,6 +83,21 @@ public interface LogFileService {
      */
     String viewLogFileContent(String filename, String secretKey);
 
+    /**
+     * Reads a range of lines of a log file.
+     * <p>
+     * A sparse line index is built on first access and extended as the file grows, so the range is reached
+     * by seeking to the nearest indexed line instead of reading the file from the beginning.
+     * </p>
+     *
+     * @param filename   Name of the log file to be read.
+     * @param fromLine   One-based number of the first line to return.
+     * @param count      Maximum number of lines to return.
+     * @param secretKey  Secret key for authentication.
+     * @return {@link LogFileLinesDto} with the requested lines.
+     */
+    LogFileLinesDto viewLogFileLines(String filename, long fromLine, int count, String secretKey);
+
     /**
      * Generates a {@link Resource} for downloading a specified log file.
      *
@@ -42,11 +107,20 @@ public interface LogFileService {
      */
     Resource generateDownloadLogFileUrl(String filename, String secretKey);
 
+    /**
+     * Returns usage statistics of the per-file result cache.
+     *
+     * @param secretKey  Secret key for authentication.
+     * @return {@link CacheStatsDto} with hit ratio and eviction counts.
+     */
+    CacheStatsDto getCacheStats(String secretKey);
+
     /**
      * Sanitizes a filename by replacing all invalid characters with underscores.
      * <p>
-     * Allowed characters: letters (a-z, A-Z), digits (0-9), dot (.), underscore (_), and hyphen (-).
-     * All other characters are replaced with an underscore to ensure filesystem safety.
+     * Allowed characters: letters (a-z, A-Z), digits (0-9), dot (.), underscore (_), hyphen (-) and slash (/)
+     * separating subdirectories. All other characters are replaced with an underscore to ensure filesystem
+     * safety. Leading slashes are removed and "." or ".." path segments are replaced with an underscore.
      * </p>
      *
      * @param filename Original filename.
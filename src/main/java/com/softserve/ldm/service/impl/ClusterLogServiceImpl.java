@@ -0,0 +1,157 @@
+package com.softserve.ldm.service.impl;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.dto.ClusterLogFileDto;
+import com.softserve.ldm.dto.ClusterPageDto;
+import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.dto.LogFileMetadataDto;
+import com.softserve.ldm.dto.PageableDto;
+import com.softserve.ldm.dto.PeerResultDto;
+import com.softserve.ldm.dto.PeerStatus;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.exception.exceptions.FunctionalityNotAvailableException;
+import com.softserve.ldm.exception.exceptions.NotFoundException;
+import com.softserve.ldm.federation.Peer;
+import com.softserve.ldm.federation.PeerClient;
+import com.softserve.ldm.federation.PeerDirectory;
+import com.softserve.ldm.federation.PeerPage;
+import com.softserve.ldm.service.ClusterLogService;
+import com.softserve.ldm.service.DotenvService;
+import com.softserve.ldm.service.LogFileService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+public class ClusterLogServiceImpl implements ClusterLogService {
+    private final DotenvService dotEnvService;
+    private final LogFileService logFileService;
+    private final PeerDirectory peerDirectory;
+    private final PeerClient peerClient;
+    private final LdmProperties.Federation settings;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ClusterLogServiceImpl(DotenvService dotEnvService, LogFileService logFileService,
+                                 PeerDirectory peerDirectory, PeerClient peerClient, LdmProperties properties) {
+        this.dotEnvService = dotEnvService;
+        this.logFileService = logFileService;
+        this.peerDirectory = peerDirectory;
+        this.peerClient = peerClient;
+        this.settings = properties.getLogs().getFederation();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClusterPageDto listLogFiles(Pageable pageable, LogFileFilterDto filterDto, String secretKey) {
+        if (!settings.isEnabled()) {
+            throw new FunctionalityNotAvailableException(ErrorMessage.FEDERATION_DISABLED);
+        }
+        dotEnvService.validateSecretKey(secretKey);
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (window > settings.getMaxWindow()) {
+            throw new BadRequestException(
+                String.format(ErrorMessage.EXCEED_FEDERATION_WINDOW, settings.getMaxWindow()));
+        }
+        Comparator<LogFileMetadataDto> fileOrder = LogFileServiceImpl.toComparator(pageable.getSort());
+        Pageable head = PageRequest.of(0, (int) window, pageable.getSort());
+
+        long started = System.nanoTime();
+        List<CompletableFuture<InstanceResult>> calls = new ArrayList<>();
+        for (Peer peer : peerDirectory.peers()) {
+            calls.add(CompletableFuture
+                .supplyAsync(() -> peerClient.listLogFiles(peer, head.getPageSize(), head.getSort(), filterDto,
+                    secretKey), executor)
+                .orTimeout(settings.getPeerTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .handle((page, error) -> toResult(peer.name(), page, error, started)));
+        }
+
+        // The local part is scanned on the calling thread while the peers work.
+        List<InstanceResult> results = new ArrayList<>();
+        results.add(toResult(peerDirectory.localName(), listLocalFiles(head, filterDto, secretKey), null, started));
+        calls.forEach(call -> results.add(call.join()));
+
+        return merge(results, fileOrder, pageable);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private PeerPage listLocalFiles(Pageable head, LogFileFilterDto filterDto, String secretKey) {
+        try {
+            PageableDto<LogFileMetadataDto> page = logFileService.listLogFiles(head, filterDto, secretKey);
+            return new PeerPage(page.getPage(), page.getTotalElements());
+        } catch (NotFoundException e) {
+            return PeerPage.EMPTY;
+        }
+    }
+
+    private InstanceResult toResult(String instance, PeerPage page, Throwable error, long started) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if (error == null) {
+            List<ClusterLogFileDto> files = page.page().stream()
+                .map(file -> new ClusterLogFileDto(instance, file))
+                .toList();
+            return new InstanceResult(
+                new PeerResultDto(instance, PeerStatus.OK, page.totalElements(), elapsedMillis, null), files);
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+        PeerResultDto result = cause instanceof TimeoutException
+            ? new PeerResultDto(instance, PeerStatus.TIMEOUT, 0, elapsedMillis,
+                String.format(ErrorMessage.PEER_TIMEOUT, settings.getPeerTimeout().toMillis()))
+            : new PeerResultDto(instance, PeerStatus.FAILED, 0, elapsedMillis, cause.getMessage());
+        log.warn("Cluster request to {} failed: {}", instance, result.error());
+        return new InstanceResult(result, List.of());
+    }
+
+    private static ClusterPageDto merge(List<InstanceResult> results, Comparator<LogFileMetadataDto> fileOrder,
+                                        Pageable pageable) {
+        List<ClusterLogFileDto> files = new ArrayList<>();
+        List<PeerResultDto> peers = new ArrayList<>();
+        long totalElements = 0;
+        boolean partial = false;
+        for (InstanceResult result : results) {
+            files.addAll(result.files());
+            peers.add(result.status());
+            totalElements += result.status().totalElements();
+            partial |= result.status().status() != PeerStatus.OK;
+        }
+        files.sort(Comparator.comparing(ClusterLogFileDto::file, fileOrder)
+            .thenComparing(ClusterLogFileDto::instance));
+
+        int from = (int) Math.min(pageable.getOffset(), files.size());
+        int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), files.size());
+        int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        return new ClusterPageDto(List.copyOf(files.subList(from, to)), totalElements, pageable.getPageNumber(),
+            totalPages, partial, peers);
+    }
+
+    /**
+     * Answer of one instance.
+     *
+     * @param status Outcome reported to the client.
+     * @param files  Files of the instance, empty unless it answered.
+     */
+    private record InstanceResult(PeerResultDto status, List<ClusterLogFileDto> files) {
+    }
+}
@@ -1,29 +1,80 @@
 package com.softserve.ldm.service.impl;
 
+import com.softserve.ldm.analysis.ColumnProfiler;
+import com.softserve.ldm.analysis.TableProfiler;
+import com.softserve.ldm.analysis.ValueSketch;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.ColumnFilterDto;
+import com.softserve.ldm.dto.ColumnOperator;
+import com.softserve.ldm.dto.DataSourceStatsDto;
+import com.softserve.ldm.dto.DatabaseSchemaDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.IncrementalExportDto;
 import com.softserve.ldm.dto.PageableAdvancedDto;
+import com.softserve.ldm.dto.SampleExportDto;
+import com.softserve.ldm.dto.SampleMethod;
 import com.softserve.ldm.dto.EnvironmentDto;
+import com.softserve.ldm.dto.SchemaCatalogDto;
+import com.softserve.ldm.dto.SchemaTableDto;
+import com.softserve.ldm.dto.TableBatchExportDto;
 import com.softserve.ldm.dto.TableParamsRequestDto;
+import com.softserve.ldm.dto.TableQueryDto;
+import com.softserve.ldm.dto.TableProfileDto;
+import com.softserve.ldm.dto.TableSampleDto;
+import com.softserve.ldm.dto.ValueFrequencyDto;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.TabularWriter;
+import com.softserve.ldm.export.WatermarkStore;
+import com.softserve.ldm.query.SchemaCatalog;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableCatalog;
+import com.softserve.ldm.query.TableProfileCache;
+import com.softserve.ldm.query.TableSchema;
 import com.softserve.ldm.repository.ExportSettingsRepo;
+import com.softserve.ldm.repository.TableExportRepo;
 import com.softserve.ldm.service.DotenvService;
 import com.softserve.ldm.service.ExportSettingsService;
 import com.softserve.ldm.service.ExportToFileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
 @Service
 public class ExportSettingsServiceImpl implements ExportSettingsService {
+    private static final double[] PROFILE_QUANTILES = {0.01, 0.25, 0.5, 0.75, 0.99};
+    private static final Pattern VALID_TABLE_NAME = Pattern.compile(AppConstant.VALID_TABLE_NAME_REGEX);
+
     private final ExportSettingsRepo exportSettingsRepo;
+    private final TableExportRepo tableExportRepo;
     private final ExportToFileService exportToFileService;
     private final DotenvService dotenvService;
+    private final TableCatalog tableCatalog;
+    private final LdmProperties properties;
+    private final LdmDataSource ldmDataSource;
+    private final WatermarkStore watermarkStore;
+    private final SchemaCatalog schemaCatalog;
+    private final TableProfileCache tableProfileCache;
 
     /**
      * {@inheritDoc}
@@ -40,33 +91,346 @@ public class ExportSettingsServiceImpl implements ExportSettingsService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
+    public SchemaCatalogDto getSchemaCatalog(String schema, String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        return schemaCatalog.get(schema);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DatabaseSchemaDto> getSchemas(String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        return exportSettingsRepo.getSchemas();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageableAdvancedDto<SchemaTableDto> getSchemaTables(String schema, Pageable pageable, String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        List<String> tableNames = tableCatalog.getTableNames(schema);
+        int from = (int) Math.min(pageable.getOffset(), tableNames.size());
+        int to = Math.min(from + pageable.getPageSize(), tableNames.size());
+        List<SchemaTableDto> tables = tableNames.subList(from, to).stream()
+            .map(name -> new SchemaTableDto(schema, name, qualifiedName(schema, name)))
+            .toList();
+        return populatePageableDto(tableNames.size(), pageable, tables);
+    }
+
+    /**
+     * Qualified name of a table as the select and export endpoints accept it.
+     *
+     * @param schema Name of the schema.
+     * @param name   Name of the table.
+     * @return {@code schema.name}, or null if either part is not a valid identifier.
+     */
+    private static String qualifiedName(String schema, String name) {
+        String qualifiedName = schema + "." + name;
+        return VALID_TABLE_NAME.matcher(qualifiedName).matches() ? qualifiedName : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public PageableAdvancedDto<Map<String, String>> selectFromTable(String tableName, Pageable pageable, String secretKey) {
+        return selectFromTable(tableName, null, null, pageable, secretKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageableAdvancedDto<Map<String, String>> selectFromTable(String tableName, TableQueryDto queryDto,
+                                                                    Pageable pageable, String secretKey) {
+        return selectFromTable(tableName, queryDto, null, pageable, secretKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageableAdvancedDto<Map<String, String>> selectFromTable(String tableName, TableQueryDto queryDto,
+                                                                    String cursor, Pageable pageable,
+                                                                    String secretKey) {
+        boolean seek = cursor != null && !cursor.isBlank();
 
         dotenvService.validateSecretKey(secretKey);
 
-        int totalElements = exportSettingsRepo.countRowsInTable(tableName);
-        TableRowsDto data = exportSettingsRepo.selectPortionFromTable(
-            tableName, pageable.getPageSize(), (int) pageable.getOffset());
+        TableSchema table = tableCatalog.getTable(tableName);
+        SelectQuery query = SelectQuery.of(table, queryDto)
+            .orderBy(pageable.getSort(), tableCatalog.getIndexes(table));
+        // Seek pages stay cheap by not counting; only a sort that no index serves still needs the count.
+        int totalElements = seek && query.isSortIndexed() ? -1 : exportSettingsRepo.countRows(query);
+        long maxUnindexedSortRows = properties.getExport().getMaxUnindexedSortRows();
+        if (!query.isSortIndexed() && totalElements > maxUnindexedSortRows) {
+            throw new BadRequestException(String.format(ErrorMessage.UNINDEXED_SORT, table.name(),
+                pageable.getSort(), totalElements, maxUnindexedSortRows));
+        }
+
+        // The cursor already marks the position, so the offset of the page must not be applied again.
+        TableRowsDto data = exportSettingsRepo.selectFromTable(query.after(cursor), pageable.getPageSize(),
+            seek ? 0 : (int) pageable.getOffset());
 
-        return populatePageableDto(totalElements, pageable, data.tableData());
+        PageableAdvancedDto<Map<String, String>> page = seek
+            ? populateSeekPageDto(pageable, data.tableData(), data.nextCursor())
+            : populatePageableDto(totalElements, pageable, data.tableData());
+        page.setNextCursor(data.nextCursor());
+        if (pageable.getSort().isSorted()) {
+            page.setSortIndexed(query.isSortIndexed());
+        }
+        return page;
     }
 
     /**
      * {@inheritDoc}
      */
-    @Transactional(readOnly = true)
     @Override
     public InputStream getExcelFileAsResource(TableParamsRequestDto tableParams, String secretKey) {
+        return getExcelFileAsResource(tableParams, null, secretKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getExcelFileAsResource(TableParamsRequestDto tableParams, TableQueryDto queryDto,
+                                              String secretKey) {
 
         dotenvService.validateSecretKey(secretKey);
 
-        TableRowsDto data = exportSettingsRepo.selectPortionFromTable(tableParams.tableName(), tableParams.limit(),
-            tableParams.offset());
+        // The primary key order keeps the offset and limit slices stable between calls.
+        TableSchema table = tableCatalog.getTable(tableParams.tableName());
+        SelectQuery query = SelectQuery.of(table, queryDto).orderBy(Sort.unsorted(), tableCatalog.getIndexes(table));
+        TableRowsDto data = exportSettingsRepo.selectFromTable(query, tableParams.limit(), tableParams.offset());
 
         return exportToFileService.exportTableDataToExcel(data);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamingResponseBody exportTable(String tableName, TableQueryDto queryDto, ExportFormat format,
+                                             Integer parallelism, String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        TableSchema table = tableCatalog.getTable(tableName);
+        SelectQuery query = SelectQuery.of(table, queryDto).orderBy(Sort.unsorted(), tableCatalog.getIndexes(table));
+        int workers = exportParallelism(parallelism);
+
+        return out -> {
+            try (TabularWriter writer = exportToFileService.openTabularWriter(format, table.name(),
+                query.getColumns(), out)) {
+                tableExportRepo.exportRows(query, workers, writer);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IncrementalExportDto exportTableIncrementally(String tableName, TableQueryDto queryDto, String column,
+                                                         String watermark, String profile, ExportFormat format,
+                                                         String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        TableSchema table = tableCatalog.getTable(tableName);
+        String trackedColumn = table.findColumn(column).orElseThrow(() -> new BadRequestException(
+            String.format(ErrorMessage.UNKNOWN_COLUMN, table.name(), column)));
+        if (!isWatermarkType(table.columnTypes().get(trackedColumn))) {
+            throw new BadRequestException(String.format(ErrorMessage.INVALID_WATERMARK_COLUMN, trackedColumn));
+        }
+
+        String previous = watermark;
+        if (profile != null) {
+            Optional<WatermarkStore.Watermark> stored = watermarkStore.find(profile, table.qualifiedName());
+            if (stored.isPresent() && !stored.get().column().equals(trackedColumn)) {
+                throw new BadRequestException(String.format(ErrorMessage.WATERMARK_COLUMN_MISMATCH, profile,
+                    table.qualifiedName(), stored.get().column()));
+            }
+            if (previous == null) {
+                previous = stored.map(WatermarkStore.Watermark::value).orElse(null);
+            }
+        }
+
+        TableQueryDto base = queryDto != null ? queryDto : new TableQueryDto(null, null);
+        List<ColumnFilterDto> filters = new ArrayList<>(base.filters());
+        if (previous != null) {
+            filters.add(new ColumnFilterDto(trackedColumn, ColumnOperator.GT, previous));
+        }
+        String next = tableExportRepo.findMaxValue(SelectQuery.of(table, new TableQueryDto(base.columns(), filters)),
+            trackedColumn);
+        if (next != null) {
+            filters.add(new ColumnFilterDto(trackedColumn, ColumnOperator.LTE, next));
+        }
+        SelectQuery query = SelectQuery.of(table, new TableQueryDto(base.columns(), filters))
+            .orderBy(Sort.by(trackedColumn), tableCatalog.getIndexes(table));
+        String reached = next != null ? next : previous;
+        int workers = exportParallelism(null);
+
+        return new IncrementalExportDto(previous, reached, query.isSortIndexed(), out -> {
+            try (TabularWriter writer = exportToFileService.openTabularWriter(format, table.name(),
+                query.getColumns(), out)) {
+                if (next != null) {
+                    tableExportRepo.exportRows(query, workers, writer);
+                }
+            }
+            if (profile != null && reached != null) {
+                watermarkStore.save(profile, table.qualifiedName(),
+                    new WatermarkStore.Watermark(trackedColumn, reached));
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamingResponseBody exportTables(TableBatchExportDto request, ExportFormat format,
+                                              String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        List<SelectQuery> queries = request.tables().stream()
+            .map(item -> {
+                TableSchema table = tableCatalog.getTable(item.tableName());
+                return SelectQuery.of(table, item.query())
+                    .orderBy(Sort.unsorted(), tableCatalog.getIndexes(table));
+            })
+            .toList();
+        int concurrency = Math.max(1, Math.min(queries.size(),
+            Math.min(properties.getExport().getMaxBatchConcurrency(), ldmDataSource.stats().maxConnections())));
+
+        return out -> {
+            try (MultiTableWriter writer = exportToFileService.openMultiTableWriter(format, out)) {
+                tableExportRepo.exportTables(queries, concurrency, writer);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TableSampleDto sampleTable(String tableName, TableQueryDto queryDto, int size, SampleMethod method,
+                                      Long seed, String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        TableSchema table = tableCatalog.getTable(tableName);
+        SelectQuery query = sampleQuery(table, queryDto, size);
+        SampleMethod sampleMethod = sampleMethod(query, method);
+        List<String> columns = query.getColumns();
+        List<Map<String, String>> rows = new ArrayList<>();
+        try {
+            tableExportRepo.sampleRows(query, sampleMethod, size, seed, new TabularWriter() {
+                @Override
+                public void writeRow(List<String> values) {
+                    Map<String, String> row = new LinkedHashMap<>();
+                    for (int i = 0; i < columns.size(); i++) {
+                        row.put(columns.get(i), values.get(i));
+                    }
+                    rows.add(row);
+                }
+
+                @Override
+                public void close() {
+                    // Rows are kept in memory; there is nothing to complete.
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new TableSampleDto(table.qualifiedName(), sampleMethod, rows);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SampleExportDto exportTableSample(String tableName, TableQueryDto queryDto, int size,
+                                             SampleMethod method, Long seed, ExportFormat format,
+                                             String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        TableSchema table = tableCatalog.getTable(tableName);
+        SelectQuery query = sampleQuery(table, queryDto, size);
+        SampleMethod sampleMethod = sampleMethod(query, method);
+
+        return new SampleExportDto(sampleMethod, out -> {
+            try (TabularWriter writer = exportToFileService.openTabularWriter(format, table.name(),
+                query.getColumns(), out)) {
+                tableExportRepo.sampleRows(query, sampleMethod, size, seed, writer);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TableProfileDto profileTable(String tableName, TableQueryDto queryDto, Integer sampleSize,
+                                        SampleMethod method, Long seed, Integer parallelism, int topValues,
+                                        String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        TableSchema table = tableCatalog.getTable(tableName);
+        TableProfileCache.Key key = new TableProfileCache.Key(table.qualifiedName(), queryDto, sampleSize, method,
+            seed, topValues);
+        Optional<TableProfileDto> cached = tableProfileCache.find(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        SelectQuery query;
+        SampleMethod sampleMethod = null;
+        int workers = parallelism != null ? exportParallelism(parallelism) : 1;
+        if (sampleSize != null) {
+            query = sampleQuery(table, queryDto, sampleSize);
+            sampleMethod = sampleMethod(query, method);
+        } else {
+            // Only partitioned reads need the key order; a single cursor reads the rows in storage order.
+            query = workers > 1
+                ? SelectQuery.of(table, queryDto).orderBy(Sort.unsorted(), tableCatalog.getIndexes(table))
+                : SelectQuery.of(table, queryDto);
+        }
+
+        TableProfiler profiler = new TableProfiler(query.getColumns(), table.columnTypes(),
+            properties.getExport().getProfileSketches(), properties.getExport().getProfileDigestCompression());
+        try {
+            if (sampleMethod != null) {
+                tableExportRepo.sampleRows(query, sampleMethod, sampleSize, seed, profiler);
+            } else {
+                tableExportRepo.exportRows(query, workers, profiler);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<TableProfileDto.Column> columns = profiler.getColumns().stream()
+            .map(column -> toProfileDto(column, topValues))
+            .toList();
+        TableProfileDto profile = new TableProfileDto(table.qualifiedName(), profiler.getRows(), sampleMethod,
+            Instant.now(), columns);
+        tableProfileCache.put(key, profile);
+        return profile;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +442,82 @@ public class ExportSettingsServiceImpl implements ExportSettingsService {
         return new EnvironmentDto(System.getenv());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataSourceStatsDto getDataSourceStats(String secretKey) {
+
+        dotenvService.validateSecretKey(secretKey);
+
+        LdmDataSource.PoolStats stats = ldmDataSource.stats();
+        return new DataSourceStatsDto(stats.dedicated(), stats.active(), stats.idle(), stats.total(),
+            stats.threadsAwaiting(), stats.maxConnections());
+    }
+
+    /**
+     * Bounds the number of connections of an export by the configured limit and the LDM connection limit.
+     */
+    private int exportParallelism(Integer requested) {
+        int parallelism = requested != null ? requested : Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(parallelism,
+            Math.min(properties.getExport().getMaxExportParallelism(), ldmDataSource.stats().maxConnections())));
+    }
+
+    private SelectQuery sampleQuery(TableSchema table, TableQueryDto queryDto, int size) {
+        if (size < 1 || size > AppConstant.MAX_SAMPLE_ROWS) {
+            throw new BadRequestException(ErrorMessage.INVALID_SAMPLE_SIZE);
+        }
+        return SelectQuery.of(table, queryDto).orderBy(Sort.unsorted(), tableCatalog.getIndexes(table));
+    }
+
+    private SampleMethod sampleMethod(SelectQuery query, SampleMethod requested) {
+        boolean integerKey = query.getPartitionColumn().isPresent();
+        if (requested == null) {
+            return tableExportRepo.supportsTableSample() ? SampleMethod.SYSTEM
+                : integerKey ? SampleMethod.RANDOM_KEYS
+                : SampleMethod.FIRST_ROWS;
+        }
+        if ((requested == SampleMethod.SYSTEM || requested == SampleMethod.BERNOULLI)
+            && !tableExportRepo.supportsTableSample()) {
+            throw new BadRequestException(String.format(ErrorMessage.TABLESAMPLE_NOT_SUPPORTED, requested));
+        }
+        if (requested == SampleMethod.RANDOM_KEYS && !integerKey) {
+            throw new BadRequestException(
+                String.format(ErrorMessage.RANDOM_KEYS_REQUIRE_INTEGER_KEY, query.getTableName()));
+        }
+        return requested;
+    }
+
+    private static TableProfileDto.Column toProfileDto(ColumnProfiler column, int topValues) {
+        ValueSketch values = column.getValues();
+        List<ValueFrequencyDto> frequencies = values.topValues(topValues).stream()
+            .map(frequency -> new ValueFrequencyDto(frequency.value(), frequency.estimatedCount(),
+                frequency.guaranteedCount()))
+            .toList();
+        List<TableProfileDto.Quantile> quantiles = new ArrayList<>();
+        for (double q : PROFILE_QUANTILES) {
+            double value = column.quantile(q);
+            if (!Double.isNaN(value)) {
+                quantiles.add(new TableProfileDto.Quantile(q, value));
+            }
+        }
+        List<TableProfileDto.LengthBucket> lengths = column.lengthHistogram().stream()
+            .map(bucket -> new TableProfileDto.LengthBucket(bucket.minLength(), bucket.maxLength(), bucket.count()))
+            .toList();
+        return new TableProfileDto.Column(column.getColumn(), column.getJdbcType(), column.getNulls(),
+            values.estimateDistinct(), values.distinctRelativeError(), column.getMin(), column.getMax(),
+            frequencies, values.countErrorBound(), quantiles, lengths);
+    }
+
+    private static boolean isWatermarkType(int type) {
+        return switch (type) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL,
+                 Types.DATE, Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> true;
+            default -> false;
+        };
+    }
+
     /**
      * Populates a {@link PageableAdvancedDto} object with paginated data and metadata.
      *
@@ -86,8 +526,24 @@ public class ExportSettingsServiceImpl implements ExportSettingsService {
      * @param data           List of records for the current page, represented as key-value pairs.
      * @return {@link PageableAdvancedDto} containing the current page data and pagination metadata.
      */
-    private PageableAdvancedDto<Map<String, String>> populatePageableDto(int totalElements, Pageable pageable,
-        List<Map<String, String>> data) {
+    /**
+     * Describes a page read after a cursor, whose total is not counted: the totals are -1 and whether another
+     * page follows is told by the next cursor.
+     */
+    private <T> PageableAdvancedDto<T> populateSeekPageDto(Pageable pageable, List<T> data, String nextCursor) {
+        return new PageableAdvancedDto<>(
+            data,
+            -1,
+            pageable.getPageNumber(),
+            -1,
+            pageable.getPageNumber(),
+            true,
+            nextCursor != null,
+            false,
+            nextCursor == null);
+    }
+
+    private <T> PageableAdvancedDto<T> populatePageableDto(int totalElements, Pageable pageable, List<T> data) {
         int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
         boolean isFirst = pageable.getPageNumber() == 0;
         boolean isLast = pageable.getPageNumber() + 1 >= totalPages;
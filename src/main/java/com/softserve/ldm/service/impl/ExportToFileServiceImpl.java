@@ -2,27 +2,31 @@ package com.softserve.ldm.service.impl;
 
 
 import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.dto.ExportFormat;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.exception.exceptions.FileGenerationException;
 import com.softserve.ldm.exception.exceptions.ResourceNotFoundException;
+import com.softserve.ldm.export.CsvTabularWriter;
+import com.softserve.ldm.export.CsvArchiveWriter;
+import com.softserve.ldm.export.ExcelTabularWriter;
+import com.softserve.ldm.export.ExcelWorkbookWriter;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.TabularWriter;
 import com.softserve.ldm.service.ExportToFileService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFFont;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,7 +37,6 @@ public class ExportToFileServiceImpl implements ExportToFileService {
     /**
      * {@inheritDoc}
      */
-    @Transactional(readOnly = true)
     @Override
     public InputStream exportTableDataToExcel(TableRowsDto data) {
         if (data.tableData().isEmpty()) {
@@ -47,6 +50,29 @@ public class ExportToFileServiceImpl implements ExportToFileService {
         return convertWorkbookToInputStream(workbook);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TabularWriter openTabularWriter(ExportFormat format, String name, List<String> columns,
+                                           OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvTabularWriter(out, columns);
+            case XLSX -> new ExcelTabularWriter(out, name, columns);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultiTableWriter openMultiTableWriter(ExportFormat format, OutputStream out) {
+        return switch (format) {
+            case CSV -> new CsvArchiveWriter(out);
+            case XLSX -> new ExcelWorkbookWriter(out);
+        };
+    }
+
     /**
      * Creates the header row in the provided Excel sheet using column names
      * from the first row of table data. Applies a bold style with background color.
@@ -56,15 +82,9 @@ public class ExportToFileServiceImpl implements ExportToFileService {
      * @param data     {@link TableRowsDto} containing table data to extract column headers from.
      */
     private void createHeaderRow(Workbook workbook, Sheet sheet, TableRowsDto data) {
-        CellStyle headerStyle = workbook.createCellStyle();
-        headerStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
-        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        CellStyle headerStyle = ExcelTabularWriter.createHeaderStyle(workbook);
 
         Row header = sheet.createRow(0);
-        XSSFFont font = ((XSSFWorkbook) workbook).createFont();
-        font.setFontName("Arial");
-        font.setFontHeightInPoints((short) 16);
-        font.setBold(true);
 
         Set<String> raw = data.tableData().getFirst().keySet();
         int cellIndex = 0;
@@ -0,0 +1,205 @@
+package com.softserve.ldm.service.impl;
+
+import com.softserve.ldm.analysis.DrainTemplateMiner;
+import com.softserve.ldm.analysis.ExceptionGroup;
+import com.softserve.ldm.analysis.LogTemplate;
+import com.softserve.ldm.analysis.StackTraceAnalyzer;
+import com.softserve.ldm.analysis.ValueExtractor;
+import com.softserve.ldm.analysis.ValueSketch;
+import com.softserve.ldm.analysis.ValueSketcher;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.dto.ExceptionGroupDto;
+import com.softserve.ldm.dto.ExceptionReportDto;
+import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.dto.LogFileMetadataDto;
+import com.softserve.ldm.dto.LogTemplateDto;
+import com.softserve.ldm.dto.TemplateReportDto;
+import com.softserve.ldm.dto.ValueFrequencyDto;
+import com.softserve.ldm.dto.ValueSketchReportDto;
+import com.softserve.ldm.dto.ValueSketchRequestDto;
+import com.softserve.ldm.search.FileStateCache;
+import com.softserve.ldm.search.LineScanner;
+import com.softserve.ldm.service.LogAnalysisService;
+import com.softserve.ldm.service.LogFileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogAnalysisServiceImpl implements LogAnalysisService {
+    private static final String EXCEPTIONS_ANALYZER = "exceptions";
+    private static final String TEMPLATES_ANALYZER = "templates";
+    private static final String SKETCH_ANALYZER_PREFIX = "sketch:";
+
+    private final LogFileService logFileService;
+    private final FileStateCache fileStateCache;
+    private final LdmProperties properties;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExceptionReportDto analyzeExceptions(LogFileFilterDto filterDto, int limit, String secretKey) {
+        List<LogFileMetadataDto> files = logFileService.findLogFiles(filterDto, secretKey);
+        LdmProperties.Analysis settings = properties.getLogs().getAnalysis();
+
+        Map<String, ExceptionGroup> merged = new LinkedHashMap<>();
+        Map<String, Set<String>> filesByFingerprint = new LinkedHashMap<>();
+        long scannedBytes = 0;
+
+        for (LogFileMetadataDto file : files) {
+            try {
+                FileStateCache.ScanOutcome<List<ExceptionGroup>> outcome = fileStateCache.update(
+                    logFileService.getLogFile(file.filename()).toPath(),
+                    EXCEPTIONS_ANALYZER,
+                    () -> new StackTraceAnalyzer(settings),
+                    (analyzer, in, offset) -> LineScanner.scan(in, offset, analyzer, false),
+                    StackTraceAnalyzer::snapshot);
+                scannedBytes += outcome.scannedBytes();
+
+                for (ExceptionGroup group : outcome.result()) {
+                    merged.merge(group.getFingerprint(), group, ExceptionGroup::merge);
+                    filesByFingerprint.computeIfAbsent(group.getFingerprint(), key -> new LinkedHashSet<>())
+                        .add(file.filename());
+                }
+            } catch (IOException e) {
+                log.warn(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, file.filename()), e);
+            }
+        }
+
+        List<ExceptionGroupDto> groups = merged.values().stream()
+            .sorted(Comparator.comparingLong(ExceptionGroup::getCount).reversed())
+            .limit(limit)
+            .map(group -> toDto(group, filesByFingerprint.get(group.getFingerprint())))
+            .toList();
+        long totalOccurrences = merged.values().stream().mapToLong(ExceptionGroup::getCount).sum();
+
+        return new ExceptionReportDto(groups, totalOccurrences, merged.size(), files.size(), scannedBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TemplateReportDto mineTemplates(LogFileFilterDto filterDto, int limit, String secretKey) {
+        List<LogFileMetadataDto> files = logFileService.findLogFiles(filterDto, secretKey);
+        LdmProperties.Templates settings = properties.getLogs().getTemplates();
+
+        Map<String, LogTemplate> merged = new LinkedHashMap<>();
+        Map<String, Set<String>> filesByTemplate = new LinkedHashMap<>();
+        long scannedBytes = 0;
+
+        for (LogFileMetadataDto file : files) {
+            try {
+                FileStateCache.ScanOutcome<List<LogTemplate>> outcome = fileStateCache.update(
+                    logFileService.getLogFile(file.filename()).toPath(),
+                    TEMPLATES_ANALYZER,
+                    () -> new DrainTemplateMiner(settings),
+                    (miner, in, offset) -> LineScanner.scan(in, offset, miner, false),
+                    DrainTemplateMiner::snapshot);
+                scannedBytes += outcome.scannedBytes();
+
+                for (LogTemplate template : outcome.result()) {
+                    merged.merge(template.getTemplate(), template,
+                        (existing, other) -> existing.merge(other, settings.getParameterSamples()));
+                    filesByTemplate.computeIfAbsent(template.getTemplate(), key -> new LinkedHashSet<>())
+                        .add(file.filename());
+                }
+            } catch (IOException e) {
+                log.warn(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, file.filename()), e);
+            }
+        }
+
+        List<LogTemplateDto> templates = merged.values().stream()
+            .sorted(Comparator.comparingLong(LogTemplate::getCount).reversed())
+            .limit(limit)
+            .map(template -> new LogTemplateDto(template.getTemplate(), template.getCount(),
+                template.getParameterSamples(), new ArrayList<>(filesByTemplate.get(template.getTemplate()))))
+            .toList();
+        long totalLines = merged.values().stream().mapToLong(LogTemplate::getCount).sum();
+
+        return new TemplateReportDto(templates, totalLines, merged.size(), files.size(), scannedBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValueSketchReportDto sketchValues(ValueSketchRequestDto requestDto, int limit, String secretKey) {
+        List<LogFileMetadataDto> files = logFileService.findLogFiles(requestDto.filterDto(), secretKey);
+        LdmProperties.Sketches settings = properties.getLogs().getSketches();
+        String analyzer = SKETCH_ANALYZER_PREFIX + toExtractor(requestDto).key();
+
+        ValueSketch merged = new ValueSketch(settings);
+        long scannedBytes = 0;
+
+        for (LogFileMetadataDto file : files) {
+            try {
+                FileStateCache.ScanOutcome<ValueSketch> outcome = fileStateCache.update(
+                    logFileService.getLogFile(file.filename()).toPath(),
+                    analyzer,
+                    () -> new ValueSketcher(toExtractor(requestDto), settings),
+                    (sketcher, in, offset) -> LineScanner.scan(in, offset, sketcher, false),
+                    ValueSketcher::snapshot);
+                scannedBytes += outcome.scannedBytes();
+                merged.merge(outcome.result());
+            } catch (IOException e) {
+                log.warn(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, file.filename()), e);
+            }
+        }
+
+        List<ValueFrequencyDto> topValues = merged.topValues(limit).stream()
+            .map(frequency -> new ValueFrequencyDto(
+                frequency.value(), frequency.estimatedCount(), frequency.guaranteedCount()))
+            .toList();
+
+        return new ValueSketchReportDto(merged.getTotal(), merged.estimateDistinct(),
+            merged.distinctRelativeError(), topValues, merged.countErrorBound(), files.size(), scannedBytes);
+    }
+
+    /**
+     * Creates the value extractor of a request. Each file state gets its own extractor, as extractors
+     * are not thread-safe.
+     *
+     * @param requestDto Request holding either a pattern or a JSON field.
+     * @return {@link ValueExtractor}.
+     */
+    private ValueExtractor toExtractor(ValueSketchRequestDto requestDto) {
+        return requestDto.pattern() != null && !requestDto.pattern().isEmpty()
+            ? ValueExtractor.regex(requestDto.pattern())
+            : ValueExtractor.jsonField(requestDto.jsonField().trim());
+    }
+
+    /**
+     * Maps an {@link ExceptionGroup} to its DTO.
+     *
+     * @param group Group to map.
+     * @param files Names of the files containing the group.
+     * @return {@link ExceptionGroupDto}.
+     */
+    private ExceptionGroupDto toDto(ExceptionGroup group, Set<String> files) {
+        return new ExceptionGroupDto(
+            group.getFingerprint(),
+            group.getExceptionClass(),
+            group.getRootCauseClass(),
+            group.getMessage(),
+            group.getFrames(),
+            group.getCount(),
+            group.getFirstSeen(),
+            group.getLastSeen(),
+            new ArrayList<>(files),
+            group.getSample());
+    }
+}
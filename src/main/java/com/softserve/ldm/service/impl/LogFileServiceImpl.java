@@ -1,36 +1,67 @@
 package com.softserve.ldm.service.impl;
 
+import com.softserve.ldm.analysis.LogLineParser;
+import com.softserve.ldm.config.LdmProperties;
 import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.discovery.LogFileDiscovery;
+import com.softserve.ldm.discovery.LogFileEntry;
 import com.softserve.ldm.dto.*;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
 import com.softserve.ldm.exception.exceptions.FileReadException;
 import com.softserve.ldm.exception.exceptions.NotFoundException;
+import com.softserve.ldm.export.TabularWriter;
+import com.softserve.ldm.search.FileStateCache;
+import com.softserve.ldm.search.LineScanner;
+import com.softserve.ldm.search.LogContentMatcher;
+import com.softserve.ldm.search.LogFiles;
+import com.softserve.ldm.search.SparseLineIndex;
 import com.softserve.ldm.service.DotenvService;
+import com.softserve.ldm.service.ExportToFileService;
 import com.softserve.ldm.service.LogFileService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.logging.LogLevel;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LogFileServiceImpl implements LogFileService {
-    private static final String LOGS_DIRECTORY =
-            System.getProperty("user.dir") + File.separator + "logs" + File.separator;
+    private static final String LINE_INDEX_ANALYZER = "line-index";
+    private static final String CONTENT_ANALYZER_PREFIX = "content:";
+    private static final String EXPORT_NAME = "logs";
+    private static final List<String> EXPORT_COLUMNS =
+            List.of("file", "line", "timestamp", "level", "logger", "message");
 
     private final DotenvService dotEnvService;
+    private final FileStateCache fileStateCache;
+    private final LdmProperties properties;
+    private final LogFileDiscovery logFileDiscovery;
+    private final ExportToFileService exportToFileService;
 
     /**
      * {@inheritDoc}
@@ -39,23 +70,48 @@ public class LogFileServiceImpl implements LogFileService {
     public PageableDto<LogFileMetadataDto> listLogFiles(Pageable pageable, LogFileFilterDto filterDto,
                                                         String secretKey) {
         dotEnvService.validateSecretKey(secretKey);
-        File[] logFiles = listLogFilesFromFolder();
+        Comparator<LogFileMetadataDto> comparator = toComparator(pageable.getSort());
+        List<LogFileEntry> logFiles = listLogFilesFromFolder();
 
-        if (logFiles == null || logFiles.length == 0) {
+        if (logFiles.isEmpty()) {
             throw new NotFoundException(ErrorMessage.LOG_FILES_NOT_FOUND);
         }
 
-        List<LogFileMetadataDto> dtos = Arrays.stream(logFiles)
-                .map(file -> new LogFileMetadataDto(
-                        file.getName(),
-                        file.length(),
-                        LocalDateTime.ofInstant(
-                                Instant.ofEpochMilli(file.lastModified()),
-                                ZoneId.systemDefault())))
-                .filter(fileDto -> filterFileDto(fileDto, filterDto))
-                .toList();
+        LogContentMatcher contentMatcher = LogContentMatcher.compile(filterDto);
+        long limit = Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE - 1L);
+        PriorityQueue<LogFileMetadataDto> topK = new PriorityQueue<>((int) Math.min(limit, 1024) + 1,
+                comparator.reversed());
+        long totalElements = 0;
+
+        for (LogFileEntry entry : logFiles) {
+            LogFileMetadataDto fileDto = toMetadata(entry);
+            if (!filterFileDto(fileDto, filterDto)) {
+                continue;
+            }
+            // Metadata-only filters never open the file; content is read only for metadata matches.
+            Optional<LogFileMetadataDto> matched = matchFileContent(entry.path(), fileDto, contentMatcher);
+            if (matched.isEmpty()) {
+                continue;
+            }
+            totalElements++;
+            if (topK.size() < limit) {
+                topK.offer(matched.get());
+            } else if (comparator.compare(matched.get(), topK.peek()) < 0) {
+                topK.poll();
+                topK.offer(matched.get());
+            }
+        }
+
+        return toPage(topK, comparator, totalElements, pageable);
+    }
 
-        return applyPagination(dtos, pageable);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LogFileMetadataDto> findLogFiles(LogFileFilterDto filterDto, String secretKey) {
+        dotEnvService.validateSecretKey(secretKey);
+        return filterLogFiles(filterDto);
     }
 
     /**
@@ -71,7 +127,35 @@ public class LogFileServiceImpl implements LogFileService {
         }
 
         try {
-            return Files.readString(file.toPath());
+            return LogFiles.readString(file.toPath());
+        } catch (IOException e) {
+            throw new FileReadException(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, filename), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LogFileLinesDto viewLogFileLines(String filename, long fromLine, int count, String secretKey) {
+        dotEnvService.validateSecretKey(secretKey);
+        File file = getLogFile(filename);
+
+        if (!file.exists() || !file.isFile()) {
+            throw new NotFoundException(String.format(ErrorMessage.LOG_FILE_NOT_FOUND, filename));
+        }
+
+        Path path = file.toPath();
+        long firstLine = fromLine - 1;
+        try {
+            SparseLineIndex.Checkpoint checkpoint = fileStateCache.update(
+                    path,
+                    LINE_INDEX_ANALYZER,
+                    () -> new SparseLineIndex(properties.getLogs().getLineIndexInterval()),
+                    (index, in, offset) -> LineScanner.scan(in, offset, index, false),
+                    index -> index.locate(firstLine)).result();
+
+            return readLines(filename, path, checkpoint, firstLine, count);
         } catch (IOException e) {
             throw new FileReadException(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, filename), e);
         }
@@ -96,52 +180,246 @@ public class LogFileServiceImpl implements LogFileService {
      * {@inheritDoc}
      */
     @Override
-    public String sanitizeFilename(String filename) {
-        return filename.replaceAll("[^a-zA-Z0-9._-]", "_");
+    public StreamingResponseBody exportLogLines(LogFileFilterDto filterDto, ExportFormat format, String secretKey) {
+        dotEnvService.validateSecretKey(secretKey);
+        List<LogFileMetadataDto> files = filterLogFiles(filterDto);
+        LogContentMatcher contentMatcher = LogContentMatcher.compile(filterDto);
+
+        return out -> {
+            try (TabularWriter writer = exportToFileService.openTabularWriter(format, EXPORT_NAME, EXPORT_COLUMNS,
+                    out)) {
+                for (LogFileMetadataDto file : files) {
+                    exportFileLines(file.filename(), contentMatcher.newLineFilter(), writer);
+                }
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatsDto getCacheStats(String secretKey) {
+        dotEnvService.validateSecretKey(secretKey);
+        FileStateCache.StateCacheStats stats = fileStateCache.stats();
+
+        return new CacheStatsDto(stats.reused(), stats.resumed(), stats.rebuilt(), stats.hitRatio(),
+                stats.evictions(), stats.estimatedSize());
     }
 
-    public File[] listLogFilesFromFolder() {
-        File folder = getLogFile();
-        return folder.listFiles((dir, name) -> name.endsWith(".log"));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String sanitizeFilename(String filename) {
+        String sanitized = filename.replaceAll("[^a-zA-Z0-9._/-]", "_").replaceAll("^/+", "");
+        return Arrays.stream(sanitized.split("/", -1))
+                .map(segment -> segment.equals(".") || segment.equals("..") ? "_" : segment)
+                .collect(Collectors.joining("/"));
     }
 
-    File getLogFile() {
-        return new File(LOGS_DIRECTORY);
+    /**
+     * Lists the log files of all configured log directories.
+     *
+     * @return discovered {@link LogFileEntry} list.
+     */
+    public List<LogFileEntry> listLogFilesFromFolder() {
+        return logFileDiscovery.discover();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public File getLogFile(String filename) {
-        return new File(LOGS_DIRECTORY + filename);
+        return logFileDiscovery.resolve(filename).toFile();
     }
 
     /**
-     * Applies pagination to a list of LogFileMetadataDto objects based on the given
-     * Pageable parameters.
+     * Lists the log files and applies the metadata and content filters to them.
      *
-     * @param dtos     The list of dto's to paginate.
-     * @param pageable The pagination details
-     * @return A PageableDto containing the paginated list, total elements, current
-     *         page, and total pages.
-     * @author Hrenevych Ivan
+     * @param filterDto The filter criteria. Can be null.
+     * @return list of matching log files.
+     * @throws NotFoundException if the log directories contain no log files.
+     */
+    private List<LogFileMetadataDto> filterLogFiles(LogFileFilterDto filterDto) {
+        List<LogFileEntry> logFiles = listLogFilesFromFolder();
+
+        if (logFiles.isEmpty()) {
+            throw new NotFoundException(ErrorMessage.LOG_FILES_NOT_FOUND);
+        }
+
+        LogContentMatcher contentMatcher = LogContentMatcher.compile(filterDto);
+        return logFiles.stream()
+                .map(entry -> Optional.of(toMetadata(entry))
+                        .filter(fileDto -> filterFileDto(fileDto, filterDto))
+                        .flatMap(fileDto -> matchFileContent(entry.path(), fileDto, contentMatcher)))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * Writes the matching lines of one log file as parsed rows.
+     *
+     * @param filename   Name of the log file.
+     * @param lineFilter Filter selecting the lines to export.
+     * @param writer     Writer of the export.
+     * @throws IOException if the file cannot be read or the row cannot be written.
+     */
+    private void exportFileLines(String filename, LogContentMatcher.LineFilter lineFilter, TabularWriter writer)
+            throws IOException {
+        long[] lineNumber = {0};
+        try (InputStream in = LogFiles.newInputStream(getLogFile(filename).toPath())) {
+            LineScanner.scan(in, 0, (buffer, from, to, offset) -> {
+                lineNumber[0]++;
+                if (lineFilter.matches(buffer, from, to)) {
+                    LogLineParser.ParsedLine line =
+                            LogLineParser.parse(new String(buffer, from, to - from, StandardCharsets.UTF_8));
+                    try {
+                        writer.writeRow(Arrays.asList(filename, String.valueOf(lineNumber[0]), line.timestamp(),
+                                line.level(), line.logger(), line.message()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return true;
+            }, true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Seeks to an indexed line and reads the requested range from there.
+     *
+     * @param filename   Name of the log file.
+     * @param path       Path of the log file.
+     * @param checkpoint Indexed line at or before the first requested line.
+     * @param firstLine  Zero-based number of the first requested line.
+     * @param count      Maximum number of lines to read.
+     * @return {@link LogFileLinesDto} with the read lines.
+     * @throws IOException if reading fails.
+     */
+    private LogFileLinesDto readLines(String filename, Path path, SparseLineIndex.Checkpoint checkpoint,
+                                      long firstLine, int count) throws IOException {
+        List<String> lines = new ArrayList<>(Math.min(count, 1024));
+        long[] lineNumber = {checkpoint.line()};
+        boolean[] hasMore = {false};
+
+        try (InputStream in = openAt(path, checkpoint.offset())) {
+            LineScanner.scan(in, checkpoint.offset(), (buffer, from, to, offset) -> {
+                if (lines.size() == count) {
+                    hasMore[0] = true;
+                    return false;
+                }
+                if (lineNumber[0]++ >= firstLine) {
+                    lines.add(new String(buffer, from, to - from, StandardCharsets.UTF_8));
+                }
+                return true;
+            }, true);
+        }
+
+        long totalLines = hasMore[0] ? Math.max(checkpoint.totalLines(), lineNumber[0] + 1) : lineNumber[0];
+        return new LogFileLinesDto(filename, firstLine + 1, lines, totalLines, hasMore[0]);
+    }
+
+    /**
+     * Opens a log file at the given offset. Plain files are positioned directly; compressed files are
+     * decompressed up to the offset.
+     *
+     * @param path   Path of the log file.
+     * @param offset Offset within the decompressed content.
+     * @return {@link InputStream} positioned at the offset.
+     * @throws IOException if the file cannot be read.
+     */
+    private InputStream openAt(Path path, long offset) throws IOException {
+        if (LogFiles.isCompressed(path)) {
+            InputStream in = LogFiles.newInputStream(path);
+            try {
+                in.skipNBytes(offset);
+                return in;
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(offset);
+        return Channels.newInputStream(channel);
+    }
+
+    /**
+     * Builds the requested page from the first {@code offset + pageSize} files kept in a bounded heap.
+     *
+     * @param topK          Heap holding the best files, worst first.
+     * @param comparator    Order of the listing.
+     * @param totalElements Number of files matching the filter.
+     * @param pageable      The pagination details.
+     * @return A PageableDto containing the page, total elements, current page, and total pages.
      */
-    private PageableDto<LogFileMetadataDto> applyPagination(List<LogFileMetadataDto> dtos, Pageable pageable) {
-        long totalElements = dtos.size();
+    private PageableDto<LogFileMetadataDto> toPage(PriorityQueue<LogFileMetadataDto> topK,
+                                                   Comparator<LogFileMetadataDto> comparator,
+                                                   long totalElements, Pageable pageable) {
         int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        List<LogFileMetadataDto> best = new ArrayList<>(topK);
+        best.sort(comparator);
+
+        int start = (int) Math.min(pageable.getOffset(), best.size());
+        List<LogFileMetadataDto> page = start < best.size()
+                ? best.subList(start, best.size())
+                : Collections.emptyList();
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), dtos.size());
+        return new PageableDto<>(page, totalElements, pageable.getPageNumber(), totalPages);
+    }
 
-        List<LogFileMetadataDto> paginatedList =
-                (start < totalElements) ? dtos.subList(start, end) : Collections.emptyList();
+    /**
+     * Translates the requested sort into a comparator of log files. Ties and unsorted requests are
+     * ordered by filename, so pages are stable.
+     *
+     * @param sort Requested sort.
+     * @return comparator of {@link LogFileMetadataDto}.
+     * @throws BadRequestException if a property cannot be sorted by.
+     */
+    static Comparator<LogFileMetadataDto> toComparator(Sort sort) {
+        Comparator<LogFileMetadataDto> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<LogFileMetadataDto> next = switch (order.getProperty()) {
+                case "filename", "name" -> Comparator.comparing(LogFileMetadataDto::filename);
+                case "byteSize", "size" -> Comparator.comparingLong(LogFileMetadataDto::byteSize);
+                case "lastModified" -> Comparator.comparing(LogFileMetadataDto::lastModified);
+                default -> throw new BadRequestException(
+                        String.format(ErrorMessage.INVALID_LOG_SORT_PROPERTY, order.getProperty()));
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<LogFileMetadataDto> byName = Comparator.comparing(LogFileMetadataDto::filename);
+        return comparator == null ? byName : comparator.thenComparing(byName);
+    }
 
-        return new PageableDto<>(paginatedList, totalElements, pageable.getPageNumber(), totalPages);
+    /**
+     * Converts a discovered log file to its metadata. The size and date were read during discovery,
+     * so the file is not accessed again.
+     *
+     * @param entry Discovered log file.
+     * @return {@link LogFileMetadataDto} without matched terms.
+     */
+    private LogFileMetadataDto toMetadata(LogFileEntry entry) {
+        return new LogFileMetadataDto(
+                entry.filename(),
+                entry.byteSize(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.lastModifiedMillis()), ZoneId.systemDefault()));
     }
 
     /**
-     * Filters a log file metadata object based on the given filter criteria.
+     * Filters a log file metadata object based on the metadata part of the given filter criteria.
+     * The file content is not read here, see {@link #matchFileContent}.
      *
      * @param fileDto   The log file metadata to be filtered.
      * @param filterDto The filter criteria that will be applied.
-     * @return true if the log file metadata matches all filter criteria, false
+     * @return true if the log file metadata matches all metadata criteria, false
      *         otherwise.
      * @author Hrenevych Ivan
      */
@@ -150,32 +428,41 @@ public class LogFileServiceImpl implements LogFileService {
             return true;
         }
 
-        try {
-            Supplier<Stream<String>> linesStreamSupplier = () -> {
-                try {
-                    return Files.lines(getLogFile(fileDto.filename()).toPath());
-                } catch (IOException e) {
-                    throw new FileReadException("Error reading file: " + fileDto.filename(), e);
-                }
-            };
+        return matchesFileNameQuery(fileDto.filename(), filterDto.fileNameQuery())
+                && matchesByteSize(fileDto.byteSize(), filterDto.byteSizeRangeDto())
+                && matchesDateRange(fileDto.lastModified(), filterDto.dateRangeDto());
+    }
 
-            boolean matchesFileContentQuery;
-            try (Stream<String> linesStream = linesStreamSupplier.get()) {
-                matchesFileContentQuery = matchesFileContentQuery(linesStream, filterDto.fileContentQuery());
-            }
+    /**
+     * Reads the log file once and evaluates the content query, terms, expression and log level on it.
+     * The scan state is cached per file and normalized filter, so an unchanged file is not read again and
+     * a grown file is only read from where the previous scan stopped.
+     *
+     * @param path           Path of the log file.
+     * @param fileDto        The log file metadata.
+     * @param contentMatcher {@link LogContentMatcher} compiled from the filter.
+     * @return the metadata with matched terms if the file satisfies the content criteria, empty otherwise.
+     */
+    private Optional<LogFileMetadataDto> matchFileContent(Path path, LogFileMetadataDto fileDto,
+                                                          LogContentMatcher contentMatcher) {
+        if (contentMatcher.isEmpty()) {
+            return Optional.of(fileDto);
+        }
 
-            boolean matchesLogLevel;
-            try (Stream<String> linesStream = linesStreamSupplier.get()) {
-                matchesLogLevel = matchesLogLevel(linesStream, filterDto.logLevel());
-            }
+        try {
+            LogContentMatcher.ContentScanResult result = fileStateCache.update(
+                    path,
+                    CONTENT_ANALYZER_PREFIX + contentMatcher.cacheKey(),
+                    contentMatcher::newState,
+                    contentMatcher::scan,
+                    LogContentMatcher.ScanState::toResult).result();
 
-            return matchesFileNameQuery(fileDto.filename(), filterDto.fileNameQuery())
-                    && matchesFileContentQuery
-                    && matchesByteSize(fileDto.byteSize(), filterDto.byteSizeRangeDto())
-                    && matchesDateRange(fileDto.lastModified(), filterDto.dateRangeDto())
-                    && matchesLogLevel;
-        } catch (FileReadException e) {
-            return false;
+            return contentMatcher.matches(result)
+                    ? Optional.of(fileDto.withMatchedTerms(contentMatcher.matchedTerms(result)))
+                    : Optional.empty();
+        } catch (IOException e) {
+            log.warn(String.format(ErrorMessage.CANNOT_READ_LOG_FILE, fileDto.filename()), e);
+            return Optional.empty();
         }
     }
 
@@ -192,21 +479,6 @@ public class LogFileServiceImpl implements LogFileService {
                 || filename.toLowerCase().contains(fileNameFilter.toLowerCase());
     }
 
-    /**
-     * Checks if the log file's content contains the given query filter.
-     *
-     * @param fileContentStream Stream of lines of the log file.
-     * @param fileContentFilter The filter to match against the file content. Can be
-     *                          null.
-     * @return true if the file content contains the given text, false otherwise.
-     * @author Hrenevych Ivan
-     */
-    private boolean matchesFileContentQuery(Stream<String> fileContentStream, String fileContentFilter) {
-        return fileContentFilter == null
-                || fileContentStream.map(String::toLowerCase)
-                .anyMatch(line -> line.contains(fileContentFilter.toLowerCase()));
-    }
-
     /**
      * Checks if the log file's byte size is within the specified range.
      *
@@ -234,18 +506,4 @@ public class LogFileServiceImpl implements LogFileService {
         return dateRangeDto == null
                 || (!fileDate.isBefore(dateRangeDto.from()) && !fileDate.isAfter(dateRangeDto.to()));
     }
-
-    /**
-     * Checks if the log file contains the specified log level.
-     *
-     * @param fileContentStream Stream of lines of the log file.
-     * @param logLevel          The log level filter. Can be null.
-     * @return true if the log file contains the specified log level, false
-     *         otherwise.
-     * @author Hrenevych Ivan
-     */
-    private boolean matchesLogLevel(Stream<String> fileContentStream, LogLevel logLevel) {
-        return logLevel == null
-                || fileContentStream.anyMatch(line -> line.contains(logLevel.toString()));
-    }
 }
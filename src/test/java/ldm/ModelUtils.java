@@ -53,6 +53,10 @@ public class ModelUtils {
 
     public static LogFileFilterDto getLogFileFilterDto() {
         return new LogFileFilterDto("test",
+                null,
+                null,
+                null,
+                null,
                 null,
                 new ByteSizeRangeDto(0, 1000),
                 null,
@@ -65,6 +69,10 @@ public class ModelUtils {
                 "fileContent",
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
                 LogLevel.INFO);
     }
 }
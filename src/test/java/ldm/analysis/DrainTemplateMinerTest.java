@@ -0,0 +1,102 @@
+package ldm.analysis;
+
+import com.softserve.ldm.analysis.DrainTemplateMiner;
+import com.softserve.ldm.analysis.LogTemplate;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.search.LineScanner;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DrainTemplateMinerTest {
+    private static final String LOG = """
+        2025-01-01 10:00:00.000  INFO 1 --- [main] c.e.OrderService : Order 17 processed in 15 ms
+        2025-01-01 10:00:01.000  INFO 1 --- [main] c.e.OrderService : Order 18 processed in 7 ms
+        2025-01-01 10:00:02.000  INFO 1 --- [main] c.e.UserService : User alice logged in
+        2025-01-01 10:00:03.000  INFO 1 --- [main] c.e.UserService : User bob logged in
+        2025-01-01 10:00:04.000  INFO 1 --- [main] c.e.OrderService : Order 19 processed in 22 ms
+        2025-01-01 10:00:05.000 ERROR 1 --- [main] c.e.OrderService : Payment gateway unavailable
+        \tat com.example.order.PaymentClient.charge(PaymentClient.java:42)
+        """;
+
+    @Test
+    void messagesShouldBeClusteredIntoTemplatesTest() throws IOException {
+        DrainTemplateMiner miner = new DrainTemplateMiner(new LdmProperties.Templates());
+
+        scan(miner, LOG);
+        List<LogTemplate> templates = miner.snapshot().stream()
+            .sorted(Comparator.comparingLong(LogTemplate::getCount).reversed())
+            .toList();
+
+        assertEquals(3, templates.size());
+        assertEquals(6, miner.getTotalMessages());
+        assertEquals("Order <*> processed in <*> ms", templates.get(0).getTemplate());
+        assertEquals(3, templates.get(0).getCount());
+        assertEquals(List.of(List.of("17", "18", "19"), List.of("15", "7", "22")),
+            templates.get(0).getParameterSamples());
+        assertEquals("User <*> logged in", templates.get(1).getTemplate());
+        assertEquals(List.of(List.of("alice", "bob")), templates.get(1).getParameterSamples());
+        assertEquals("Payment gateway unavailable", templates.get(2).getTemplate());
+    }
+
+    @Test
+    void leastRecentlyMatchedTemplateShouldBeEvictedTest() throws IOException {
+        LdmProperties.Templates settings = new LdmProperties.Templates();
+        settings.setMaxTemplates(2);
+        DrainTemplateMiner miner = new DrainTemplateMiner(settings);
+
+        scan(miner, """
+            Cache warmed up
+            Order 1 processed in 5 ms
+            Cache warmed up
+            Scheduler started with two workers
+            """);
+
+        assertEquals(1, miner.getEvictedClusters());
+        assertEquals(List.of("Cache warmed up", "Scheduler started with two workers"),
+            miner.snapshot().stream().map(LogTemplate::getTemplate).toList());
+    }
+
+    @Test
+    void comparedTemplatesShouldNotCountAsRecentlyMatchedTest() throws IOException {
+        LdmProperties.Templates settings = new LdmProperties.Templates();
+        settings.setMaxTemplates(2);
+        settings.setSimilarityThreshold(0.9);
+        DrainTemplateMiner miner = new DrainTemplateMiner(settings);
+
+        scan(miner, """
+            Job import done
+            Task export ok
+            Job cleanup failed
+            Job cleanup failed
+            """);
+
+        assertEquals(1, miner.getEvictedClusters());
+        assertEquals(List.of("Task export ok", "Job cleanup failed"),
+            miner.snapshot().stream().map(LogTemplate::getTemplate).toList());
+        assertEquals(2, miner.snapshot().getLast().getCount());
+    }
+
+    @Test
+    void parameterSamplesShouldBeBoundedTest() throws IOException {
+        LdmProperties.Templates settings = new LdmProperties.Templates();
+        settings.setParameterSamples(2);
+        DrainTemplateMiner miner = new DrainTemplateMiner(settings);
+
+        scan(miner, "User alice logged in\nUser bob logged in\nUser carol logged in\n");
+
+        LogTemplate template = miner.snapshot().getFirst();
+        assertEquals(3, template.getCount());
+        assertEquals(List.of(List.of("alice", "bob")), template.getParameterSamples());
+    }
+
+    private static void scan(DrainTemplateMiner miner, String content) throws IOException {
+        LineScanner.scan(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), 0, miner, false);
+    }
+}
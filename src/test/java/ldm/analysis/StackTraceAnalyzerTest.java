@@ -0,0 +1,76 @@
+package ldm.analysis;
+
+import com.softserve.ldm.analysis.ExceptionGroup;
+import com.softserve.ldm.analysis.StackTraceAnalyzer;
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.search.LineScanner;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StackTraceAnalyzerTest {
+    private static final String LOG = """
+        2025-01-01 10:00:00.000 ERROR 1 --- [main] c.e.OrderService : Order failed
+        java.lang.IllegalStateException: Order 1 cannot be processed
+        \tat com.example.order.OrderService.process(OrderService.java:42)
+        \tat org.springframework.aop.Proxy.invoke(Proxy.java:10)
+        \tat com.example.order.OrderController.create(OrderController.java:17)
+        Caused by: java.io.IOException: Broken pipe
+        \tat java.base/sun.nio.ch.IOUtil.write(IOUtil.java:62)
+        \t... 12 more
+        2025-01-01 10:05:00.000  INFO 1 --- [main] c.e.OrderService : Retrying
+        2025-01-01 11:00:00.000 ERROR 1 --- [main] c.e.OrderService : Order failed
+        java.lang.IllegalStateException: Order 2 cannot be processed
+        \tat com.example.order.OrderService.process(OrderService.java:45)
+        \tat org.springframework.aop.Proxy.invoke(Proxy.java:10)
+        \tat com.example.order.OrderController.create(OrderController.java:17)
+        2025-01-01 12:00:00.000 ERROR 1 --- [main] c.e.UserService : Lookup failed
+        java.lang.NullPointerException
+        \tat com.example.user.UserService.find(UserService.java:8)
+        """;
+
+    @Test
+    void stackTracesShouldBeGroupedByClassAndApplicationFramesTest() throws IOException {
+        StackTraceAnalyzer analyzer = new StackTraceAnalyzer(new LdmProperties.Analysis());
+
+        scan(analyzer, LOG);
+        List<ExceptionGroup> groups = analyzer.snapshot().stream()
+            .sorted(Comparator.comparingLong(ExceptionGroup::getCount).reversed())
+            .toList();
+
+        assertEquals(2, groups.size());
+        ExceptionGroup top = groups.getFirst();
+        assertEquals("java.lang.IllegalStateException", top.getExceptionClass());
+        assertEquals("java.io.IOException", top.getRootCauseClass());
+        assertEquals(List.of("com.example.order.OrderService.process", "com.example.order.OrderController.create"),
+            top.getFrames());
+        assertEquals(2, top.getCount());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 10, 0), top.getFirstSeen());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 11, 0), top.getLastSeen());
+        assertTrue(top.getSample().startsWith("java.lang.IllegalStateException: Order 1"));
+        assertEquals("java.lang.NullPointerException", groups.get(1).getExceptionClass());
+    }
+
+    @Test
+    void openTraceShouldBeCompletedByNextScanTest() throws IOException {
+        StackTraceAnalyzer analyzer = new StackTraceAnalyzer(new LdmProperties.Analysis());
+        int split = LOG.indexOf("\tat com.example.order.OrderController");
+
+        scan(analyzer, LOG.substring(0, split));
+        assertEquals(1, analyzer.snapshot().size());
+
+        scan(analyzer, LOG.substring(split));
+        assertEquals(3, analyzer.snapshot().stream().mapToLong(ExceptionGroup::getCount).sum());
+    }
+
+    private static void scan(StackTraceAnalyzer analyzer, String content) throws IOException {
+        LineScanner.scan(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), 0, analyzer, false);
+    }
+}
@@ -0,0 +1,117 @@
+package ldm.analysis;
+
+import com.softserve.ldm.analysis.HyperLogLog;
+import com.softserve.ldm.analysis.SpaceSaving;
+import com.softserve.ldm.analysis.TDigest;
+import com.softserve.ldm.analysis.ValueExtractor;
+import com.softserve.ldm.analysis.ValueSketch;
+import com.softserve.ldm.config.LdmProperties;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueSketchTest {
+
+    @Test
+    void hyperLogLogShouldEstimateDistinctValuesOfMergedSketchesTest() {
+        LdmProperties.Sketches settings = new LdmProperties.Sketches();
+        ValueSketch first = new ValueSketch(settings);
+        ValueSketch second = new ValueSketch(settings);
+        for (int i = 0; i < 60_000; i++) {
+            first.add("user-" + i);
+            second.add("user-" + (i + 40_000));
+        }
+
+        ValueSketch merged = first.copy().merge(second);
+        double error = Math.abs(merged.estimateDistinct() - 100_000) / 100_000.0;
+
+        assertEquals(120_000, merged.getTotal());
+        assertTrue(error < 4 * merged.distinctRelativeError(), "Estimate " + merged.estimateDistinct());
+        assertEquals(60_000, first.getTotal());
+    }
+
+    @Test
+    void spaceSavingShouldKeepFrequentValuesTest() {
+        SpaceSaving summary = new SpaceSaving(3);
+        for (int i = 0; i < 100; i++) {
+            summary.offer("GET /orders");
+            summary.offer("rare-" + i);
+            if (i % 2 == 0) {
+                summary.offer("GET /users");
+            }
+        }
+
+        List<SpaceSaving.Counter> counters = summary.counters();
+
+        assertEquals("GET /orders", counters.get(0).value());
+        assertTrue(counters.get(0).count() - counters.get(0).error() <= 100);
+        assertTrue(counters.get(0).count() >= 100);
+        assertEquals("GET /users", counters.get(1).value());
+    }
+
+    @Test
+    void topValuesShouldBeBoundedByBothSketchesTest() {
+        LdmProperties.Sketches settings = new LdmProperties.Sketches();
+        settings.setTopKCapacity(2);
+        ValueSketch first = new ValueSketch(settings);
+        ValueSketch second = new ValueSketch(settings);
+        for (int i = 0; i < 50; i++) {
+            first.add("10.0.0.1");
+            second.add("10.0.0.1");
+            second.add("10.0.0." + (i + 2));
+        }
+
+        List<ValueSketch.Frequency> top = first.merge(second).topValues(1);
+
+        assertEquals("10.0.0.1", top.getFirst().value());
+        assertEquals(100, top.getFirst().estimatedCount());
+        assertTrue(top.getFirst().guaranteedCount() <= 100);
+    }
+
+    @Test
+    void extractorShouldReadRegexGroupAndJsonFieldTest() {
+        ValueExtractor regex = ValueExtractor.regex("client=(\\S+)");
+        ValueExtractor json = ValueExtractor.jsonField("mdc.userId");
+
+        assertEquals("10.0.0.7", extract(regex, "INFO request client=10.0.0.7 took 5 ms"));
+        assertNull(extract(regex, "INFO request without client"));
+        assertEquals("42", extract(json, "{\"level\":\"INFO\",\"mdc\":{\"trace\":{\"id\":1},\"userId\":42}}"));
+        assertNull(extract(json, "{\"mdc\":{\"userId\":{\"id\":42}}}"));
+        assertNull(extract(json, "plain text line"));
+    }
+
+    @Test
+    void hyperLogLogShouldRejectMergeOfDifferentPrecisionTest() {
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    void tDigestShouldEstimateQuantilesOfMergedDigestsTest() {
+        TDigest first = new TDigest(100);
+        TDigest second = new TDigest(100);
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            first.add(random.nextDouble() * 1_000);
+            second.add(random.nextDouble() * 1_000);
+        }
+
+        first.merge(second);
+
+        assertEquals(100_000, first.size());
+        assertEquals(10, first.quantile(0.01), 2);
+        assertEquals(500, first.quantile(0.5), 10);
+        assertEquals(990, first.quantile(0.99), 2);
+        assertTrue(first.quantile(0) >= 0 && first.quantile(1) < 1_000);
+    }
+
+    private static String extract(ValueExtractor extractor, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return extractor.extract(bytes, 0, bytes.length);
+    }
+}
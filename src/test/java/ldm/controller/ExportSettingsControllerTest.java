@@ -2,14 +2,17 @@ package ldm.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softserve.ldm.config.CustomPageableHandlerMethodArgumentResolver;
+import com.softserve.ldm.config.LdmProperties;
 import com.softserve.ldm.constant.ErrorMessage;
 import com.softserve.ldm.controller.ExportSettingsController;
 import com.softserve.ldm.dto.PageableAdvancedDto;
 import com.softserve.ldm.dto.EnvironmentDto;
+import com.softserve.ldm.dto.SchemaCatalogDto;
 import com.softserve.ldm.dto.TableParamsRequestDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
 import com.softserve.ldm.exception.exceptions.DatabaseMetadataException;
 import com.softserve.ldm.exception.handler.LdmExceptionHandler;
+import com.softserve.ldm.governor.QueryGovernor;
 import com.softserve.ldm.service.ExportSettingsService;
 import ldm.ModelUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.web.servlet.error.DefaultErrorAttributes;
 import org.springframework.boot.web.servlet.error.ErrorAttributes;
@@ -25,16 +29,24 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +55,7 @@ class ExportSettingsControllerTest {
     private static final TableParamsRequestDto tableParams = ModelUtils.tableParamsRequestDto();
     private static final String SETTINGS_CONTROLLER_LINK = "/export/settings";
     private static final String TABLE_NAME = tableParams.tableName();
-    private static final String INVALID_TABLE_NAME = "users1";
+    private static final String INVALID_TABLE_NAME = "users;drop";
     private static final String NOT_EXISTS_TABLE_NAME = "usersssssss";
     private static final String SECRET_KEY = "validSecret";
     private static final int LIMIT = tableParams.limit();
@@ -59,6 +71,8 @@ class ExportSettingsControllerTest {
     private ExportSettingsController exportSettingsController;
     @Mock
     private ExportSettingsService exportSettingsService;
+    @Spy
+    private QueryGovernor queryGovernor = new QueryGovernor(new LdmProperties());
 
     @BeforeEach
     void setup() {
@@ -82,6 +96,25 @@ class ExportSettingsControllerTest {
                 .andExpect(content().json(expectedJson));
     }
 
+    @Test
+    void getSchemaCatalogShouldBeRevalidatedByEtagTest() throws Exception {
+
+        SchemaCatalogDto catalog = new SchemaCatalogDto("public", "4f0c2a9d81be3e67", Instant.EPOCH, List.of());
+        when(exportSettingsService.getSchemaCatalog(null, SECRET_KEY)).thenReturn(catalog);
+
+        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/schema-catalog")
+                        .header("Secret-Key", SECRET_KEY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4f0c2a9d81be3e67\""))
+                .andExpect(jsonPath("$.schema").value("public"));
+
+        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/schema-catalog")
+                        .header("Secret-Key", SECRET_KEY)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"4f0c2a9d81be3e67\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void getSelectedWithValidParamsTest() throws Exception {
 
@@ -89,7 +122,7 @@ class ExportSettingsControllerTest {
         when(exportSettingsService.selectFromTable(tableParams.tableName(), pageable, ExportSettingsControllerTest.SECRET_KEY)).thenReturn(pageableResult);
         String expectedJson = objectMapper.writeValueAsString(pageableResult);
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/select")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/select")
                         .param("tableName", TABLE_NAME)
                         .param("page", String.valueOf(PAGE))
                         .param("size", String.valueOf(SIZE))
@@ -106,7 +139,7 @@ class ExportSettingsControllerTest {
                 .when(exportSettingsService)
                 .selectFromTable(INVALID_TABLE_NAME, PageRequest.of(PAGE, SIZE), ExportSettingsControllerTest.SECRET_KEY);
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/select")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/select")
                         .param("tableName", INVALID_TABLE_NAME)
                         .param("page", String.valueOf(PAGE))
                         .param("size", String.valueOf(SIZE))
@@ -123,7 +156,7 @@ class ExportSettingsControllerTest {
                 .when(exportSettingsService)
                 .selectFromTable(NOT_EXISTS_TABLE_NAME, pageable, ExportSettingsControllerTest.SECRET_KEY);
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/select")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/select")
                         .param("tableName", NOT_EXISTS_TABLE_NAME)
                         .param("page", String.valueOf(PAGE))
                         .param("size", String.valueOf(SIZE))
@@ -185,7 +218,7 @@ class ExportSettingsControllerTest {
         when(exportSettingsService.getExcelFileAsResource(tableParams, ExportSettingsControllerTest.SECRET_KEY))
                 .thenReturn(excelResource);
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
                         .param("tableName", TABLE_NAME)
                         .param("limit", String.valueOf(LIMIT))
                         .param("offset", String.valueOf(OFFSET))
@@ -199,7 +232,7 @@ class ExportSettingsControllerTest {
     @Test
     void downloadExcelWithInvalidTableNameTest() throws Exception {
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
                         .param("tableName", INVALID_TABLE_NAME)
                         .param("limit", String.valueOf(LIMIT))
                         .param("offset", String.valueOf(OFFSET))
@@ -216,7 +249,7 @@ class ExportSettingsControllerTest {
                 .when(exportSettingsService)
                 .getExcelFileAsResource(tableParamsWithNotValidTableName, ExportSettingsControllerTest.SECRET_KEY);
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
                         .param("tableName", NOT_EXISTS_TABLE_NAME)
                         .param("limit", String.valueOf(LIMIT))
                         .param("offset", String.valueOf(OFFSET))
@@ -231,7 +264,7 @@ class ExportSettingsControllerTest {
 
         int negativeOffset = -1;
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
                         .param("tableName", TABLE_NAME)
                         .param("limit", String.valueOf(LIMIT))
                         .param("offset", String.valueOf(negativeOffset))
@@ -246,7 +279,7 @@ class ExportSettingsControllerTest {
 
         int negativeLimit = -1;
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
                         .param("tableName", TABLE_NAME)
                         .param("limit", String.valueOf(negativeLimit))
                         .param("offset", String.valueOf(OFFSET))
@@ -261,7 +294,7 @@ class ExportSettingsControllerTest {
 
         int invalidLimit = 100_000;
 
-        mockMvc.perform(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
+        performAsync(get(SETTINGS_CONTROLLER_LINK + "/download-table-data")
                         .param("tableName", TABLE_NAME)
                         .param("limit", String.valueOf(invalidLimit))
                         .param("offset", String.valueOf(OFFSET))
@@ -284,4 +317,11 @@ class ExportSettingsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(expectedJson));
     }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
 }
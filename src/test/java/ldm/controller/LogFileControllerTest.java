@@ -1,8 +1,14 @@
 package ldm.controller;
 
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.constant.AppConstant;
+import com.softserve.ldm.constant.ErrorMessage;
 import com.softserve.ldm.controller.LogFileController;
 import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.dto.LogFileLinesDto;
+import com.softserve.ldm.exception.exceptions.BadSecretKeyException;
 import com.softserve.ldm.exception.handler.LdmExceptionHandler;
+import com.softserve.ldm.governor.ScanGovernor;
 import com.softserve.ldm.service.DotenvService;
 import com.softserve.ldm.service.LogFileService;
 import ldm.ModelUtils;
@@ -11,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.web.servlet.error.DefaultErrorAttributes;
 import org.springframework.boot.web.servlet.error.ErrorAttributes;
@@ -21,8 +28,11 @@ import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +42,7 @@ class LogFileControllerTest {
 
     private static final String GET_LOG_FILES_LIST_LINK = "/logs";
     private static final String VIEW_LOG_FILE_LINK = "/logs/view/{filename}";
+    private static final String VIEW_LOG_FILE_LINES_LINK = "/logs/lines/{filename}";
     private static final String DOWNLOAD_LOG_FILE_LINK = "/logs/download/{filename}";
     private static final String DELETE_DOTENV_FILE_LINK = "/logs/delete-dotenv";
     private static final String SECRET_KEY = "validSecret";
@@ -47,6 +58,9 @@ class LogFileControllerTest {
     @Mock
     private DotenvService dotenvService;
 
+    @Spy
+    private ScanGovernor scanGovernor = new ScanGovernor(new LdmProperties());
+
     private final ErrorAttributes errorAttributes = new DefaultErrorAttributes();
 
     @BeforeEach
@@ -74,15 +88,33 @@ class LogFileControllerTest {
             }
             """;
 
-        mockMvc.perform(post(GET_LOG_FILES_LIST_LINK + "?page=5&size=20")
+        MvcResult mvcResult = mockMvc.perform(post(GET_LOG_FILES_LIST_LINK + "?page=5&size=20")
             .content(requestBody)
             .header("Secret-Key", LogFileControllerTest.SECRET_KEY)
             .contentType(MediaType.APPLICATION_JSON)
             .accept(MediaType.APPLICATION_JSON))
-            .andExpect(status().isOk());
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(AppConstant.SCAN_BYTES_HEADER));
         verify(logFileService).listLogFiles(page, filterDto, LogFileControllerTest.SECRET_KEY);
     }
 
+    @Test
+    void listLogFilesShouldNotTakeScanPermitWithInvalidSecretKeyTest() throws Exception {
+        doThrow(new BadSecretKeyException(ErrorMessage.BAD_SECRET_KEY)).when(dotenvService).validateSecretKey("bad");
+
+        mockMvc.perform(post(GET_LOG_FILES_LIST_LINK)
+            .content("{\"filterDto\": {}}")
+            .header("Secret-Key", "bad")
+            .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isForbidden());
+        verify(scanGovernor, never()).submit(any());
+    }
+
     @Test
     void getLogFileShouldReturnOkWhenRequestIsValidTest() throws Exception {
         String filename = "logfile.log";
@@ -98,13 +130,34 @@ class LogFileControllerTest {
             .andExpect(content().string(fileContent));
     }
 
+    @Test
+    void viewLogFileLinesShouldReturnOkWhenRequestIsValidTest() throws Exception {
+        String filename = "logfile.log";
+        LogFileLinesDto linesDto = new LogFileLinesDto(filename, 4_000_000, List.of("line"), 4_000_200, true);
+
+        when(logFileService.sanitizeFilename("/" + filename)).thenReturn(filename);
+        when(logFileService.viewLogFileLines(filename, 4_000_000, 200, LogFileControllerTest.SECRET_KEY))
+            .thenReturn(linesDto);
+
+        MvcResult mvcResult = mockMvc.perform(get(VIEW_LOG_FILE_LINES_LINK + "?from=4000000&count=200", filename)
+            .header("Secret-Key", LogFileControllerTest.SECRET_KEY))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lines[0]").value("line"))
+            .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
     @Test
     void downloadLogFileShouldReturnOkWhenFileExistsTest() throws Exception {
         String filename = "logfile.log";
         byte[] fileContent = "Log file content".getBytes();
         ByteArrayResource resource = new ByteArrayResource(fileContent);
 
-        when(logFileService.generateDownloadLogFileUrl(logFileService.sanitizeFilename(filename), LogFileControllerTest.SECRET_KEY))
+        when(logFileService.sanitizeFilename("/" + filename)).thenReturn(filename);
+        when(logFileService.generateDownloadLogFileUrl(filename, LogFileControllerTest.SECRET_KEY))
             .thenReturn(resource);
 
         mockMvc.perform(get(DOWNLOAD_LOG_FILE_LINK, filename)
@@ -112,7 +165,22 @@ class LogFileControllerTest {
             .header("Secret-Key", LogFileControllerTest.SECRET_KEY))
             .andExpect(status().isOk())
             .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
-                "attachment; filename=\"" + logFileService.sanitizeFilename(filename) + "\""))
+                "attachment; filename=\"" + filename + "\""))
             .andExpect(content().bytes(fileContent));
     }
+
+    @Test
+    void downloadLogFileShouldAcceptFileInSubdirectoryTest() throws Exception {
+        String filename = "archive/2025/app.log";
+        ByteArrayResource resource = new ByteArrayResource("Log file content".getBytes());
+
+        when(logFileService.sanitizeFilename("/" + filename)).thenReturn(filename);
+        when(logFileService.generateDownloadLogFileUrl(filename, LogFileControllerTest.SECRET_KEY))
+            .thenReturn(resource);
+
+        mockMvc.perform(get("/logs/download/" + filename)
+            .header("Secret-Key", LogFileControllerTest.SECRET_KEY))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"app.log\""));
+    }
 }
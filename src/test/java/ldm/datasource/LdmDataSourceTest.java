@@ -0,0 +1,90 @@
+package ldm.datasource;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.exception.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LdmDataSourceTest {
+    @Mock
+    private DataSource applicationDataSource;
+
+    @Mock
+    private ObjectProvider<DataSource> dataSourceProvider;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private LdmProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LdmProperties();
+        properties.getDatasource().setMaxConcurrentQueries(1);
+        properties.getDatasource().setConnectionTimeout(Duration.ofMillis(50));
+        when(dataSourceProvider.getObject()).thenReturn(applicationDataSource);
+    }
+
+    @Test
+    void statementsShouldGetTimeoutAndFetchSizeTest() throws SQLException {
+        when(applicationDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+
+        try (Connection borrowed = new LdmDataSource(properties, dataSourceProvider).getConnection()) {
+            assertSame(preparedStatement, borrowed.prepareStatement("SELECT 1"));
+        }
+
+        verify(preparedStatement).setQueryTimeout(30);
+        verify(preparedStatement).setFetchSize(1000);
+        verify(connection).close();
+    }
+
+    @Test
+    void borrowedConnectionShouldBeReadOnlyUntilClosedTest() throws SQLException {
+        when(applicationDataSource.getConnection()).thenReturn(connection);
+
+        new LdmDataSource(properties, dataSourceProvider).getConnection().close();
+
+        InOrder order = inOrder(connection);
+        order.verify(connection).setReadOnly(true);
+        order.verify(connection).setReadOnly(false);
+        order.verify(connection).close();
+    }
+
+    @Test
+    void sharedDataSourceShouldBeLimitedToMaxConcurrentQueriesTest() throws SQLException {
+        when(applicationDataSource.getConnection()).thenReturn(connection);
+        LdmDataSource dataSource = new LdmDataSource(properties, dataSourceProvider);
+
+        Connection first = dataSource.getConnection();
+        LdmDataSource.PoolStats stats = dataSource.stats();
+        assertThrows(TooManyRequestsException.class, dataSource::getConnection);
+        first.close();
+        first.close();
+
+        assertFalse(stats.dedicated());
+        assertEquals(1, stats.active());
+        assertEquals(0, dataSource.stats().active());
+        dataSource.getConnection().close();
+        verify(applicationDataSource, times(2)).getConnection();
+    }
+}
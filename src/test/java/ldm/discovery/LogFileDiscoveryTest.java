@@ -0,0 +1,105 @@
+package ldm.discovery;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.discovery.LogFileDiscovery;
+import com.softserve.ldm.discovery.LogFileEntry;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.exception.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogFileDiscoveryTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void discoverShouldApplyGlobsAndRecursionTest() throws IOException {
+        write("app.log");
+        write("app.txt");
+        write("archive/app-2025.log");
+        write("archive/old/app-2024.log");
+        write("tmp/scratch.log");
+        LdmProperties.Root root = root("app", directory);
+        root.setRecursive(true);
+        root.setExclude(List.of("tmp", "**/old/**"));
+
+        List<String> names = new LogFileDiscovery(properties(root)).discover().stream()
+            .map(LogFileEntry::filename)
+            .sorted()
+            .toList();
+
+        assertEquals(List.of("app.log", "archive/app-2025.log"), names);
+    }
+
+    @Test
+    void discoverShouldPrefixFileNamesWithRootNameTest() throws IOException {
+        write("app/app.log");
+        write("audit/audit.log");
+        LogFileDiscovery discovery = new LogFileDiscovery(properties(
+            root("app", directory.resolve("app")), root("audit", directory.resolve("audit"))));
+
+        List<LogFileEntry> entries = discovery.discover();
+
+        assertEquals(List.of("app/app.log", "audit/audit.log"), entries.stream().map(LogFileEntry::filename).toList());
+        assertEquals(directory.resolve("audit/audit.log"), discovery.resolve("audit/audit.log"));
+        assertThrows(NotFoundException.class, () -> discovery.resolve("other/app.log"));
+    }
+
+    @Test
+    void resolveShouldRejectFilesOutsideOfRootTest() {
+        LogFileDiscovery discovery = new LogFileDiscovery(properties(root("app", directory.resolve("app"))));
+
+        assertThrows(BadRequestException.class, () -> discovery.resolve("../secret.log"));
+        assertThrows(NotFoundException.class, () -> discovery.resolve("app.txt"));
+    }
+
+    @Test
+    void resolveShouldOnlyAcceptFilesTheListingShowsTest() throws IOException {
+        write("app/app.log");
+        write("app/archive/app.log");
+        write("app/sub/app.log");
+        write("secret.log");
+        Files.createSymbolicLink(directory.resolve("app/link.log"), directory.resolve("secret.log"));
+        LdmProperties.Root root = root("app", directory.resolve("app"));
+        root.setExclude(List.of("archive"));
+        LogFileDiscovery discovery = new LogFileDiscovery(properties(root));
+
+        assertEquals(directory.resolve("app/app.log"), discovery.resolve("app.log"));
+        assertThrows(NotFoundException.class, () -> discovery.resolve("archive/app.log"));
+        assertThrows(NotFoundException.class, () -> discovery.resolve("sub/app.log"));
+        assertThrows(BadRequestException.class, () -> discovery.resolve("link.log"));
+    }
+
+    @Test
+    void discoveryShouldRejectDuplicateRootNamesTest() {
+        LdmProperties properties = properties(root("app", directory), root("app", directory.resolve("other")));
+
+        assertThrows(IllegalStateException.class, () -> new LogFileDiscovery(properties));
+    }
+
+    private void write(String name) throws IOException {
+        Path file = directory.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "line\n");
+    }
+
+    private static LdmProperties.Root root(String name, Path path) {
+        LdmProperties.Root root = new LdmProperties.Root();
+        root.setName(name);
+        root.setPath(path.toString());
+        return root;
+    }
+
+    private static LdmProperties properties(LdmProperties.Root... roots) {
+        LdmProperties properties = new LdmProperties();
+        properties.getLogs().setRoots(List.of(roots));
+        return properties;
+    }
+}
@@ -0,0 +1,42 @@
+package ldm.export;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.export.WatermarkStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WatermarkStoreTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void savedWatermarkShouldBeFoundByProfileAndTableTest() throws IOException {
+        LdmProperties properties = new LdmProperties();
+        properties.getExport().setWatermarkFile(directory.resolve("state/watermarks.json").toString());
+        WatermarkStore store = new WatermarkStore(properties);
+
+        store.save("nightly", "users", new WatermarkStore.Watermark("updated_at", "2025-01-01T00:00"));
+        store.save("nightly", "orders", new WatermarkStore.Watermark("id", "42"));
+        store.save("nightly", "users", new WatermarkStore.Watermark("updated_at", "2025-01-02T00:00"));
+
+        WatermarkStore reopened = new WatermarkStore(properties);
+        assertEquals(Optional.of(new WatermarkStore.Watermark("updated_at", "2025-01-02T00:00")),
+            reopened.find("nightly", "users"));
+        assertEquals(Optional.of(new WatermarkStore.Watermark("id", "42")), reopened.find("nightly", "orders"));
+        assertEquals(Optional.empty(), reopened.find("hourly", "users"));
+    }
+
+    @Test
+    void profilesShouldBeRejectedWithoutWatermarkFileTest() {
+        WatermarkStore store = new WatermarkStore(new LdmProperties());
+
+        assertThrows(BadRequestException.class, () -> store.find("nightly", "users"));
+    }
+}
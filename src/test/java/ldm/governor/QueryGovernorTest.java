@@ -0,0 +1,120 @@
+package ldm.governor;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.exception.exceptions.TooManyRequestsException;
+import com.softserve.ldm.governor.QueryContext;
+import com.softserve.ldm.governor.QueryGovernor;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryGovernorTest {
+
+    @Test
+    void queriesShouldBeLimitedPerSecretKeyTest() throws InterruptedException {
+        LdmProperties properties = new LdmProperties();
+        properties.getExport().getGovernor().setMaxConcurrentQueriesPerKey(1);
+        properties.getExport().getGovernor().setQueueTimeout(Duration.ZERO);
+        QueryGovernor governor = new QueryGovernor(properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        DeferredResult<ResponseEntity<String>> running = governor.submit("first", () -> {
+            started.countDown();
+            await(release);
+            return ResponseEntity.ok("done");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        DeferredResult<ResponseEntity<String>> rejected = governor.submit("first", () -> ResponseEntity.ok("no"));
+        DeferredResult<ResponseEntity<String>> otherKey = governor.submit("second", () -> ResponseEntity.ok("yes"));
+
+        awaitResult(rejected);
+        awaitResult(otherKey);
+        release.countDown();
+        awaitResult(running);
+
+        assertInstanceOf(TooManyRequestsException.class, rejected.getResult());
+        assertEquals("yes", ((ResponseEntity<?>) otherKey.getResult()).getBody());
+        assertEquals("done", ((ResponseEntity<?>) running.getResult()).getBody());
+        assertEquals("again", ((ResponseEntity<?>) awaitResult(
+            governor.submit("first", () -> ResponseEntity.ok("again"))).getResult()).getBody());
+    }
+
+    @Test
+    void statementTimeoutShouldNotExceedRequestTimeoutTest() throws InterruptedException, SQLException {
+        LdmProperties properties = new LdmProperties();
+        properties.getExport().getGovernor().setTimeout(Duration.ofSeconds(10));
+        QueryGovernor governor = new QueryGovernor(properties);
+        Statement statement = mock(Statement.class);
+        when(statement.getQueryTimeout()).thenReturn(30);
+
+        awaitResult(governor.submit("key", () -> {
+            try {
+                QueryContext.register(statement);
+                QueryContext.setQueryTimeout(statement, 3600);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return ResponseEntity.ok("done");
+        }));
+
+        verify(statement, times(2)).setQueryTimeout(intThat(timeout -> timeout > 0 && timeout <= 10));
+        verify(statement, never()).setQueryTimeout(intThat(timeout -> timeout == 0 || timeout > 10));
+    }
+
+    @Test
+    void streamShouldHoldPermitAndCancelStatementsWhenWriteFailsTest() throws Exception {
+        LdmProperties properties = new LdmProperties();
+        properties.getExport().getGovernor().setMaxConcurrentQueriesPerKey(1);
+        properties.getExport().getGovernor().setQueueTimeout(Duration.ZERO);
+        QueryGovernor governor = new QueryGovernor(properties);
+        Statement statement = mock(Statement.class);
+
+        DeferredResult<ResponseEntity<StreamingResponseBody>> export = awaitResult(governor.submitStream("key",
+            () -> ResponseEntity.ok(out -> {
+                try {
+                    QueryContext.register(statement);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                throw new IOException("Broken pipe");
+            })));
+
+        assertInstanceOf(TooManyRequestsException.class,
+            awaitResult(governor.submit("key", () -> ResponseEntity.ok("no"))).getResult());
+        StreamingResponseBody body = (StreamingResponseBody) ((ResponseEntity<?>) export.getResult()).getBody();
+        assertThrows(IOException.class, () -> body.writeTo(new ByteArrayOutputStream()));
+        verify(statement).cancel();
+        assertEquals("again", ((ResponseEntity<?>) awaitResult(
+            governor.submit("key", () -> ResponseEntity.ok("again"))).getResult()).getBody());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> DeferredResult<T> awaitResult(DeferredResult<T> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(result.hasResult());
+        return result;
+    }
+}
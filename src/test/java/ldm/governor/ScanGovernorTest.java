@@ -0,0 +1,121 @@
+package ldm.governor;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.exception.exceptions.TooManyRequestsException;
+import com.softserve.ldm.governor.ScanGovernor;
+import com.softserve.ldm.governor.TokenBucket;
+import com.softserve.ldm.search.LineScanner;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanGovernorTest {
+
+    @Test
+    void scanShouldBeRejectedWhenConcurrencyLimitIsReachedTest() throws InterruptedException {
+        LdmProperties properties = new LdmProperties();
+        properties.getLogs().getGovernor().setMaxConcurrentScans(1);
+        ScanGovernor governor = new ScanGovernor(properties);
+        CountDownLatch release = new CountDownLatch(1);
+
+        DeferredResult<ResponseEntity<String>> running = governor.submit(() -> {
+            await(release);
+            return "done";
+        });
+
+        assertThrows(TooManyRequestsException.class, () -> governor.submit(() -> "rejected"));
+        release.countDown();
+        awaitResult(running);
+        assertEquals("done", ((ResponseEntity<?>) running.getResult()).getBody());
+    }
+
+    @Test
+    void scanShouldReportCostInHeadersTest() throws InterruptedException {
+        ScanGovernor governor = new ScanGovernor(new LdmProperties());
+
+        DeferredResult<ResponseEntity<Long>> result = governor.submit(() -> scan(new byte[1000]));
+        awaitResult(result);
+
+        ResponseEntity<?> response = (ResponseEntity<?>) result.getResult();
+        assertEquals("1000", response.getHeaders().getFirst("X-Scan-Bytes"));
+    }
+
+    @Test
+    void streamShouldHoldScanPermitUntilItCompletesTest() throws Exception {
+        LdmProperties properties = new LdmProperties();
+        properties.getLogs().getGovernor().setMaxConcurrentScans(1);
+        ScanGovernor governor = new ScanGovernor(properties);
+
+        DeferredResult<ResponseEntity<StreamingResponseBody>> result = governor.submitStream(new HttpHeaders(),
+            () -> out -> {
+                scan(new byte[100]);
+                out.write("done".getBytes(StandardCharsets.UTF_8));
+            });
+        awaitResult(result);
+
+        assertThrows(TooManyRequestsException.class, () -> governor.submit(() -> "rejected"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) ((ResponseEntity<?>) result.getResult()).getBody()).writeTo(out);
+        assertEquals("done", out.toString(StandardCharsets.UTF_8));
+        DeferredResult<ResponseEntity<String>> next = governor.submit(() -> "accepted");
+        awaitResult(next);
+        assertEquals("accepted", ((ResponseEntity<?>) next.getResult()).getBody());
+    }
+
+    @Test
+    void tokenBucketShouldDelayReadsAboveRateTest() {
+        TokenBucket bucket = new TokenBucket(1000);
+
+        long first = bucket.acquire(1000, () -> false);
+        long second = bucket.acquire(200, () -> false);
+
+        assertEquals(0, first);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(second) >= 150);
+    }
+
+    @Test
+    void cancelledWaitShouldReturnImmediatelyTest() {
+        TokenBucket bucket = new TokenBucket(10);
+
+        bucket.acquire(10, () -> false);
+        long waited = bucket.acquire(1000, () -> true);
+
+        assertEquals(0, waited);
+    }
+
+    private static long scan(byte[] content) {
+        try {
+            return LineScanner.scan(new ByteArrayInputStream(content), 0, (buffer, from, to, offset) -> true, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitResult(DeferredResult<?> result) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.hasResult() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(result.hasResult());
+    }
+}
@@ -0,0 +1,92 @@
+package ldm.maintenance;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.discovery.LogFileDiscovery;
+import com.softserve.ldm.discovery.LogFileEntry;
+import com.softserve.ldm.maintenance.LogMaintenanceService;
+import com.softserve.ldm.maintenance.MaintenanceReport;
+import com.softserve.ldm.search.FileStateCache;
+import com.softserve.ldm.search.LineScanner;
+import com.softserve.ldm.search.LogFiles;
+import com.softserve.ldm.search.SparseLineIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogMaintenanceServiceTest {
+    private static final String CONTENT = "line 1\nline 2\nline 3\n";
+
+    @TempDir
+    private Path logsDirectory;
+
+    private LdmProperties properties;
+    private LogFileDiscovery discovery;
+    private FileStateCache fileStateCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LdmProperties();
+        properties.getLogs().getRoots().getFirst().setPath(logsDirectory.toString());
+        properties.getLogs().setDiscoveryCacheTtl(Duration.ZERO);
+        discovery = new LogFileDiscovery(properties);
+        fileStateCache = new FileStateCache(properties);
+    }
+
+    @Test
+    void runShouldCompressOldFilesAndKeepTheirStateTest() throws IOException {
+        Path old = write("app.log", CONTENT, Duration.ofDays(10));
+        write("current.log", CONTENT, Duration.ZERO);
+        assertEquals(3, countLines(old).result());
+
+        MaintenanceReport report = new LogMaintenanceService(properties, discovery, fileStateCache).run();
+        Path compressed = logsDirectory.resolve("app.log.gz");
+        FileStateCache.ScanOutcome<Long> afterCompression = countLines(compressed);
+
+        assertEquals(1, report.compressedFiles());
+        assertFalse(Files.exists(old));
+        assertEquals(CONTENT, LogFiles.readString(compressed));
+        assertEquals(List.of("app.log.gz", "current.log"),
+            discovery.discover().stream().map(LogFileEntry::filename).sorted().toList());
+        assertEquals(3, afterCompression.result());
+        assertEquals(0, afterCompression.scannedBytes());
+        assertEquals(1, fileStateCache.stats().reused());
+    }
+
+    @Test
+    void runShouldDeleteFilesBeyondRetentionTest() throws IOException {
+        properties.getLogs().getMaintenance().setCompressAfter(null);
+        properties.getLogs().getMaintenance().setMaxAge(Duration.ofDays(5));
+        properties.getLogs().getMaintenance().setMaxTotalBytes(50);
+        write("active.log", "x".repeat(100), Duration.ZERO);
+        write("day1.log", "x".repeat(10), Duration.ofDays(1));
+        write("day2.log", "x".repeat(10), Duration.ofDays(2));
+        write("day6.log", "x".repeat(10), Duration.ofDays(6));
+
+        MaintenanceReport report = new LogMaintenanceService(properties, discovery, fileStateCache).run();
+
+        assertEquals(3, report.deletedFiles());
+        assertEquals(30, report.freedBytes());
+        assertEquals(List.of("active.log"), discovery.discover().stream().map(LogFileEntry::filename).toList());
+    }
+
+    private Path write(String name, String content, Duration age) throws IOException {
+        Path file = Files.writeString(logsDirectory.resolve(name), content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+
+    private FileStateCache.ScanOutcome<Long> countLines(Path path) throws IOException {
+        return fileStateCache.update(path, "line-index", () -> new SparseLineIndex(2),
+            (index, in, offset) -> LineScanner.scan(in, offset, index, false), SparseLineIndex::getLineCount);
+    }
+}
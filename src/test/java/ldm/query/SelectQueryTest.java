@@ -0,0 +1,210 @@
+package ldm.query;
+
+import com.softserve.ldm.dto.ColumnFilterDto;
+import com.softserve.ldm.dto.ColumnOperator;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.dto.TableQueryDto;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.query.KeyRange;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableIndexes;
+import com.softserve.ldm.query.TableSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class SelectQueryTest {
+    private static final TableSchema USERS = new TableSchema("users", columns());
+    private static final TableIndexes INDEXES = new TableIndexes(List.of("id"), List.of(
+        new TableIndexes.Index("users_role_created_at_idx", List.of(
+            new TableIndexes.IndexColumn("role", false), new TableIndexes.IndexColumn("created_at", false)))));
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Test
+    void selectSqlShouldProjectColumnsAndBindTypedConditionsTest() throws SQLException {
+        SelectQuery query = SelectQuery.of(USERS, new TableQueryDto(List.of("id", "EMAIL"), List.of(
+            new ColumnFilterDto("role", ColumnOperator.IN, null, List.of("ADMIN", "USER")),
+            new ColumnFilterDto("id", ColumnOperator.GT, "10"),
+            new ColumnFilterDto("created_at", ColumnOperator.LT, "2025-01-01T00:00:00"),
+            new ColumnFilterDto("email", ColumnOperator.LIKE, "%@example.com"),
+            new ColumnFilterDto("deleted_at", ColumnOperator.IS_NULL, null))));
+
+        assertEquals("SELECT \"id\", \"email\" FROM \"users\" WHERE \"role\" IN (?, ?) AND \"id\" > ? "
+            + "AND \"created_at\" < ? AND \"email\" LIKE ? AND \"deleted_at\" IS NULL LIMIT ? OFFSET ?",
+            query.toSelectSql("\""));
+        assertEquals("SELECT COUNT(*) FROM `users` WHERE `role` IN (?, ?) AND `id` > ? AND `created_at` < ? "
+            + "AND `email` LIKE ? AND `deleted_at` IS NULL", query.toCountSql("`"));
+        assertEquals(List.of("id", "email"), query.getColumns());
+
+        assertEquals(6, query.bind(preparedStatement));
+        InOrder bound = inOrder(preparedStatement);
+        bound.verify(preparedStatement).setObject(1, "ADMIN");
+        bound.verify(preparedStatement).setObject(2, "USER");
+        bound.verify(preparedStatement).setObject(3, 10L);
+        bound.verify(preparedStatement).setObject(4, LocalDateTime.of(2025, 1, 1, 0, 0));
+        bound.verify(preparedStatement).setObject(5, "%@example.com");
+    }
+
+    @Test
+    void schemaQualifiedTableShouldQuoteSchemaAndTableTest() {
+        SelectQuery query = SelectQuery.of(new TableSchema("sales\"q", "users", columns()), null);
+
+        assertEquals("SELECT * FROM \"sales\"\"q\".\"users\" LIMIT ? OFFSET ?", query.toSelectSql("\""));
+        assertEquals("SELECT COUNT(*) FROM `sales\"q`.`users`", query.toCountSql("`"));
+        assertEquals("sales\"q.users", query.getTableName());
+    }
+
+    @Test
+    void sampleSqlShouldFilterSampledRowsTest() {
+        SelectQuery query = SelectQuery.of(USERS, new TableQueryDto(List.of("id", "email"), List.of(
+            new ColumnFilterDto("role", ColumnOperator.EQ, "ADMIN"))));
+
+        assertEquals("SELECT * FROM (SELECT \"id\", \"email\" FROM \"users\" TABLESAMPLE BERNOULLI (2.500000) "
+            + "WHERE \"role\" = ?) ldm_sample ORDER BY random() LIMIT ?",
+            query.toSampleSql("\"", SampleMethod.BERNOULLI, 2.5, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> query.toSampleSql("\"", SampleMethod.RANDOM_KEYS, 2.5, null));
+    }
+
+    @Test
+    void emptyQueryShouldSelectAllColumnsTest() {
+        SelectQuery query = SelectQuery.of(USERS, null);
+
+        assertEquals("SELECT * FROM users LIMIT ? OFFSET ?", query.toSelectSql(""));
+        assertEquals(List.of("id", "email", "role", "created_at", "deleted_at"), query.getColumns());
+    }
+
+    @Test
+    void invalidColumnsAndValuesShouldBeRejectedTest() {
+        TableQueryDto unknownColumn = new TableQueryDto(List.of("password_hash"), null);
+        TableQueryDto notANumber = new TableQueryDto(null,
+            List.of(new ColumnFilterDto("id", ColumnOperator.EQ, "1 OR 1=1")));
+        TableQueryDto likeOnNumber = new TableQueryDto(null,
+            List.of(new ColumnFilterDto("id", ColumnOperator.LIKE, "1%")));
+
+        assertThrows(BadRequestException.class, () -> SelectQuery.of(USERS, unknownColumn));
+        assertThrows(BadRequestException.class, () -> SelectQuery.of(USERS, notANumber));
+        assertThrows(BadRequestException.class, () -> SelectQuery.of(USERS, likeOnNumber));
+        assertThrows(BadRequestException.class, () -> new ColumnFilterDto("id", ColumnOperator.IN, null, List.of()));
+    }
+
+    @Test
+    void sortShouldBeIndexedWhenAnIndexPrefixMatchesTest() {
+        SelectQuery byRole = SelectQuery.of(USERS, null).orderBy(Sort.by("role"), INDEXES);
+        SelectQuery byCreatedAtWithinRole = SelectQuery.of(USERS,
+                new TableQueryDto(null, List.of(new ColumnFilterDto("role", ColumnOperator.EQ, "ADMIN"))))
+            .orderBy(Sort.by(Sort.Order.desc("created_at")), INDEXES);
+        SelectQuery byCreatedAt = SelectQuery.of(USERS, null).orderBy(Sort.by("created_at"), INDEXES);
+        SelectQuery mixedDirections = SelectQuery.of(USERS, null)
+            .orderBy(Sort.by(Sort.Order.asc("role"), Sort.Order.desc("created_at")), INDEXES);
+
+        assertTrue(byRole.isSortIndexed());
+        assertEquals(List.of("role", "id"), byRole.getOrderColumns());
+        assertTrue(byCreatedAtWithinRole.isSortIndexed());
+        assertFalse(byCreatedAt.isSortIndexed());
+        assertFalse(mixedDirections.isSortIndexed());
+        assertTrue(SelectQuery.of(USERS, null).orderBy(Sort.unsorted(), INDEXES).isSortIndexed());
+        assertThrows(BadRequestException.class,
+            () -> SelectQuery.of(USERS, null).orderBy(Sort.by("password_hash"), INDEXES));
+    }
+
+    @Test
+    void cursorShouldSeekPastTheLastRowTest() throws SQLException {
+        SelectQuery query = SelectQuery.of(USERS, new TableQueryDto(List.of("email"),
+                List.of(new ColumnFilterDto("role", ColumnOperator.EQ, "ADMIN"))))
+            .orderBy(Sort.by(Sort.Order.desc("created_at")), INDEXES);
+        String cursor = query.createCursor(List.of(Timestamp.valueOf("2025-01-01 10:00:00"), 42L));
+        SelectQuery nextPage = query.after(cursor);
+
+        assertEquals("SELECT email, created_at, id FROM users WHERE role = ? ORDER BY created_at DESC, id DESC "
+            + "LIMIT ? OFFSET ?", query.toSelectSql(""));
+        assertEquals("SELECT email, created_at, id FROM users WHERE role = ? AND (created_at, id) < (?, ?) "
+            + "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?", nextPage.toSelectSql(""));
+        assertEquals("SELECT COUNT(*) FROM users WHERE role = ?", nextPage.toCountSql(""));
+
+        assertEquals(4, nextPage.bindSelect(preparedStatement));
+        InOrder bound = inOrder(preparedStatement);
+        bound.verify(preparedStatement).setObject(1, "ADMIN");
+        bound.verify(preparedStatement).setObject(2, LocalDateTime.of(2025, 1, 1, 10, 0));
+        bound.verify(preparedStatement).setObject(3, 42L);
+
+        SelectQuery mixedDirections = SelectQuery.of(USERS, null)
+            .orderBy(Sort.by(Sort.Order.asc("role"), Sort.Order.desc("created_at")), INDEXES);
+        assertEquals("SELECT * FROM users WHERE ((role > ?) OR (role = ? AND created_at < ?) "
+            + "OR (role = ? AND created_at = ? AND id < ?)) ORDER BY role ASC, created_at DESC, id DESC "
+            + "LIMIT ? OFFSET ?", mixedDirections.after(mixedDirections.createCursor(
+                List.of("ADMIN", Timestamp.valueOf("2025-01-01 10:00:00"), 42L))).toSelectSql(""));
+
+        SelectQuery byRole = SelectQuery.of(USERS, null).orderBy(Sort.by("role"), INDEXES);
+        assertThrows(BadRequestException.class, () -> byRole.after(cursor));
+        assertThrows(BadRequestException.class, () -> query.after("not-a-cursor"));
+        assertThrows(BadRequestException.class,
+            () -> SelectQuery.of(USERS, null).orderBy(Sort.by("role"), TableIndexes.NONE).after(cursor));
+    }
+
+    @Test
+    void sortByNullableColumnShouldNotBeSeekableTest() {
+        TableSchema users = new TableSchema(null, "users", columns(), Set.of("deleted_at"));
+        SelectQuery byDeletedAt = SelectQuery.of(users, null).orderBy(Sort.by("deleted_at"), INDEXES);
+        SelectQuery byCreatedAt = SelectQuery.of(users, null).orderBy(Sort.by("created_at"), INDEXES);
+        String cursor = byCreatedAt.createCursor(List.of(Timestamp.valueOf("2025-01-01 10:00:00"), 42L));
+
+        assertFalse(byDeletedAt.isSeekable());
+        assertNull(byDeletedAt.createCursor(List.of(Timestamp.valueOf("2025-01-01 10:00:00"), 42L)));
+        assertThrows(BadRequestException.class, () -> byDeletedAt.after(cursor));
+        assertTrue(byCreatedAt.isSeekable());
+        assertNotNull(cursor);
+    }
+
+    @Test
+    void integerPrimaryKeyShouldSplitIntoKeyRangesTest() throws SQLException {
+        SelectQuery query = SelectQuery.of(USERS, new TableQueryDto(List.of("email"),
+                List.of(new ColumnFilterDto("role", ColumnOperator.EQ, "ADMIN"))))
+            .orderBy(Sort.unsorted(), INDEXES);
+        List<KeyRange> ranges = KeyRange.split(1, 10, 3);
+
+        assertEquals(List.of(new KeyRange(1, 4, false), new KeyRange(4, 7, false), new KeyRange(7, 10, true)),
+            ranges);
+        assertEquals(List.of(new KeyRange(5, 5, true)), KeyRange.split(5, 5, 4));
+        assertEquals(2, KeyRange.split(Long.MIN_VALUE, Long.MAX_VALUE, 2).size());
+        assertEquals("SELECT MIN(id), MAX(id) FROM users WHERE role = ?", query.toKeyBoundsSql(""));
+        assertEquals("SELECT email, id FROM users WHERE role = ? AND id >= ? AND id <= ? ORDER BY id ASC",
+            query.inRange(ranges.get(2)).toExportSql(""));
+        assertTrue(SelectQuery.of(USERS, null).orderBy(Sort.by("role"), INDEXES).getPartitionColumn().isEmpty());
+
+        assertEquals(4, query.inRange(ranges.getFirst()).bindSelect(preparedStatement));
+        InOrder bound = inOrder(preparedStatement);
+        bound.verify(preparedStatement).setObject(1, "ADMIN");
+        bound.verify(preparedStatement).setObject(2, 1L);
+        bound.verify(preparedStatement).setObject(3, 4L);
+    }
+
+    private static Map<String, Integer> columns() {
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        columns.put("id", Types.BIGINT);
+        columns.put("email", Types.VARCHAR);
+        columns.put("role", Types.VARCHAR);
+        columns.put("created_at", Types.TIMESTAMP);
+        columns.put("deleted_at", Types.TIMESTAMP);
+        return columns;
+    }
+}
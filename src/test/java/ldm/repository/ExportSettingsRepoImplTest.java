@@ -1,8 +1,14 @@
 package ldm.repository;
 
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.ColumnFilterDto;
+import com.softserve.ldm.dto.ColumnOperator;
+import com.softserve.ldm.dto.TableQueryDto;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
 import com.softserve.ldm.exception.exceptions.DatabaseMetadataException;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableSchema;
 import com.softserve.ldm.repository.impl.ExportSettingsRepoImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +16,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import javax.sql.DataSource;
 import java.sql.*;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +37,7 @@ class ExportSettingsRepoImplTest {
     private ExportSettingsRepoImpl settingsRepo;
 
     @Mock
-    private DataSource dataSource;
+    private LdmDataSource dataSource;
 
     @Mock
     private Connection connection;
@@ -45,18 +55,49 @@ class ExportSettingsRepoImplTest {
     private PreparedStatement preparedStatement;
 
     @Test
-    void getTablesMetadataTest() throws Exception{
+    void getTablesMetadataShouldReadOnlyTheCurrentSchemaTest() throws Exception{
+        ResultSet tables = mock(ResultSet.class);
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.getMetaData()).thenReturn(databaseMetaData);
-        when(databaseMetaData.getTables(null, null, null, new String[] {"TABLE"})).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true, true, false);
+        when(connection.getSchema()).thenReturn("public");
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(databaseMetaData.getSearchStringEscape()).thenReturn("\\");
+        when(databaseMetaData.getTables(null, "public", "%", new String[] {"TABLE"})).thenReturn(tables);
+        when(tables.next()).thenReturn(true, false);
+        when(tables.getString("TABLE_NAME")).thenReturn(TABLE_NAME);
+        when(databaseMetaData.getColumns(null, "public", "%", "%")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getString("TABLE_NAME")).thenReturn(TABLE_NAME);
-        when(databaseMetaData.getColumns(null, null, TABLE_NAME, "%")).thenReturn(resultSet);
         when(resultSet.getString("COLUMN_NAME")).thenReturn("id");
 
         TablesMetadataDto result = settingsRepo.getTablesMetadata();
 
-        assertNotNull(result);
+        assertEquals(Map.of(TABLE_NAME, List.of("id")), result.tables());
+        verify(databaseMetaData, never()).getTables(null, null, null, new String[] {"TABLE"});
+    }
+
+    @Test
+    void getTableSchemasOfSchemaShouldReadAllColumnsInOneCallTest() throws Exception {
+        ResultSet tables = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(databaseMetaData.getSearchStringEscape()).thenReturn("\\");
+        when(databaseMetaData.getTables(null, "sales\\_eu", "%", new String[] {"TABLE"})).thenReturn(tables);
+        when(tables.next()).thenReturn(true, false);
+        when(tables.getString("TABLE_NAME")).thenReturn(TABLE_NAME);
+        when(databaseMetaData.getColumns(null, "sales\\_eu", "%", "%")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn(TABLE_NAME);
+        when(resultSet.getString("COLUMN_NAME")).thenReturn("id", "email");
+        when(resultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
+
+        Map<String, TableSchema> result = settingsRepo.getTableSchemas("sales_eu");
+
+        TableSchema users = result.get(TABLE_NAME);
+        assertEquals("sales_eu.users", users.qualifiedName());
+        assertEquals(List.of("id", "email"), users.columnNames());
+        verify(databaseMetaData, never()).getColumns(null, "sales\\_eu", TABLE_NAME, "%");
     }
 
     @Test
@@ -83,6 +124,30 @@ class ExportSettingsRepoImplTest {
         assertNotNull(result);
     }
 
+    @Test
+    void selectFromTableShouldBindConditionsLimitAndOffsetTest() throws Exception {
+        SelectQuery query = SelectQuery.of(new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER)),
+            new TableQueryDto(List.of("id"), List.of(new ColumnFilterDto("id", ColumnOperator.GT, "3"))));
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getIdentifierQuoteString()).thenReturn("\"");
+        when(connection.prepareStatement("SELECT \"id\" FROM \"users\" WHERE \"id\" > ? LIMIT ? OFFSET ?"))
+            .thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("id");
+        when(resultSet.getString(1)).thenReturn("4");
+
+        TableRowsDto result = settingsRepo.selectFromTable(query, LIMIT, OFFSET);
+
+        assertEquals(List.of(Map.of("id", "4")), result.tableData());
+        verify(preparedStatement).setObject(1, 3);
+        verify(preparedStatement).setInt(2, LIMIT);
+        verify(preparedStatement).setInt(3, OFFSET);
+    }
+
     @Test
     void selectPortionFromTableSQLExceptionThrownTest() throws Exception{
         when(dataSource.getConnection()).thenThrow(new SQLException());
@@ -0,0 +1,122 @@
+package ldm.repository;
+
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.SchemaCatalogDto;
+import com.softserve.ldm.repository.impl.SchemaCatalogRepoImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaCatalogRepoImplTest {
+    private static final String SCHEMA = "PUBLIC";
+
+    @Mock
+    private LdmDataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private PreparedStatement keysStatement;
+
+    @Test
+    void readCatalogShouldReadColumnsAndKeysOfAllTablesInBulkTest() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+        when(connection.getSchema()).thenReturn(SCHEMA);
+        ResultSet tables = resultSet(List.of(Map.of("TABLE_NAME", "users"), Map.of("TABLE_NAME", "orders")));
+        ResultSet columns = resultSet(List.of(
+            column("users", 1, "id", Types.BIGINT, "BIGINT", 64, DatabaseMetaData.columnNoNulls),
+            column("orders", 2, "user_id", Types.BIGINT, "BIGINT", 64, DatabaseMetaData.columnNullable),
+            column("orders", 1, "id", Types.BIGINT, "BIGINT", 64, DatabaseMetaData.columnNoNulls)));
+        ResultSet keys = resultSet(List.of(
+            key("orders", "orders_pk", "PRIMARY KEY", "id", null, null),
+            key("orders", "orders_user_fk", "FOREIGN KEY", "user_id", "users", "id"),
+            key("users", "users_pk", "PRIMARY KEY", "id", null, null)));
+        ResultSet ordersIndexes = resultSet(List.of(index("orders_user_idx", "user_id", true)));
+        ResultSet usersIndexes = resultSet(List.of());
+        when(metaData.getTables(null, SCHEMA, "%", new String[] {"TABLE"})).thenReturn(tables);
+        when(metaData.getColumns(null, SCHEMA, "%", "%")).thenReturn(columns);
+        when(connection.prepareStatement(contains("information_schema.table_constraints")))
+            .thenReturn(keysStatement);
+        when(keysStatement.executeQuery()).thenReturn(keys);
+        when(metaData.getIndexInfo(null, SCHEMA, "orders", false, true)).thenReturn(ordersIndexes);
+        when(metaData.getIndexInfo(null, SCHEMA, "users", false, true)).thenReturn(usersIndexes);
+
+        SchemaCatalogDto catalog = new SchemaCatalogRepoImpl(dataSource).readCatalog(null);
+
+        assertEquals(SCHEMA, catalog.schema());
+        assertEquals(List.of("orders", "users"), catalog.tables().stream().map(SchemaCatalogDto.Table::name).toList());
+        SchemaCatalogDto.Table orders = catalog.tables().getFirst();
+        assertEquals(List.of(new SchemaCatalogDto.Column("id", "BIGINT", Types.BIGINT, 64, false),
+            new SchemaCatalogDto.Column("user_id", "BIGINT", Types.BIGINT, 64, true)), orders.columns());
+        assertEquals(List.of("id"), orders.primaryKey());
+        assertEquals(List.of(new SchemaCatalogDto.ForeignKey("orders_user_fk", List.of("user_id"), "users",
+            List.of("id"))), orders.foreignKeys());
+        assertEquals(List.of(new SchemaCatalogDto.Index("orders_user_idx", false, List.of("user_id"))),
+            orders.indexes());
+        assertNull(orders.approximateRows());
+        verify(keysStatement).setString(1, SCHEMA);
+        verify(metaData, never()).getPrimaryKeys(any(), any(), anyString());
+        verify(connection).close();
+    }
+
+    private static Map<String, Object> column(String table, int position, String name, int type, String typeName,
+                                              int size, int nullable) {
+        return Map.of("TABLE_NAME", table, "ORDINAL_POSITION", position, "COLUMN_NAME", name, "DATA_TYPE", type,
+            "TYPE_NAME", typeName, "COLUMN_SIZE", size, "NULLABLE", nullable);
+    }
+
+    private static Map<String, Object> key(String table, String name, String type, String column,
+                                           String referencedTable, String referencedColumn) {
+        Map<String, Object> row = new HashMap<>(Map.of("1", table, "2", name, "3", type, "4", column));
+        row.put("6", referencedTable);
+        row.put("7", referencedColumn);
+        return row;
+    }
+
+    private static Map<String, Object> index(String name, String column, boolean nonUnique) {
+        return Map.of("INDEX_NAME", name, "COLUMN_NAME", column, "NON_UNIQUE", nonUnique,
+            "TYPE", DatabaseMetaData.tableIndexOther);
+    }
+
+    /**
+     * Mocks a result set over rows keyed by column label, or by column index for positional reads.
+     */
+    private static ResultSet resultSet(List<Map<String, Object>> rows) throws SQLException {
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        int[] position = {-1};
+        Object[] last = {null};
+        when(rs.next()).thenAnswer(invocation -> ++position[0] < rows.size());
+        when(rs.wasNull()).thenAnswer(invocation -> last[0] == null);
+        when(rs.getString(anyString())).thenAnswer(invocation ->
+            (String) (last[0] = rows.get(position[0]).get(invocation.<String>getArgument(0))));
+        when(rs.getString(anyInt())).thenAnswer(invocation ->
+            (String) (last[0] = rows.get(position[0]).get(String.valueOf(invocation.<Integer>getArgument(0)))));
+        when(rs.getInt(anyString())).thenAnswer(invocation -> {
+            last[0] = rows.get(position[0]).get(invocation.<String>getArgument(0));
+            return last[0] == null ? 0 : ((Number) last[0]).intValue();
+        });
+        when(rs.getShort(anyString())).thenAnswer(invocation ->
+            ((Number) rows.get(position[0]).get(invocation.<String>getArgument(0))).shortValue());
+        when(rs.getBoolean(anyString())).thenAnswer(invocation ->
+            Boolean.TRUE.equals(rows.get(position[0]).get(invocation.<String>getArgument(0))));
+        return rs;
+    }
+}
@@ -0,0 +1,236 @@
+package ldm.repository;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.TabularWriter;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableIndexes;
+import com.softserve.ldm.query.TableSchema;
+import com.softserve.ldm.repository.impl.TableExportRepoImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TableExportRepoImplTest {
+    private static final String FIRST_RANGE_SQL =
+        "SELECT * FROM users WHERE id >= ? AND id < ? ORDER BY id ASC";
+    private static final String LAST_RANGE_SQL =
+        "SELECT * FROM users WHERE id >= ? AND id <= ? ORDER BY id ASC";
+
+    @Mock
+    private LdmDataSource dataSource;
+
+    @Mock
+    private Connection coordinator;
+
+    @Mock
+    private Connection worker;
+
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+
+    @Test
+    void exportRowsShouldReadKeyRangesInParallelAndKeepKeyOrderTest() throws Exception {
+        when(dataSource.getConnection()).thenReturn(coordinator, worker);
+        when(coordinator.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getIdentifierQuoteString()).thenReturn("");
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("H2");
+        PreparedStatement bounds = statement(coordinator, "SELECT MIN(id), MAX(id) FROM users");
+        ResultSet boundsRows = mock(ResultSet.class);
+        when(bounds.executeQuery()).thenReturn(boundsRows);
+        when(boundsRows.next()).thenReturn(true);
+        when(boundsRows.getObject(1)).thenReturn(1L);
+        when(boundsRows.getLong(1)).thenReturn(1L);
+        when(boundsRows.getLong(2)).thenReturn(10L);
+        PreparedStatement firstRange = rows(statement(coordinator, FIRST_RANGE_SQL), "1", "2");
+        PreparedStatement lastRange = rows(statement(worker, LAST_RANGE_SQL), "6", "10");
+        List<List<String>> written = new ArrayList<>();
+
+        long exported = new TableExportRepoImpl(dataSource, new LdmProperties()).exportRows(query(), 2,
+            collector(written));
+
+        assertEquals(4, exported);
+        assertEquals(List.of(List.of("1"), List.of("2"), List.of("6"), List.of("10")), written);
+        verify(firstRange).setObject(1, 1L);
+        verify(firstRange).setObject(2, 6L);
+        verify(lastRange).setObject(1, 6L);
+        verify(lastRange).setObject(2, 10L);
+        verify(coordinator).rollback();
+        verify(worker).close();
+    }
+
+    @Test
+    void exportRowsShouldReadSingleRangeWithoutParallelismTest() throws Exception {
+        when(dataSource.getConnection()).thenReturn(coordinator);
+        when(coordinator.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getIdentifierQuoteString()).thenReturn("");
+        rows(statement(coordinator, "SELECT * FROM users ORDER BY id ASC"), "1");
+        List<List<String>> written = new ArrayList<>();
+
+        long exported = new TableExportRepoImpl(dataSource, new LdmProperties()).exportRows(query(), 1,
+            collector(written));
+
+        assertEquals(1, exported);
+        verify(dataSource, times(1)).getConnection();
+        verify(coordinator).close();
+    }
+
+    @Test
+    void exportTablesShouldSpillToFilesAndWriteEveryTableOnceTest() throws Exception {
+        LdmProperties properties = new LdmProperties();
+        properties.getExport().setBatchMemoryBytes(0);
+        when(dataSource.getConnection()).thenReturn(coordinator);
+        when(coordinator.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getIdentifierQuoteString()).thenReturn("");
+        rows(statement(coordinator, "SELECT * FROM users ORDER BY id ASC"), "1", "2");
+        rows(statement(coordinator, "SELECT * FROM orders ORDER BY id ASC"), "7");
+        Map<String, List<List<String>>> written = new java.util.concurrent.ConcurrentHashMap<>();
+
+        long exported = new TableExportRepoImpl(dataSource, properties).exportTables(
+            List.of(query(), query("orders")), 2, new MultiTableWriter() {
+                @Override
+                public TabularWriter startTable(String name, List<String> columns) {
+                    return collector(written.computeIfAbsent(name, key -> new ArrayList<>()));
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+
+        assertEquals(3, exported);
+        assertEquals(Map.of("users", List.of(List.of("1"), List.of("2")), "orders", List.of(List.of("7"))),
+            written);
+        verify(coordinator, times(2)).close();
+    }
+
+    @Test
+    void sampleRowsShouldUseTableSampleSizedByTheRowEstimateTest() throws Exception {
+        when(dataSource.getConnection()).thenReturn(coordinator);
+        when(coordinator.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getIdentifierQuoteString()).thenReturn("\"");
+        PreparedStatement estimate = statement(coordinator,
+            "SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)");
+        ResultSet estimateRows = mock(ResultSet.class);
+        when(estimate.executeQuery()).thenReturn(estimateRows);
+        when(estimateRows.next()).thenReturn(true);
+        when(estimateRows.getDouble(1)).thenReturn(1_000_000.0);
+        PreparedStatement sample = rows(statement(coordinator,
+            "SELECT * FROM (SELECT * FROM \"users\" TABLESAMPLE SYSTEM (0.020000) REPEATABLE (7)) ldm_sample "
+                + "ORDER BY md5(ROW(ldm_sample.*)::text || '7') LIMIT ?"), "42", "977");
+        List<List<String>> written = new ArrayList<>();
+
+        long sampled = new TableExportRepoImpl(dataSource, new LdmProperties()).sampleRows(query(),
+            SampleMethod.SYSTEM, 100, 7L, collector(written));
+
+        assertEquals(2, sampled);
+        assertEquals(List.of(List.of("42"), List.of("977")), written);
+        verify(estimate).setString(1, "\"users\"");
+        verify(sample).setInt(1, 100);
+        verify(coordinator).close();
+    }
+
+    @Test
+    void sampleRowsByRandomKeysShouldReadOneRowPerSeekUntilFullTest() throws Exception {
+        when(dataSource.getConnection()).thenReturn(coordinator);
+        when(coordinator.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getIdentifierQuoteString()).thenReturn("");
+        PreparedStatement bounds = statement(coordinator, "SELECT MIN(id), MAX(id) FROM users");
+        ResultSet boundsRows = mock(ResultSet.class);
+        when(bounds.executeQuery()).thenReturn(boundsRows);
+        when(boundsRows.next()).thenReturn(true);
+        when(boundsRows.getObject(1)).thenReturn(1L);
+        when(boundsRows.getLong(1)).thenReturn(1L);
+        when(boundsRows.getLong(2)).thenReturn(1_000L);
+        PreparedStatement seek = statement(coordinator,
+            "SELECT * FROM users WHERE id >= ? AND id <= ? ORDER BY id ASC LIMIT ? OFFSET ?");
+        ResultSet first = seekRow(4, true);
+        ResultSet again = seekRow(4, false);
+        ResultSet second = seekRow(7, true);
+        when(seek.executeQuery()).thenReturn(first, again, second);
+        List<List<String>> written = new ArrayList<>();
+
+        long sampled = new TableExportRepoImpl(dataSource, new LdmProperties()).sampleRows(query(),
+            SampleMethod.RANDOM_KEYS, 2, 3L, collector(written));
+
+        assertEquals(2, sampled);
+        assertEquals(List.of(List.of("4"), List.of("7")), written);
+        verify(seek, times(3)).executeQuery();
+        verify(seek, times(3)).setInt(3, 1);
+        verify(seek, times(3)).setObject(2, 1_000L);
+        verify(again, never()).getString(1);
+    }
+
+    private static ResultSet seekRow(long key, boolean written) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("id")).thenReturn(key);
+        if (written) {
+            ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+            when(resultSet.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnCount()).thenReturn(1);
+            when(resultSet.getString(1)).thenReturn(Long.toString(key));
+        }
+        return resultSet;
+    }
+
+    private static SelectQuery query() {
+        return query("users");
+    }
+
+    private static SelectQuery query(String table) {
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        columns.put("id", Types.BIGINT);
+        return SelectQuery.of(new TableSchema(table, columns), null)
+            .orderBy(Sort.unsorted(), new TableIndexes(List.of("id"), List.of()));
+    }
+
+    private static PreparedStatement statement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(sql)).thenReturn(statement);
+        return statement;
+    }
+
+    private static PreparedStatement rows(PreparedStatement statement, String first, String... more)
+        throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        Boolean[] next = new Boolean[more.length + 1];
+        java.util.Arrays.fill(next, 0, more.length, true);
+        next[more.length] = false;
+        when(resultSet.next()).thenReturn(true, next);
+        when(resultSet.getString(1)).thenReturn(first, more);
+        return statement;
+    }
+
+    private static TabularWriter collector(List<List<String>> written) {
+        return new TabularWriter() {
+            @Override
+            public void writeRow(List<String> values) {
+                written.add(values);
+            }
+
+            @Override
+            public void close() throws IOException {
+            }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package ldm.search;
+
+import com.softserve.ldm.dto.ContentQueryMode;
+import com.softserve.ldm.dto.JsonFieldFilterDto;
+import com.softserve.ldm.dto.JsonFieldOperator;
+import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.search.AhoCorasickAutomaton;
+import com.softserve.ldm.search.LogContentMatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogContentMatcherTest {
+    private static final String LOG = """
+        2025-01-01 10:00:00.000  INFO 1 --- [main] c.s.App : Started
+        2025-01-01 10:00:01.000 ERROR 1 --- [main] c.s.Db : Connection Refused by host
+        2025-01-01 10:00:02.000  WARN 1 --- [main] c.s.Http : Read timed out
+        """;
+
+    @Test
+    void automatonShouldFindOverlappingTermsCaseInsensitivelyTest() {
+        AhoCorasickAutomaton automaton = AhoCorasickAutomaton.compile(List.of("he", "she", "HERS", "his"), true);
+        byte[] input = "uSHErs".getBytes(StandardCharsets.UTF_8);
+        BitSet found = new BitSet();
+
+        automaton.match(input, 0, input.length, found);
+
+        assertEquals(BitSet.valueOf(new long[] {0b0111}), found);
+    }
+
+    @Test
+    void automatonShouldRespectCaseSensitivityTest() {
+        AhoCorasickAutomaton automaton = AhoCorasickAutomaton.compile(List.of("ERROR"), false);
+        byte[] input = "an error occurred".getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(automaton.containsAny(input, 0, input.length));
+    }
+
+    @Test
+    void scanShouldReportMatchedTermsTest() throws IOException {
+        LogContentMatcher matcher = LogContentMatcher.compile(filter(
+            null, List.of("connection refused", "NullPointerException", "timed out"), null, null));
+
+        LogContentMatcher.ContentScanResult result = matcher.scan(stream(LOG));
+
+        assertTrue(matcher.matches(result));
+        assertEquals(List.of("connection refused", "timed out"), matcher.matchedTerms(result));
+    }
+
+    @Test
+    void expressionShouldBeEvaluatedOnFoundTermsTest() throws IOException {
+        LogContentMatcher matching = LogContentMatcher.compile(filter(
+            null, null, "refused AND (\"timed out\" OR deadlock) AND NOT NullPointerException", LogLevel.ERROR));
+        LogContentMatcher notMatching = LogContentMatcher.compile(filter(
+            null, null, "refused AND NOT started", null));
+
+        assertTrue(matching.matches(matching.scan(stream(LOG))));
+        assertFalse(notMatching.matches(notMatching.scan(stream(LOG))));
+    }
+
+    @Test
+    void queryAndLogLevelShouldBeCheckedInSamePassTest() throws IOException {
+        LogContentMatcher matcher = LogContentMatcher.compile(filter("started", null, null, LogLevel.DEBUG));
+
+        assertFalse(matcher.matches(matcher.scan(stream(LOG))));
+    }
+
+    @Test
+    void regexModeShouldMatchLinesTest() throws IOException {
+        LogContentMatcher matching = LogContentMatcher.compile(regexFilter("c\\.s\\.(Db|Http) : Read \\w+"));
+        LogContentMatcher notMatching = LogContentMatcher.compile(regexFilter("ERROR \\d+ --- \\[worker"));
+
+        assertTrue(matching.matches(matching.scan(stream(LOG))));
+        assertFalse(notMatching.matches(notMatching.scan(stream(LOG))));
+    }
+
+    @Test
+    void invalidRegexShouldThrowBadRequestTest() {
+        LogFileFilterDto filterDto = regexFilter("(unclosed");
+
+        assertThrows(BadRequestException.class, () -> LogContentMatcher.compile(filterDto));
+    }
+
+    @Test
+    void emptyFilterShouldNotRequireScanTest() {
+        assertTrue(LogContentMatcher.compile(null).isEmpty());
+        assertTrue(LogContentMatcher.compile(filter(null, null, null, null)).isEmpty());
+    }
+
+    @Test
+    void malformedExpressionShouldThrowBadRequestTest() {
+        LogFileFilterDto filterDto = filter(null, null, "(timeout AND", null);
+
+        assertThrows(BadRequestException.class, () -> LogContentMatcher.compile(filterDto));
+    }
+
+    @Test
+    void jsonFieldFiltersShouldMatchOnSingleLineTest() throws IOException {
+        String log = """
+            {"@timestamp":"2025-01-01T10:00:00","level":"INFO","mdc":{"user":"alice"},"durationMs":120}
+            not a json line
+            {"@timestamp":"2025-01-01T10:00:01","level":"ERROR","stack":["a","b"],"mdc":{"user":"bob"},"durationMs":950}
+            """;
+
+        LogContentMatcher slowErrors = LogContentMatcher.compile(jsonFilter(List.of(
+            new JsonFieldFilterDto("level", JsonFieldOperator.EQ, "ERROR"),
+            new JsonFieldFilterDto("durationMs", JsonFieldOperator.GTE, "500"),
+            new JsonFieldFilterDto("mdc.user", JsonFieldOperator.NE, "alice"),
+            new JsonFieldFilterDto("traceId", JsonFieldOperator.NOT_EXISTS, null))));
+        LogContentMatcher slowInfo = LogContentMatcher.compile(jsonFilter(List.of(
+            new JsonFieldFilterDto("level", JsonFieldOperator.EQ, "INFO"),
+            new JsonFieldFilterDto("durationMs", JsonFieldOperator.GT, "500"))));
+        LogContentMatcher laterThan = LogContentMatcher.compile(jsonFilter(List.of(
+            new JsonFieldFilterDto("@timestamp", JsonFieldOperator.GT, "2025-01-01T10:00:00"),
+            new JsonFieldFilterDto("stack", JsonFieldOperator.EXISTS, null))));
+
+        assertTrue(slowErrors.matches(slowErrors.scan(stream(log))));
+        assertFalse(slowInfo.matches(slowInfo.scan(stream(log))));
+        assertTrue(laterThan.matches(laterThan.scan(stream(log))));
+    }
+
+    @Test
+    void jsonFieldFilterWithoutRequiredValueShouldThrowBadRequestTest() {
+        assertThrows(BadRequestException.class,
+            () -> new JsonFieldFilterDto("level", JsonFieldOperator.EQ, null));
+    }
+
+    private static LogFileFilterDto filter(String query, List<String> terms, String expression, LogLevel level) {
+        return new LogFileFilterDto(null, query, null, terms, expression, null, null, null, level);
+    }
+
+    private static LogFileFilterDto regexFilter(String regex) {
+        return new LogFileFilterDto(null, regex, ContentQueryMode.REGEX, null, null, null, null, null, null);
+    }
+
+    private static LogFileFilterDto jsonFilter(List<JsonFieldFilterDto> filters) {
+        return new LogFileFilterDto(null, null, null, null, null, filters, null, null, null);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package ldm.search;
+
+import com.softserve.ldm.search.CompiledRegex;
+import com.softserve.ldm.search.RegexLiteralExtractor;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegexLiteralExtractorTest {
+
+    private static Stream<Arguments> regexProvider() {
+        return Stream.of(
+            Arguments.of("Connection refused", Set.of("Connection refused")),
+            Arguments.of("user=\\d+ failed login", Set.of(" failed login")),
+            Arguments.of("OutOfMemoryError|StackOverflowError", Set.of("OutOfMemoryError", "StackOverflowError")),
+            Arguments.of("(?:GET|POST) /api/orders/\\d+", Set.of(" /api/orders/")),
+            Arguments.of("colou?r", Set.of("colo")),
+            Arguments.of("a\\.b\\.Service", Set.of("a.b.Service")),
+            Arguments.of("\\Qx.y(z)\\E+", Set.of("x.y(z)")),
+            Arguments.of("timeout|.*", Set.of()),
+            Arguments.of("[A-Z]+\\d*", Set.of()),
+            Arguments.of("(?x) a b c", Set.of()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("regexProvider")
+    void requiredLiteralsShouldBeExtractedTest(String regex, Set<String> expected) {
+        assertEquals(expected, RegexLiteralExtractor.requiredLiterals(regex));
+    }
+
+    @Test
+    void compiledRegexShouldBeCachedAndPrefilteredTest() {
+        CompiledRegex regex = CompiledRegex.of("(?i)deadlock detected on \\w+");
+        byte[] matching = "DEADLOCK DETECTED ON orders".getBytes(StandardCharsets.UTF_8);
+        byte[] notMatching = "nothing to see here".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(regex, CompiledRegex.of("(?i)deadlock detected on \\w+"));
+        assertTrue(regex.hasPrefilter());
+        assertTrue(regex.newLineMatcher().find(matching, 0, matching.length));
+        assertFalse(regex.newLineMatcher().find(notMatching, 0, notMatching.length));
+    }
+}
@@ -0,0 +1,170 @@
+package ldm.service;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.dto.ClusterLogFileDto;
+import com.softserve.ldm.dto.ClusterPageDto;
+import com.softserve.ldm.dto.LogFileMetadataDto;
+import com.softserve.ldm.dto.PageableDto;
+import com.softserve.ldm.dto.PeerResultDto;
+import com.softserve.ldm.dto.PeerStatus;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.exception.exceptions.FunctionalityNotAvailableException;
+import com.softserve.ldm.federation.PeerClient;
+import com.softserve.ldm.federation.PeerDirectory;
+import com.softserve.ldm.service.DotenvService;
+import com.softserve.ldm.service.LogFileService;
+import com.softserve.ldm.service.impl.ClusterLogServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterLogServiceImplTest {
+    private static final String SECRET_KEY = "secret";
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String PEER_PAGE = """
+        {
+          "page": [
+            {"filename": "b.log", "byteSize": 20, "lastModified": "2025-01-01T00:00:00"},
+            {"filename": "d.log", "byteSize": 40, "lastModified": "2025-01-01T00:00:00"}
+          ],
+          "totalElements": 7,
+          "currentPage": 0,
+          "totalPages": 4
+        }
+        """;
+
+    @Mock
+    private DotenvService dotenvService;
+
+    @Mock
+    private LogFileService logFileService;
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final AtomicReference<String> peerQuery = new AtomicReference<>();
+    private LdmProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LdmProperties();
+        LdmProperties.Federation federation = properties.getLogs().getFederation();
+        federation.setEnabled(true);
+        federation.setInstanceName("local");
+        federation.setPeerTimeout(Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+    }
+
+    @Test
+    void listLogFilesShouldMergeInstancesAndReportSlowPeersTest() throws IOException {
+        String answering = startPeer(PEER_PAGE, 0);
+        String slow = startPeer(PEER_PAGE, 3000);
+        properties.getLogs().getFederation().setPeers(List.of(answering, slow + "/"));
+        when(logFileService.listLogFiles(eq(PageRequest.of(0, 4, Sort.by("filename"))), any(), eq(SECRET_KEY)))
+            .thenReturn(new PageableDto<>(List.of(file("a.log"), file("c.log")), 2, 0, 1));
+
+        ClusterPageDto result = newService().listLogFiles(PageRequest.of(1, 2, Sort.by("filename")), null, SECRET_KEY);
+
+        assertEquals(List.of("local:c.log", answering + ":d.log"),
+            result.page().stream().map(file -> file.instance() + ":" + file.file().filename()).toList());
+        assertEquals("page=0&size=4&sort=filename,asc", peerQuery.get());
+        assertEquals(9, result.totalElements());
+        assertEquals(5, result.totalPages());
+        assertEquals(1, result.currentPage());
+        assertTrue(result.partial());
+        assertEquals(List.of(PeerStatus.OK, PeerStatus.OK, PeerStatus.TIMEOUT),
+            result.peers().stream().map(PeerResultDto::status).toList());
+        assertEquals(slow, result.peers().get(2).instance());
+    }
+
+    @Test
+    void listLogFilesShouldReportUnreachablePeersTest() throws IOException {
+        String unreachable;
+        try (ServerSocket closed = new ServerSocket(0)) {
+            unreachable = "http://localhost:" + closed.getLocalPort();
+        }
+        properties.getLogs().getFederation().setPeers(List.of(unreachable));
+        when(logFileService.listLogFiles(any(), any(), eq(SECRET_KEY)))
+            .thenReturn(new PageableDto<>(List.of(file("a.log")), 1, 0, 1));
+
+        ClusterPageDto result = newService().listLogFiles(PageRequest.of(0, 10), null, SECRET_KEY);
+
+        assertEquals(List.of("a.log"), result.page().stream().map(ClusterLogFileDto::file)
+            .map(LogFileMetadataDto::filename).toList());
+        assertTrue(result.partial());
+        assertEquals(PeerStatus.FAILED, result.peers().get(1).status());
+        assertNotNull(result.peers().get(1).error());
+    }
+
+    @Test
+    void listLogFilesShouldRejectDisabledFederationAndDeepPagesTest() {
+        PageRequest deepPage = PageRequest.of(50, 100);
+        ClusterLogServiceImpl service = newService();
+
+        assertThrows(BadRequestException.class, () -> service.listLogFiles(deepPage, null, SECRET_KEY));
+        properties.getLogs().getFederation().setEnabled(false);
+        assertThrows(FunctionalityNotAvailableException.class,
+            () -> service.listLogFiles(PageRequest.of(0, 10), null, SECRET_KEY));
+        verifyNoInteractions(logFileService);
+    }
+
+    private ClusterLogServiceImpl newService() {
+        PeerClient peerClient = new PeerClient(properties,
+            new StaticListableBeanFactory().getBeanProvider(RestClient.Builder.class));
+        return new ClusterLogServiceImpl(dotenvService, logFileService, new PeerDirectory(properties), peerClient,
+            properties);
+    }
+
+    private String startPeer(String body, long delayMillis) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/logs", exchange -> {
+            peerQuery.set(exchange.getRequestURI().getQuery());
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private static LogFileMetadataDto file(String filename) {
+        return new LogFileMetadataDto(filename, 10, DATE);
+    }
+}
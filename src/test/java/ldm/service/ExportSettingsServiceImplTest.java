@@ -1,29 +1,57 @@
 package ldm.service;
 
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.datasource.LdmDataSource;
+import com.softserve.ldm.dto.DataSourceStatsDto;
+import com.softserve.ldm.dto.IncrementalExportDto;
 import com.softserve.ldm.dto.PageableAdvancedDto;
+import com.softserve.ldm.dto.SampleMethod;
+import com.softserve.ldm.dto.SchemaTableDto;
 import com.softserve.ldm.dto.EnvironmentDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.ColumnFilterDto;
+import com.softserve.ldm.dto.ColumnOperator;
 import com.softserve.ldm.dto.TableParamsRequestDto;
+import com.softserve.ldm.dto.TableQueryDto;
 import com.softserve.ldm.dto.TableRowsDto;
+import com.softserve.ldm.dto.TableProfileDto;
+import com.softserve.ldm.dto.TableSampleDto;
 import com.softserve.ldm.dto.TablesMetadataDto;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
+import com.softserve.ldm.export.TabularWriter;
+import com.softserve.ldm.export.WatermarkStore;
+import com.softserve.ldm.query.SelectQuery;
+import com.softserve.ldm.query.TableCatalog;
+import com.softserve.ldm.query.TableIndexes;
+import com.softserve.ldm.query.TableProfileCache;
+import com.softserve.ldm.query.TableSchema;
 import com.softserve.ldm.repository.ExportSettingsRepo;
+import com.softserve.ldm.repository.TableExportRepo;
 import com.softserve.ldm.service.DotenvService;
 import com.softserve.ldm.service.impl.ExportSettingsServiceImpl;
 import com.softserve.ldm.service.ExportToFileService;
 import ldm.ModelUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.sql.Types;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,12 +68,30 @@ class ExportSettingsServiceImplTest {
     @Mock
     private ExportSettingsRepo exportSettingsRepo;
 
+    @Mock
+    private TableExportRepo tableExportRepo;
+
     @Mock
     private ExportToFileService exportToFileService;
 
     @Mock
     private DotenvService dotenvService;
 
+    @Mock
+    private TableCatalog tableCatalog;
+
+    @Spy
+    private LdmProperties properties = new LdmProperties();
+
+    @Mock
+    private LdmDataSource ldmDataSource;
+
+    @Mock
+    private WatermarkStore watermarkStore;
+
+    @Spy
+    private TableProfileCache tableProfileCache = new TableProfileCache(new LdmProperties());
+
     @Test
     void getTablesMetadataTest() {
 
@@ -60,20 +106,121 @@ class ExportSettingsServiceImplTest {
         verify(exportSettingsRepo, times(1)).getTablesMetadata();
     }
 
+    @Test
+    void getSchemaTablesShouldPageTableNamesOfTheSchemaTest() {
+
+        String secretKey = "validSecret";
+
+        when(tableCatalog.getTableNames("sales")).thenReturn(List.of("customers", "invoices", "orders"));
+
+        PageableAdvancedDto<SchemaTableDto> result =
+            settingsService.getSchemaTables("sales", PageRequest.of(1, 2), secretKey);
+
+        assertEquals(List.of(new SchemaTableDto("sales", "orders", "sales.orders")), result.getPage());
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertTrue(result.isLast());
+        verify(exportSettingsRepo, never()).getTableSchemas("sales");
+    }
+
+    @Test
+    void getSchemaTablesShouldQualifyOnlyNamesTheEndpointsAcceptTest() {
+
+        String secretKey = "validSecret";
+
+        when(tableCatalog.getTableNames("Sales")).thenReturn(List.of("Orders_2024", "order items"));
+
+        PageableAdvancedDto<SchemaTableDto> result =
+            settingsService.getSchemaTables("Sales", PageRequest.of(0, 10), secretKey);
+
+        assertEquals(List.of(new SchemaTableDto("Sales", "Orders_2024", "Sales.Orders_2024"),
+            new SchemaTableDto("Sales", "order items", null)), result.getPage());
+    }
+
+    @Test
+    void sampleTableShouldFallBackToRandomKeysWithoutTableSampleTest() throws Exception {
+
+        String secretKey = "validSecret";
+
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        columns.put("id", Types.BIGINT);
+        columns.put("email", Types.VARCHAR);
+        TableSchema users = new TableSchema(TABLE_NAME, columns);
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableCatalog.getIndexes(users)).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        when(tableExportRepo.supportsTableSample()).thenReturn(false);
+        when(tableExportRepo.sampleRows(any(), eq(SampleMethod.RANDOM_KEYS), eq(10), eq(3L), any()))
+            .thenAnswer(invocation -> {
+                invocation.<TabularWriter>getArgument(4).writeRow(List.of("7", "a@example.com"));
+                return 1L;
+            });
+
+        TableSampleDto result = settingsService.sampleTable(TABLE_NAME, null, 10, null, 3L, secretKey);
+
+        assertEquals(SampleMethod.RANDOM_KEYS, result.method());
+        assertEquals(List.of(Map.of("id", "7", "email", "a@example.com")), result.rows());
+        assertThrows(BadRequestException.class,
+            () -> settingsService.sampleTable(TABLE_NAME, null, 10, SampleMethod.SYSTEM, null, secretKey));
+        assertThrows(BadRequestException.class,
+            () -> settingsService.sampleTable(TABLE_NAME, null, 0, null, null, secretKey));
+    }
+
+    @Test
+    void profileTableShouldProfileAllColumnsInOnePassAndCacheTheResultTest() throws Exception {
+
+        String secretKey = "validSecret";
+
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        columns.put("id", Types.BIGINT);
+        columns.put("email", Types.VARCHAR);
+        TableSchema users = new TableSchema(TABLE_NAME, columns);
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableExportRepo.exportRows(any(), eq(1), any())).thenAnswer(invocation -> {
+            TabularWriter writer = invocation.getArgument(2);
+            writer.writeRow(List.of("1", "a@example.com"));
+            writer.writeRow(List.of("2", "a@example.com"));
+            writer.writeRow(Arrays.asList("3", null));
+            return 3L;
+        });
+
+        TableProfileDto result = settingsService.profileTable(TABLE_NAME, null, null, null, null, null, 5, secretKey);
+        TableProfileDto cached = settingsService.profileTable(TABLE_NAME, null, null, null, null, null, 5, secretKey);
+
+        assertSame(result, cached);
+        assertEquals(3, result.rows());
+        assertNull(result.sampleMethod());
+        TableProfileDto.Column id = result.columns().get(0);
+        assertEquals("1", id.min());
+        assertEquals("3", id.max());
+        assertEquals(3, id.distinctValues());
+        assertEquals(new TableProfileDto.Quantile(0.5, 2.0), id.quantiles().get(2));
+        TableProfileDto.Column email = result.columns().get(1);
+        assertEquals(1, email.nulls());
+        assertEquals("a@example.com", email.topValues().getFirst().value());
+        assertEquals(2, email.topValues().getFirst().estimatedCount());
+        assertEquals(List.of(new TableProfileDto.LengthBucket(8, 15, 2)), email.lengthHistogram());
+        verify(tableExportRepo, times(1)).exportRows(any(), eq(1), any());
+        verify(tableCatalog, never()).getIndexes(any());
+    }
+
     @Test
     void selectFromTableWithValidParamsTest() {
 
         String secretKey = "validSecret";
 
         TableRowsDto tableRowsDto = ModelUtils.getTableRowsDto();
-        when(exportSettingsRepo.selectPortionFromTable(TABLE_NAME, pageable.getPageSize(), (int) pageable.getOffset()))
-            .thenReturn(tableRowsDto);
+        TableSchema users = new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER, "email", Types.VARCHAR));
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableCatalog.getIndexes(users)).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        ArgumentCaptor<SelectQuery> query = ArgumentCaptor.forClass(SelectQuery.class);
+        when(exportSettingsRepo.selectFromTable(query.capture(), eq(pageable.getPageSize()),
+            eq((int) pageable.getOffset()))).thenReturn(tableRowsDto);
 
         PageableAdvancedDto<Map<String, String>> result = settingsService.selectFromTable(TABLE_NAME, pageable, secretKey);
 
         assertFalse(result.getPage().isEmpty());
-        verify(exportSettingsRepo, times(1)).selectPortionFromTable(TABLE_NAME, pageable.getPageSize(),
-            (int) pageable.getOffset());
+        assertTrue(query.getValue().toSelectSql("\"").contains("ORDER BY \"id\""));
+        verify(exportSettingsRepo, never()).selectPortionFromTable(anyString(), anyInt(), anyInt());
     }
 
     @Test
@@ -83,17 +230,19 @@ class ExportSettingsServiceImplTest {
 
         TableRowsDto tableRowsDto = populateTableRowDto();
         Pageable pageableForSecondPage = PageRequest.of(2, 2);
-        when(exportSettingsRepo.selectPortionFromTable(TABLE_NAME, pageableForSecondPage.getPageSize(),
-            (int) pageableForSecondPage.getOffset()))
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER)));
+        when(tableCatalog.getIndexes(any(TableSchema.class))).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        when(exportSettingsRepo.selectFromTable(any(SelectQuery.class), eq(pageableForSecondPage.getPageSize()),
+            eq((int) pageableForSecondPage.getOffset())))
             .thenReturn(tableRowsDto);
-        when(exportSettingsRepo.countRowsInTable(TABLE_NAME)).thenReturn(tableRowsDto.tableData().size());
+        when(exportSettingsRepo.countRows(any(SelectQuery.class))).thenReturn(tableRowsDto.tableData().size());
 
         PageableAdvancedDto<Map<String, String>> result =
             settingsService.selectFromTable(TABLE_NAME, pageableForSecondPage, secretKey);
 
         assertEquals(result.getTotalElements(), tableRowsDto.tableData().size());
-        verify(exportSettingsRepo, times(1)).selectPortionFromTable(TABLE_NAME, pageableForSecondPage.getPageSize(),
-            (int) pageableForSecondPage.getOffset());
+        verify(exportSettingsRepo, times(1)).selectFromTable(any(SelectQuery.class),
+            eq(pageableForSecondPage.getPageSize()), eq((int) pageableForSecondPage.getOffset()));
     }
 
     @Test
@@ -103,16 +252,84 @@ class ExportSettingsServiceImplTest {
 
         InputStream excelResource = new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5});
         TableRowsDto tableRowsDto = ModelUtils.getTableRowsDto();
-        when(exportSettingsRepo.selectPortionFromTable(TABLE_NAME, tableParams.limit(), tableParams.offset()))
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER)));
+        when(tableCatalog.getIndexes(any(TableSchema.class))).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        ArgumentCaptor<SelectQuery> query = ArgumentCaptor.forClass(SelectQuery.class);
+        when(exportSettingsRepo.selectFromTable(query.capture(), eq(tableParams.limit()), eq(tableParams.offset())))
             .thenReturn(tableRowsDto);
         when(exportToFileService.exportTableDataToExcel(tableRowsDto)).thenReturn(excelResource);
 
         InputStream result = settingsService.getExcelFileAsResource(tableParams, secretKey);
 
         assertNotNull(result);
+        assertTrue(query.getValue().toSelectSql("\"").contains("ORDER BY \"id\""));
         verify(exportToFileService, times(1)).exportTableDataToExcel(tableRowsDto);
     }
 
+    @Test
+    void selectFromTableWithQueryShouldFilterInDatabaseTest() {
+
+        String secretKey = "validSecret";
+
+        TableQueryDto queryDto = new TableQueryDto(List.of("email"),
+            List.of(new ColumnFilterDto("id", ColumnOperator.GTE, "5")));
+        when(tableCatalog.getTable(TABLE_NAME))
+            .thenReturn(new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER, "email", Types.VARCHAR)));
+        when(tableCatalog.getIndexes(any(TableSchema.class))).thenReturn(TableIndexes.NONE);
+        when(exportSettingsRepo.countRows(any(SelectQuery.class))).thenReturn(12);
+        when(exportSettingsRepo.selectFromTable(any(SelectQuery.class), eq(10), eq(0)))
+            .thenReturn(new TableRowsDto(TABLE_NAME, List.of(Map.of("email", "a@some.com"))));
+
+        PageableAdvancedDto<Map<String, String>> result =
+            settingsService.selectFromTable(TABLE_NAME, queryDto, pageable, secretKey);
+
+        assertEquals(12, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        verify(exportSettingsRepo, never()).selectPortionFromTable(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void selectFromTableWithCursorShouldSeekInsteadOfSkippingTest() {
+
+        String secretKey = "validSecret";
+
+        TableSchema users = new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER, "email", Types.VARCHAR));
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableCatalog.getIndexes(users)).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        when(exportSettingsRepo.selectFromTable(any(SelectQuery.class), eq(10), eq(0)))
+            .thenReturn(new TableRowsDto(TABLE_NAME, List.of(Map.of("id", "20")), "next"));
+        String cursor = SelectQuery.of(users, null).orderBy(Sort.unsorted(), new TableIndexes(List.of("id"), List.of()))
+            .createCursor(List.of(10));
+
+        PageableAdvancedDto<Map<String, String>> result =
+            settingsService.selectFromTable(TABLE_NAME, null, cursor, PageRequest.of(1, 10), secretKey);
+
+        assertEquals("next", result.getNextCursor());
+        assertNull(result.getSortIndexed());
+        assertEquals(-1, result.getTotalElements());
+        assertTrue(result.isHasNext());
+        assertFalse(result.isLast());
+        verify(exportSettingsRepo).selectFromTable(argThat(query -> query.toSelectSql("")
+            .equals("SELECT * FROM users WHERE (id) > (?) ORDER BY id ASC LIMIT ? OFFSET ?")), eq(10), eq(0));
+        verify(exportSettingsRepo, never()).countRows(any(SelectQuery.class));
+    }
+
+    @Test
+    void selectFromTableShouldRejectLargeUnindexedSortTest() {
+
+        String secretKey = "validSecret";
+
+        TableSchema users = new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER, "email", Types.VARCHAR));
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableCatalog.getIndexes(users)).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        when(exportSettingsRepo.countRows(any(SelectQuery.class))).thenReturn(100_001);
+        Pageable sortedByEmail = PageRequest.of(0, 10, Sort.by("email"));
+
+        assertThrows(BadRequestException.class,
+            () -> settingsService.selectFromTable(TABLE_NAME, sortedByEmail, secretKey));
+        verify(exportSettingsRepo, never()).selectFromTable(any(SelectQuery.class), anyInt(), anyInt());
+    }
+
     @Test
     void getEnvironmentVariablesTest() {
 
@@ -123,6 +340,86 @@ class ExportSettingsServiceImplTest {
         assertFalse(result.variables().isEmpty());
     }
 
+    @Test
+    void exportTableShouldBoundParallelismByConnectionLimitTest() throws Exception {
+
+        String secretKey = "validSecret";
+
+        TableSchema users = new TableSchema(TABLE_NAME, Map.of("id", Types.INTEGER));
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableCatalog.getIndexes(users)).thenReturn(new TableIndexes(List.of("id"), List.of()));
+        when(ldmDataSource.stats()).thenReturn(new LdmDataSource.PoolStats(false, 0, 0, 0, 0, 2));
+        TabularWriter writer = mock(TabularWriter.class);
+        when(exportToFileService.openTabularWriter(eq(ExportFormat.CSV), eq(TABLE_NAME), eq(List.of("id")), any()))
+            .thenReturn(writer);
+
+        settingsService.exportTable(TABLE_NAME, null, ExportFormat.CSV, 8, secretKey)
+            .writeTo(new ByteArrayOutputStream());
+
+        verify(tableExportRepo).exportRows(any(SelectQuery.class), eq(2), eq(writer));
+        verify(writer).close();
+    }
+
+    @Test
+    void exportTableIncrementallyShouldExportRowsBetweenWatermarksTest() throws Exception {
+
+        String secretKey = "validSecret";
+
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        columns.put("id", Types.INTEGER);
+        columns.put("updated_at", Types.TIMESTAMP);
+        TableSchema users = new TableSchema(TABLE_NAME, columns);
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(users);
+        when(tableCatalog.getIndexes(users)).thenReturn(new TableIndexes(List.of("id"), List.of(
+            new TableIndexes.Index("users_updated_at", List.of(new TableIndexes.IndexColumn("updated_at", false))))));
+        when(ldmDataSource.stats()).thenReturn(new LdmDataSource.PoolStats(false, 0, 0, 0, 0, 2));
+        when(watermarkStore.find("nightly", TABLE_NAME))
+            .thenReturn(Optional.of(new WatermarkStore.Watermark("updated_at", "2025-01-01T00:00")));
+        when(tableExportRepo.findMaxValue(any(SelectQuery.class), eq("updated_at"))).thenReturn("2025-01-02T08:30");
+        TabularWriter writer = mock(TabularWriter.class);
+        when(exportToFileService.openTabularWriter(eq(ExportFormat.CSV), eq(TABLE_NAME), any(), any()))
+            .thenReturn(writer);
+        ArgumentCaptor<SelectQuery> exported = ArgumentCaptor.forClass(SelectQuery.class);
+
+        IncrementalExportDto result = settingsService.exportTableIncrementally(TABLE_NAME, null, "UPDATED_AT",
+            null, "nightly", ExportFormat.CSV, secretKey);
+        result.body().writeTo(new ByteArrayOutputStream());
+
+        assertEquals("2025-01-01T00:00", result.previousWatermark());
+        assertEquals("2025-01-02T08:30", result.watermark());
+        assertTrue(result.indexed());
+        verify(tableExportRepo).exportRows(exported.capture(), eq(1), eq(writer));
+        assertEquals("SELECT * FROM users WHERE updated_at > ? AND updated_at <= ? ORDER BY updated_at ASC, id ASC",
+            exported.getValue().toExportSql(""));
+        verify(watermarkStore).save("nightly", TABLE_NAME,
+            new WatermarkStore.Watermark("updated_at", "2025-01-02T08:30"));
+    }
+
+    @Test
+    void exportTableIncrementallyShouldRejectTextColumnTest() {
+
+        String secretKey = "validSecret";
+
+        when(tableCatalog.getTable(TABLE_NAME)).thenReturn(new TableSchema(TABLE_NAME, Map.of("email", Types.VARCHAR)));
+
+        assertThrows(BadRequestException.class, () -> settingsService.exportTableIncrementally(TABLE_NAME, null,
+            "email", null, null, ExportFormat.CSV, secretKey));
+        verifyNoInteractions(tableExportRepo);
+    }
+
+    @Test
+    void getDataSourceStatsTest() {
+
+        String secretKey = "validSecret";
+
+        when(ldmDataSource.stats()).thenReturn(new LdmDataSource.PoolStats(true, 1, 2, 3, 0, 4));
+
+        DataSourceStatsDto result = settingsService.getDataSourceStats(secretKey);
+
+        assertEquals(new DataSourceStatsDto(true, 1, 2, 3, 0, 4), result);
+        verify(dotenvService).validateSecretKey(secretKey);
+    }
+
     private TableRowsDto populateTableRowDto() {
         List<Map<String, String>> tableData = new LinkedList<>();
 
@@ -1,8 +1,11 @@
 package ldm.service;
 
+import com.softserve.ldm.dto.ExportFormat;
 import com.softserve.ldm.dto.TableRowsDto;
 import com.softserve.ldm.exception.exceptions.FileGenerationException;
 import com.softserve.ldm.exception.exceptions.ResourceNotFoundException;
+import com.softserve.ldm.export.MultiTableWriter;
+import com.softserve.ldm.export.TabularWriter;
 import com.softserve.ldm.service.impl.ExportToFileServiceImpl;
 import ldm.ModelUtils;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -12,11 +15,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -51,4 +61,67 @@ class ExportToFileServiceImplTest {
         assertThrows(FileGenerationException.class,
             () -> exportToFileService.convertWorkbookToInputStream(spyWorkbook));
     }
+
+    @Test
+    void openTabularWriterShouldStreamExcelRowsTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (TabularWriter writer = exportToFileService.openTabularWriter(
+            ExportFormat.XLSX, "logs", List.of("level", "message"), out)) {
+            for (int i = 0; i < 250; i++) {
+                writer.writeRow(Arrays.asList(i % 2 == 0 ? "INFO" : null, "message " + i));
+            }
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("logs", workbook.getSheetName(0));
+            assertEquals(250, workbook.getSheetAt(0).getLastRowNum());
+            assertEquals("message", workbook.getSheetAt(0).getRow(0).getCell(1).getStringCellValue());
+            assertEquals("message 249", workbook.getSheetAt(0).getRow(250).getCell(1).getStringCellValue());
+        }
+    }
+
+    @Test
+    void openMultiTableWriterShouldWriteSheetPerTableTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String longName = "customer_notification_delivery_attempts";
+
+        try (MultiTableWriter writer = exportToFileService.openMultiTableWriter(ExportFormat.XLSX, out)) {
+            for (String name : List.of("users", longName, longName + "_archive")) {
+                try (TabularWriter table = writer.startTable(name, List.of("id"))) {
+                    table.writeRow(List.of(name));
+                }
+            }
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("users", workbook.getSheetName(0));
+            assertEquals("customer_notification_delivery_", workbook.getSheetName(1));
+            assertEquals("customer_notification_delive ~2", workbook.getSheetName(2));
+            assertEquals(longName + "_archive", workbook.getSheetAt(2).getRow(1).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void openMultiTableWriterShouldWriteCsvArchiveTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (MultiTableWriter writer = exportToFileService.openMultiTableWriter(ExportFormat.CSV, out)) {
+            for (String name : List.of("users", "orders")) {
+                try (TabularWriter table = writer.startTable(name, List.of("id", "name"))) {
+                    table.writeRow(Arrays.asList("1", name));
+                }
+            }
+        }
+
+        List<String> entries = new LinkedList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName() + "=" + new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(List.of("users.csv=\uFEFFid,name\r\n1,users\r\n", "orders.csv=\uFEFFid,name\r\n1,orders\r\n"),
+            entries);
+    }
 }
@@ -0,0 +1,132 @@
+package ldm.service;
+
+import com.softserve.ldm.config.LdmProperties;
+import com.softserve.ldm.dto.ExceptionReportDto;
+import com.softserve.ldm.dto.LogFileMetadataDto;
+import com.softserve.ldm.dto.TemplateReportDto;
+import com.softserve.ldm.dto.ValueSketchReportDto;
+import com.softserve.ldm.dto.ValueSketchRequestDto;
+import com.softserve.ldm.search.FileStateCache;
+import com.softserve.ldm.service.LogFileService;
+import com.softserve.ldm.service.impl.LogAnalysisServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LogAnalysisServiceImplTest {
+    private static final String SECRET_KEY = "secret";
+    private static final String FILENAME = "app.log";
+    private static final String TRACE = """
+        2025-01-01 10:00:00.000 ERROR 1 --- [main] c.e.OrderService : Order failed
+        java.lang.IllegalStateException: boom
+        \tat com.example.order.OrderService.process(OrderService.java:42)
+        """;
+    private static final String INFO = "2025-01-01 10:00:01.000  INFO 1 --- [main] c.e.OrderService : ok\n";
+
+    @TempDir
+    Path logsDirectory;
+
+    @Mock
+    private LogFileService logFileService;
+
+    private LogAnalysisServiceImpl logAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        LdmProperties properties = new LdmProperties();
+        logAnalysisService = new LogAnalysisServiceImpl(logFileService, new FileStateCache(properties), properties);
+    }
+
+    @Test
+    void analyzeExceptionsShouldOnlyScanAppendedBytesTest() throws IOException {
+        Path logFile = logsDirectory.resolve(FILENAME);
+        Files.writeString(logFile, TRACE + INFO);
+        when(logFileService.findLogFiles(null, SECRET_KEY))
+            .thenReturn(List.of(new LogFileMetadataDto(FILENAME, 0, LocalDateTime.now())));
+        when(logFileService.getLogFile(FILENAME)).thenReturn(logFile.toFile());
+
+        ExceptionReportDto first = logAnalysisService.analyzeExceptions(null, 10, SECRET_KEY);
+        Files.writeString(logFile, TRACE + INFO, StandardOpenOption.APPEND);
+        ExceptionReportDto second = logAnalysisService.analyzeExceptions(null, 10, SECRET_KEY);
+        ExceptionReportDto third = logAnalysisService.analyzeExceptions(null, 10, SECRET_KEY);
+
+        assertEquals(1, first.groups().getFirst().count());
+        assertEquals(2, second.groups().getFirst().count());
+        assertEquals((TRACE + INFO).length(), second.scannedBytes());
+        assertEquals(0, third.scannedBytes());
+        assertEquals(List.of(FILENAME), third.groups().getFirst().files());
+    }
+
+    @Test
+    void analyzeExceptionsShouldRescanRewrittenFileTest() throws IOException {
+        Path logFile = logsDirectory.resolve(FILENAME);
+        Files.writeString(logFile, TRACE + INFO);
+        when(logFileService.findLogFiles(null, SECRET_KEY))
+            .thenReturn(List.of(new LogFileMetadataDto(FILENAME, 0, LocalDateTime.now())));
+        when(logFileService.getLogFile(FILENAME)).thenReturn(logFile.toFile());
+
+        logAnalysisService.analyzeExceptions(null, 10, SECRET_KEY);
+        Files.writeString(logFile, INFO + INFO + INFO + INFO);
+        ExceptionReportDto result = logAnalysisService.analyzeExceptions(null, 10, SECRET_KEY);
+
+        assertTrue(result.groups().isEmpty());
+        assertEquals(0, result.totalOccurrences());
+    }
+
+    @Test
+    void mineTemplatesShouldKeepStateOfRotatedFileTest() throws IOException {
+        Path logFile = logsDirectory.resolve(FILENAME);
+        Path rotatedFile = logsDirectory.resolve(FILENAME + ".1");
+        Files.writeString(logFile, INFO + INFO);
+        when(logFileService.findLogFiles(null, SECRET_KEY))
+            .thenReturn(List.of(new LogFileMetadataDto(FILENAME, 0, LocalDateTime.now())));
+        when(logFileService.getLogFile(FILENAME)).thenReturn(logFile.toFile(), rotatedFile.toFile());
+
+        TemplateReportDto first = logAnalysisService.mineTemplates(null, 10, SECRET_KEY);
+        Files.move(logFile, rotatedFile);
+        TemplateReportDto second = logAnalysisService.mineTemplates(null, 10, SECRET_KEY);
+
+        assertEquals("ok", first.templates().getFirst().template());
+        assertEquals(2, first.totalLines());
+        assertEquals(2, second.totalLines());
+        assertEquals(0, second.scannedBytes());
+    }
+
+    @Test
+    void sketchValuesShouldMergeCachedSketchesOfFilesTest() throws IOException {
+        Path appLog = logsDirectory.resolve(FILENAME);
+        Path auditLog = logsDirectory.resolve("audit.log");
+        Files.writeString(appLog, "{\"user\":\"alice\"}\n{\"user\":\"bob\"}\n{\"user\":\"alice\"}\n");
+        Files.writeString(auditLog, "{\"user\":\"alice\"}\n{\"level\":\"INFO\"}\n");
+        ValueSketchRequestDto requestDto = new ValueSketchRequestDto(null, null, "user");
+        when(logFileService.findLogFiles(null, SECRET_KEY)).thenReturn(List.of(
+            new LogFileMetadataDto(FILENAME, 0, LocalDateTime.now()),
+            new LogFileMetadataDto("audit.log", 0, LocalDateTime.now())));
+        when(logFileService.getLogFile(FILENAME)).thenReturn(appLog.toFile());
+        when(logFileService.getLogFile("audit.log")).thenReturn(auditLog.toFile());
+
+        ValueSketchReportDto first = logAnalysisService.sketchValues(requestDto, 10, SECRET_KEY);
+        ValueSketchReportDto second = logAnalysisService.sketchValues(requestDto, 10, SECRET_KEY);
+
+        assertEquals(4, first.totalValues());
+        assertEquals(2, first.distinctValues());
+        assertEquals("alice", first.topValues().getFirst().value());
+        assertEquals(3, first.topValues().getFirst().estimatedCount());
+        assertEquals(0, second.scannedBytes());
+        assertEquals(first.topValues(), second.topValues());
+    }
+}
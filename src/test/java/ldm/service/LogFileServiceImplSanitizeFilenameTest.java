@@ -29,7 +29,9 @@ class LogFileServiceImplSanitizeFilenameTest {
             Arguments.of("invalid@filename#.txt", "invalid_filename_.txt"),
             Arguments.of("", ""),
             Arguments.of("@#$.txt", "___.txt"),
-            Arguments.of("file name with spaces.txt", "file_name_with_spaces.txt"));
+            Arguments.of("file name with spaces.txt", "file_name_with_spaces.txt"),
+            Arguments.of("/archive/app.log", "archive/app.log"),
+            Arguments.of("../../etc/passwd", "_/_/etc/passwd"));
     }
 
     @ParameterizedTest
@@ -1,17 +1,27 @@
 package ldm.service;
 
+import com.softserve.ldm.config.LdmProperties;
 import com.softserve.ldm.constant.ErrorMessage;
+import com.softserve.ldm.discovery.LogFileDiscovery;
+import com.softserve.ldm.discovery.LogFileEntry;
+import com.softserve.ldm.dto.CacheStatsDto;
+import com.softserve.ldm.dto.ExportFormat;
+import com.softserve.ldm.dto.LogFileLinesDto;
 import com.softserve.ldm.dto.PageableDto;
 import com.softserve.ldm.dto.LogFileMetadataDto;
 import com.softserve.ldm.dto.LogFileFilterDto;
+import com.softserve.ldm.exception.exceptions.BadRequestException;
 import com.softserve.ldm.exception.exceptions.FileReadException;
 import com.softserve.ldm.exception.exceptions.NotFoundException;
+import com.softserve.ldm.search.FileStateCache;
 import com.softserve.ldm.service.DotenvService;
+import com.softserve.ldm.service.impl.ExportToFileServiceImpl;
 import com.softserve.ldm.service.impl.LogFileServiceImpl;
 import ldm.ModelUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -19,10 +29,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +58,9 @@ class LogFileServiceImplTest {
     @Mock
     private DotenvService dotEnvService;
 
+    @Mock
+    private LogFileDiscovery logFileDiscovery;
+
     @BeforeEach
     void ignoreSecretKeyValidation() {
         doNothing().when(dotEnvService).validateSecretKey(anyString());
@@ -48,9 +69,9 @@ class LogFileServiceImplTest {
     @Test
     void listLogFilesListShouldReturnLogFilesWhenTheyExistTest() {
         String secretKey = "secret";
-        File logFile1 = new File("test1.log");
-        File logFile2 = new File("test2.log");
-        File[] mockFiles = {logFile1, logFile2};
+        List<LogFileEntry> mockFiles = List.of(
+            new LogFileEntry("test1.log", Path.of("test1.log"), 0, 0),
+            new LogFileEntry("test2.log", Path.of("test2.log"), 0, 0));
 
         LogFileServiceImpl spyService = spy(logFileService);
         doReturn(mockFiles).when(spyService).listLogFilesFromFolder();
@@ -66,10 +87,10 @@ class LogFileServiceImplTest {
     void listLogFilesListShouldReturnFilteredLogFilesTest() {
         String secretKey = "secret";
         LogFileFilterDto filterDto = ModelUtils.getLogFileFilterDto();
-        File logFile1 = new File("test1.log");
-        File logFile2 = new File("test2.log");
-        File logFile3 = new File("smth.log");
-        File[] mockFiles = {logFile1, logFile2, logFile3};
+        List<LogFileEntry> mockFiles = List.of(
+            new LogFileEntry("test1.log", Path.of("test1.log"), 0, 0),
+            new LogFileEntry("test2.log", Path.of("test2.log"), 0, 0),
+            new LogFileEntry("smth.log", Path.of("smth.log"), 0, 0));
 
         LogFileServiceImpl spyService = spy(logFileService);
         doReturn(mockFiles).when(spyService).listLogFilesFromFolder();
@@ -167,4 +188,117 @@ class LogFileServiceImplTest {
         assertNotNull(result);
         assertEquals(expectedResource.getFilename(), result.getFilename());
     }
-}
\ No newline at end of file
+
+    @Test
+    void viewLogFileLinesShouldReturnRequestedRangeTest(@TempDir Path logsDirectory) throws IOException {
+        String filename = "test.log";
+        String secretKey = "secret";
+        Path logFile = logsDirectory.resolve(filename);
+        Files.writeString(logFile, IntStream.rangeClosed(1, 10)
+                .mapToObj(line -> "line " + line)
+                .collect(Collectors.joining("\n")));
+
+        LdmProperties properties = propertiesWithRoot(logsDirectory);
+        properties.getLogs().setLineIndexInterval(3);
+        LogFileServiceImpl service = new LogFileServiceImpl(
+                dotEnvService, new FileStateCache(properties), properties, new LogFileDiscovery(properties),
+                new ExportToFileServiceImpl());
+
+        LogFileLinesDto middle = service.viewLogFileLines(filename, 5, 3, secretKey);
+        LogFileLinesDto tail = service.viewLogFileLines(filename, 9, 5, secretKey);
+        LogFileLinesDto beyond = service.viewLogFileLines(filename, 20, 5, secretKey);
+
+        assertEquals(List.of("line 5", "line 6", "line 7"), middle.lines());
+        assertEquals(5, middle.fromLine());
+        assertTrue(middle.hasMore());
+        assertEquals(List.of("line 9", "line 10"), tail.lines());
+        assertEquals(10, tail.totalLines());
+        assertFalse(tail.hasMore());
+        assertTrue(beyond.lines().isEmpty());
+        assertEquals(10, beyond.totalLines());
+    }
+
+    @Test
+    void listLogFilesShouldReuseContentMatchOfUnchangedFilesTest(@TempDir Path logsDirectory) throws IOException {
+        String secretKey = "secret";
+        Path logFile = logsDirectory.resolve("test.log");
+        Files.writeString(logFile, "INFO started\n");
+        LogFileFilterDto filterDto = new LogFileFilterDto(
+                null, "Timeout", null, null, null, null, null, null, null);
+
+        LdmProperties properties = propertiesWithRoot(logsDirectory);
+        LogFileServiceImpl service = new LogFileServiceImpl(
+                dotEnvService, new FileStateCache(properties), properties, new LogFileDiscovery(properties),
+                new ExportToFileServiceImpl());
+
+        PageableDto<LogFileMetadataDto> first = service.listLogFiles(PAGEABLE, filterDto, secretKey);
+        service.listLogFiles(PAGEABLE, filterDto, secretKey);
+        Files.writeString(logFile, "ERROR timeout\n", StandardOpenOption.APPEND);
+        PageableDto<LogFileMetadataDto> grown = service.listLogFiles(PAGEABLE, filterDto, secretKey);
+        CacheStatsDto stats = service.getCacheStats(secretKey);
+
+        assertEquals(0, first.getTotalElements());
+        assertEquals(1, grown.getTotalElements());
+        assertEquals(1, stats.rebuilt());
+        assertEquals(1, stats.reused());
+        assertEquals(1, stats.resumed());
+    }
+
+    @Test
+    void listLogFilesShouldReturnRequestedPageOfSortedFilesTest() {
+        String secretKey = "secret";
+        LogFileEntry small = new LogFileEntry("a.log", Path.of("a.log"), 1, 0);
+        LogFileEntry large = new LogFileEntry("b.log", Path.of("b.log"), 3, 0);
+        LogFileEntry medium = new LogFileEntry("c.log", Path.of("c.log"), 2, 0);
+
+        LogFileServiceImpl spyService = spy(logFileService);
+        doReturn(List.of(small, large, medium)).when(spyService).listLogFilesFromFolder();
+
+        PageableDto<LogFileMetadataDto> bySizeDesc = spyService.listLogFiles(
+                PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "byteSize")), null, secretKey);
+        PageableDto<LogFileMetadataDto> byName = spyService.listLogFiles(
+                PageRequest.of(0, 2, Sort.by("filename")), null, secretKey);
+
+        assertEquals(List.of("c.log"), bySizeDesc.getPage().stream().map(LogFileMetadataDto::filename).toList());
+        assertEquals(3, bySizeDesc.getTotalElements());
+        assertEquals(3, bySizeDesc.getTotalPages());
+        assertEquals(List.of("a.log", "b.log"), byName.getPage().stream().map(LogFileMetadataDto::filename).toList());
+    }
+
+    @Test
+    void listLogFilesShouldRejectUnknownSortPropertyTest() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("owner"));
+
+        assertThrows(BadRequestException.class, () -> logFileService.listLogFiles(pageable, null, "secret"));
+    }
+
+    @Test
+    void exportLogLinesShouldStreamMatchingParsedLinesTest(@TempDir Path logsDirectory) throws IOException {
+        String secretKey = "secret";
+        Files.writeString(logsDirectory.resolve("app.log"), """
+                2025-01-01 10:00:00.000  INFO 1 --- [main] c.e.OrderService : Order 17 processed
+                2025-01-01 10:00:01.000 ERROR 1 --- [main] c.e.OrderService : Timeout, "gateway" unavailable
+                2025-01-01 10:00:02.000 ERROR 1 --- [main] c.e.UserService : Login failed
+                """);
+        LogFileFilterDto filterDto = new LogFileFilterDto(
+                null, "timeout", null, null, null, null, null, null, null);
+
+        LdmProperties properties = propertiesWithRoot(logsDirectory);
+        LogFileServiceImpl service = new LogFileServiceImpl(
+                dotEnvService, new FileStateCache(properties), properties, new LogFileDiscovery(properties),
+                new ExportToFileServiceImpl());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportLogLines(filterDto, ExportFormat.CSV, secretKey).writeTo(out);
+
+        assertEquals("\uFEFFfile,line,timestamp,level,logger,message\r\n"
+                + "app.log,2,2025-01-01 10:00:01.000,ERROR,c.e.OrderService,"
+                + "\"Timeout, \"\"gateway\"\" unavailable\"\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static LdmProperties propertiesWithRoot(Path logsDirectory) {
+        LdmProperties properties = new LdmProperties();
+        properties.getLogs().getRoots().getFirst().setPath(logsDirectory.toString());
+        return properties;
+    }
+}